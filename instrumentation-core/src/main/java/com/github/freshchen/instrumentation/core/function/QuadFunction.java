@@ -0,0 +1,14 @@
+package com.github.freshchen.instrumentation.core.function;
+
+/**
+ * @author freshchen
+ * @since 2026/10/17
+ */
+@FunctionalInterface
+public interface QuadFunction<T, U, V, W, R> {
+
+    /**
+     * @return function result
+     */
+    R apply(T t, U u, V v, W w);
+}
@@ -0,0 +1,19 @@
+package com.github.freshchen.instrumentation.core.function;
+
+/**
+ * Renders part of an array as a tag value, such as {@code TagUtils::toString}, with the bounds passed in so that a
+ * method reference can be used instead of a lambda capturing them
+ *
+ * @author freshchen
+ * @since 2026/10/17
+ */
+@FunctionalInterface
+public interface SliceRenderer<T> {
+
+    /**
+     * @param limit  elements rendered at most
+     * @param stride 2 renders every other element
+     * @return tag value
+     */
+    String render(T value, int limit, int stride);
+}
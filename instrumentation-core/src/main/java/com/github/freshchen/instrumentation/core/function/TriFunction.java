@@ -0,0 +1,14 @@
+package com.github.freshchen.instrumentation.core.function;
+
+/**
+ * @author freshchen
+ * @since 2026/10/17
+ */
+@FunctionalInterface
+public interface TriFunction<T, U, V, R> {
+
+    /**
+     * @return function result
+     */
+    R apply(T t, U u, V v);
+}
@@ -0,0 +1,170 @@
+package com.github.freshchen.instrumentation.core.handler;
+
+import brave.handler.MutableSpan;
+import brave.handler.SpanHandler;
+import brave.propagation.TraceContext;
+import com.github.freshchen.instrumentation.core.function.SliceRenderer;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+/**
+ * Keeps raw tag arguments of a span and renders them into tags when the span ends, so that formatting is not
+ * done on the calling thread while it holds a connection.
+ * <p>
+ * Used alone it renders inside {@link #end}, so it must be added to the Tracing before the reporting handler, which
+ * otherwise sees the span without the deferred tags. Built with a delegate and an executor it renders on the executor
+ * and then hands the span to the delegate, in that case register it in place of the reporting handler, e.g.
+ * {@code addSpanHandler(new DeferredTagSpanHandler(zipkinSpanHandler, executor))}.
+ * <p>
+ * The TracerHelper must be given the very instance that is registered. Until that instance has seen a span begin,
+ * {@link #defer} declines and the helper tags eagerly, so tags are never kept for spans it will not see end.
+ * <p>
+ * Deferred values are kept by reference, callers must not modify them after the traced call.
+ *
+ * @author freshchen
+ * @since 2026/10/17
+ */
+public class DeferredTagSpanHandler extends SpanHandler {
+
+    private final ConcurrentMap<TraceContext, DeferredTag<?>> pending = new ConcurrentHashMap<>();
+
+    private final SpanHandler delegate;
+
+    private final Executor executor;
+
+    /**
+     * set once a Tracing hands this handler a span, deferring before that could never be released
+     */
+    private volatile boolean registered;
+
+    public DeferredTagSpanHandler() {
+        this.delegate = null;
+        this.executor = null;
+    }
+
+    public DeferredTagSpanHandler(SpanHandler delegate, Executor executor) {
+        if (delegate == null || executor == null) {
+            throw new IllegalArgumentException("delegate and executor must not be null");
+        }
+        this.delegate = delegate;
+        this.executor = executor;
+    }
+
+    /**
+     * @return false when the handler is not registered with a Tracing, the caller then tags the span itself
+     */
+    public <T> boolean defer(TraceContext context, String key, T value, Function<? super T, String> renderer) {
+        if (!registered) {
+            return false;
+        }
+        DeferredTag<T> tag = new DeferredTag<>(key, value, renderer, null, 0, 0);
+        pending.merge(context, tag, DeferredTagSpanHandler::link);
+        return true;
+    }
+
+    /**
+     * Like {@link #defer(TraceContext, String, Object, Function)}, the bounds are kept with the value
+     */
+    public <T> boolean defer(TraceContext context, String key, T value, int limit, int stride,
+                             SliceRenderer<? super T> renderer) {
+        if (!registered) {
+            return false;
+        }
+        DeferredTag<T> tag = new DeferredTag<>(key, value, null, renderer, limit, stride);
+        pending.merge(context, tag, DeferredTagSpanHandler::link);
+        return true;
+    }
+
+    @Override
+    public boolean begin(TraceContext context, MutableSpan span, TraceContext parent) {
+        if (!registered) {
+            registered = true;
+        }
+        return delegate == null || delegate.begin(context, span, parent);
+    }
+
+    @Override
+    public boolean end(TraceContext context, MutableSpan span, Cause cause) {
+        DeferredTag<?> tags = pending.remove(context);
+        if (cause == Cause.ABANDONED) {
+            return delegate == null || !delegate.handlesAbandoned() || delegate.end(context, span, cause);
+        }
+        if (delegate == null) {
+            render(tags, span);
+            return true;
+        }
+        executor.execute(() -> {
+            render(tags, span);
+            delegate.end(context, span, cause);
+        });
+        // the span now belongs to the executor, later handlers must not touch it
+        return false;
+    }
+
+    /**
+     * abandoned spans must be seen to release their pending tags
+     */
+    @Override
+    public boolean handlesAbandoned() {
+        return true;
+    }
+
+    private static void render(DeferredTag<?> tags, MutableSpan span) {
+        // tags are linked newest first, render the oldest first so later values win like Span.tag
+        DeferredTag<?> reversed = null;
+        for (DeferredTag<?> tag = tags; tag != null; ) {
+            DeferredTag<?> next = tag.next;
+            tag.next = reversed;
+            reversed = tag;
+            tag = next;
+        }
+        for (DeferredTag<?> tag = reversed; tag != null; tag = tag.next) {
+            span.tag(tag.key, tag.render());
+        }
+    }
+
+    private static DeferredTag<?> link(DeferredTag<?> previous, DeferredTag<?> tag) {
+        tag.next = previous;
+        return tag;
+    }
+
+    static final class DeferredTag<T> {
+
+        final String key;
+
+        final T value;
+
+        /**
+         * null when the value is rendered by the slice renderer
+         */
+        final Function<? super T, String> renderer;
+
+        final SliceRenderer<? super T> sliceRenderer;
+
+        final int limit;
+
+        final int stride;
+
+        DeferredTag<?> next;
+
+        DeferredTag(String key, T value, Function<? super T, String> renderer, SliceRenderer<? super T> sliceRenderer,
+                    int limit, int stride) {
+            this.key = key;
+            this.value = value;
+            this.renderer = renderer;
+            this.sliceRenderer = sliceRenderer;
+            this.limit = limit;
+            this.stride = stride;
+        }
+
+        String render() {
+            if (renderer == null) {
+                return String.valueOf(sliceRenderer.render(value, limit, stride));
+            }
+            return String.valueOf(renderer.apply(value));
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package com.github.freshchen.instrumentation.core.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Lock-free latency histogram in nanoseconds with HDR-style log-linear buckets: every power of two is split into
+ * {@value #SUB_BUCKETS} buckets, so a reported value is within about 3% of the recorded one. Values above
+ * {@link #HIGHEST_TRACKABLE_VALUE} are counted in the last bucket, the maximum is kept exactly.
+ * <p>
+ * Writers are spread over stripes by thread id so that threads recording the same command rarely touch the same
+ * counters, a stripe is only allocated once a thread maps to it. A stripe holds {@value #BUCKETS} counters, about
+ * 8 KB, and there are up to 16 stripes by CPU count, so a histogram written by many threads takes up to 128 KB. With
+ * one histogram per command and endpoint, that is the footprint to plan for.
+ *
+ * @author freshchen
+ * @since 2026/10/17
+ */
+public class LatencyHistogram {
+
+    public static final long HIGHEST_TRACKABLE_VALUE = (1L << 36) - 1;
+
+    private static final int SUB_BUCKET_BITS = 5;
+
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    private static final int BUCKETS = SUB_BUCKETS + (36 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private static final int TOTAL = BUCKETS;
+
+    private static final int MAX = BUCKETS + 1;
+
+    private static final int STRIPES = stripes();
+
+    private final AtomicReferenceArray<AtomicLongArray> stripes = new AtomicReferenceArray<>(STRIPES);
+
+    public void record(long nanos) {
+        long value = Math.max(nanos, 0L);
+        AtomicLongArray stripe = stripe();
+        stripe.incrementAndGet(index(Math.min(value, HIGHEST_TRACKABLE_VALUE)));
+        stripe.addAndGet(TOTAL, value);
+        long max = stripe.get(MAX);
+        while (value > max && !stripe.compareAndSet(MAX, max, value)) {
+            max = stripe.get(MAX);
+        }
+    }
+
+    /**
+     * merges all stripes, writes racing with the snapshot may or may not be included
+     */
+    public Snapshot snapshot() {
+        long[] counts = new long[BUCKETS];
+        long total = 0L;
+        long max = 0L;
+        for (int i = 0; i < STRIPES; i++) {
+            AtomicLongArray stripe = stripes.get(i);
+            if (stripe == null) {
+                continue;
+            }
+            for (int b = 0; b < BUCKETS; b++) {
+                counts[b] += stripe.get(b);
+            }
+            total += stripe.get(TOTAL);
+            max = Math.max(max, stripe.get(MAX));
+        }
+        return new Snapshot(counts, total, max);
+    }
+
+    private AtomicLongArray stripe() {
+        int i = (int) Thread.currentThread().getId() & (STRIPES - 1);
+        AtomicLongArray stripe = stripes.get(i);
+        if (stripe == null) {
+            stripes.compareAndSet(i, null, new AtomicLongArray(BUCKETS + 2));
+            stripe = stripes.get(i);
+        }
+        return stripe;
+    }
+
+    static int index(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        return SUB_BUCKETS + shift * SUB_BUCKETS + (int) (value >>> shift) - SUB_BUCKETS;
+    }
+
+    /**
+     * @return the highest value that falls into the bucket
+     */
+    static long highestValue(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int shift = index / SUB_BUCKETS - 1;
+        long lowest = (long) (SUB_BUCKETS + index % SUB_BUCKETS) << shift;
+        return lowest + (1L << shift) - 1;
+    }
+
+    private static int stripes() {
+        int cpus = Runtime.getRuntime().availableProcessors();
+        int stripes = Integer.highestOneBit(Math.max(cpus, 1));
+        return Math.min(stripes, 16);
+    }
+
+    /**
+     * Point in time view, counts are cumulative since the histogram was created
+     */
+    public static class Snapshot {
+
+        private final long[] counts;
+
+        private final long count;
+
+        private final long total;
+
+        private final long max;
+
+        Snapshot(long[] counts, long total, long max) {
+            long count = 0L;
+            for (long c : counts) {
+                count += c;
+            }
+            this.counts = counts;
+            this.count = count;
+            this.total = total;
+            this.max = max;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        /**
+         * @return sum of all recorded values in nanoseconds
+         */
+        public long getTotal() {
+            return total;
+        }
+
+        public long getMax() {
+            return max;
+        }
+
+        public double getMean() {
+            return count == 0L ? 0.0 : (double) total / count;
+        }
+
+        /**
+         * @param percentile between 0 and 100
+         * @return the highest value of the bucket holding the percentile, never above {@link #getMax()}
+         */
+        public long getValueAtPercentile(double percentile) {
+            if (count == 0L) {
+                return 0L;
+            }
+            double p = Math.min(Math.max(percentile, 0.0), 100.0);
+            long rank = Math.max((long) Math.ceil(p / 100.0 * count), 1L);
+            long seen = 0L;
+            for (int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if (seen >= rank) {
+                    return Math.min(highestValue(i), max);
+                }
+            }
+            return max;
+        }
+
+        @Override
+        public String toString() {
+            return "count=" + count + ", mean=" + (long) getMean() + "ns, p50=" + getValueAtPercentile(50)
+                + "ns, p99=" + getValueAtPercentile(99) + "ns, max=" + max + "ns";
+        }
+    }
+}
@@ -1,105 +1,415 @@
 package com.github.freshchen.instrumentation.core.util;
 
-import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
-import java.util.stream.Collectors;
 
 /**
+ * Renders tag values into a reusable per-thread buffer. Every rendered value is cut at {@link #getMaxLength()}
+ * characters and ends with {@code ...(+N more)} when elements had to be left out, so a huge argument can not
+ * produce a huge tag. Binary values are shown as text when they are printable UTF-8 and as hex otherwise.
+ *
  * @author freshchen
  * @since 2022/3/1
  */
 public class TagUtils {
 
+    public static final int DEFAULT_MAX_LENGTH = 1024;
+
+    private static final String ELLIPSIS = "...";
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    /**
+     * smallest code point per UTF-8 sequence length, anything below is an overlong encoding
+     */
+    private static final int[] MIN_CODE_POINT = {0, 0, 0x80, 0x800, 0x10000};
+
+    private static final int MAX_RETAINED_CAPACITY = 16 * 1024;
+
+    private static final ThreadLocal<StringBuilder> BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(256));
+
+    private static volatile int maxLength = DEFAULT_MAX_LENGTH;
+
+    public static int getMaxLength() {
+        return maxLength;
+    }
+
+    /**
+     * @param maxLength character budget of a single tag value, not counting the {@code ...(+N more)} suffix
+     */
+    public static void setMaxLength(int maxLength) {
+        if (maxLength <= 0) {
+            throw new IllegalArgumentException("maxLength must be positive: " + maxLength);
+        }
+        TagUtils.maxLength = maxLength;
+    }
+
     public static <V> String toString(Map<String, V> map) {
-        List<String> list = new ArrayList<>();
+        StringBuilder sb = buffer();
+        int max = maxLength;
+        sb.append('{');
         if (map != null) {
+            int remaining = map.size();
             for (Map.Entry<String, V> entry : map.entrySet()) {
-                list.add(entry.getKey() + "=" + entry.getValue());
+                if (remaining-- != map.size()) {
+                    sb.append(", ");
+                }
+                appendObject(sb, entry.getKey(), max);
+                sb.append('=');
+                appendObject(sb, entry.getValue(), max);
+                if (sb.length() >= max) {
+                    return cut(sb, max, remaining);
+                }
             }
         }
-        return "{" + String.join(", ", list) + "}";
+        return finish(sb.append('}'), max);
     }
 
-    public static String toString(byte[][] array) {
-        if (Objects.isNull(array)) {
+    public static String toString(byte[] bytes) {
+        if (bytes == null) {
             return "null";
         }
+        StringBuilder sb = buffer();
+        int max = maxLength;
+        appendBytes(sb, bytes, max);
+        return finish(sb, max);
+    }
 
-        List<String> list = new ArrayList<>();
+    public static String toString(byte[][] array) {
+        return toString(array, Integer.MAX_VALUE, 1);
+    }
 
-        for (byte[] bytes : array) {
-            list.add(Arrays.toString(bytes));
+    /**
+     * @param limit  elements rendered at most, the rest is only counted
+     * @param stride 2 renders every other element, like the keys of key value pairs
+     */
+    public static String toString(byte[][] array, int limit, int stride) {
+        if (array == null) {
+            return "null";
         }
+        StringBuilder sb = buffer();
+        int max = maxLength;
+        int elements = (array.length + stride - 1) / stride;
+        sb.append('[');
+        for (int n = 0; n < elements; n++) {
+            if (n == limit) {
+                return truncated(sb, max, elements - n);
+            }
+            if (n > 0) {
+                sb.append(", ");
+            }
+            appendBytes(sb, array[n * stride], max);
+            if (sb.length() >= max) {
+                return cut(sb, max, elements - n - 1);
+            }
+        }
+        return finish(sb.append(']'), max);
+    }
 
-        return "[" + String.join(", ", list) + "]";
+    public static String toString(int[] array) {
+        if (array == null) {
+            return "null";
+        }
+        StringBuilder sb = buffer();
+        int max = maxLength;
+        sb.append('[');
+        for (int i = 0; i < array.length; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(array[i]);
+            if (sb.length() >= max) {
+                return cut(sb, max, array.length - i - 1);
+            }
+        }
+        return finish(sb.append(']'), max);
+    }
+
+    public static String toString(Object[] array) {
+        return toString(array, Integer.MAX_VALUE, 1);
+    }
+
+    public static String toString(Object[] array, int limit, int stride) {
+        if (array == null) {
+            return "null";
+        }
+        StringBuilder sb = buffer();
+        int max = maxLength;
+        int elements = (array.length + stride - 1) / stride;
+        sb.append('[');
+        for (int n = 0; n < elements; n++) {
+            if (n == limit) {
+                return truncated(sb, max, elements - n);
+            }
+            if (n > 0) {
+                sb.append(", ");
+            }
+            appendObject(sb, array[n * stride], max);
+            if (sb.length() >= max) {
+                return cut(sb, max, elements - n - 1);
+            }
+        }
+        return finish(sb.append(']'), max);
     }
 
     public static String toString(Collection<byte[]> collection) {
         if (collection == null) {
             return "null";
         }
-        List<String> list = new ArrayList<>();
-
+        StringBuilder sb = buffer();
+        int max = maxLength;
+        sb.append('[');
+        int remaining = collection.size();
         for (byte[] bytes : collection) {
-            list.add(Arrays.toString(bytes));
+            if (remaining-- != collection.size()) {
+                sb.append(", ");
+            }
+            appendBytes(sb, bytes, max);
+            if (sb.length() >= max) {
+                return cut(sb, max, remaining);
+            }
         }
-
-        return "[" + String.join(", ", list) + "]";
+        return finish(sb.append(']'), max);
     }
 
     public static String toString(List<String> list) {
         if (list == null) {
             return "null";
         }
-
-        return String.join(", ", list);
+        return join(list, ", ");
     }
 
     public static String toStringMap(Map<byte[], byte[]> map) {
-        List<String> list = new ArrayList<>();
+        StringBuilder sb = buffer();
+        int max = maxLength;
+        sb.append('{');
         if (map != null) {
+            int remaining = map.size();
             for (Map.Entry<byte[], byte[]> entry : map.entrySet()) {
-                list.add(Arrays.toString(entry.getKey()) + "="
-                    + Arrays.toString(entry.getValue()));
+                if (remaining-- != map.size()) {
+                    sb.append(", ");
+                }
+                appendBytes(sb, entry.getKey(), max);
+                sb.append('=');
+                appendBytes(sb, entry.getValue(), max);
+                if (sb.length() >= max) {
+                    return cut(sb, max, remaining);
+                }
             }
         }
-
-        return "{" + String.join(", ", list) + "}";
-
+        return finish(sb.append('}'), max);
     }
 
     public static <V> String toStringMap2(Map<byte[], V> map) {
-        List<String> list = new ArrayList<>();
+        StringBuilder sb = buffer();
+        int max = maxLength;
+        sb.append('{');
         if (map != null) {
+            int remaining = map.size();
             for (Map.Entry<byte[], V> entry : map.entrySet()) {
-                list.add(Arrays.toString(entry.getKey()) + "=" + entry.getValue());
+                if (remaining-- != map.size()) {
+                    sb.append(", ");
+                }
+                appendBytes(sb, entry.getKey(), max);
+                sb.append('=');
+                appendObject(sb, entry.getValue(), max);
+                if (sb.length() >= max) {
+                    return cut(sb, max, remaining);
+                }
             }
         }
-
-        return "{" + String.join(", ", list) + "}";
+        return finish(sb.append('}'), max);
     }
 
     public static String collectionToString(Collection<?> collection) {
         if (collection == null) {
             return "";
         }
-        return collection.stream().map(Object::toString).collect(Collectors.joining(", "));
+        return join(collection, ", ");
     }
 
     public static <K, V> String mapToString(Map<K, V> map) {
         if (map == null) {
             return "";
         }
-        return map.entrySet()
-            .stream()
-            .map(entry -> entry.getKey() + " -> " + entry.getValue())
-            .collect(Collectors.joining(", "));
+        StringBuilder sb = buffer();
+        int max = maxLength;
+        int remaining = map.size();
+        for (Map.Entry<K, V> entry : map.entrySet()) {
+            if (remaining-- != map.size()) {
+                sb.append(", ");
+            }
+            appendObject(sb, entry.getKey(), max);
+            sb.append(" -> ");
+            appendObject(sb, entry.getValue(), max);
+            if (sb.length() >= max) {
+                return cut(sb, max, remaining);
+            }
+        }
+        return finish(sb, max);
+    }
+
+    /**
+     * @return bytes the value takes encoded as UTF-8, counted without encoding it. A surrogate pair is four bytes, a
+     * lone surrogate three like the replacement character it becomes.
+     */
+    public static int utf8Length(CharSequence s) {
+        int length = s.length();
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (Character.isHighSurrogate(c) && i + 1 < s.length() && Character.isLowSurrogate(s.charAt(i + 1))) {
+                length += 2;
+                i++;
+            } else if (c >= 0x800) {
+                length += 2;
+            } else if (c >= 0x80) {
+                length++;
+            }
+        }
+        return length;
+    }
+
+    private static String join(Collection<?> collection, String delimiter) {
+        StringBuilder sb = buffer();
+        int max = maxLength;
+        Iterator<?> iterator = collection.iterator();
+        int remaining = collection.size();
+        while (iterator.hasNext()) {
+            if (remaining-- != collection.size()) {
+                sb.append(delimiter);
+            }
+            appendObject(sb, iterator.next(), max);
+            if (sb.length() >= max) {
+                return cut(sb, max, remaining);
+            }
+        }
+        return finish(sb, max);
     }
 
+    /**
+     * Printable UTF-8 is written as text, anything else as {@code 0x} followed by hex digits. Both stop once the
+     * budget is used up.
+     */
+    private static void appendBytes(StringBuilder sb, byte[] bytes, int max) {
+        if (bytes == null) {
+            sb.append("null");
+            return;
+        }
+        int start = sb.length();
+        if (!appendUtf8(sb, bytes, max)) {
+            sb.setLength(start);
+            appendHex(sb, bytes, max);
+        }
+    }
+
+    private static boolean appendUtf8(StringBuilder sb, byte[] bytes, int max) {
+        int i = 0;
+        while (i < bytes.length && sb.length() <= max) {
+            int b = bytes[i];
+            if (b >= 0) {
+                if (!isPrintable(b)) {
+                    return false;
+                }
+                sb.append((char) b);
+                i++;
+                continue;
+            }
+            int length;
+            int codePoint;
+            if ((b & 0xE0) == 0xC0) {
+                length = 2;
+                codePoint = b & 0x1F;
+            } else if ((b & 0xF0) == 0xE0) {
+                length = 3;
+                codePoint = b & 0x0F;
+            } else if ((b & 0xF8) == 0xF0) {
+                length = 4;
+                codePoint = b & 0x07;
+            } else {
+                return false;
+            }
+            if (i + length > bytes.length) {
+                return false;
+            }
+            for (int k = 1; k < length; k++) {
+                int c = bytes[i + k];
+                if ((c & 0xC0) != 0x80) {
+                    return false;
+                }
+                codePoint = (codePoint << 6) | (c & 0x3F);
+            }
+            if (codePoint < MIN_CODE_POINT[length] || codePoint > Character.MAX_CODE_POINT
+                || (codePoint >= Character.MIN_SURROGATE && codePoint <= Character.MAX_SURROGATE)
+                || Character.isISOControl(codePoint)) {
+                return false;
+            }
+            sb.appendCodePoint(codePoint);
+            i += length;
+        }
+        return true;
+    }
+
+    private static boolean isPrintable(int ascii) {
+        return (ascii >= 0x20 && ascii != 0x7F) || ascii == '\t' || ascii == '\n' || ascii == '\r';
+    }
+
+    private static void appendHex(StringBuilder sb, byte[] bytes, int max) {
+        sb.append("0x");
+        for (int i = 0; i < bytes.length && sb.length() <= max; i++) {
+            sb.append(HEX[(bytes[i] >> 4) & 0xF]).append(HEX[bytes[i] & 0xF]);
+        }
+    }
+
+    private static void appendObject(StringBuilder sb, Object value, int max) {
+        if (value instanceof byte[]) {
+            appendBytes(sb, (byte[]) value, max);
+            return;
+        }
+        String s = String.valueOf(value);
+        // one character over budget marks the value as cut
+        sb.append(s, 0, Math.min(s.length(), Math.max(max + 1 - sb.length(), 0)));
+    }
+
+    /**
+     * @param remaining elements not rendered at all, an element cut in the middle is counted as well
+     */
+    private static String cut(StringBuilder sb, int max, int remaining) {
+        return truncated(sb, max, sb.length() > max ? remaining + 1 : remaining);
+    }
+
+    private static String truncated(StringBuilder sb, int max, int more) {
+        if (sb.length() > max) {
+            sb.setLength(max);
+        }
+        sb.append(ELLIPSIS);
+        if (more > 0) {
+            sb.append("(+").append(more).append(" more)");
+        }
+        return release(sb);
+    }
+
+    private static String finish(StringBuilder sb, int max) {
+        if (sb.length() > max) {
+            return truncated(sb, max, 0);
+        }
+        return release(sb);
+    }
+
+    private static StringBuilder buffer() {
+        StringBuilder sb = BUFFER.get();
+        sb.setLength(0);
+        return sb;
+    }
+
+    private static String release(StringBuilder sb) {
+        String s = sb.toString();
+        if (sb.capacity() > MAX_RETAINED_CAPACITY) {
+            BUFFER.remove();
+        }
+        return s;
+    }
 
     private TagUtils() {
 
@@ -2,10 +2,20 @@ package com.github.freshchen.instrumentation.core.util;
 
 import brave.Span;
 import brave.Tracer;
+import brave.Tracing;
+import brave.propagation.CurrentTraceContext;
+import brave.propagation.TraceContext;
 import com.github.freshchen.instrumentation.core.function.Action;
 import com.github.freshchen.instrumentation.core.function.ExceptionAction;
 import com.github.freshchen.instrumentation.core.function.ExceptionSupplier;
+import com.github.freshchen.instrumentation.core.function.QuadFunction;
+import com.github.freshchen.instrumentation.core.function.SliceRenderer;
+import com.github.freshchen.instrumentation.core.function.TriFunction;
+import com.github.freshchen.instrumentation.core.handler.DeferredTagSpanHandler;
 
+import java.util.Objects;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 /**
@@ -14,58 +24,367 @@ import java.util.function.Supplier;
  */
 public class TracerHelper {
 
+    private static final TraceContext UNSAMPLED_CONTEXT = TraceContext.newBuilder()
+        .traceId(1L)
+        .spanId(1L)
+        .sampled(false)
+        .build();
+
+    /**
+     * never recorded whatever the tracer does, for calls that are not traced at all
+     */
+    private static final Span NOOP_SPAN = newNoopSpan();
+
     protected final Tracer tracer;
 
+    /**
+     * shared by every call made under an unsampled parent, nothing is allocated for such calls
+     */
+    private final Span unsampledSpan;
+
+    /**
+     * when present, tag values are handed over raw and rendered when the span ends
+     */
+    private final DeferredTagSpanHandler deferredTagSpanHandler;
+
+    private volatile boolean leafSpans;
+
+    private volatile boolean rootSpans = true;
+
+    /**
+     * whether the user chose {@link #rootSpans}, a mode then leaves it alone
+     */
+    private volatile boolean rootSpansSet;
+
+    /**
+     * read directly when known, Tracer only exposes the current context through a freshly allocated span
+     */
+    private final CurrentTraceContext currentTraceContext;
+
     public TracerHelper(Tracer tracer) {
+        this(tracer, null);
+    }
+
+    public TracerHelper(Tracer tracer, DeferredTagSpanHandler deferredTagSpanHandler) {
+        this(tracer, null, deferredTagSpanHandler);
+    }
+
+    public TracerHelper(Tracing tracing) {
+        this(tracing, null);
+    }
+
+    public TracerHelper(Tracing tracing, DeferredTagSpanHandler deferredTagSpanHandler) {
+        this(tracing.tracer(), tracing.currentTraceContext(), deferredTagSpanHandler);
+    }
+
+    private TracerHelper(Tracer tracer, CurrentTraceContext currentTraceContext,
+                         DeferredTagSpanHandler deferredTagSpanHandler) {
         this.tracer = tracer;
+        this.currentTraceContext = currentTraceContext;
+        this.unsampledSpan = tracer.toSpan(UNSAMPLED_CONTEXT);
+        this.deferredTagSpanHandler = deferredTagSpanHandler;
     }
 
     public Span startNextSpan() {
+        TraceContext parent = currentContext();
+        if (parent == null) {
+            if (!rootSpans) {
+                // not even a tracer recording unsampled spans starts a trace for it
+                return excludedSpan();
+            }
+        } else if (isUnsampled(parent)) {
+            return unsampledSpan;
+        }
         Span span = tracer.nextSpan();
         return span.start();
     }
 
+    /**
+     * @return the shared noop span, null when the tracer records unsampled spans as well
+     */
+    protected Span noopSpan() {
+        return unsampledSpan.isNoop() ? unsampledSpan : null;
+    }
+
+    /**
+     * @return a span that is never recorded, even when the tracer records unsampled spans, and never placed in scope
+     */
+    protected Span excludedSpan() {
+        return unsampledSpan.isNoop() ? unsampledSpan : NOOP_SPAN;
+    }
+
+    /**
+     * Brave only hands out its noop span from a noop tracer. The private tracing is closed right away, so it does not
+     * stay {@link Tracing#current()} either.
+     */
+    private static Span newNoopSpan() {
+        Tracing tracing = Tracing.newBuilder().build();
+        tracing.setNoop(true);
+        Span span = tracing.tracer().toSpan(UNSAMPLED_CONTEXT);
+        tracing.close();
+        return span;
+    }
+
+    protected TraceContext currentContext() {
+        if (currentTraceContext != null) {
+            return currentTraceContext.get();
+        }
+        Span current = tracer.currentSpan();
+        return current == null ? null : current.context();
+    }
+
+    public boolean isLeafSpans() {
+        return leafSpans;
+    }
+
+    /**
+     * Leaf spans never have children, so they are timed and finished without being placed in scope, which saves
+     * writing and restoring the current context thread-local around every call.
+     */
+    public void setLeafSpans(boolean leafSpans) {
+        this.leafSpans = leafSpans;
+    }
+
+    public boolean isRootSpans() {
+        return rootSpans;
+    }
+
+    /**
+     * Whether a call made with no trace in scope starts a new trace, when disabled such calls are not traced
+     */
+    public void setRootSpans(boolean rootSpans) {
+        this.rootSpans = rootSpans;
+        this.rootSpansSet = true;
+    }
+
+    /**
+     * Changes {@link #setRootSpans} for a mode, unless the user already set it
+     */
+    protected void defaultRootSpans(boolean rootSpans) {
+        if (!rootSpansSet) {
+            this.rootSpans = rootSpans;
+        }
+    }
+
+    /**
+     * Called once per traced call when the call threw, before {@link #finish}. Public for callers that run a call
+     * without executeInScope.
+     */
+    public void error(Span span, Throwable error) {
+        span.error(error);
+    }
+
+    /**
+     * Called once per traced call when it returned or threw
+     */
+    public void finish(Span span) {
+        span.finish();
+    }
+
+    /**
+     * @return null when nothing needs to be scoped, try-with-resources skips closing it
+     */
+    protected Tracer.SpanInScope scope(Span span) {
+        // the sampling decision of the parent is already in scope for the shared noop spans
+        if (leafSpans || span == unsampledSpan || span == NOOP_SPAN) {
+            return null;
+        }
+        return tracer.withSpanInScope(span);
+    }
+
+    private boolean isUnsampled(TraceContext parent) {
+        return unsampledSpan.isNoop() && Boolean.FALSE.equals(parent.sampled()) && !parent.sampledLocal();
+    }
+
+    /**
+     * Tags are only rendered when the span is recorded, unsampled spans pay nothing for formatting
+     */
+    public void tag(Span span, String key, Supplier<String> supplier) {
+        tag(span, key, supplier, Supplier::get);
+    }
+
+    /**
+     * Prefer a non-capturing renderer such as {@code TagUtils::toString} so that no lambda is allocated per call
+     */
+    public <T> void tag(Span span, String key, T value, Function<? super T, String> renderer) {
+        if (span.isNoop()) {
+            return;
+        }
+        if (value == null) {
+            span.tag(key, "null");
+        } else if (deferredTagSpanHandler == null
+            || !deferredTagSpanHandler.defer(span.context(), key, value, renderer)) {
+            span.tag(key, String.valueOf(renderer.apply(value)));
+        }
+    }
+
+    /**
+     * Like {@link #tag(Span, String, Object, Function)} for a renderer that takes bounds, such as
+     * {@code TagUtils::toString}, which are passed along instead of captured
+     */
+    public <T> void tag(Span span, String key, T value, int limit, int stride, SliceRenderer<? super T> renderer) {
+        if (span.isNoop()) {
+            return;
+        }
+        if (value == null) {
+            span.tag(key, "null");
+        } else if (deferredTagSpanHandler == null
+            || !deferredTagSpanHandler.defer(span.context(), key, value, limit, stride, renderer)) {
+            span.tag(key, String.valueOf(renderer.render(value, limit, stride)));
+        }
+    }
+
+    public void tag(Span span, String key, String value) {
+        if (!span.isNoop()) {
+            span.tag(key, Objects.toString(value));
+        }
+    }
+
+    public void tag(Span span, String key, Object value) {
+        tag(span, key, value, Objects::toString);
+    }
+
+    public void tag(Span span, String key, long value) {
+        if (!span.isNoop()) {
+            span.tag(key, String.valueOf(value));
+        }
+    }
+
+    public void tag(Span span, String key, double value) {
+        if (!span.isNoop()) {
+            span.tag(key, String.valueOf(value));
+        }
+    }
+
+    public void tag(Span span, String key, boolean value) {
+        if (!span.isNoop()) {
+            span.tag(key, String.valueOf(value));
+        }
+    }
+
+    public void tag(Span span, String key, byte[] value) {
+        tag(span, key, value, TagUtils::toString);
+    }
+
+    public void tag(Span span, String key, byte[][] values) {
+        tag(span, key, values, TagUtils::toString);
+    }
+
+    public void tag(Span span, String key, int[] values) {
+        tag(span, key, values, TagUtils::toString);
+    }
+
+    public void tag(Span span, String key, Object[] values) {
+        tag(span, key, values, TagUtils::toString);
+    }
+
     public <T> T executeInScope(Span span, Supplier<T> supplier) {
-        try (Tracer.SpanInScope ws = tracer.withSpanInScope(span)) {
+        try (Tracer.SpanInScope ws = scope(span)) {
             return supplier.get();
         } catch (RuntimeException | Error e) {
-            span.error(e);
+            error(span, e);
+            throw e;
+        } finally {
+            finish(span);
+        }
+    }
+
+    /**
+     * Target and arguments are passed explicitly so that callers can use a non-capturing method reference such as
+     * {@code Jedis::get}, which unlike a capturing lambda is not allocated per call.
+     */
+    public <S, R> R executeInScope(Span span, S target, Function<? super S, ? extends R> function) {
+        try (Tracer.SpanInScope ws = scope(span)) {
+            return function.apply(target);
+        } catch (RuntimeException | Error e) {
+            error(span, e);
+            throw e;
+        } finally {
+            finish(span);
+        }
+    }
+
+    public <S, A, R> R executeInScope(Span span, S target, A arg,
+                                      BiFunction<? super S, ? super A, ? extends R> function) {
+        try (Tracer.SpanInScope ws = scope(span)) {
+            return function.apply(target, arg);
+        } catch (RuntimeException | Error e) {
+            error(span, e);
+            throw e;
+        } finally {
+            finish(span);
+        }
+    }
+
+    public <S, A, B, R> R executeInScope(Span span, S target, A arg1, B arg2,
+                                         TriFunction<? super S, ? super A, ? super B, ? extends R> function) {
+        try (Tracer.SpanInScope ws = scope(span)) {
+            return function.apply(target, arg1, arg2);
+        } catch (RuntimeException | Error e) {
+            error(span, e);
+            throw e;
+        } finally {
+            finish(span);
+        }
+    }
+
+    public <S, A, B, C, R> R executeInScope(Span span, S target, A arg1, B arg2, C arg3,
+                                            QuadFunction<? super S, ? super A, ? super B, ? super C, ? extends R> function) {
+        try (Tracer.SpanInScope ws = scope(span)) {
+            return function.apply(target, arg1, arg2, arg3);
+        } catch (RuntimeException | Error e) {
+            error(span, e);
             throw e;
         } finally {
-            span.finish();
+            finish(span);
         }
     }
 
     public void executeInScope(Span span, Action action) {
+        try (Tracer.SpanInScope ws = scope(span)) {
+            action.execute();
+        } catch (RuntimeException | Error e) {
+            error(span, e);
+            throw e;
+        } finally {
+            finish(span);
+        }
+    }
+
+    /**
+     * Like {@link #executeInScope(Span, Action)} but places the span in scope even in leaf mode, for spans that are
+     * the parent of what the action does, such as a consumed message
+     */
+    public void executeAsParent(Span span, Action action) {
         try (Tracer.SpanInScope ws = tracer.withSpanInScope(span)) {
             action.execute();
         } catch (RuntimeException | Error e) {
-            span.error(e);
+            error(span, e);
             throw e;
         } finally {
-            span.finish();
+            finish(span);
         }
     }
 
     public <T extends Exception> void executeInScopeThrowing(Span span, ExceptionAction<T> exceptionAction) throws T {
-        try (Tracer.SpanInScope ws = tracer.withSpanInScope(span)) {
+        try (Tracer.SpanInScope ws = scope(span)) {
             exceptionAction.execute();
         } catch (RuntimeException | Error e) {
-            span.error(e);
+            error(span, e);
             throw e;
         } finally {
-            span.finish();
+            finish(span);
         }
     }
 
     public <T extends Exception, V> V executeInScopeThrowing(Span span, ExceptionSupplier<T, V> supplier) throws T {
-        try (Tracer.SpanInScope ws = tracer.withSpanInScope(span)) {
+        try (Tracer.SpanInScope ws = scope(span)) {
             return supplier.get();
         } catch (RuntimeException | Error e) {
-            span.error(e);
+            error(span, e);
             throw e;
         } finally {
-            span.finish();
+            finish(span);
         }
     }
 
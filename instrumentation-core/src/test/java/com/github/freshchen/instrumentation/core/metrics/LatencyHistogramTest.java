@@ -0,0 +1,112 @@
+package com.github.freshchen.instrumentation.core.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author freshchen
+ * @since 2026/10/17
+ */
+class LatencyHistogramTest {
+
+    @Test
+    void smallValuesHaveTheirOwnBucket() {
+        for (long value = 0L; value < 32L; value++) {
+            int index = LatencyHistogram.index(value);
+            assertEquals(value, index);
+            assertEquals(value, LatencyHistogram.highestValue(index));
+        }
+    }
+
+    @Test
+    void bucketsHoldTheirValuesWithinThreePercent() {
+        int previous = -1;
+        for (long value = 32L; value < 1L << 20; value += 7L) {
+            int index = LatencyHistogram.index(value);
+            long highest = LatencyHistogram.highestValue(index);
+            assertTrue(index >= previous, "buckets are in value order at " + value);
+            assertTrue(highest >= value, "bucket of " + value + " ends at " + highest);
+            assertTrue(highest - value < value / 32 + 1, "bucket of " + value + " is too wide: " + highest);
+            previous = index;
+        }
+    }
+
+    @Test
+    void bucketEndsAtTheValueBeforeTheNextBucket() {
+        for (long value : new long[]{32L, 63L, 64L, 1000L, 1L << 30, LatencyHistogram.HIGHEST_TRACKABLE_VALUE}) {
+            int index = LatencyHistogram.index(value);
+            long highest = LatencyHistogram.highestValue(index);
+            assertEquals(index, LatencyHistogram.index(highest), "end of the bucket of " + value);
+            if (value < LatencyHistogram.HIGHEST_TRACKABLE_VALUE) {
+                assertEquals(index + 1, LatencyHistogram.index(highest + 1), "after the bucket of " + value);
+            }
+        }
+    }
+
+    @Test
+    void percentilesComeFromTheBuckets() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long micros = 1L; micros <= 100L; micros++) {
+            histogram.record(micros * 1_000L);
+        }
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+
+        assertEquals(100L, snapshot.getCount());
+        assertEquals(5_050_000L, snapshot.getTotal());
+        assertEquals(50_500.0, snapshot.getMean(), 0.0);
+        assertEquals(100_000L, snapshot.getMax());
+        assertWithin(50_000L, snapshot.getValueAtPercentile(50));
+        assertWithin(99_000L, snapshot.getValueAtPercentile(99));
+        assertEquals(100_000L, snapshot.getValueAtPercentile(100));
+    }
+
+    @Test
+    void valuesOutOfRangeAreClamped() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(-5L);
+        histogram.record(LatencyHistogram.HIGHEST_TRACKABLE_VALUE * 4);
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+
+        assertEquals(2L, snapshot.getCount());
+        assertEquals(0L, snapshot.getValueAtPercentile(50));
+        assertEquals(LatencyHistogram.HIGHEST_TRACKABLE_VALUE * 4, snapshot.getMax());
+        assertEquals(LatencyHistogram.HIGHEST_TRACKABLE_VALUE * 4, snapshot.getTotal());
+    }
+
+    @Test
+    void stripesAreMerged() throws InterruptedException {
+        LatencyHistogram histogram = new LatencyHistogram();
+        Thread[] threads = new Thread[8];
+        for (int t = 0; t < threads.length; t++) {
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < 1000; i++) {
+                    histogram.record(10L);
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+
+        assertEquals(8000L, snapshot.getCount());
+        assertEquals(80_000L, snapshot.getTotal());
+        assertEquals(10L, snapshot.getMax());
+    }
+
+    @Test
+    void emptySnapshot() {
+        LatencyHistogram.Snapshot snapshot = new LatencyHistogram().snapshot();
+
+        assertEquals(0L, snapshot.getCount());
+        assertEquals(0.0, snapshot.getMean(), 0.0);
+        assertEquals(0L, snapshot.getValueAtPercentile(99));
+    }
+
+    private static void assertWithin(long expected, long actual) {
+        assertTrue(actual >= expected && actual <= expected + expected / 32, expected + " reported as " + actual);
+    }
+}
@@ -0,0 +1,33 @@
+package com.github.freshchen.instrumentation.core.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * @author freshchen
+ * @since 2026/10/17
+ */
+class TagUtilsTest {
+
+    @Test
+    void utf8LengthMatchesEncoding() {
+        for (String s : new String[]{"", "key", "välue", "键", "k😀", "😀😀x"}) {
+            assertEquals(s.getBytes(StandardCharsets.UTF_8).length, TagUtils.utf8Length(s), s);
+        }
+    }
+
+    @Test
+    void utf8LengthCountsSupplementaryCodePointAsFourBytes() {
+        assertEquals(5, TagUtils.utf8Length("k😀"));
+    }
+
+    @Test
+    void utf8LengthCountsLoneSurrogateAsThreeBytes() {
+        assertEquals(4, TagUtils.utf8Length("k\uD83D"));
+        assertEquals(4, TagUtils.utf8Length("\uDE00k"));
+        assertEquals(7, TagUtils.utf8Length("\uDE00\uD83Dk"));
+    }
+}
@@ -0,0 +1,53 @@
+package com.github.freshchen.jedis263.instrumentation;
+
+import com.github.freshchen.jedis.instrumentation.util.JedisTracerHelper;
+
+/**
+ * First keys queued in a pipeline or transaction, up to {@link JedisTracerHelper#getQueuedKeys()}. Only references
+ * are kept, a new array is started per batch so tags deferred by reference stay intact.
+ *
+ * @author freshchen
+ * @since 2026/10/17
+ */
+final class QueuedKeys {
+
+    private final JedisTracerHelper helper;
+
+    private Object[] keys;
+
+    private int count;
+
+    QueuedKeys(JedisTracerHelper helper) {
+        this.helper = helper;
+    }
+
+    void add(Object key) {
+        int max = helper.getQueuedKeys();
+        if (count >= max) {
+            return;
+        }
+        if (keys == null || keys.length != max) {
+            keys = new Object[max];
+            count = 0;
+        }
+        keys[count++] = key;
+    }
+
+    /**
+     * @return the keys of the batch, null when none were kept
+     */
+    Object[] take() {
+        Object[] batch = keys;
+        if (batch == null) {
+            return null;
+        }
+        if (count < batch.length) {
+            Object[] trimmed = new Object[count];
+            System.arraycopy(batch, 0, trimmed, 0, count);
+            batch = trimmed;
+        }
+        keys = null;
+        count = 0;
+        return batch;
+    }
+}
@@ -0,0 +1,126 @@
+package com.github.freshchen.jedis263.instrumentation;
+
+import brave.Span;
+import com.github.freshchen.instrumentation.core.function.QuadFunction;
+import com.github.freshchen.instrumentation.core.function.TriFunction;
+import com.github.freshchen.instrumentation.core.util.TagUtils;
+import com.github.freshchen.jedis.instrumentation.util.JedisTracerHelper;
+import redis.clients.jedis.Tuple;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Tags collection replies with their element count as {@code resultCount} and their approximate payload as
+ * {@code resultBytes}, so big keys show up without their values being rendered. Sizes are only worked out for
+ * recorded spans, an unsampled call runs exactly as through {@link JedisTracerHelper#executeInScope}.
+ *
+ * @author freshchen
+ * @since 2026/10/17
+ */
+final class ResultSizes {
+
+    static final String RESULT_COUNT = "resultCount";
+    static final String RESULT_BYTES = "resultBytes";
+
+    /**
+     * a score is counted as the eight bytes of a double
+     */
+    private static final int SCORE_BYTES = Double.BYTES;
+
+    static <R> R tag(JedisTracerHelper helper, Span span, R result) {
+        if (span.isNoop()) {
+            return result;
+        }
+        int count;
+        if (result instanceof Collection) {
+            count = ((Collection<?>) result).size();
+        } else if (result instanceof Map) {
+            count = ((Map<?, ?>) result).size();
+        } else {
+            return result;
+        }
+        helper.tag(span, RESULT_COUNT, count);
+        helper.tag(span, RESULT_BYTES, sizeOf(result));
+        return result;
+    }
+
+    static <R> R executeInScope(JedisTracerHelper helper, Span span, Supplier<R> supplier) {
+        if (span.isNoop()) {
+            return helper.executeInScope(span, supplier);
+        }
+        return helper.executeInScope(span, () -> tag(helper, span, supplier.get()));
+    }
+
+    static <S, R> R executeInScope(JedisTracerHelper helper, Span span, S target,
+                                   Function<? super S, ? extends R> function) {
+        if (span.isNoop()) {
+            return helper.executeInScope(span, target, function);
+        }
+        return helper.executeInScope(span, () -> tag(helper, span, function.apply(target)));
+    }
+
+    static <S, A, R> R executeInScope(JedisTracerHelper helper, Span span, S target, A arg,
+                                      BiFunction<? super S, ? super A, ? extends R> function) {
+        if (span.isNoop()) {
+            return helper.executeInScope(span, target, arg, function);
+        }
+        return helper.executeInScope(span, () -> tag(helper, span, function.apply(target, arg)));
+    }
+
+    static <S, A, B, R> R executeInScope(JedisTracerHelper helper, Span span, S target, A arg1, B arg2,
+                                         TriFunction<? super S, ? super A, ? super B, ? extends R> function) {
+        if (span.isNoop()) {
+            return helper.executeInScope(span, target, arg1, arg2, function);
+        }
+        return helper.executeInScope(span, () -> tag(helper, span, function.apply(target, arg1, arg2)));
+    }
+
+    static <S, A, B, C, R> R executeInScope(JedisTracerHelper helper, Span span, S target, A arg1, B arg2, C arg3,
+                                            QuadFunction<? super S, ? super A, ? super B, ? super C, ? extends R>
+                                                function) {
+        if (span.isNoop()) {
+            return helper.executeInScope(span, target, arg1, arg2, arg3, function);
+        }
+        return helper.executeInScope(span, () -> tag(helper, span, function.apply(target, arg1, arg2, arg3)));
+    }
+
+    /**
+     * payload bytes of binary and text elements, numbers and scores count as eight, nested replies are summed
+     */
+    static long sizeOf(Object value) {
+        if (value instanceof byte[]) {
+            return ((byte[]) value).length;
+        }
+        if (value instanceof String) {
+            return TagUtils.utf8Length((String) value);
+        }
+        if (value instanceof Number) {
+            return Long.BYTES;
+        }
+        if (value instanceof Tuple) {
+            return ((Tuple) value).getBinaryElement().length + SCORE_BYTES;
+        }
+        if (value instanceof Collection) {
+            long size = 0L;
+            for (Object element : (Collection<?>) value) {
+                size += sizeOf(element);
+            }
+            return size;
+        }
+        if (value instanceof Map) {
+            long size = 0L;
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                size += sizeOf(entry.getKey()) + sizeOf(entry.getValue());
+            }
+            return size;
+        }
+        return 0L;
+    }
+
+    private ResultSizes() {
+    }
+}
@@ -0,0 +1,138 @@
+package com.github.freshchen.jedis263.instrumentation;
+
+import brave.Span;
+import com.github.freshchen.instrumentation.core.util.TagUtils;
+import com.github.freshchen.jedis.instrumentation.util.JedisConstants;
+import com.github.freshchen.jedis.instrumentation.util.JedisTracerHelper;
+import redis.clients.jedis.ScanParams;
+import redis.clients.jedis.ScanResult;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Drives a SCAN family cursor lazily, fetching the next page when the current one is used up. The whole sweep is
+ * one span from the first page until the iterator is exhausted or closed, tagged with the number of calls, the
+ * elements returned, the time spent in the calls and whether the cursor came back to 0. Pages are fetched untraced.
+ * A caller that may stop early should use it, or its {@link #stream()}, with try-with-resources.
+ *
+ * @author freshchen
+ * @since 2026/10/17
+ */
+public class ScanIterator<T> implements Iterator<T>, AutoCloseable {
+
+    private static final String START = "0";
+
+    private final JedisTracerHelper helper;
+    private final String command;
+    private final String key;
+    private final ScanParams params;
+    private final Function<String, ScanResult<T>> scan;
+
+    private Span span;
+    private String cursor = START;
+    private boolean lastPage;
+    private boolean closed;
+
+    private List<T> page = Collections.emptyList();
+    private int index;
+
+    private int iterations;
+    private long elements;
+    private long scanNanos;
+
+    /**
+     * @param key    the scanned key, null for SCAN
+     * @param params tagged on the span, null for none
+     * @param scan   fetches the page at a cursor
+     */
+    public ScanIterator(JedisTracerHelper helper, String command, String key, ScanParams params,
+                        Function<String, ScanResult<T>> scan) {
+        this.helper = helper;
+        this.command = command;
+        this.key = key;
+        this.params = params;
+        this.scan = scan;
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (index == page.size()) {
+            if (lastPage || closed) {
+                close();
+                return false;
+            }
+            fetch();
+        }
+        return true;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return page.get(index++);
+    }
+
+    /**
+     * @return a sequential stream over the remaining elements, closing it closes this iterator
+     */
+    public Stream<T> stream() {
+        Spliterator<T> spliterator = Spliterators.spliteratorUnknownSize(this, Spliterator.NONNULL);
+        return StreamSupport.stream(spliterator, false).onClose(this::close);
+    }
+
+    /**
+     * Finishes the span, a sweep that is not iterated to the end should be closed
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (span != null) {
+            helper.tag(span, "iterations", iterations);
+            helper.tag(span, "elements", elements);
+            helper.tag(span, "scanMicros", scanNanos / 1_000L);
+            helper.tag(span, "complete", lastPage);
+            helper.finish(span);
+        }
+    }
+
+    private void fetch() {
+        if (span == null) {
+            span = helper.startDetachedJedisSpan(command);
+            if (key != null) {
+                helper.tag(span, JedisConstants.KEY, key);
+            }
+            if (params != null) {
+                helper.tag(span, "params", params, p -> TagUtils.toString(p.getParams()));
+            }
+        }
+        long start = System.nanoTime();
+        ScanResult<T> result;
+        try {
+            result = scan.apply(cursor);
+        } catch (RuntimeException | Error e) {
+            helper.error(span, e);
+            close();
+            throw e;
+        }
+        scanNanos += System.nanoTime() - start;
+        iterations++;
+        page = result.getResult();
+        index = 0;
+        elements += page.size();
+        cursor = result.getStringCursor();
+        lastPage = START.equals(cursor);
+    }
+}
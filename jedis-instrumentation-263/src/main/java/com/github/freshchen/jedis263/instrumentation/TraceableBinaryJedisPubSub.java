@@ -0,0 +1,90 @@
+package com.github.freshchen.jedis263.instrumentation;
+
+import brave.Span;
+import brave.propagation.TraceContext;
+import com.github.freshchen.jedis.instrumentation.pubsub.ChannelSampler;
+import com.github.freshchen.jedis.instrumentation.pubsub.PubSubEnvelope;
+import com.github.freshchen.jedis.instrumentation.util.JedisTracerHelper;
+import redis.clients.jedis.BinaryJedisPubSub;
+
+/**
+ * Binary counterpart of {@link TraceableJedisPubSub}
+ *
+ * @author freshchen
+ * @since 2026/10/17
+ */
+public class TraceableBinaryJedisPubSub extends BinaryJedisPubSub {
+
+    private final BinaryJedisPubSub delegate;
+    private final JedisTracerHelper helper;
+    private final ChannelSampler sampler;
+
+    public TraceableBinaryJedisPubSub(BinaryJedisPubSub delegate, JedisTracerHelper helper) {
+        this(delegate, helper, new ChannelSampler());
+    }
+
+    public TraceableBinaryJedisPubSub(BinaryJedisPubSub delegate, JedisTracerHelper helper, ChannelSampler sampler) {
+        this.delegate = delegate;
+        this.helper = helper;
+        this.sampler = sampler;
+    }
+
+    @Override
+    public void onMessage(byte[] channel, byte[] message) {
+        int payloadStart = PubSubEnvelope.payloadStart(message);
+        byte[] payload = PubSubEnvelope.payload(message, payloadStart);
+        TraceContext producer = PubSubEnvelope.context(message, payloadStart);
+        if (!isSampled(producer, channel)) {
+            delegate.onMessage(channel, payload);
+            return;
+        }
+        Span span = helper.startJedisConsumerSpan("message", producer);
+        helper.tag(span, "channel", channel);
+        helper.tag(span, "payloadSize", payload == null ? 0 : payload.length);
+        helper.executeAsParent(span, () -> delegate.onMessage(channel, payload));
+    }
+
+    @Override
+    public void onPMessage(byte[] pattern, byte[] channel, byte[] message) {
+        int payloadStart = PubSubEnvelope.payloadStart(message);
+        byte[] payload = PubSubEnvelope.payload(message, payloadStart);
+        TraceContext producer = PubSubEnvelope.context(message, payloadStart);
+        if (!isSampled(producer, channel)) {
+            delegate.onPMessage(pattern, channel, payload);
+            return;
+        }
+        Span span = helper.startJedisConsumerSpan("pmessage", producer);
+        helper.tag(span, "pattern", pattern);
+        helper.tag(span, "channel", channel);
+        helper.tag(span, "payloadSize", payload == null ? 0 : payload.length);
+        helper.executeAsParent(span, () -> delegate.onPMessage(pattern, channel, payload));
+    }
+
+    /**
+     * the decision of the publisher when the envelope carries one, the sampler's otherwise
+     */
+    private boolean isSampled(TraceContext producer, byte[] channel) {
+        Boolean sampled = producer == null ? null : producer.sampled();
+        return sampled != null ? sampled : sampler.isSampled(channel);
+    }
+
+    @Override
+    public void onSubscribe(byte[] channel, int subscribedChannels) {
+        delegate.onSubscribe(channel, subscribedChannels);
+    }
+
+    @Override
+    public void onUnsubscribe(byte[] channel, int subscribedChannels) {
+        delegate.onUnsubscribe(channel, subscribedChannels);
+    }
+
+    @Override
+    public void onPUnsubscribe(byte[] pattern, int subscribedChannels) {
+        delegate.onPUnsubscribe(pattern, subscribedChannels);
+    }
+
+    @Override
+    public void onPSubscribe(byte[] pattern, int subscribedChannels) {
+        delegate.onPSubscribe(pattern, subscribedChannels);
+    }
+}
@@ -0,0 +1,321 @@
+package com.github.freshchen.jedis263.instrumentation;
+
+import brave.Span;
+import com.github.freshchen.jedis.instrumentation.metrics.JedisMetrics;
+import com.github.freshchen.jedis.instrumentation.util.JedisConstants;
+import com.github.freshchen.jedis.instrumentation.util.JedisTracerHelper;
+import com.github.freshchen.jedis.instrumentation.util.RespSizes;
+import redis.clients.jedis.Client;
+import redis.clients.jedis.Connection;
+import redis.clients.jedis.Protocol.Command;
+import redis.clients.jedis.Protocol.Keyword;
+import redis.clients.jedis.exceptions.JedisDataException;
+import redis.clients.util.SafeEncoder;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Traces at the protocol layer: a span starts when a command is sent and finishes when its reply is read, so every
+ * command Jedis can send is covered, including the ones queued by a pipeline or a transaction, without an override
+ * per method. Replies are matched to commands in send order. Spans are named by the protocol command in lower case
+ * and tagged with the first argument when it is a key, other arguments are not tagged.
+ * <p>
+ * SUBSCRIBE and the like are not answered in order, their confirmations are pushed like messages, so their spans end
+ * once sent. While subscribed, replies that are pushed are told apart by their first element and match no command.
+ * <p>
+ * Excluded commands, metrics mode, hot keys and wire byte counting apply, tail mode does not. Blocking commands are
+ * tagged with their timeout and whether they timed out, and timed apart like
+ * {@link JedisTracerHelper#startBlockingJedisSpan} does. Use it through {@link TraceableClientJedis}.
+ *
+ * @author freshchen
+ * @since 2026/10/17
+ */
+public class TraceableClient extends Client {
+
+    private static final Command[] COMMANDS = Command.values();
+
+    private static final String[] NAMES = new String[COMMANDS.length];
+
+    /**
+     * commands whose first argument is not a key, such as a password, a script or a channel
+     */
+    private static final boolean[] KEYLESS = new boolean[COMMANDS.length];
+
+    private static final boolean[] BLOCKING = new boolean[COMMANDS.length];
+
+    /**
+     * commands answered by pushed replies only, they may be sent by another thread while one reads the messages
+     */
+    private static final boolean[] PUBSUB = new boolean[COMMANDS.length];
+
+    private static final byte[][] PUSHED = {Keyword.MESSAGE.raw, Keyword.PMESSAGE.raw, Keyword.SUBSCRIBE.raw,
+        Keyword.PSUBSCRIBE.raw, Keyword.UNSUBSCRIBE.raw, Keyword.PUNSUBSCRIBE.raw};
+
+    static {
+        Set<Command> blocking = EnumSet.of(Command.BLPOP, Command.BRPOP, Command.BRPOPLPUSH);
+        Set<Command> pubsub = EnumSet.of(Command.SUBSCRIBE, Command.PSUBSCRIBE, Command.UNSUBSCRIBE,
+            Command.PUNSUBSCRIBE);
+        Set<Command> keyless = EnumSet.of(Command.PING, Command.QUIT, Command.FLUSHDB, Command.KEYS, Command.RANDOMKEY,
+            Command.DBSIZE, Command.SELECT, Command.FLUSHALL, Command.MULTI, Command.DISCARD, Command.EXEC,
+            Command.UNWATCH, Command.AUTH, Command.SUBSCRIBE, Command.PUBLISH, Command.UNSUBSCRIBE,
+            Command.PSUBSCRIBE, Command.PUNSUBSCRIBE, Command.PUBSUB, Command.SAVE, Command.BGSAVE,
+            Command.BGREWRITEAOF, Command.LASTSAVE, Command.SHUTDOWN, Command.INFO, Command.MONITOR, Command.SLAVEOF,
+            Command.CONFIG, Command.SYNC, Command.ECHO, Command.DEBUG, Command.EVAL, Command.EVALSHA, Command.SCRIPT,
+            Command.SLOWLOG, Command.OBJECT, Command.BITOP, Command.SENTINEL, Command.CLIENT, Command.TIME,
+            Command.MIGRATE, Command.SCAN, Command.WAIT, Command.CLUSTER, Command.ASKING);
+        for (Command command : COMMANDS) {
+            NAMES[command.ordinal()] = command.name().toLowerCase(Locale.ROOT);
+            KEYLESS[command.ordinal()] = keyless.contains(command);
+            BLOCKING[command.ordinal()] = blocking.contains(command);
+            PUBSUB[command.ordinal()] = pubsub.contains(command);
+        }
+    }
+
+    private static final byte[][] NO_ARGS = new byte[0][];
+
+    private static final long UNTIMED = Long.MIN_VALUE;
+
+    private final JedisTracerHelper helper;
+
+    private JedisMetrics.Endpoint endpoint;
+
+    /**
+     * commands waiting for their reply, a ring in send order with room for a pipeline without allocating per call
+     */
+    private Span[] spans = new Span[8];
+    private JedisMetrics.CommandMetrics[] commands = new JedisMetrics.CommandMetrics[8];
+    private long[] startNanos = new long[8];
+    /**
+     * -1 when wire bytes are not counted
+     */
+    private long[] requestBytes = new long[8];
+    private boolean[] blocking = new boolean[8];
+    private int head;
+    private int pending;
+
+    /**
+     * set when SUBSCRIBE or PSUBSCRIBE is sent, cleared by the confirmation that the last subscription ended
+     */
+    private volatile boolean subscribed;
+
+    public TraceableClient(String host, int port, JedisTracerHelper helper) {
+        super(host, port);
+        this.helper = helper;
+    }
+
+    @Override
+    protected Connection sendCommand(Command cmd) {
+        return sendCommand(cmd, NO_ARGS);
+    }
+
+    @Override
+    protected Connection sendCommand(Command cmd, byte[]... args) {
+        String name = NAMES[cmd.ordinal()];
+        // excluded commands still take their place in the ring, with no span
+        Span span = null;
+        JedisMetrics.CommandMetrics command = null;
+        boolean timed = false;
+        long requestBytes = -1L;
+        if (!helper.getCommandFilter().isExcluded(name)) {
+            span = helper.startDetachedJedisSpan(name);
+            if (args.length > 0 && !KEYLESS[cmd.ordinal()]) {
+                helper.recordKey(name, args[0]);
+                helper.tag(span, JedisConstants.KEY, args[0]);
+            }
+            if (BLOCKING[cmd.ordinal()] && !span.isNoop() && args.length > 0) {
+                // the timeout is the last argument of all of them
+                helper.tag(span, "timeout", SafeEncoder.encode(args[args.length - 1]));
+            }
+            timed = helper.isMetricsMode();
+            if (helper.isWireBytes()) {
+                requestBytes = RespSizes.command(cmd.raw, args);
+                helper.tag(span, "requestBytes", requestBytes);
+            }
+            if (timed || requestBytes >= 0L) {
+                command = BLOCKING[cmd.ordinal()] ? endpoint().blocking(name) : endpoint().command(name);
+            }
+        }
+        if (PUBSUB[cmd.ordinal()]) {
+            sendUnanswered(cmd, args, span, command, timed ? System.nanoTime() : UNTIMED, requestBytes);
+            return this;
+        }
+        push(span, command, timed, requestBytes, BLOCKING[cmd.ordinal()]);
+        try {
+            return super.sendCommand(cmd, args);
+        } catch (RuntimeException | Error e) {
+            failAll(e);
+            throw e;
+        }
+    }
+
+    @Override
+    protected Object readProtocolWithCheckingBroken() {
+        Object reply;
+        try {
+            reply = super.readProtocolWithCheckingBroken();
+        } catch (JedisDataException e) {
+            // an error reply ends its own command only
+            complete(e, null, pending > 0 && requestBytes[head] >= 0L ? RespSizes.error(e.getMessage()) : 0L);
+            throw e;
+        } catch (RuntimeException | Error e) {
+            failAll(e);
+            throw e;
+        }
+        if (subscribed && isPushed(reply)) {
+            return reply;
+        }
+        complete(null, reply, pending > 0 && requestBytes[head] >= 0L ? RespSizes.reply(reply) : 0L);
+        return reply;
+    }
+
+    @Override
+    public void disconnect() {
+        super.disconnect();
+        // replies that never came, the spans are not left open
+        failAll(null);
+    }
+
+    private JedisMetrics.Endpoint endpoint() {
+        JedisMetrics.Endpoint endpoint = this.endpoint;
+        if (endpoint == null) {
+            endpoint = helper.endpoint(getHost(), getPort());
+            this.endpoint = endpoint;
+        }
+        return endpoint;
+    }
+
+    /**
+     * sends a command whose replies are pushed, its span ends once it is sent and it takes no place in the ring
+     */
+    private void sendUnanswered(Command cmd, byte[][] args, Span span, JedisMetrics.CommandMetrics command, long start,
+                                long request) {
+        if (cmd == Command.SUBSCRIBE || cmd == Command.PSUBSCRIBE) {
+            subscribed = true;
+        }
+        try {
+            super.sendCommand(cmd, args);
+        } catch (RuntimeException | Error e) {
+            finish(span, command, start, request, false, e, null, 0L);
+            throw e;
+        }
+        finish(span, command, start, request, false, null, null, 0L);
+    }
+
+    /**
+     * @return whether the reply is a message or a subscription confirmation, the one that ends the last
+     * subscription leaves the subscribed state
+     */
+    private boolean isPushed(Object reply) {
+        if (!(reply instanceof List)) {
+            return false;
+        }
+        List<?> elements = (List<?>) reply;
+        if (elements.isEmpty() || !(elements.get(0) instanceof byte[])) {
+            return false;
+        }
+        byte[] kind = (byte[]) elements.get(0);
+        for (byte[] pushed : PUSHED) {
+            if (Arrays.equals(kind, pushed)) {
+                if ((pushed == Keyword.UNSUBSCRIBE.raw || pushed == Keyword.PUNSUBSCRIBE.raw)
+                    && elements.size() > 2 && Long.valueOf(0L).equals(elements.get(2))) {
+                    subscribed = false;
+                }
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void push(Span span, JedisMetrics.CommandMetrics command, boolean timed, long request,
+                      boolean blocks) {
+        if (pending == spans.length) {
+            grow();
+        }
+        int i = (head + pending) & (spans.length - 1);
+        spans[i] = span;
+        commands[i] = command;
+        startNanos[i] = timed ? System.nanoTime() : UNTIMED;
+        requestBytes[i] = request;
+        blocking[i] = blocks;
+        pending++;
+    }
+
+    /**
+     * finishes the oldest command, a reply without one, like a pub/sub message, is ignored
+     *
+     * @param responseBytes size of the reply, only used when the request was counted
+     */
+    private void complete(Throwable error, Object reply, long responseBytes) {
+        if (pending == 0) {
+            return;
+        }
+        Span span = spans[head];
+        JedisMetrics.CommandMetrics command = commands[head];
+        long start = startNanos[head];
+        long request = requestBytes[head];
+        boolean blocks = blocking[head];
+        spans[head] = null;
+        commands[head] = null;
+        head = (head + 1) & (spans.length - 1);
+        pending--;
+        finish(span, command, start, request, blocks, error, reply, responseBytes);
+    }
+
+    private void finish(Span span, JedisMetrics.CommandMetrics command, long start, long request, boolean blocks,
+                        Throwable error, Object reply, long responseBytes) {
+        boolean timedOut = blocks && error == null && JedisTracerHelper.isTimedOut(reply);
+        if (start != UNTIMED) {
+            command.record(System.nanoTime() - start, error != null);
+            if (timedOut) {
+                command.timedOut();
+            }
+        }
+        if (request >= 0L) {
+            command.recordBytes(request, responseBytes);
+            helper.tag(span, "responseBytes", responseBytes);
+        }
+        if (span == null) {
+            return;
+        }
+        if (blocks && error == null) {
+            helper.tag(span, "timedOut", timedOut);
+        }
+        if (error != null) {
+            span.error(error);
+        }
+        span.finish();
+    }
+
+    private void failAll(Throwable error) {
+        while (pending > 0) {
+            complete(error, null, 0L);
+        }
+    }
+
+    private void grow() {
+        int length = spans.length;
+        Span[] grownSpans = new Span[length * 2];
+        JedisMetrics.CommandMetrics[] grownCommands = new JedisMetrics.CommandMetrics[length * 2];
+        long[] grownStarts = new long[length * 2];
+        long[] grownRequests = new long[length * 2];
+        boolean[] grownBlocking = new boolean[length * 2];
+        for (int n = 0; n < pending; n++) {
+            int i = (head + n) & (length - 1);
+            grownSpans[n] = spans[i];
+            grownCommands[n] = commands[i];
+            grownStarts[n] = startNanos[i];
+            grownRequests[n] = requestBytes[i];
+            grownBlocking[n] = blocking[i];
+        }
+        spans = grownSpans;
+        commands = grownCommands;
+        startNanos = grownStarts;
+        requestBytes = grownRequests;
+        blocking = grownBlocking;
+        head = 0;
+    }
+}
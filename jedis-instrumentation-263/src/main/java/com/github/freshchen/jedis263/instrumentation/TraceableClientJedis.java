@@ -0,0 +1,25 @@
+package com.github.freshchen.jedis263.instrumentation;
+
+import com.github.freshchen.jedis.instrumentation.util.JedisTracerHelper;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.Protocol;
+
+/**
+ * Jedis whose connection is a {@link TraceableClient}, the protocol level alternative to {@link TraceableJedis263}
+ * that needs no override per command
+ *
+ * @author freshchen
+ * @since 2026/10/17
+ */
+public class TraceableClientJedis extends Jedis {
+
+    public TraceableClientJedis(String host, int port, JedisTracerHelper helper) {
+        this(host, port, Protocol.DEFAULT_TIMEOUT, helper);
+    }
+
+    public TraceableClientJedis(String host, int port, int timeout, JedisTracerHelper helper) {
+        super(host, port, timeout);
+        this.client = new TraceableClient(host, port, helper);
+        this.client.setTimeout(timeout);
+    }
+}
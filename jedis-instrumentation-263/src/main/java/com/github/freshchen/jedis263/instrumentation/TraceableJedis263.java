@@ -2,6 +2,8 @@ package com.github.freshchen.jedis263.instrumentation;
 
 import brave.Span;
 import com.github.freshchen.instrumentation.core.util.TagUtils;
+import com.github.freshchen.jedis.instrumentation.metrics.JedisMetrics;
+import com.github.freshchen.jedis.instrumentation.pubsub.PubSubEnvelope;
 import com.github.freshchen.jedis.instrumentation.util.JedisTracerHelper;
 import redis.clients.jedis.BinaryClient;
 import redis.clients.jedis.BinaryJedisPubSub;
@@ -18,17 +20,16 @@ import redis.clients.jedis.PipelineBlock;
 import redis.clients.jedis.ScanParams;
 import redis.clients.jedis.ScanResult;
 import redis.clients.jedis.SortingParams;
-import redis.clients.jedis.Transaction;
 import redis.clients.jedis.TransactionBlock;
 import redis.clients.jedis.Tuple;
 import redis.clients.jedis.ZParams;
+import redis.clients.jedis.exceptions.JedisDataException;
 import redis.clients.util.Pool;
+import redis.clients.util.SafeEncoder;
 import redis.clients.util.Slowlog;
 
-import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Set;
 
 /**
@@ -39,3243 +40,3369 @@ public class TraceableJedis263 extends Jedis {
 
     private final Jedis delegate;
     private final JedisTracerHelper helper;
+    private final JedisMetrics.Endpoint endpoint;
 
+    /**
+     * the superclass only gets an unconnected client that is never used, host and port skip the URI parsing of the
+     * host only constructor; {@link TraceableJedisPool} wraps once per pooled connection instead of per borrow
+     */
     public TraceableJedis263(Jedis delegate, JedisTracerHelper tracerHelper) {
-        super(delegate.getClient().getHost());
+        super(delegate.getClient().getHost(), delegate.getClient().getPort());
         this.delegate = delegate;
         this.helper = tracerHelper;
+        this.endpoint = tracerHelper.endpoint(delegate.getClient().getHost(), delegate.getClient().getPort());
+    }
+
+    public Jedis getDelegate() {
+        return delegate;
     }
 
     @Override
     public Long append(byte[] key, byte[] value) {
-        Span span = helper.startNextJedisSpan("append", key);
-        span.tag("value", Arrays.toString(value));
-        return helper.executeInScope(span, () -> delegate.append(key, value));
+        Span span = helper.startNextJedisSpan(endpoint, "append", key);
+        helper.tag(span, "value", value);
+        return helper.executeInScope(span, delegate, key, value, Jedis::append);
     }
 
     @Override
     public Long append(String key, String value) {
-        Span span = helper.startNextJedisSpan("append", key);
-        span.tag("value", value);
-        return helper.executeInScope(span, () -> delegate.append(key, value));
+        Span span = helper.startNextJedisSpan(endpoint, "append", key);
+        helper.tag(span, "value", value);
+        return helper.executeInScope(span, delegate, key, value, Jedis::append);
     }
 
     @Override
     public String asking() {
-        Span span = helper.startNextJedisSpan("asking");
-        return helper.executeInScope(span, () -> delegate.asking());
+        Span span = helper.startNextJedisSpan(endpoint, "asking");
+        return helper.executeInScope(span, delegate, Jedis::asking);
     }
 
     @Override
     public String auth(String password) {
-        Span span = helper.startNextJedisSpan("auth");
-        return helper.executeInScope(span, () -> delegate.auth(password));
+        Span span = helper.startNextJedisSpan(endpoint, "auth");
+        return helper.executeInScope(span, delegate, password, Jedis::auth);
     }
 
     @Override
     public String bgrewriteaof() {
-        Span span = helper.startNextJedisSpan("bgrewriteaof");
-        return helper.executeInScope(span, () -> delegate.bgrewriteaof());
+        Span span = helper.startNextJedisSpan(endpoint, "bgrewriteaof");
+        return helper.executeInScope(span, delegate, Jedis::bgrewriteaof);
     }
 
     @Override
     public String bgsave() {
-        Span span = helper.startNextJedisSpan("bgsave");
-        return helper.executeInScope(span, delegate::bgsave);
+        Span span = helper.startNextJedisSpan(endpoint, "bgsave");
+        return helper.executeInScope(span, delegate, Jedis::bgsave);
     }
 
     @Override
     public Long bitcount(byte[] key) {
-        Span span = helper.startNextJedisSpan("bitcount", key);
-        return helper.executeInScope(span, () -> delegate.bitcount(key));
+        Span span = helper.startNextJedisSpan(endpoint, "bitcount", key);
+        return helper.executeInScope(span, delegate, key, Jedis::bitcount);
     }
 
     @Override
     public Long bitcount(byte[] key, long start, long end) {
-        Span span = helper.startNextJedisSpan("bitcount", key);
-        span.tag("start", String.valueOf(start));
-        span.tag("end", String.valueOf(end));
-        return helper.executeInScope(span, () -> delegate.bitcount(key, start, end));
+        Span span = helper.startNextJedisSpan(endpoint, "bitcount", key);
+        helper.tag(span, "start", start);
+        helper.tag(span, "end", end);
+        return helper.executeInScope(span, delegate, key, start, end, Jedis::bitcount);
     }
 
     @Override
     public Long bitcount(String key) {
-        Span span = helper.startNextJedisSpan("bitcount", key);
-        return helper.executeInScope(span, () -> delegate.bitcount(key));
+        Span span = helper.startNextJedisSpan(endpoint, "bitcount", key);
+        return helper.executeInScope(span, delegate, key, Jedis::bitcount);
     }
 
     @Override
     public Long bitcount(String key, long start, long end) {
-        Span span = helper.startNextJedisSpan("bitcount", key);
-        span.tag("start", String.valueOf(start));
-        span.tag("end", String.valueOf(end));
-        return helper.executeInScope(span, () -> delegate.bitcount(key, start, end));
+        Span span = helper.startNextJedisSpan(endpoint, "bitcount", key);
+        helper.tag(span, "start", start);
+        helper.tag(span, "end", end);
+        return helper.executeInScope(span, delegate, key, start, end, Jedis::bitcount);
     }
 
     @Override
     public Long bitop(BitOP op, byte[] destKey, byte[]... srcKeys) {
-        Span span = helper.startNextJedisSpan("bitop");
-        span.tag("destKey", Arrays.toString(destKey));
-        span.tag("srcKeys", TagUtils.toString(srcKeys));
-        return helper.executeInScope(span, () -> delegate.bitop(op, destKey, srcKeys));
+        Span span = helper.startNextJedisSpan(endpoint, "bitop");
+        helper.tag(span, "destKey", destKey);
+        helper.tagMany(span, "srcKeys", srcKeys);
+        return helper.executeInScope(span, delegate, op, destKey, srcKeys, Jedis::bitop);
     }
 
     @Override
     public Long bitop(BitOP op, String destKey, String... srcKeys) {
-        Span span = helper.startNextJedisSpan("bitop");
-        span.tag("destKey", destKey);
-        span.tag("srcKeys", Arrays.toString(srcKeys));
-        return helper.executeInScope(span, () -> delegate.bitop(op, destKey, srcKeys));
+        Span span = helper.startNextJedisSpan(endpoint, "bitop");
+        helper.tag(span, "destKey", destKey);
+        helper.tagMany(span, "srcKeys", srcKeys);
+        return helper.executeInScope(span, delegate, op, destKey, srcKeys, Jedis::bitop);
     }
 
     @Override
     public Long bitpos(byte[] key, boolean value) {
-        Span span = helper.startNextJedisSpan("bitpos", key);
-        span.tag("value", String.valueOf(value));
-        return helper.executeInScope(span, () -> delegate.bitpos(key, value));
+        Span span = helper.startNextJedisSpan(endpoint, "bitpos", key);
+        helper.tag(span, "value", value);
+        return helper.executeInScope(span, delegate, key, value, Jedis::bitpos);
     }
 
     @Override
     public Long bitpos(byte[] key, boolean value, BitPosParams params) {
-        Span span = helper.startNextJedisSpan("bitpos", key);
-        span.tag("value", String.valueOf(value));
-        span.tag("params", TagUtils.toString(params.getParams()));
-        return helper.executeInScope(span, () -> delegate.bitpos(key, value, params));
+        Span span = helper.startNextJedisSpan(endpoint, "bitpos", key);
+        helper.tag(span, "value", value);
+        helper.tag(span, "params", params, p -> TagUtils.toString(p.getParams()));
+        return helper.executeInScope(span, delegate, key, value, params, Jedis::bitpos);
     }
 
     @Override
     public Long bitpos(String key, boolean value) {
-        Span span = helper.startNextJedisSpan("bitpos", key);
-        span.tag("value", String.valueOf(value));
-        return helper.executeInScope(span, () -> delegate.bitpos(key, value));
+        Span span = helper.startNextJedisSpan(endpoint, "bitpos", key);
+        helper.tag(span, "value", value);
+        return helper.executeInScope(span, delegate, key, value, Jedis::bitpos);
     }
 
     @Override
     public Long bitpos(String key, boolean value, BitPosParams params) {
-        Span span = helper.startNextJedisSpan("bitpos", key);
-        span.tag("value", String.valueOf(value));
-        span.tag("params", TagUtils.toString(params.getParams()));
-        return helper.executeInScope(span, () -> delegate.bitpos(key, value, params));
+        Span span = helper.startNextJedisSpan(endpoint, "bitpos", key);
+        helper.tag(span, "value", value);
+        helper.tag(span, "params", params, p -> TagUtils.toString(p.getParams()));
+        return helper.executeInScope(span, delegate, key, value, params, Jedis::bitpos);
     }
 
     @Override
     public List<byte[]> blpop(int timeout, byte[]... keys) {
-        Span span = helper.startNextJedisSpan("blpop");
-        span.tag("timeout", String.valueOf(timeout));
-        span.tag("keys", TagUtils.toString(keys));
-        return helper.executeInScope(span, () -> delegate.blpop(timeout, keys));
+        Span span = helper.startBlockingJedisSpan(endpoint, "blpop", keys, timeout);
+        return helper.executeBlocking(span, delegate, timeout, keys, Jedis::blpop);
     }
 
     @Override
     public List<byte[]> blpop(byte[] arg) {
-        Span span = helper.startNextJedisSpan("blpop");
-        span.tag("arg", Arrays.toString(arg));
-        return helper.executeInScope(span, () -> delegate.blpop(arg));
+        Span span = helper.startBlockingJedisSpan(endpoint, "blpop", null, -1L);
+        helper.tag(span, "arg", arg);
+        return helper.executeBlocking(span, delegate, arg, Jedis::blpop);
     }
 
     @Override
     public List<byte[]> blpop(byte[]... args) {
-        Span span = helper.startNextJedisSpan("blpop");
-        span.tag("args", TagUtils.toString(args));
-        return helper.executeInScope(span, () -> delegate.blpop(args));
+        Span span = helper.startBlockingJedisSpan(endpoint, "blpop", null, timeoutOf(args));
+        helper.tagMany(span, "args", args);
+        return helper.executeBlocking(span, delegate, args, Jedis::blpop);
     }
 
     @Override
     public List<String> blpop(int timeout, String... keys) {
-        Span span = helper.startNextJedisSpan("blpop", keys);
-        span.tag("timeout", String.valueOf(timeout));
-        return helper.executeInScope(span, () -> delegate.blpop(timeout, keys));
+        Span span = helper.startBlockingJedisSpan(endpoint, "blpop", keys, timeout);
+        return helper.executeBlocking(span, delegate, timeout, keys, Jedis::blpop);
     }
 
     @Override
     public List<String> blpop(String... args) {
-        Span span = helper.startNextJedisSpan("blpop");
-        span.tag("args", Arrays.toString(args));
-        return helper.executeInScope(span, () -> delegate.blpop(args));
+        Span span = helper.startBlockingJedisSpan(endpoint, "blpop", null, timeoutOf(args));
+        helper.tagMany(span, "args", args);
+        return helper.executeBlocking(span, delegate, args, Jedis::blpop);
     }
 
     @Override
     public List<String> blpop(String arg) {
-        Span span = helper.startNextJedisSpan("blpop");
-        span.tag("arg", arg);
-        return helper.executeInScope(span, () -> delegate.blpop(arg));
+        Span span = helper.startBlockingJedisSpan(endpoint, "blpop", null, -1L);
+        helper.tag(span, "arg", arg);
+        return helper.executeBlocking(span, delegate, arg, Jedis::blpop);
     }
 
     @Override
     public List<String> blpop(int timeout, String key) {
-        Span span = helper.startNextJedisSpan("blpop");
-        span.tag("timeout", String.valueOf(timeout));
-        return helper.executeInScope(span, () -> delegate.blpop(timeout, key));
+        Span span = helper.startBlockingJedisSpan(endpoint, "blpop", key, timeout);
+        return helper.executeBlocking(span, delegate, timeout, key, Jedis::blpop);
     }
 
     @Override
     public List<byte[]> brpop(int timeout, byte[]... keys) {
-        Span span = helper.startNextJedisSpan("brpop");
-        span.tag("timeout", String.valueOf(timeout));
-        span.tag("keys", TagUtils.toString(keys));
-        return helper.executeInScope(span, () -> delegate.brpop(timeout, keys));
+        Span span = helper.startBlockingJedisSpan(endpoint, "brpop", keys, timeout);
+        return helper.executeBlocking(span, delegate, timeout, keys, Jedis::brpop);
     }
 
     @Override
     public List<byte[]> brpop(byte[] arg) {
-        Span span = helper.startNextJedisSpan("brpop");
-        span.tag("arg", Arrays.toString(arg));
-        return helper.executeInScope(span, () -> delegate.brpop(arg));
+        Span span = helper.startBlockingJedisSpan(endpoint, "brpop", null, -1L);
+        helper.tag(span, "arg", arg);
+        return helper.executeBlocking(span, delegate, arg, Jedis::brpop);
     }
 
     @Override
     public List<byte[]> brpop(byte[]... args) {
-        Span span = helper.startNextJedisSpan("brpop");
-        span.tag("args", TagUtils.toString(args));
-        return helper.executeInScope(span, () -> delegate.brpop(args));
+        Span span = helper.startBlockingJedisSpan(endpoint, "brpop", null, timeoutOf(args));
+        helper.tagMany(span, "args", args);
+        return helper.executeBlocking(span, delegate, args, Jedis::brpop);
     }
 
     @Override
-    public List<String> brpop(String... args) {
-        Span span = helper.startNextJedisSpan("brpop");
-        span.tag("args", Arrays.toString(args));
-        return helper.executeInScope(span, () -> delegate.brpop(args));
+    public List<String> brpop(int timeout, String... keys) {
+        Span span = helper.startBlockingJedisSpan(endpoint, "brpop", keys, timeout);
+        return helper.executeBlocking(span, delegate, timeout, keys, Jedis::brpop);
     }
 
     @Override
-    public List<String> brpop(String arg) {
-        Span span = helper.startNextJedisSpan("brpop");
-        span.tag("arg", arg);
-        return helper.executeInScope(span, () -> delegate.brpop(arg));
+    public List<String> brpop(String... args) {
+        Span span = helper.startBlockingJedisSpan(endpoint, "brpop", null, timeoutOf(args));
+        helper.tagMany(span, "args", args);
+        return helper.executeBlocking(span, delegate, args, Jedis::brpop);
     }
 
     @Override
-    public List<String> brpop(int timeout, String... keys) {
-        Span span = helper.startNextJedisSpan("brpop", keys);
-        span.tag("timeout", String.valueOf(timeout));
-        return helper.executeInScope(span, () -> delegate.brpop(timeout, keys));
+    public List<String> brpop(String arg) {
+        Span span = helper.startBlockingJedisSpan(endpoint, "brpop", null, -1L);
+        helper.tag(span, "arg", arg);
+        return helper.executeBlocking(span, delegate, arg, Jedis::brpop);
     }
 
     @Override
     public List<String> brpop(int timeout, String key) {
-        Span span = helper.startNextJedisSpan("brpop");
-        span.tag("timeout", String.valueOf(timeout));
-        return helper.executeInScope(span, () -> delegate.brpop(timeout, key));
+        Span span = helper.startBlockingJedisSpan(endpoint, "brpop", key, timeout);
+        return helper.executeBlocking(span, delegate, timeout, key, Jedis::brpop);
     }
 
     @Override
     public byte[] brpoplpush(byte[] source, byte[] destination, int timeout) {
-        Span span = helper.startNextJedisSpan("brpoplpush");
-        span.tag("timeout", String.valueOf(timeout));
-        span.tag("source", Arrays.toString(source));
-        span.tag("destination", Arrays.toString(destination));
-        return helper.executeInScope(span, () -> delegate.brpoplpush(source, destination, timeout));
+        Span span = helper.startBlockingJedisSpan(endpoint, "brpoplpush", null, timeout);
+        helper.tag(span, "source", source);
+        helper.tag(span, "destination", destination);
+        return helper.executeInScope(span,
+            () -> helper.blockingReply(span, delegate.brpoplpush(source, destination, timeout)));
     }
 
     @Override
     public String brpoplpush(String source, String destination, int timeout) {
-        Span span = helper.startNextJedisSpan("brpoplpush");
-        span.tag("source", source);
-        span.tag("destination", destination);
-        span.tag("timeout", String.valueOf(timeout));
-        return helper.executeInScope(span, () -> delegate.brpoplpush(source, destination, timeout));
+        Span span = helper.startBlockingJedisSpan(endpoint, "brpoplpush", null, timeout);
+        helper.tag(span, "source", source);
+        helper.tag(span, "destination", destination);
+        return helper.executeInScope(span,
+            () -> helper.blockingReply(span, delegate.brpoplpush(source, destination, timeout)));
+    }
+
+    /**
+     * the timeout is the last of the keys and timeout arguments, -1 when it is missing
+     */
+    private static long timeoutOf(String[] args) {
+        return args.length == 0 ? -1L : parseTimeout(args[args.length - 1]);
+    }
+
+    private static long timeoutOf(byte[][] args) {
+        return args.length == 0 ? -1L : parseTimeout(SafeEncoder.encode(args[args.length - 1]));
+    }
+
+    private static long parseTimeout(String timeout) {
+        try {
+            return Long.parseLong(timeout);
+        } catch (NumberFormatException e) {
+            return -1L;
+        }
     }
 
     @Override
     public String clientGetname() {
-        Span span = helper.startNextJedisSpan("clientGetname");
-        return helper.executeInScope(span, () -> delegate.clientGetname());
+        Span span = helper.startNextJedisSpan(endpoint, "clientGetname");
+        return helper.executeInScope(span, delegate, Jedis::clientGetname);
     }
 
     @Override
     public String clientKill(byte[] client) {
-        Span span = helper.startNextJedisSpan("clientKill");
-        span.tag("client", Arrays.toString(client));
-        return helper.executeInScope(span, () -> delegate.clientKill(client));
+        Span span = helper.startNextJedisSpan(endpoint, "clientKill");
+        helper.tag(span, "client", client);
+        return helper.executeInScope(span, delegate, client, Jedis::clientKill);
     }
 
     @Override
     public String clientKill(String client) {
-        Span span = helper.startNextJedisSpan("clientKill");
-        span.tag("client", client);
-        return helper.executeInScope(span, () -> delegate.clientKill(client));
+        Span span = helper.startNextJedisSpan(endpoint, "clientKill");
+        helper.tag(span, "client", client);
+        return helper.executeInScope(span, delegate, client, Jedis::clientKill);
     }
 
     @Override
     public String clientList() {
-        Span span = helper.startNextJedisSpan("clientList");
-        return helper.executeInScope(span, () -> delegate.clientList());
+        Span span = helper.startNextJedisSpan(endpoint, "clientList");
+        return helper.executeInScope(span, delegate, Jedis::clientList);
     }
 
     @Override
     public String clientSetname(byte[] name) {
-        Span span = helper.startNextJedisSpan("clientSetname");
-        span.tag("name", Arrays.toString(name));
-        return helper.executeInScope(span, () -> delegate.clientSetname(name));
+        Span span = helper.startNextJedisSpan(endpoint, "clientSetname");
+        helper.tag(span, "name", name);
+        return helper.executeInScope(span, delegate, name, Jedis::clientSetname);
     }
 
     @Override
     public String clientSetname(String name) {
-        Span span = helper.startNextJedisSpan("clientSetname");
-        span.tag("name", name);
-        return helper.executeInScope(span, () -> delegate.clientSetname(name));
+        Span span = helper.startNextJedisSpan(endpoint, "clientSetname");
+        helper.tag(span, "name", name);
+        return helper.executeInScope(span, delegate, name, Jedis::clientSetname);
     }
 
     @Override
     public void close() {
-        delegate.close();
+        if (dataSource == null) {
+            delegate.close();
+        } else if (delegate.getClient().isBroken()) {
+            dataSource.returnBrokenResource(this);
+        } else {
+            dataSource.returnResource(this);
+        }
     }
 
     @Override
     public String clusterAddSlots(int... slots) {
-        Span span = helper.startNextJedisSpan("clusterAddSlots");
-        span.tag("slots", Arrays.toString(slots));
-        return helper.executeInScope(span, () -> delegate.clusterAddSlots(slots));
+        Span span = helper.startNextJedisSpan(endpoint, "clusterAddSlots");
+        helper.tag(span, "slots", slots);
+        return helper.executeInScope(span, delegate, slots, Jedis::clusterAddSlots);
     }
 
     @Override
     public Long clusterCountKeysInSlot(int slot) {
-        Span span = helper.startNextJedisSpan("clusterCountKeysInSlot");
-        span.tag("slot", String.valueOf(slot));
-        return helper.executeInScope(span, () -> delegate.clusterCountKeysInSlot(slot));
+        Span span = helper.startNextJedisSpan(endpoint, "clusterCountKeysInSlot");
+        helper.tag(span, "slot", slot);
+        return helper.executeInScope(span, delegate, slot, Jedis::clusterCountKeysInSlot);
     }
 
     @Override
     public String clusterDelSlots(int... slots) {
-        Span span = helper.startNextJedisSpan("clusterDelSlots");
-        span.tag("slots", Arrays.toString(slots));
-        return helper.executeInScope(span, () -> delegate.clusterDelSlots(slots));
+        Span span = helper.startNextJedisSpan(endpoint, "clusterDelSlots");
+        helper.tag(span, "slots", slots);
+        return helper.executeInScope(span, delegate, slots, Jedis::clusterDelSlots);
     }
 
     @Override
     public String clusterFailover() {
-        Span span = helper.startNextJedisSpan("clusterFailover");
-        return helper.executeInScope(span, () -> delegate.clusterFailover());
+        Span span = helper.startNextJedisSpan(endpoint, "clusterFailover");
+        return helper.executeInScope(span, delegate, Jedis::clusterFailover);
     }
 
     @Override
     public String clusterFlushSlots() {
-        Span span = helper.startNextJedisSpan("clusterFlushSlots");
-        return helper.executeInScope(span, () -> delegate.clusterFlushSlots());
+        Span span = helper.startNextJedisSpan(endpoint, "clusterFlushSlots");
+        return helper.executeInScope(span, delegate, Jedis::clusterFlushSlots);
     }
 
     @Override
     public String clusterForget(String nodeId) {
-        Span span = helper.startNextJedisSpan("clusterForget");
-        span.tag("nodeId", nodeId);
-        return helper.executeInScope(span, () -> delegate.clusterForget(nodeId));
+        Span span = helper.startNextJedisSpan(endpoint, "clusterForget");
+        helper.tag(span, "nodeId", nodeId);
+        return helper.executeInScope(span, delegate, nodeId, Jedis::clusterForget);
     }
 
     @Override
     public List<String> clusterGetKeysInSlot(int slot, int count) {
-        Span span = helper.startNextJedisSpan("clusterGetKeysInSlot");
-        span.tag("slot", String.valueOf(slot));
-        span.tag("count", String.valueOf(count));
-        return helper.executeInScope(span, () -> delegate.clusterGetKeysInSlot(slot, count));
+        Span span = helper.startNextJedisSpan(endpoint, "clusterGetKeysInSlot");
+        helper.tag(span, "slot", slot);
+        helper.tag(span, "count", count);
+        return ResultSizes.executeInScope(helper, span, delegate, slot, count, Jedis::clusterGetKeysInSlot);
     }
 
     @Override
     public String clusterInfo() {
-        Span span = helper.startNextJedisSpan("clusterInfo");
-        return helper.executeInScope(span, () -> delegate.clusterInfo());
+        Span span = helper.startNextJedisSpan(endpoint, "clusterInfo");
+        return helper.executeInScope(span, delegate, Jedis::clusterInfo);
     }
 
     @Override
     public Long clusterKeySlot(String key) {
-        Span span = helper.startNextJedisSpan("clusterKeySlot", key);
-        return helper.executeInScope(span, () -> delegate.clusterKeySlot(key));
+        Span span = helper.startNextJedisSpan(endpoint, "clusterKeySlot", key);
+        return helper.executeInScope(span, delegate, key, Jedis::clusterKeySlot);
     }
 
     @Override
     public String clusterMeet(String ip, int port) {
-        Span span = helper.startNextJedisSpan("clusterMeet");
-        span.tag("ip", ip);
-        span.tag("port", String.valueOf(port));
-        return helper.executeInScope(span, () -> delegate.clusterMeet(ip, port));
+        Span span = helper.startNextJedisSpan(endpoint, "clusterMeet");
+        helper.tag(span, "ip", ip);
+        helper.tag(span, "port", port);
+        return helper.executeInScope(span, delegate, ip, port, Jedis::clusterMeet);
     }
 
     @Override
     public String clusterNodes() {
-        Span span = helper.startNextJedisSpan("clusterNodes");
-        return helper.executeInScope(span, () -> delegate.clusterNodes());
+        Span span = helper.startNextJedisSpan(endpoint, "clusterNodes");
+        return helper.executeInScope(span, delegate, Jedis::clusterNodes);
     }
 
     @Override
     public String clusterReplicate(String nodeId) {
-        Span span = helper.startNextJedisSpan("clusterReplicate");
-        span.tag("nodeId", nodeId);
-        return helper.executeInScope(span, () -> delegate.clusterReplicate(nodeId));
+        Span span = helper.startNextJedisSpan(endpoint, "clusterReplicate");
+        helper.tag(span, "nodeId", nodeId);
+        return helper.executeInScope(span, delegate, nodeId, Jedis::clusterReplicate);
     }
 
     @Override
     public String clusterReset(JedisCluster.Reset resetType) {
-        Span span = helper.startNextJedisSpan("clusterReset");
-        span.tag("resetType", resetType.name());
-        return helper.executeInScope(span, () -> delegate.clusterReset(resetType));
+        Span span = helper.startNextJedisSpan(endpoint, "clusterReset");
+        helper.tag(span, "resetType", resetType);
+        return helper.executeInScope(span, delegate, resetType, Jedis::clusterReset);
     }
 
     @Override
     public String clusterSaveConfig() {
-        Span span = helper.startNextJedisSpan("clusterSaveConfig");
-        return helper.executeInScope(span, () -> delegate.clusterSaveConfig());
+        Span span = helper.startNextJedisSpan(endpoint, "clusterSaveConfig");
+        return helper.executeInScope(span, delegate, Jedis::clusterSaveConfig);
     }
 
     @Override
     public String clusterSetSlotImporting(int slot, String nodeId) {
-        Span span = helper.startNextJedisSpan("clusterSetSlotImporting");
-        span.tag("slot", String.valueOf(slot));
-        span.tag("nodeId", nodeId);
-        return helper.executeInScope(span, () -> delegate.clusterSetSlotImporting(slot, nodeId));
+        Span span = helper.startNextJedisSpan(endpoint, "clusterSetSlotImporting");
+        helper.tag(span, "slot", slot);
+        helper.tag(span, "nodeId", nodeId);
+        return helper.executeInScope(span, delegate, slot, nodeId, Jedis::clusterSetSlotImporting);
     }
 
     @Override
     public String clusterSetSlotMigrating(int slot, String nodeId) {
-        Span span = helper.startNextJedisSpan("clusterSetSlotMigrating");
-        span.tag("slot", String.valueOf(slot));
-        span.tag("nodeId", nodeId);
-        return helper.executeInScope(span, () -> delegate.clusterSetSlotMigrating(slot, nodeId));
+        Span span = helper.startNextJedisSpan(endpoint, "clusterSetSlotMigrating");
+        helper.tag(span, "slot", slot);
+        helper.tag(span, "nodeId", nodeId);
+        return helper.executeInScope(span, delegate, slot, nodeId, Jedis::clusterSetSlotMigrating);
     }
 
     @Override
     public String clusterSetSlotNode(int slot, String nodeId) {
-        Span span = helper.startNextJedisSpan("clusterSetSlotNode");
-        span.tag("slot", String.valueOf(slot));
-        span.tag("nodeId", nodeId);
-        return helper.executeInScope(span, () -> delegate.clusterSetSlotNode(slot, nodeId));
+        Span span = helper.startNextJedisSpan(endpoint, "clusterSetSlotNode");
+        helper.tag(span, "slot", slot);
+        helper.tag(span, "nodeId", nodeId);
+        return helper.executeInScope(span, delegate, slot, nodeId, Jedis::clusterSetSlotNode);
     }
 
     @Override
     public String clusterSetSlotStable(int slot) {
-        Span span = helper.startNextJedisSpan("clusterSetSlotStable");
-        span.tag("slot", String.valueOf(slot));
-        return helper.executeInScope(span, () -> delegate.clusterSetSlotStable(slot));
+        Span span = helper.startNextJedisSpan(endpoint, "clusterSetSlotStable");
+        helper.tag(span, "slot", slot);
+        return helper.executeInScope(span, delegate, slot, Jedis::clusterSetSlotStable);
     }
 
     @Override
     public List<String> clusterSlaves(String nodeId) {
-        Span span = helper.startNextJedisSpan("clusterSlaves");
-        span.tag("nodeId", nodeId);
-        return helper.executeInScope(span, () -> delegate.clusterSlaves(nodeId));
+        Span span = helper.startNextJedisSpan(endpoint, "clusterSlaves");
+        helper.tag(span, "nodeId", nodeId);
+        return ResultSizes.executeInScope(helper, span, delegate, nodeId, Jedis::clusterSlaves);
     }
 
     @Override
     public List<Object> clusterSlots() {
-        Span span = helper.startNextJedisSpan("clusterSlots");
-        return helper.executeInScope(span, () -> delegate.clusterSlots());
+        Span span = helper.startNextJedisSpan(endpoint, "clusterSlots");
+        return ResultSizes.executeInScope(helper, span, delegate, Jedis::clusterSlots);
     }
 
     @Override
     public List<byte[]> configGet(byte[] pattern) {
-        Span span = helper.startNextJedisSpan("configGet");
-        span.tag("pattern", Arrays.toString(pattern));
-        return helper.executeInScope(span, () -> delegate.configGet(pattern));
+        Span span = helper.startNextJedisSpan(endpoint, "configGet");
+        helper.tag(span, "pattern", pattern);
+        return ResultSizes.executeInScope(helper, span, delegate, pattern, Jedis::configGet);
     }
 
     @Override
     public List<String> configGet(String pattern) {
-        Span span = helper.startNextJedisSpan("configGet");
-        span.tag("pattern", pattern);
-        return helper.executeInScope(span, () -> delegate.configGet(pattern));
+        Span span = helper.startNextJedisSpan(endpoint, "configGet");
+        helper.tag(span, "pattern", pattern);
+        return ResultSizes.executeInScope(helper, span, delegate, pattern, Jedis::configGet);
     }
 
     @Override
     public String configResetStat() {
-        Span span = helper.startNextJedisSpan("configResetStat");
-        return helper.executeInScope(span, () -> delegate.configResetStat());
+        Span span = helper.startNextJedisSpan(endpoint, "configResetStat");
+        return helper.executeInScope(span, delegate, Jedis::configResetStat);
     }
 
     @Override
     public byte[] configSet(byte[] parameter, byte[] value) {
-        Span span = helper.startNextJedisSpan("configSet");
-        span.tag("parameter", Arrays.toString(parameter));
-        span.tag("value", Arrays.toString(value));
-        return helper.executeInScope(span, () -> delegate.configSet(parameter, value));
+        Span span = helper.startNextJedisSpan(endpoint, "configSet");
+        helper.tag(span, "parameter", parameter);
+        helper.tag(span, "value", value);
+        return helper.executeInScope(span, delegate, parameter, value, Jedis::configSet);
     }
 
     @Override
     public String configSet(String parameter, String value) {
-        Span span = helper.startNextJedisSpan("configSet");
-        span.tag("value", value);
-        return helper.executeInScope(span, () -> delegate.configSet(parameter, value));
+        Span span = helper.startNextJedisSpan(endpoint, "configSet");
+        helper.tag(span, "value", value);
+        return helper.executeInScope(span, delegate, parameter, value, Jedis::configSet);
     }
 
     @Override
     public void connect() {
-        Span span = helper.startNextJedisSpan("connect");
+        Span span = helper.startNextJedisSpan(endpoint, "connect");
         helper.executeInScope(span, () -> delegate.connect());
     }
 
     @Override
     public Long dbSize() {
-        Span span = helper.startNextJedisSpan("dbSize");
-        return helper.executeInScope(span, () -> delegate.dbSize());
+        Span span = helper.startNextJedisSpan(endpoint, "dbSize");
+        return helper.executeInScope(span, delegate, Jedis::dbSize);
     }
 
     @Override
     public String debug(DebugParams params) {
-        Span span = helper.startNextJedisSpan("debug");
-        span.tag("params", Arrays.toString(params.getCommand()));
-        return helper.executeInScope(span, () -> delegate.debug(params));
+        Span span = helper.startNextJedisSpan(endpoint, "debug");
+        helper.tag(span, "params", params, p -> TagUtils.toString(p.getCommand()));
+        return helper.executeInScope(span, delegate, params, Jedis::debug);
     }
 
     @Override
     public Long decr(byte[] key) {
-        Span span = helper.startNextJedisSpan("decr", key);
-        return helper.executeInScope(span, () -> delegate.decr(key));
+        Span span = helper.startNextJedisSpan(endpoint, "decr", key);
+        return helper.executeInScope(span, delegate, key, Jedis::decr);
     }
 
     @Override
     public Long decr(String key) {
-        Span span = helper.startNextJedisSpan("decr", key);
-        return helper.executeInScope(span, () -> delegate.decr(key));
+        Span span = helper.startNextJedisSpan(endpoint, "decr", key);
+        return helper.executeInScope(span, delegate, key, Jedis::decr);
     }
 
     @Override
     public Long decrBy(byte[] key, long integer) {
-        Span span = helper.startNextJedisSpan("decrBy", key);
-        span.tag("integer", String.valueOf(integer));
-        return helper.executeInScope(span, () -> delegate.decrBy(key, integer));
+        Span span = helper.startNextJedisSpan(endpoint, "decrBy", key);
+        helper.tag(span, "integer", integer);
+        return helper.executeInScope(span, delegate, key, integer, Jedis::decrBy);
     }
 
     @Override
     public Long decrBy(String key, long integer) {
-        Span span = helper.startNextJedisSpan("decrBy", key);
-        span.tag("integer", String.valueOf(integer));
-        return helper.executeInScope(span, () -> delegate.decrBy(key, integer));
+        Span span = helper.startNextJedisSpan(endpoint, "decrBy", key);
+        helper.tag(span, "integer", integer);
+        return helper.executeInScope(span, delegate, key, integer, Jedis::decrBy);
     }
 
     @Override
     public Long del(byte[]... keys) {
-        Span span = helper.startNextJedisSpan("del");
-        span.tag("keys", TagUtils.toString(keys));
-        return helper.executeInScope(span, () -> delegate.del(keys));
+        Span span = helper.startNextJedisSpan(endpoint, "del");
+        helper.tagMany(span, "keys", keys);
+        return helper.executeInScope(span, delegate, keys, Jedis::del);
     }
 
     @Override
     public Long del(byte[] key) {
-        Span span = helper.startNextJedisSpan("del", key);
-        return helper.executeInScope(span, () -> delegate.del(key));
+        Span span = helper.startNextJedisSpan(endpoint, "del", key);
+        return helper.executeInScope(span, delegate, key, Jedis::del);
     }
 
     @Override
     public Long del(String... keys) {
-        Span span = helper.startNextJedisSpan("del", keys);
-        return helper.executeInScope(span, () -> delegate.del(keys));
+        Span span = helper.startNextJedisSpan(endpoint, "del", keys);
+        return helper.executeInScope(span, delegate, keys, Jedis::del);
     }
 
     @Override
     public Long del(String key) {
-        Span span = helper.startNextJedisSpan("del", key);
-        return helper.executeInScope(span, () -> delegate.del(key));
+        Span span = helper.startNextJedisSpan(endpoint, "del", key);
+        return helper.executeInScope(span, delegate, key, Jedis::del);
     }
 
     @Override
     public void disconnect() {
-        Span span = helper.startNextJedisSpan("disconnect");
+        Span span = helper.startNextJedisSpan(endpoint, "disconnect");
         helper.executeInScope(span, () -> delegate.disconnect());
     }
 
     @Override
     public byte[] dump(byte[] key) {
-        Span span = helper.startNextJedisSpan("dump", key);
-        return helper.executeInScope(span, () -> delegate.dump(key));
+        Span span = helper.startNextJedisSpan(endpoint, "dump", key);
+        return helper.executeInScope(span, delegate, key, Jedis::dump);
     }
 
     @Override
     public byte[] dump(String key) {
-        Span span = helper.startNextJedisSpan("dump", key);
-        return helper.executeInScope(span, () -> delegate.dump(key));
+        Span span = helper.startNextJedisSpan(endpoint, "dump", key);
+        return helper.executeInScope(span, delegate, key, Jedis::dump);
     }
 
     @Override
     public byte[] echo(byte[] string) {
-        Span span = helper.startNextJedisSpan("echo");
-        span.tag("string", Arrays.toString(string));
-        return helper.executeInScope(span, () -> delegate.echo(string));
+        Span span = helper.startNextJedisSpan(endpoint, "echo");
+        helper.tag(span, "string", string);
+        return helper.executeInScope(span, delegate, string, Jedis::echo);
     }
 
     @Override
     public String echo(String string) {
-        Span span = helper.startNextJedisSpan("echo");
-        span.tag("string", string);
-        return helper.executeInScope(span, () -> delegate.echo(string));
+        Span span = helper.startNextJedisSpan(endpoint, "echo");
+        helper.tag(span, "string", string);
+        return helper.executeInScope(span, delegate, string, Jedis::echo);
     }
 
     @Override
     public Object eval(byte[] script, List<byte[]> keys, List<byte[]> args) {
-        Span span = helper.startNextJedisSpan("eval");
-        span.tag("script", Arrays.toString(script));
-        span.tag("keys", TagUtils.toString(keys));
-        span.tag("args", TagUtils.toString(args));
-        return helper.executeInScope(span, () -> delegate.eval(script, keys, args));
+        Span span = helper.startNextJedisSpan(endpoint, "eval");
+        helper.tagScript(span, script);
+        helper.tag(span, "keys", keys, TagUtils::toString);
+        helper.tag(span, "args", args, TagUtils::toString);
+        return helper.executeInScope(span, delegate, script, keys, args, Jedis::eval);
     }
 
     @Override
     public Object eval(byte[] script, byte[] keyCount, byte[]... params) {
-        Span span = helper.startNextJedisSpan("eval");
-        span.tag("script", Arrays.toString(script));
-        span.tag("keyCount", Arrays.toString(keyCount));
-        span.tag("params", TagUtils.toString(params));
-        return helper.executeInScope(span, () -> delegate.eval(script, keyCount, params));
+        Span span = helper.startNextJedisSpan(endpoint, "eval");
+        helper.tagScript(span, script);
+        helper.tag(span, "keyCount", keyCount);
+        helper.tagMany(span, "params", params);
+        return helper.executeInScope(span, delegate, script, keyCount, params, Jedis::eval);
     }
 
     @Override
     public Object eval(byte[] script, int keyCount, byte[]... params) {
-        Span span = helper.startNextJedisSpan("eval");
-        span.tag("script", Arrays.toString(script));
-        span.tag("keyCount", String.valueOf(keyCount));
-        span.tag("params", TagUtils.toString(params));
-        return helper.executeInScope(span, () -> delegate.eval(script, keyCount, params));
+        Span span = helper.startNextJedisSpan(endpoint, "eval");
+        helper.tagScript(span, script);
+        helper.tag(span, "keyCount", keyCount);
+        helper.tagMany(span, "params", params);
+        return helper.executeInScope(span, delegate, script, keyCount, params, Jedis::eval);
     }
 
     @Override
     public Object eval(byte[] script) {
-        Span span = helper.startNextJedisSpan("eval");
-        span.tag("script", Arrays.toString(script));
-        return helper.executeInScope(span, () -> delegate.eval(script));
+        Span span = helper.startNextJedisSpan(endpoint, "eval");
+        helper.tagScript(span, script);
+        return helper.executeInScope(span, delegate, script, Jedis::eval);
     }
 
     @Override
     public Object eval(String script, int keyCount, String... params) {
-        Span span = helper.startNextJedisSpan("eval");
-        span.tag("keyCount", String.valueOf(keyCount));
-        span.tag("params", Arrays.toString(params));
-        return helper.executeInScope(span, () -> delegate.eval(script, keyCount, params));
+        Span span = helper.startNextJedisSpan(endpoint, "eval");
+        helper.tagScript(span, script);
+        helper.tag(span, "keyCount", keyCount);
+        helper.tagMany(span, "params", params);
+        return helper.executeInScope(span, delegate, script, keyCount, params, Jedis::eval);
     }
 
     @Override
     public Object eval(String script, List<String> keys, List<String> args) {
-        Span span = helper.startNextJedisSpan("eval");
-        span.tag("keys", TagUtils.toString(keys));
-        span.tag("args", TagUtils.toString(args));
-        return helper.executeInScope(span, () -> delegate.eval(script, keys, args));
+        Span span = helper.startNextJedisSpan(endpoint, "eval");
+        helper.tagScript(span, script);
+        helper.tag(span, "keys", keys, TagUtils::toString);
+        helper.tag(span, "args", args, TagUtils::toString);
+        return helper.executeInScope(span, delegate, script, keys, args, Jedis::eval);
     }
 
     @Override
     public Object eval(String script) {
-        Span span = helper.startNextJedisSpan("eval");
-        span.tag("script", script);
-        return helper.executeInScope(span, () -> delegate.eval(script));
+        Span span = helper.startNextJedisSpan(endpoint, "eval");
+        helper.tagScript(span, script);
+        return helper.executeInScope(span, delegate, script, Jedis::eval);
     }
 
     @Override
     public Object evalsha(byte[] sha1) {
-        Span span = helper.startNextJedisSpan("evalsha");
-        span.tag("sha1", Arrays.toString(sha1));
-        return helper.executeInScope(span, () -> delegate.evalsha(sha1));
+        Span span = helper.startNextJedisSpan(endpoint, "evalsha");
+        helper.tag(span, "sha1", sha1);
+        return helper.executeInScope(span, delegate, sha1, Jedis::evalsha);
     }
 
     @Override
     public Object evalsha(byte[] sha1, List<byte[]> keys, List<byte[]> args) {
-        Span span = helper.startNextJedisSpan("evalsha");
-        span.tag("sha1", Arrays.toString(sha1));
-        span.tag("keys", TagUtils.toString(keys));
-        span.tag("args", TagUtils.toString(args));
-        return helper.executeInScope(span, () -> delegate.evalsha(sha1, keys, args));
+        Span span = helper.startNextJedisSpan(endpoint, "evalsha");
+        helper.tag(span, "sha1", sha1);
+        helper.tag(span, "keys", keys, TagUtils::toString);
+        helper.tag(span, "args", args, TagUtils::toString);
+        return helper.executeInScope(span, delegate, sha1, keys, args, Jedis::evalsha);
     }
 
     @Override
     public Object evalsha(byte[] sha1, int keyCount, byte[]... params) {
-        Span span = helper.startNextJedisSpan("evalsha");
-        span.tag("params", TagUtils.toString(params));
-        span.tag("sha1", Arrays.toString(sha1));
-        span.tag("keyCount", String.valueOf(keyCount));
-        return helper.executeInScope(span, () -> delegate.evalsha(sha1, keyCount, params));
+        Span span = helper.startNextJedisSpan(endpoint, "evalsha");
+        helper.tagMany(span, "params", params);
+        helper.tag(span, "sha1", sha1);
+        helper.tag(span, "keyCount", keyCount);
+        return helper.executeInScope(span, delegate, sha1, keyCount, params, Jedis::evalsha);
     }
 
     @Override
-    public Object evalsha(String script) {
-        Span span = helper.startNextJedisSpan("evalsha");
-        span.tag("script", script);
-        return helper.executeInScope(span, () -> delegate.evalsha(script));
+    public Object evalsha(String sha1) {
+        Span span = helper.startNextJedisSpan(endpoint, "evalsha");
+        helper.tag(span, "sha1", sha1);
+        return helper.executeInScope(span, delegate, sha1, Jedis::evalsha);
     }
 
     @Override
     public Object evalsha(String sha1, List<String> keys, List<String> args) {
-        Span span = helper.startNextJedisSpan("evalsha");
-        span.tag("keys", TagUtils.toString(keys));
-        span.tag("args", TagUtils.toString(args));
-        span.tag("sha1", sha1);
-        return helper.executeInScope(span, () -> delegate.evalsha(sha1, keys, args));
+        Span span = helper.startNextJedisSpan(endpoint, "evalsha");
+        helper.tag(span, "keys", keys, TagUtils::toString);
+        helper.tag(span, "args", args, TagUtils::toString);
+        helper.tag(span, "sha1", sha1);
+        return helper.executeInScope(span, delegate, sha1, keys, args, Jedis::evalsha);
     }
 
     @Override
     public Object evalsha(String sha1, int keyCount, String... params) {
-        Span span = helper.startNextJedisSpan("evalsha");
-        span.tag("keyCount", String.valueOf(keyCount));
-        span.tag("params", Arrays.toString(params));
-        span.tag("sha1", sha1);
-        return helper.executeInScope(span, () -> delegate.evalsha(sha1, keyCount, params));
+        Span span = helper.startNextJedisSpan(endpoint, "evalsha");
+        helper.tag(span, "keyCount", keyCount);
+        helper.tagMany(span, "params", params);
+        helper.tag(span, "sha1", sha1);
+        return helper.executeInScope(span, delegate, sha1, keyCount, params, Jedis::evalsha);
+    }
+
+    /**
+     * Runs a script by its cached digest with EVALSHA and falls back to EVAL when the server answers NOSCRIPT, which
+     * loads it again. Reloads are tagged and counted in {@link JedisTracerHelper#getScriptReloads()}.
+     */
+    public Object evalScript(String script, List<String> keys, List<String> args) {
+        Span span = helper.startNextJedisSpan(endpoint, "evalsha");
+        helper.tagScript(span, script);
+        helper.tag(span, "keys", keys, TagUtils::toString);
+        helper.tag(span, "args", args, TagUtils::toString);
+        return helper.executeInScope(span, () -> {
+            try {
+                return delegate.evalsha(helper.scriptSha1(script), keys, args);
+            } catch (JedisDataException e) {
+                if (!isNoScript(e)) {
+                    throw e;
+                }
+                helper.scriptReloaded(span);
+                return delegate.eval(script, keys, args);
+            }
+        });
+    }
+
+    public Object evalScript(byte[] script, List<byte[]> keys, List<byte[]> args) {
+        Span span = helper.startNextJedisSpan(endpoint, "evalsha");
+        helper.tagScript(span, script);
+        helper.tag(span, "keys", keys, TagUtils::toString);
+        helper.tag(span, "args", args, TagUtils::toString);
+        return helper.executeInScope(span, () -> {
+            try {
+                return delegate.evalsha(SafeEncoder.encode(helper.scriptSha1(script)), keys, args);
+            } catch (JedisDataException e) {
+                if (!isNoScript(e)) {
+                    throw e;
+                }
+                helper.scriptReloaded(span);
+                return delegate.eval(script, keys, args);
+            }
+        });
+    }
+
+    private static boolean isNoScript(JedisDataException e) {
+        return e.getMessage() != null && e.getMessage().startsWith("NOSCRIPT");
     }
 
     @Override
     public Boolean exists(byte[] key) {
-        Span span = helper.startNextJedisSpan("exists", key);
-        return helper.executeInScope(span, () -> delegate.exists(key));
+        Span span = helper.startNextJedisSpan(endpoint, "exists", key);
+        return helper.executeInScope(span, delegate, key, Jedis::exists);
     }
 
     @Override
     public Boolean exists(String key) {
-        Span span = helper.startNextJedisSpan("exists", key);
-        return helper.executeInScope(span, () -> delegate.exists(key));
+        Span span = helper.startNextJedisSpan(endpoint, "exists", key);
+        return helper.executeInScope(span, delegate, key, Jedis::exists);
     }
 
     @Override
     public Long expire(byte[] key, int seconds) {
-        Span span = helper.startNextJedisSpan("expire", key);
-        span.tag("seconds", String.valueOf(seconds));
-        return helper.executeInScope(span, () -> delegate.expire(key, seconds));
+        Span span = helper.startNextJedisSpan(endpoint, "expire", key);
+        helper.tag(span, "seconds", seconds);
+        return helper.executeInScope(span, delegate, key, seconds, Jedis::expire);
     }
 
     @Override
     public Long expire(String key, int seconds) {
-        Span span = helper.startNextJedisSpan("expire", key);
-        span.tag("seconds", String.valueOf(seconds));
-        return helper.executeInScope(span, () -> delegate.expire(key, seconds));
+        Span span = helper.startNextJedisSpan(endpoint, "expire", key);
+        helper.tag(span, "seconds", seconds);
+        return helper.executeInScope(span, delegate, key, seconds, Jedis::expire);
     }
 
     @Override
     public Long expireAt(byte[] key, long unixTime) {
-        Span span = helper.startNextJedisSpan("expireAt", key);
-        span.tag("unixTime", String.valueOf(unixTime));
-        return helper.executeInScope(span, () -> delegate.expireAt(key, unixTime));
+        Span span = helper.startNextJedisSpan(endpoint, "expireAt", key);
+        helper.tag(span, "unixTime", unixTime);
+        return helper.executeInScope(span, delegate, key, unixTime, Jedis::expireAt);
     }
 
     @Override
     public Long expireAt(String key, long unixTime) {
-        Span span = helper.startNextJedisSpan("expireAt", key);
-        span.tag("unixTime", String.valueOf(unixTime));
-        return helper.executeInScope(span, () -> delegate.expireAt(key, unixTime));
+        Span span = helper.startNextJedisSpan(endpoint, "expireAt", key);
+        helper.tag(span, "unixTime", unixTime);
+        return helper.executeInScope(span, delegate, key, unixTime, Jedis::expireAt);
     }
 
     @Override
     public String flushAll() {
-        Span span = helper.startNextJedisSpan("flushAll");
-        return helper.executeInScope(span, () -> delegate.flushAll());
+        Span span = helper.startNextJedisSpan(endpoint, "flushAll");
+        return helper.executeInScope(span, delegate, Jedis::flushAll);
     }
 
     @Override
     public String flushDB() {
-        Span span = helper.startNextJedisSpan("flushDB");
-        return helper.executeInScope(span, () -> delegate.flushDB());
+        Span span = helper.startNextJedisSpan(endpoint, "flushDB");
+        return helper.executeInScope(span, delegate, Jedis::flushDB);
     }
 
     @Override
     public byte[] get(byte[] key) {
-        Span span = helper.startNextJedisSpan("get", key);
-        return helper.executeInScope(span, () -> delegate.get(key));
+        Span span = helper.startNextJedisSpan(endpoint, "get", key);
+        return helper.executeInScope(span, delegate, key, Jedis::get);
     }
 
     @Override
     public String get(String key) {
-        Span span = helper.startNextJedisSpan("get", key);
-        return helper.executeInScope(span, () -> delegate.get(key));
+        Span span = helper.startNextJedisSpan(endpoint, "get", key);
+        return helper.executeInScope(span, delegate, key, Jedis::get);
     }
 
     @Override
     public Client getClient() {
-        Span span = helper.startNextJedisSpan("getClient");
-        return helper.executeInScope(span, () -> delegate.getClient());
+        Span span = helper.startNextJedisSpan(endpoint, "getClient");
+        return helper.executeInScope(span, delegate, Jedis::getClient);
     }
 
     @Override
     public Long getDB() {
-        Span span = helper.startNextJedisSpan("getDB");
+        Span span = helper.startNextJedisSpan(endpoint, "getDB");
         return helper.executeInScope(span, () -> {
             Long db = delegate.getDB();
-            span.tag("db", String.valueOf(db));
+            helper.tag(span, "db", db);
             return db;
         });
     }
 
     @Override
     public byte[] getSet(byte[] key, byte[] value) {
-        Span span = helper.startNextJedisSpan("getSet", key);
-        span.tag("value", Arrays.toString(value));
-        return helper.executeInScope(span, () -> delegate.getSet(key, value));
+        Span span = helper.startNextJedisSpan(endpoint, "getSet", key);
+        helper.tag(span, "value", value);
+        return helper.executeInScope(span, delegate, key, value, Jedis::getSet);
     }
 
     @Override
     public String getSet(String key, String value) {
-        Span span = helper.startNextJedisSpan("getSet", key);
-        span.tag("value", value);
-        return helper.executeInScope(span, () -> delegate.getSet(key, value));
+        Span span = helper.startNextJedisSpan(endpoint, "getSet", key);
+        helper.tag(span, "value", value);
+        return helper.executeInScope(span, delegate, key, value, Jedis::getSet);
     }
 
     @Override
     public Boolean getbit(byte[] key, long offset) {
-        Span span = helper.startNextJedisSpan("getbit", key);
-        span.tag("offset", String.valueOf(offset));
-        return helper.executeInScope(span, () -> delegate.getbit(key, offset));
+        Span span = helper.startNextJedisSpan(endpoint, "getbit", key);
+        helper.tag(span, "offset", offset);
+        return helper.executeInScope(span, delegate, key, offset, Jedis::getbit);
     }
 
     @Override
     public Boolean getbit(String key, long offset) {
-        Span span = helper.startNextJedisSpan("getbit", key);
-        span.tag("offset", String.valueOf(offset));
-        return helper.executeInScope(span, () -> delegate.getbit(key, offset));
+        Span span = helper.startNextJedisSpan(endpoint, "getbit", key);
+        helper.tag(span, "offset", offset);
+        return helper.executeInScope(span, delegate, key, offset, Jedis::getbit);
     }
 
     @Override
     public byte[] getrange(byte[] key, long startOffset, long endOffset) {
-        Span span = helper.startNextJedisSpan("getrange", key);
-        span.tag("startOffset", String.valueOf(startOffset));
-        span.tag("endOffset", String.valueOf(endOffset));
-        return helper.executeInScope(span, () -> delegate.getrange(key, startOffset, endOffset));
+        Span span = helper.startNextJedisSpan(endpoint, "getrange", key);
+        helper.tag(span, "startOffset", startOffset);
+        helper.tag(span, "endOffset", endOffset);
+        return helper.executeInScope(span, delegate, key, startOffset, endOffset, Jedis::getrange);
     }
 
     @Override
     public String getrange(String key, long startOffset, long endOffset) {
-        Span span = helper.startNextJedisSpan("getrange", key);
-        span.tag("startOffset", String.valueOf(startOffset));
-        span.tag("endOffset", String.valueOf(endOffset));
-        return helper.executeInScope(span, () -> delegate.getrange(key, startOffset, endOffset));
+        Span span = helper.startNextJedisSpan(endpoint, "getrange", key);
+        helper.tag(span, "startOffset", startOffset);
+        helper.tag(span, "endOffset", endOffset);
+        return helper.executeInScope(span, delegate, key, startOffset, endOffset, Jedis::getrange);
     }
 
     @Override
     public Long hdel(byte[] key, byte[]... fields) {
-        Span span = helper.startNextJedisSpan("hdel", key);
-        span.tag("fields", TagUtils.toString(fields));
-        return helper.executeInScope(span, () -> delegate.hdel(key, fields));
+        Span span = helper.startNextJedisSpan(endpoint, "hdel", key);
+        helper.tagMany(span, "fields", fields);
+        return helper.executeInScope(span, delegate, key, fields, Jedis::hdel);
     }
 
     @Override
     public Long hdel(String key, String... fields) {
-        Span span = helper.startNextJedisSpan("hdel", key);
-        span.tag("fields", Arrays.toString(fields));
-        return helper.executeInScope(span, () -> delegate.hdel(key, fields));
+        Span span = helper.startNextJedisSpan(endpoint, "hdel", key);
+        helper.tagMany(span, "fields", fields);
+        return helper.executeInScope(span, delegate, key, fields, Jedis::hdel);
     }
 
     @Override
     public Boolean hexists(byte[] key, byte[] field) {
-        Span span = helper.startNextJedisSpan("hexists", key);
-        span.tag("field", Arrays.toString(field));
-        return helper.executeInScope(span, () -> delegate.hexists(key, field));
+        Span span = helper.startNextJedisSpan(endpoint, "hexists", key);
+        helper.tag(span, "field", field);
+        return helper.executeInScope(span, delegate, key, field, Jedis::hexists);
     }
 
     @Override
     public Boolean hexists(String key, String field) {
-        Span span = helper.startNextJedisSpan("hexists", key);
-        span.tag("field", field);
-        return helper.executeInScope(span, () -> delegate.hexists(key, field));
+        Span span = helper.startNextJedisSpan(endpoint, "hexists", key);
+        helper.tag(span, "field", field);
+        return helper.executeInScope(span, delegate, key, field, Jedis::hexists);
     }
 
     @Override
     public byte[] hget(byte[] key, byte[] field) {
-        Span span = helper.startNextJedisSpan("hget", key);
-        span.tag("field", Arrays.toString(field));
-        return helper.executeInScope(span, () -> delegate.hget(key, field));
+        Span span = helper.startNextJedisSpan(endpoint, "hget", key);
+        helper.tag(span, "field", field);
+        return helper.executeInScope(span, delegate, key, field, Jedis::hget);
     }
 
     @Override
     public String hget(String key, String field) {
-        Span span = helper.startNextJedisSpan("hget", key);
-        span.tag("field", field);
-        return helper.executeInScope(span, () -> delegate.hget(key, field));
+        Span span = helper.startNextJedisSpan(endpoint, "hget", key);
+        helper.tag(span, "field", field);
+        return helper.executeInScope(span, delegate, key, field, Jedis::hget);
     }
 
     @Override
     public Map<byte[], byte[]> hgetAll(byte[] key) {
-        Span span = helper.startNextJedisSpan("hgetAll", key);
-        return helper.executeInScope(span, () -> delegate.hgetAll(key));
+        Span span = helper.startNextJedisSpan(endpoint, "hgetAll", key);
+        return ResultSizes.executeInScope(helper, span, delegate, key, Jedis::hgetAll);
     }
 
     @Override
     public Map<String, String> hgetAll(String key) {
-        Span span = helper.startNextJedisSpan("hgetAll", key);
-        return helper.executeInScope(span, () -> delegate.hgetAll(key));
+        Span span = helper.startNextJedisSpan(endpoint, "hgetAll", key);
+        return ResultSizes.executeInScope(helper, span, delegate, key, Jedis::hgetAll);
     }
 
     @Override
     public Long hincrBy(byte[] key, byte[] field, long value) {
-        Span span = helper.startNextJedisSpan("hincrBy", key);
-        span.tag("field", Arrays.toString(field));
-        span.tag("value", String.valueOf(value));
-        return helper.executeInScope(span, () -> delegate.hincrBy(key, field, value));
+        Span span = helper.startNextJedisSpan(endpoint, "hincrBy", key);
+        helper.tag(span, "field", field);
+        helper.tag(span, "value", value);
+        return helper.executeInScope(span, delegate, key, field, value, Jedis::hincrBy);
     }
 
     @Override
     public Long hincrBy(String key, String field, long value) {
-        Span span = helper.startNextJedisSpan("hincrBy", key);
-        span.tag("field", field);
-        span.tag("value", String.valueOf(value));
-        return helper.executeInScope(span, () -> delegate.hincrBy(key, field, value));
+        Span span = helper.startNextJedisSpan(endpoint, "hincrBy", key);
+        helper.tag(span, "field", field);
+        helper.tag(span, "value", value);
+        return helper.executeInScope(span, delegate, key, field, value, Jedis::hincrBy);
     }
 
     @Override
     public Double hincrByFloat(byte[] key, byte[] field, double value) {
-        Span span = helper.startNextJedisSpan("hincrByFloat", key);
-        span.tag("field", Arrays.toString(field));
-        span.tag("value", String.valueOf(value));
-        return helper.executeInScope(span, () -> delegate.hincrByFloat(key, field, value));
+        Span span = helper.startNextJedisSpan(endpoint, "hincrByFloat", key);
+        helper.tag(span, "field", field);
+        helper.tag(span, "value", value);
+        return helper.executeInScope(span, delegate, key, field, value, Jedis::hincrByFloat);
     }
 
     @Override
     public Double hincrByFloat(String key, String field, double value) {
-        Span span = helper.startNextJedisSpan("hincrByFloat", key);
-        span.tag("field", field);
-        span.tag("value", String.valueOf(value));
-        return helper.executeInScope(span, () -> delegate.hincrByFloat(key, field, value));
+        Span span = helper.startNextJedisSpan(endpoint, "hincrByFloat", key);
+        helper.tag(span, "field", field);
+        helper.tag(span, "value", value);
+        return helper.executeInScope(span, delegate, key, field, value, Jedis::hincrByFloat);
     }
 
     @Override
     public Set<byte[]> hkeys(byte[] key) {
-        Span span = helper.startNextJedisSpan("hkeys", key);
-        return helper.executeInScope(span, () -> delegate.hkeys(key));
+        Span span = helper.startNextJedisSpan(endpoint, "hkeys", key);
+        return ResultSizes.executeInScope(helper, span, delegate, key, Jedis::hkeys);
     }
 
     @Override
     public Set<String> hkeys(String key) {
-        Span span = helper.startNextJedisSpan("hkeys", key);
-        return helper.executeInScope(span, () -> delegate.hkeys(key));
+        Span span = helper.startNextJedisSpan(endpoint, "hkeys", key);
+        return ResultSizes.executeInScope(helper, span, delegate, key, Jedis::hkeys);
     }
 
     @Override
     public Long hlen(byte[] key) {
-        Span span = helper.startNextJedisSpan("hlen", key);
-        return helper.executeInScope(span, () -> delegate.hlen(key));
+        Span span = helper.startNextJedisSpan(endpoint, "hlen", key);
+        return helper.executeInScope(span, delegate, key, Jedis::hlen);
     }
 
     @Override
     public Long hlen(String key) {
-        Span span = helper.startNextJedisSpan("hlen", key);
-        return helper.executeInScope(span, () -> delegate.hlen(key));
+        Span span = helper.startNextJedisSpan(endpoint, "hlen", key);
+        return helper.executeInScope(span, delegate, key, Jedis::hlen);
     }
 
     @Override
     public List<byte[]> hmget(byte[] key, byte[]... fields) {
-        Span span = helper.startNextJedisSpan("hmget", key);
-        span.tag("fields", TagUtils.toString(fields));
-        return helper.executeInScope(span, () -> delegate.hmget(key, fields));
+        Span span = helper.startNextJedisSpan(endpoint, "hmget", key);
+        helper.tagMany(span, "fields", fields);
+        return ResultSizes.executeInScope(helper, span, delegate, key, fields, Jedis::hmget);
     }
 
     @Override
     public List<String> hmget(String key, String... fields) {
-        Span span = helper.startNextJedisSpan("hmget", key);
-        span.tag("fields", Arrays.toString(fields));
-        return helper.executeInScope(span, () -> delegate.hmget(key, fields));
+        Span span = helper.startNextJedisSpan(endpoint, "hmget", key);
+        helper.tagMany(span, "fields", fields);
+        return ResultSizes.executeInScope(helper, span, delegate, key, fields, Jedis::hmget);
     }
 
     @Override
     public String hmset(byte[] key, Map<byte[], byte[]> hash) {
-        Span span = helper.startNextJedisSpan("hmset", key);
-        span.tag("hash", TagUtils.toStringMap(hash));
-        return helper.executeInScope(span, () -> delegate.hmset(key, hash));
+        Span span = helper.startNextJedisSpan(endpoint, "hmset", key);
+        helper.tag(span, "hash", hash, TagUtils::toStringMap);
+        return helper.executeInScope(span, delegate, key, hash, Jedis::hmset);
     }
 
     @Override
     public String hmset(String key, Map<String, String> hash) {
-        Span span = helper.startNextJedisSpan("hmset", key);
-        span.tag("hash", TagUtils.toString(hash));
-        return helper.executeInScope(span, () -> delegate.hmset(key, hash));
+        Span span = helper.startNextJedisSpan(endpoint, "hmset", key);
+        helper.tag(span, "hash", hash, TagUtils::toString);
+        return helper.executeInScope(span, delegate, key, hash, Jedis::hmset);
     }
 
     @Override
     public ScanResult<Map.Entry<byte[], byte[]>> hscan(byte[] key, byte[] cursor) {
-        Span span = helper.startNextJedisSpan("hscan", key);
-        span.tag("cursor", Arrays.toString(cursor));
-        return helper.executeInScope(span, () -> delegate.hscan(key, cursor));
+        Span span = helper.startNextJedisSpan(endpoint, "hscan", key);
+        helper.tag(span, "cursor", cursor);
+        return helper.executeInScope(span, delegate, key, cursor, Jedis::hscan);
     }
 
     @Override
     public ScanResult<Map.Entry<byte[], byte[]>> hscan(byte[] key, byte[] cursor, ScanParams params) {
-        Span span = helper.startNextJedisSpan("hscan", key);
-        span.tag("cursor", Arrays.toString(cursor));
-        span.tag("params", TagUtils.toString(params.getParams()));
-        return helper.executeInScope(span, () -> delegate.hscan(key, cursor, params));
+        Span span = helper.startNextJedisSpan(endpoint, "hscan", key);
+        helper.tag(span, "cursor", cursor);
+        helper.tag(span, "params", params, p -> TagUtils.toString(p.getParams()));
+        return helper.executeInScope(span, delegate, key, cursor, params, Jedis::hscan);
     }
 
     @Override
     public ScanResult<Map.Entry<String, String>> hscan(String key, int cursor) {
-        Span span = helper.startNextJedisSpan("hscan", key);
-        span.tag("cursor", String.valueOf(cursor));
-        return helper.executeInScope(span, () -> delegate.hscan(key, cursor));
+        Span span = helper.startNextJedisSpan(endpoint, "hscan", key);
+        helper.tag(span, "cursor", cursor);
+        return helper.executeInScope(span, delegate, key, cursor, Jedis::hscan);
     }
 
     @Override
     public ScanResult<Map.Entry<String, String>> hscan(String key, int cursor, ScanParams params) {
-        Span span = helper.startNextJedisSpan("hscan", key);
-        span.tag("cursor", String.valueOf(cursor));
-        span.tag("params", TagUtils.toString(params.getParams()));
-        return helper.executeInScope(span, () -> delegate.hscan(key, cursor, params));
+        Span span = helper.startNextJedisSpan(endpoint, "hscan", key);
+        helper.tag(span, "cursor", cursor);
+        helper.tag(span, "params", params, p -> TagUtils.toString(p.getParams()));
+        return helper.executeInScope(span, delegate, key, cursor, params, Jedis::hscan);
     }
 
     @Override
     public ScanResult<Map.Entry<String, String>> hscan(String key, String cursor) {
-        Span span = helper.startNextJedisSpan("hscan", key);
-        span.tag("cursor", cursor);
-        return helper.executeInScope(span, () -> delegate.hscan(key, cursor));
+        Span span = helper.startNextJedisSpan(endpoint, "hscan", key);
+        helper.tag(span, "cursor", cursor);
+        return helper.executeInScope(span, delegate, key, cursor, Jedis::hscan);
     }
 
     @Override
     public ScanResult<Map.Entry<String, String>> hscan(String key, String cursor, ScanParams params) {
-        Span span = helper.startNextJedisSpan("hscan", key);
-        span.tag("cursor", cursor);
-        span.tag("params", TagUtils.toString(params.getParams()));
-        return helper.executeInScope(span, () -> delegate.hscan(key, cursor, params));
+        Span span = helper.startNextJedisSpan(endpoint, "hscan", key);
+        helper.tag(span, "cursor", cursor);
+        helper.tag(span, "params", params, p -> TagUtils.toString(p.getParams()));
+        return helper.executeInScope(span, delegate, key, cursor, params, Jedis::hscan);
     }
 
     @Override
     public Long hset(byte[] key, byte[] field, byte[] value) {
-        Span span = helper.startNextJedisSpan("hset", key);
-        span.tag("field", Arrays.toString(field));
-        span.tag("value", Arrays.toString(value));
-        return helper.executeInScope(span, () -> delegate.hset(key, field, value));
+        Span span = helper.startNextJedisSpan(endpoint, "hset", key);
+        helper.tag(span, "field", field);
+        helper.tag(span, "value", value);
+        return helper.executeInScope(span, delegate, key, field, value, Jedis::hset);
     }
 
     @Override
     public Long hset(String key, String field, String value) {
-        Span span = helper.startNextJedisSpan("hset", key);
-        span.tag("field", field);
-        span.tag("value", value);
-        return helper.executeInScope(span, () -> delegate.hset(key, field, value));
+        Span span = helper.startNextJedisSpan(endpoint, "hset", key);
+        helper.tag(span, "field", field);
+        helper.tag(span, "value", value);
+        return helper.executeInScope(span, delegate, key, field, value, Jedis::hset);
     }
 
     @Override
     public Long hsetnx(byte[] key, byte[] field, byte[] value) {
-        Span span = helper.startNextJedisSpan("hsetnx", key);
-        span.tag("field", Arrays.toString(field));
-        span.tag("value", Arrays.toString(value));
-        return helper.executeInScope(span, () -> delegate.hsetnx(key, field, value));
+        Span span = helper.startNextJedisSpan(endpoint, "hsetnx", key);
+        helper.tag(span, "field", field);
+        helper.tag(span, "value", value);
+        return helper.executeInScope(span, delegate, key, field, value, Jedis::hsetnx);
     }
 
     @Override
     public Long hsetnx(String key, String field, String value) {
-        Span span = helper.startNextJedisSpan("hsetnx", key);
-        span.tag("field", field);
-        span.tag("value", value);
-        return helper.executeInScope(span, () -> delegate.hsetnx(key, field, value));
+        Span span = helper.startNextJedisSpan(endpoint, "hsetnx", key);
+        helper.tag(span, "field", field);
+        helper.tag(span, "value", value);
+        return helper.executeInScope(span, delegate, key, field, value, Jedis::hsetnx);
     }
 
     @Override
     public List<byte[]> hvals(byte[] key) {
-        Span span = helper.startNextJedisSpan("hvals", key);
-        return helper.executeInScope(span, () -> delegate.hvals(key));
+        Span span = helper.startNextJedisSpan(endpoint, "hvals", key);
+        return ResultSizes.executeInScope(helper, span, delegate, key, Jedis::hvals);
     }
 
     @Override
     public List<String> hvals(String key) {
-        Span span = helper.startNextJedisSpan("hvals", key);
-        return helper.executeInScope(span, () -> delegate.hvals(key));
+        Span span = helper.startNextJedisSpan(endpoint, "hvals", key);
+        return ResultSizes.executeInScope(helper, span, delegate, key, Jedis::hvals);
     }
 
     @Override
     public Long incr(byte[] key) {
-        Span span = helper.startNextJedisSpan("incr", key);
-        return helper.executeInScope(span, () -> delegate.incr(key));
+        Span span = helper.startNextJedisSpan(endpoint, "incr", key);
+        return helper.executeInScope(span, delegate, key, Jedis::incr);
     }
 
     @Override
     public Long incr(String key) {
-        Span span = helper.startNextJedisSpan("incr", key);
-        return helper.executeInScope(span, () -> delegate.incr(key));
+        Span span = helper.startNextJedisSpan(endpoint, "incr", key);
+        return helper.executeInScope(span, delegate, key, Jedis::incr);
     }
 
     @Override
     public Long incrBy(byte[] key, long integer) {
-        Span span = helper.startNextJedisSpan("incrBy", key);
-        span.tag("integer", String.valueOf(integer));
-        return helper.executeInScope(span, () -> delegate.incrBy(key, integer));
+        Span span = helper.startNextJedisSpan(endpoint, "incrBy", key);
+        helper.tag(span, "integer", integer);
+        return helper.executeInScope(span, delegate, key, integer, Jedis::incrBy);
     }
 
     @Override
     public Long incrBy(String key, long integer) {
-        Span span = helper.startNextJedisSpan("incrBy", key);
-        span.tag("integer", String.valueOf(integer));
-        return helper.executeInScope(span, () -> delegate.incrBy(key, integer));
+        Span span = helper.startNextJedisSpan(endpoint, "incrBy", key);
+        helper.tag(span, "integer", integer);
+        return helper.executeInScope(span, delegate, key, integer, Jedis::incrBy);
     }
 
     @Override
     public Double incrByFloat(byte[] key, double integer) {
-        Span span = helper.startNextJedisSpan("incrByFloat", key);
-        span.tag("integer", String.valueOf(integer));
-        return helper.executeInScope(span, () -> delegate.incrByFloat(key, integer));
+        Span span = helper.startNextJedisSpan(endpoint, "incrByFloat", key);
+        helper.tag(span, "integer", integer);
+        return helper.executeInScope(span, delegate, key, integer, Jedis::incrByFloat);
     }
 
     @Override
     public Double incrByFloat(String key, double value) {
-        Span span = helper.startNextJedisSpan("incrByFloat", key);
-        span.tag("value", String.valueOf(value));
-        return helper.executeInScope(span, () -> delegate.incrByFloat(key, value));
+        Span span = helper.startNextJedisSpan(endpoint, "incrByFloat", key);
+        helper.tag(span, "value", value);
+        return helper.executeInScope(span, delegate, key, value, Jedis::incrByFloat);
     }
 
     @Override
     public String info() {
-        Span span = helper.startNextJedisSpan("info");
-        return helper.executeInScope(span, () -> delegate.info());
+        Span span = helper.startNextJedisSpan(endpoint, "info");
+        return helper.executeInScope(span, delegate, Jedis::info);
     }
 
     @Override
     public String info(String section) {
-        Span span = helper.startNextJedisSpan("info");
-        span.tag("section", section);
-        return helper.executeInScope(span, () -> delegate.info(section));
+        Span span = helper.startNextJedisSpan(endpoint, "info");
+        helper.tag(span, "section", section);
+        return helper.executeInScope(span, delegate, section, Jedis::info);
     }
 
     @Override
     public boolean isConnected() {
-        Span span = helper.startNextJedisSpan("isConnected");
-        return helper.executeInScope(span, () -> delegate.isConnected());
+        Span span = helper.startNextJedisSpan(endpoint, "isConnected");
+        return helper.executeInScope(span, delegate, Jedis::isConnected);
     }
 
     @Override
     public Set<byte[]> keys(byte[] pattern) {
-        Span span = helper.startNextJedisSpan("keys");
-        span.tag("pattern", Arrays.toString(pattern));
-        return helper.executeInScope(span, () -> delegate.keys(pattern));
+        Span span = helper.startNextJedisSpan(endpoint, "keys");
+        helper.tag(span, "pattern", pattern);
+        return ResultSizes.executeInScope(helper, span, delegate, pattern, Jedis::keys);
     }
 
     @Override
     public Set<String> keys(String pattern) {
-        Span span = helper.startNextJedisSpan("keys");
-        span.tag("pattern", Objects.toString(pattern));
-        return helper.executeInScope(span, () -> delegate.keys(pattern));
+        Span span = helper.startNextJedisSpan(endpoint, "keys");
+        helper.tag(span, "pattern", pattern);
+        return ResultSizes.executeInScope(helper, span, delegate, pattern, Jedis::keys);
     }
 
     @Override
     public Long lastsave() {
-        Span span = helper.startNextJedisSpan("lastsave");
-        return helper.executeInScope(span, () -> delegate.lastsave());
+        Span span = helper.startNextJedisSpan(endpoint, "lastsave");
+        return helper.executeInScope(span, delegate, Jedis::lastsave);
     }
 
     @Override
     public byte[] lindex(byte[] key, long index) {
-        Span span = helper.startNextJedisSpan("lindex", key);
-        span.tag("index", String.valueOf(index));
-        return helper.executeInScope(span, () -> delegate.lindex(key, index));
+        Span span = helper.startNextJedisSpan(endpoint, "lindex", key);
+        helper.tag(span, "index", index);
+        return helper.executeInScope(span, delegate, key, index, Jedis::lindex);
     }
 
     @Override
     public String lindex(String key, long index) {
-        Span span = helper.startNextJedisSpan("lindex", key);
-        span.tag("index", String.valueOf(index));
-        return helper.executeInScope(span, () -> delegate.lindex(key, index));
+        Span span = helper.startNextJedisSpan(endpoint, "lindex", key);
+        helper.tag(span, "index", index);
+        return helper.executeInScope(span, delegate, key, index, Jedis::lindex);
     }
 
     @Override
     public Long linsert(byte[] key, BinaryClient.LIST_POSITION where, byte[] pivot, byte[] value) {
-        Span span = helper.startNextJedisSpan("linsert", key);
-        span.tag("where", where.name());
-        span.tag("pivot", Arrays.toString(pivot));
-        span.tag("value", Arrays.toString(value));
+        Span span = helper.startNextJedisSpan(endpoint, "linsert", key);
+        helper.tag(span, "where", where);
+        helper.tag(span, "pivot", pivot);
+        helper.tag(span, "value", value);
         return helper.executeInScope(span, () -> delegate.linsert(key, where, pivot, value));
     }
 
     @Override
     public Long linsert(String key, BinaryClient.LIST_POSITION where, String pivot, String value) {
-        Span span = helper.startNextJedisSpan("linsert", key);
-        span.tag("where", where.name());
-        span.tag("pivot", pivot);
-        span.tag("value", value);
+        Span span = helper.startNextJedisSpan(endpoint, "linsert", key);
+        helper.tag(span, "where", where);
+        helper.tag(span, "pivot", pivot);
+        helper.tag(span, "value", value);
         return helper.executeInScope(span, () -> delegate.linsert(key, where, pivot, value));
     }
 
     @Override
     public Long llen(byte[] key) {
-        Span span = helper.startNextJedisSpan("llen", key);
-        return helper.executeInScope(span, () -> delegate.llen(key));
+        Span span = helper.startNextJedisSpan(endpoint, "llen", key);
+        return helper.executeInScope(span, delegate, key, Jedis::llen);
     }
 
     @Override
     public Long llen(String key) {
-        Span span = helper.startNextJedisSpan("llen", key);
-        return helper.executeInScope(span, () -> delegate.llen(key));
+        Span span = helper.startNextJedisSpan(endpoint, "llen", key);
+        return helper.executeInScope(span, delegate, key, Jedis::llen);
     }
 
     @Override
     public byte[] lpop(byte[] key) {
-        Span span = helper.startNextJedisSpan("lpop", key);
-        return helper.executeInScope(span, () -> delegate.lpop(key));
+        Span span = helper.startNextJedisSpan(endpoint, "lpop", key);
+        return helper.executeInScope(span, delegate, key, Jedis::lpop);
     }
 
     @Override
     public String lpop(String key) {
-        Span span = helper.startNextJedisSpan("lpop", key);
-        return helper.executeInScope(span, () -> delegate.lpop(key));
+        Span span = helper.startNextJedisSpan(endpoint, "lpop", key);
+        return helper.executeInScope(span, delegate, key, Jedis::lpop);
     }
 
     @Override
     public Long lpush(byte[] key, byte[]... strings) {
-        Span span = helper.startNextJedisSpan("lpush", key);
-        span.tag("strings", TagUtils.toString(strings));
-        return helper.executeInScope(span, () -> delegate.lpush(key, strings));
+        Span span = helper.startNextJedisSpan(endpoint, "lpush", key);
+        helper.tagMany(span, "strings", strings);
+        return helper.executeInScope(span, delegate, key, strings, Jedis::lpush);
     }
 
     @Override
     public Long lpush(String key, String... strings) {
-        Span span = helper.startNextJedisSpan("lpush", key);
-        span.tag("strings", Arrays.toString(strings));
-        return helper.executeInScope(span, () -> delegate.lpush(key, strings));
+        Span span = helper.startNextJedisSpan(endpoint, "lpush", key);
+        helper.tagMany(span, "strings", strings);
+        return helper.executeInScope(span, delegate, key, strings, Jedis::lpush);
     }
 
     @Override
     public Long lpushx(byte[] key, byte[]... string) {
-        Span span = helper.startNextJedisSpan("lpushx", key);
-        span.tag("string", TagUtils.toString(string));
-        return helper.executeInScope(span, () -> delegate.lpushx(key, string));
+        Span span = helper.startNextJedisSpan(endpoint, "lpushx", key);
+        helper.tagMany(span, "string", string);
+        return helper.executeInScope(span, delegate, key, string, Jedis::lpushx);
     }
 
     @Override
     public Long lpushx(String key, String... string) {
-        Span span = helper.startNextJedisSpan("lpushx", key);
-        span.tag("string", Arrays.toString(string));
-        return helper.executeInScope(span, () -> delegate.lpushx(key, string));
+        Span span = helper.startNextJedisSpan(endpoint, "lpushx", key);
+        helper.tagMany(span, "string", string);
+        return helper.executeInScope(span, delegate, key, string, Jedis::lpushx);
     }
 
     @Override
     public List<byte[]> lrange(byte[] key, long start, long end) {
-        Span span = helper.startNextJedisSpan("lrange", key);
-        span.tag("start", String.valueOf(start));
-        span.tag("end", String.valueOf(end));
-        return helper.executeInScope(span, () -> delegate.lrange(key, start, end));
+        Span span = helper.startNextJedisSpan(endpoint, "lrange", key);
+        helper.tag(span, "start", start);
+        helper.tag(span, "end", end);
+        return ResultSizes.executeInScope(helper, span, delegate, key, start, end, Jedis::lrange);
     }
 
     @Override
     public List<String> lrange(String key, long start, long end) {
-        Span span = helper.startNextJedisSpan("lrange", key);
-        span.tag("start", String.valueOf(start));
-        span.tag("end", String.valueOf(end));
-        return helper.executeInScope(span, () -> delegate.lrange(key, start, end));
+        Span span = helper.startNextJedisSpan(endpoint, "lrange", key);
+        helper.tag(span, "start", start);
+        helper.tag(span, "end", end);
+        return ResultSizes.executeInScope(helper, span, delegate, key, start, end, Jedis::lrange);
     }
 
     @Override
     public Long lrem(byte[] key, long count, byte[] value) {
-        Span span = helper.startNextJedisSpan("lrem", key);
-        span.tag("count", String.valueOf(count));
-        span.tag("value", Arrays.toString(value));
-        return helper.executeInScope(span, () -> delegate.lrem(key, count, value));
+        Span span = helper.startNextJedisSpan(endpoint, "lrem", key);
+        helper.tag(span, "count", count);
+        helper.tag(span, "value", value);
+        return helper.executeInScope(span, delegate, key, count, value, Jedis::lrem);
     }
 
     @Override
     public Long lrem(String key, long count, String value) {
-        Span span = helper.startNextJedisSpan("lrem", key);
-        span.tag("count", String.valueOf(count));
-        span.tag("value", value);
-        return helper.executeInScope(span, () -> delegate.lrem(key, count, value));
+        Span span = helper.startNextJedisSpan(endpoint, "lrem", key);
+        helper.tag(span, "count", count);
+        helper.tag(span, "value", value);
+        return helper.executeInScope(span, delegate, key, count, value, Jedis::lrem);
     }
 
     @Override
     public String lset(byte[] key, long index, byte[] value) {
-        Span span = helper.startNextJedisSpan("lset", key);
-        span.tag("index", String.valueOf(index));
-        span.tag("value", Arrays.toString(value));
-        return helper.executeInScope(span, () -> delegate.lset(key, index, value));
+        Span span = helper.startNextJedisSpan(endpoint, "lset", key);
+        helper.tag(span, "index", index);
+        helper.tag(span, "value", value);
+        return helper.executeInScope(span, delegate, key, index, value, Jedis::lset);
     }
 
     @Override
     public String lset(String key, long index, String value) {
-        Span span = helper.startNextJedisSpan("lset", key);
-        span.tag("index", String.valueOf(index));
-        span.tag("value", value);
-        return helper.executeInScope(span, () -> delegate.lset(key, index, value));
+        Span span = helper.startNextJedisSpan(endpoint, "lset", key);
+        helper.tag(span, "index", index);
+        helper.tag(span, "value", value);
+        return helper.executeInScope(span, delegate, key, index, value, Jedis::lset);
     }
 
     @Override
     public String ltrim(byte[] key, long start, long end) {
-        Span span = helper.startNextJedisSpan("ltrim", key);
-        span.tag("start", String.valueOf(start));
-        span.tag("end", String.valueOf(end));
-        return helper.executeInScope(span, () -> delegate.ltrim(key, start, end));
+        Span span = helper.startNextJedisSpan(endpoint, "ltrim", key);
+        helper.tag(span, "start", start);
+        helper.tag(span, "end", end);
+        return helper.executeInScope(span, delegate, key, start, end, Jedis::ltrim);
     }
 
     @Override
     public String ltrim(String key, long start, long end) {
-        Span span = helper.startNextJedisSpan("ltrim", key);
-        span.tag("start", String.valueOf(start));
-        span.tag("end", String.valueOf(end));
-        return helper.executeInScope(span, () -> delegate.ltrim(key, start, end));
+        Span span = helper.startNextJedisSpan(endpoint, "ltrim", key);
+        helper.tag(span, "start", start);
+        helper.tag(span, "end", end);
+        return helper.executeInScope(span, delegate, key, start, end, Jedis::ltrim);
     }
 
     @Override
     public List<byte[]> mget(byte[]... keys) {
-        Span span = helper.startNextJedisSpan("mget");
-        span.tag("keys", TagUtils.toString(keys));
-        return helper.executeInScope(span, () -> delegate.mget(keys));
+        Span span = helper.startNextJedisSpan(endpoint, "mget");
+        helper.tagMany(span, "keys", keys);
+        return ResultSizes.executeInScope(helper, span, delegate, keys, Jedis::mget);
     }
 
     @Override
     public List<String> mget(String... keys) {
-        Span span = helper.startNextJedisSpan("mget", keys);
-        return helper.executeInScope(span, () -> delegate.mget(keys));
+        Span span = helper.startNextJedisSpan(endpoint, "mget", keys);
+        return ResultSizes.executeInScope(helper, span, delegate, keys, Jedis::mget);
     }
 
     @Override
     public String migrate(byte[] host, int port, byte[] key, int destinationDb, int timeout) {
-        Span span = helper.startNextJedisSpan("migrate", key);
-        span.tag("host", Arrays.toString(host));
-        span.tag("destinationDb", String.valueOf(destinationDb));
-        span.tag("timeout", String.valueOf(timeout));
-        span.tag("port", String.valueOf(port));
+        Span span = helper.startNextJedisSpan(endpoint, "migrate", key);
+        helper.tag(span, "host", host);
+        helper.tag(span, "destinationDb", destinationDb);
+        helper.tag(span, "timeout", timeout);
+        helper.tag(span, "port", port);
         return helper.executeInScope(span, () -> delegate.migrate(host, port, key, destinationDb, timeout));
     }
 
     @Override
     public String migrate(String host, int port, String key, int destinationDb, int timeout) {
-        Span span = helper.startNextJedisSpan("migrate", key);
-        span.tag("host", host);
-        span.tag("destinationDb", String.valueOf(destinationDb));
-        span.tag("timeout", String.valueOf(timeout));
-        span.tag("port", String.valueOf(port));
+        Span span = helper.startNextJedisSpan(endpoint, "migrate", key);
+        helper.tag(span, "host", host);
+        helper.tag(span, "destinationDb", destinationDb);
+        helper.tag(span, "timeout", timeout);
+        helper.tag(span, "port", port);
         return helper.executeInScope(span, () -> delegate.migrate(host, port, key, destinationDb, timeout));
     }
 
     @Override
     public void monitor(JedisMonitor jedisMonitor) {
-        Span span = helper.startNextJedisSpan("monitor");
+        Span span = helper.startNextJedisSpan(endpoint, "monitor");
         helper.executeInScope(span, () -> delegate.monitor(jedisMonitor));
     }
 
     @Override
     public Long move(byte[] key, int dbIndex) {
-        Span span = helper.startNextJedisSpan("move", key);
-        span.tag("dbIndex", String.valueOf(dbIndex));
-        return helper.executeInScope(span, () -> delegate.move(key, dbIndex));
+        Span span = helper.startNextJedisSpan(endpoint, "move", key);
+        helper.tag(span, "dbIndex", dbIndex);
+        return helper.executeInScope(span, delegate, key, dbIndex, Jedis::move);
     }
 
     @Override
     public Long move(String key, int dbIndex) {
-        Span span = helper.startNextJedisSpan("move", key);
-        span.tag("dbIndex", String.valueOf(dbIndex));
-        return helper.executeInScope(span, () -> delegate.move(key, dbIndex));
+        Span span = helper.startNextJedisSpan(endpoint, "move", key);
+        helper.tag(span, "dbIndex", dbIndex);
+        return helper.executeInScope(span, delegate, key, dbIndex, Jedis::move);
     }
 
     @Override
     public String mset(byte[]... keysvalues) {
-        Span span = helper.startNextJedisSpan("mset");
-        span.tag("keysvalues", TagUtils.toString(keysvalues));
-        return helper.executeInScope(span, () -> delegate.mset(keysvalues));
+        Span span = helper.startNextJedisSpan(endpoint, "mset");
+        helper.tagPairs(span, "keysvalues", keysvalues);
+        return helper.executeInScope(span, delegate, keysvalues, Jedis::mset);
     }
 
     @Override
     public String mset(String... keysvalues) {
-        Span span = helper.startNextJedisSpan("mset");
-        span.tag("keysvalues", Arrays.toString(keysvalues));
-        return helper.executeInScope(span, () -> delegate.mset(keysvalues));
+        Span span = helper.startNextJedisSpan(endpoint, "mset");
+        helper.tagPairs(span, "keysvalues", keysvalues);
+        return helper.executeInScope(span, delegate, keysvalues, Jedis::mset);
     }
 
     @Override
     public Long msetnx(byte[]... keysvalues) {
-        Span span = helper.startNextJedisSpan("msetnx");
-        span.tag("keysvalues", TagUtils.toString(keysvalues));
-        return helper.executeInScope(span, () -> delegate.msetnx(keysvalues));
+        Span span = helper.startNextJedisSpan(endpoint, "msetnx");
+        helper.tagPairs(span, "keysvalues", keysvalues);
+        return helper.executeInScope(span, delegate, keysvalues, Jedis::msetnx);
     }
 
     @Override
     public Long msetnx(String... keysvalues) {
-        Span span = helper.startNextJedisSpan("msetnx");
-        span.tag("keysvalues", Arrays.toString(keysvalues));
-        return helper.executeInScope(span, () -> delegate.msetnx(keysvalues));
+        Span span = helper.startNextJedisSpan(endpoint, "msetnx");
+        helper.tagPairs(span, "keysvalues", keysvalues);
+        return helper.executeInScope(span, delegate, keysvalues, Jedis::msetnx);
     }
 
+    /**
+     * @return a transaction to use with try-with-resources, so one given up before exec or discard still ends its span
+     */
     @Override
-    public Transaction multi() {
-        Span span = helper.startNextJedisSpan("multi");
-        return helper.executeInScope(span, () -> delegate.multi());
+    public TraceableTransaction multi() {
+        Span span = helper.startDetachedJedisSpan("multi");
+        Client client = delegate.getClient();
+        try {
+            client.multi();
+        } catch (RuntimeException | Error e) {
+            span.error(e);
+            span.finish();
+            throw e;
+        }
+        return new TraceableTransaction(client, helper, span);
     }
 
     @Override
     public List<Object> multi(TransactionBlock jedisTransaction) {
-        Span span = helper.startNextJedisSpan("multi");
-        return helper.executeInScope(span, () -> delegate.multi(jedisTransaction));
+        Span span = helper.startNextJedisSpan(endpoint, "multi");
+        return ResultSizes.executeInScope(helper, span, delegate, jedisTransaction, Jedis::multi);
     }
 
     @Override
     public byte[] objectEncoding(byte[] key) {
-        Span span = helper.startNextJedisSpan("objectEncoding", key);
-        return helper.executeInScope(span, () -> delegate.objectEncoding(key));
+        Span span = helper.startNextJedisSpan(endpoint, "objectEncoding", key);
+        return helper.executeInScope(span, delegate, key, Jedis::objectEncoding);
     }
 
     @Override
     public String objectEncoding(String string) {
-        Span span = helper.startNextJedisSpan("objectEncoding");
-        span.tag("string", string);
-        return helper.executeInScope(span, () -> delegate.objectEncoding(string));
+        Span span = helper.startNextJedisSpan(endpoint, "objectEncoding");
+        helper.tag(span, "string", string);
+        return helper.executeInScope(span, delegate, string, Jedis::objectEncoding);
     }
 
     @Override
     public Long objectIdletime(byte[] key) {
-        Span span = helper.startNextJedisSpan("objectIdletime", key);
-        return helper.executeInScope(span, () -> delegate.objectIdletime(key));
+        Span span = helper.startNextJedisSpan(endpoint, "objectIdletime", key);
+        return helper.executeInScope(span, delegate, key, Jedis::objectIdletime);
     }
 
     @Override
     public Long objectIdletime(String string) {
-        Span span = helper.startNextJedisSpan("objectIdletime");
-        span.tag("string", string);
-        return helper.executeInScope(span, () -> delegate.objectIdletime(string));
+        Span span = helper.startNextJedisSpan(endpoint, "objectIdletime");
+        helper.tag(span, "string", string);
+        return helper.executeInScope(span, delegate, string, Jedis::objectIdletime);
     }
 
     @Override
     public Long objectRefcount(byte[] key) {
-        Span span = helper.startNextJedisSpan("objectRefcount", key);
-        return helper.executeInScope(span, () -> delegate.objectRefcount(key));
+        Span span = helper.startNextJedisSpan(endpoint, "objectRefcount", key);
+        return helper.executeInScope(span, delegate, key, Jedis::objectRefcount);
     }
 
     @Override
     public Long objectRefcount(String string) {
-        Span span = helper.startNextJedisSpan("objectRefcount");
-        span.tag("string", string);
-        return helper.executeInScope(span, () -> delegate.objectRefcount(string));
+        Span span = helper.startNextJedisSpan(endpoint, "objectRefcount");
+        helper.tag(span, "string", string);
+        return helper.executeInScope(span, delegate, string, Jedis::objectRefcount);
     }
 
     @Override
     public Long persist(byte[] key) {
-        Span span = helper.startNextJedisSpan("persist", key);
-        return helper.executeInScope(span, () -> delegate.persist(key));
+        Span span = helper.startNextJedisSpan(endpoint, "persist", key);
+        return helper.executeInScope(span, delegate, key, Jedis::persist);
     }
 
     @Override
     public Long persist(String key) {
-        Span span = helper.startNextJedisSpan("persist", key);
-        return helper.executeInScope(span, () -> delegate.persist(key));
+        Span span = helper.startNextJedisSpan(endpoint, "persist", key);
+        return helper.executeInScope(span, delegate, key, Jedis::persist);
     }
 
     @Override
     public Long pexpire(byte[] key, int milliseconds) {
-        Span span = helper.startNextJedisSpan("pexpire", key);
-        span.tag("milliseconds", String.valueOf(milliseconds));
-        return helper.executeInScope(span, () -> delegate.pexpire(key, milliseconds));
+        Span span = helper.startNextJedisSpan(endpoint, "pexpire", key);
+        helper.tag(span, "milliseconds", milliseconds);
+        return helper.executeInScope(span, delegate, key, milliseconds, Jedis::pexpire);
     }
 
     @Override
     public Long pexpire(byte[] key, long milliseconds) {
-        Span span = helper.startNextJedisSpan("pexpire", key);
-        span.tag("milliseconds", String.valueOf(milliseconds));
-        return helper.executeInScope(span, () -> delegate.pexpire(key, milliseconds));
+        Span span = helper.startNextJedisSpan(endpoint, "pexpire", key);
+        helper.tag(span, "milliseconds", milliseconds);
+        return helper.executeInScope(span, delegate, key, milliseconds, Jedis::pexpire);
     }
 
     @Override
     public Long pexpire(String key, int milliseconds) {
-        Span span = helper.startNextJedisSpan("pexpire", key);
-        span.tag("milliseconds", String.valueOf(milliseconds));
-        return helper.executeInScope(span, () -> delegate.pexpire(key, milliseconds));
+        Span span = helper.startNextJedisSpan(endpoint, "pexpire", key);
+        helper.tag(span, "milliseconds", milliseconds);
+        return helper.executeInScope(span, delegate, key, milliseconds, Jedis::pexpire);
     }
 
     @Override
     public Long pexpire(String key, long milliseconds) {
-        Span span = helper.startNextJedisSpan("pexpire", key);
-        span.tag("milliseconds", String.valueOf(milliseconds));
-        return helper.executeInScope(span, () -> delegate.pexpire(key, milliseconds));
+        Span span = helper.startNextJedisSpan(endpoint, "pexpire", key);
+        helper.tag(span, "milliseconds", milliseconds);
+        return helper.executeInScope(span, delegate, key, milliseconds, Jedis::pexpire);
     }
 
     @Override
     public Long pexpireAt(byte[] key, long millisecondsTimestamp) {
-        Span span = helper.startNextJedisSpan("pexpireAt", key);
-        span.tag("millisecondsTimestamp", String.valueOf(millisecondsTimestamp));
-        return helper.executeInScope(span, () -> delegate.pexpireAt(key, millisecondsTimestamp));
+        Span span = helper.startNextJedisSpan(endpoint, "pexpireAt", key);
+        helper.tag(span, "millisecondsTimestamp", millisecondsTimestamp);
+        return helper.executeInScope(span, delegate, key, millisecondsTimestamp, Jedis::pexpireAt);
     }
 
     @Override
     public Long pexpireAt(String key, long millisecondsTimestamp) {
-        Span span = helper.startNextJedisSpan("pexpireAt", key);
-        span.tag("millisecondsTimestamp", String.valueOf(millisecondsTimestamp));
-        return helper.executeInScope(span, () -> delegate.pexpireAt(key, millisecondsTimestamp));
+        Span span = helper.startNextJedisSpan(endpoint, "pexpireAt", key);
+        helper.tag(span, "millisecondsTimestamp", millisecondsTimestamp);
+        return helper.executeInScope(span, delegate, key, millisecondsTimestamp, Jedis::pexpireAt);
     }
 
     @Override
     public Long pfadd(byte[] key, byte[]... elements) {
-        Span span = helper.startNextJedisSpan("pfadd", key);
-        span.tag("elements", TagUtils.toString(elements));
-        return helper.executeInScope(span, () -> delegate.pfadd(key, elements));
+        Span span = helper.startNextJedisSpan(endpoint, "pfadd", key);
+        helper.tagMany(span, "elements", elements);
+        return helper.executeInScope(span, delegate, key, elements, Jedis::pfadd);
     }
 
     @Override
     public Long pfadd(String key, String... elements) {
-        Span span = helper.startNextJedisSpan("pfadd");
-        span.tag("elements", Arrays.toString(elements));
-        return helper.executeInScope(span, () -> delegate.pfadd(key, elements));
+        Span span = helper.startNextJedisSpan(endpoint, "pfadd");
+        helper.tagMany(span, "elements", elements);
+        return helper.executeInScope(span, delegate, key, elements, Jedis::pfadd);
     }
 
     @Override
     public long pfcount(byte[] key) {
-        Span span = helper.startNextJedisSpan("pfcount", key);
-        return helper.executeInScope(span, () -> delegate.pfcount(key));
+        Span span = helper.startNextJedisSpan(endpoint, "pfcount", key);
+        return helper.executeInScope(span, delegate, key, Jedis::pfcount);
     }
 
     @Override
     public Long pfcount(byte[]... keys) {
-        Span span = helper.startNextJedisSpan("pfcount");
-        span.tag("keys", TagUtils.toString(keys));
-        return helper.executeInScope(span, () -> delegate.pfcount(keys));
+        Span span = helper.startNextJedisSpan(endpoint, "pfcount");
+        helper.tagMany(span, "keys", keys);
+        return helper.executeInScope(span, delegate, keys, Jedis::pfcount);
     }
 
     @Override
     public long pfcount(String key) {
-        Span span = helper.startNextJedisSpan("pfcount", key);
-        return helper.executeInScope(span, () -> delegate.pfcount(key));
+        Span span = helper.startNextJedisSpan(endpoint, "pfcount", key);
+        return helper.executeInScope(span, delegate, key, Jedis::pfcount);
     }
 
     @Override
     public long pfcount(String... keys) {
-        Span span = helper.startNextJedisSpan("pfcount", keys);
-        return helper.executeInScope(span, () -> delegate.pfcount(keys));
+        Span span = helper.startNextJedisSpan(endpoint, "pfcount", keys);
+        return helper.executeInScope(span, delegate, keys, Jedis::pfcount);
     }
 
     @Override
     public String pfmerge(byte[] destkey, byte[]... sourcekeys) {
-        Span span = helper.startNextJedisSpan("pfmerge");
-        span.tag("destkey", Arrays.toString(destkey));
-        span.tag("sourcekeys", TagUtils.toString(sourcekeys));
-        return helper.executeInScope(span, () -> delegate.pfmerge(destkey, sourcekeys));
+        Span span = helper.startNextJedisSpan(endpoint, "pfmerge");
+        helper.tag(span, "destkey", destkey);
+        helper.tagMany(span, "sourcekeys", sourcekeys);
+        return helper.executeInScope(span, delegate, destkey, sourcekeys, Jedis::pfmerge);
     }
 
     @Override
     public String pfmerge(String destkey, String... sourcekeys) {
-        Span span = helper.startNextJedisSpan("pfmerge");
-        span.tag("destkey", destkey);
-        span.tag("sourcekeys", Arrays.toString(sourcekeys));
-        return helper.executeInScope(span, () -> delegate.pfmerge(destkey, sourcekeys));
+        Span span = helper.startNextJedisSpan(endpoint, "pfmerge");
+        helper.tag(span, "destkey", destkey);
+        helper.tagMany(span, "sourcekeys", sourcekeys);
+        return helper.executeInScope(span, delegate, destkey, sourcekeys, Jedis::pfmerge);
     }
 
     @Override
     public String ping() {
-        Span span = helper.startNextJedisSpan("ping");
-        return helper.executeInScope(span, () -> delegate.ping());
+        Span span = helper.startNextJedisSpan(endpoint, "ping");
+        return helper.executeInScope(span, delegate, Jedis::ping);
     }
 
     @Override
     public List<Object> pipelined(PipelineBlock jedisPipeline) {
-        Span span = helper.startNextJedisSpan("pipelined");
-        return helper.executeInScope(span, () -> delegate.pipelined(jedisPipeline));
+        Span span = helper.startNextJedisSpan(endpoint, "pipelined");
+        return ResultSizes.executeInScope(helper, span, delegate, jedisPipeline, Jedis::pipelined);
     }
 
     @Override
     public Pipeline pipelined() {
-        Span span = helper.startNextJedisSpan("pipelined");
-        return helper.executeInScope(span, () -> delegate.pipelined());
+        Pipeline pipeline = new TraceablePipeline(helper, endpoint);
+        pipeline.setClient(delegate.getClient());
+        return pipeline;
     }
 
     @Override
     public String psetex(byte[] key, int milliseconds, byte[] value) {
-        Span span = helper.startNextJedisSpan("psetex", key);
-        span.tag("value", Arrays.toString(value));
-        span.tag("milliseconds", String.valueOf(milliseconds));
-        return helper.executeInScope(span, () -> delegate.psetex(key, milliseconds, value));
+        Span span = helper.startNextJedisSpan(endpoint, "psetex", key);
+        helper.tag(span, "value", value);
+        helper.tag(span, "milliseconds", milliseconds);
+        return helper.executeInScope(span, delegate, key, milliseconds, value, Jedis::psetex);
     }
 
     @Override
     public String psetex(String key, int milliseconds, String value) {
-        Span span = helper.startNextJedisSpan("psetex", key);
-        span.tag("milliseconds", String.valueOf(milliseconds));
-        span.tag("value", value);
-        return helper.executeInScope(span, () -> delegate.psetex(key, milliseconds, value));
+        Span span = helper.startNextJedisSpan(endpoint, "psetex", key);
+        helper.tag(span, "milliseconds", milliseconds);
+        helper.tag(span, "value", value);
+        return helper.executeInScope(span, delegate, key, milliseconds, value, Jedis::psetex);
     }
 
     @Override
     public void psubscribe(BinaryJedisPubSub jedisPubSub, byte[]... patterns) {
-        Span span = helper.startNextJedisSpan("psubscribe");
-        span.tag("patterns", Arrays.toString(patterns));
-        helper.executeInScope(span, () -> delegate.psubscribe(jedisPubSub, patterns));
+        // blocks for the lifetime of the subscription, messages are traced by TraceableBinaryJedisPubSub
+        delegate.psubscribe(jedisPubSub, patterns);
     }
 
     @Override
     public void psubscribe(JedisPubSub jedisPubSub, String... patterns) {
-        Span span = helper.startNextJedisSpan("psubscribe");
-        span.tag("patterns", Arrays.toString(patterns));
-        helper.executeInScope(span, () -> delegate.psubscribe(jedisPubSub, patterns));
+        // blocks for the lifetime of the subscription, messages are traced by TraceableJedisPubSub
+        delegate.psubscribe(jedisPubSub, patterns);
     }
 
     @Override
     public Long pttl(byte[] key) {
-        Span span = helper.startNextJedisSpan("pttl", key);
-        return helper.executeInScope(span, () -> delegate.pttl(key));
+        Span span = helper.startNextJedisSpan(endpoint, "pttl", key);
+        return helper.executeInScope(span, delegate, key, Jedis::pttl);
     }
 
     @Override
     public Long pttl(String key) {
-        Span span = helper.startNextJedisSpan("pttl", key);
-        return helper.executeInScope(span, () -> delegate.pttl(key));
+        Span span = helper.startNextJedisSpan(endpoint, "pttl", key);
+        return helper.executeInScope(span, delegate, key, Jedis::pttl);
     }
 
     @Override
     public Long publish(byte[] channel, byte[] message) {
-        Span span = helper.startNextJedisSpan("publish");
-        span.tag("channel", Arrays.toString(channel));
-        span.tag("message", Arrays.toString(message));
-        return helper.executeInScope(span, () -> delegate.publish(channel, message));
+        Span span = helper.startNextJedisSpan(endpoint, "publish");
+        helper.tag(span, "channel", channel);
+        helper.tag(span, "message", message);
+        return helper.executeInScope(span, delegate, channel, message, Jedis::publish);
     }
 
     @Override
     public Long publish(String channel, String message) {
-        Span span = helper.startNextJedisSpan("publish");
-        span.tag("channel", channel);
-        span.tag("message", message);
-        return helper.executeInScope(span, () -> delegate.publish(channel, message));
+        Span span = helper.startNextJedisSpan(endpoint, "publish");
+        helper.tag(span, "channel", channel);
+        helper.tag(span, "message", message);
+        return helper.executeInScope(span, delegate, channel, message, Jedis::publish);
+    }
+
+    /**
+     * Publishes the message in a {@link PubSubEnvelope} carrying the publish span, so that a
+     * {@link TraceableJedisPubSub} continues the trace. Only for channels whose subscribers all unwrap it.
+     */
+    public Long publishWithContext(byte[] channel, byte[] message) {
+        Span span = helper.startNextJedisSpan(endpoint, "publish");
+        span.kind(Span.Kind.PRODUCER);
+        helper.tag(span, "channel", channel);
+        helper.tag(span, "message", message);
+        byte[] wrapped = span.isNoop() ? message : PubSubEnvelope.wrap(span.context(), message);
+        return helper.executeInScope(span, delegate, channel, wrapped, Jedis::publish);
+    }
+
+    public Long publishWithContext(String channel, String message) {
+        Span span = helper.startNextJedisSpan(endpoint, "publish");
+        span.kind(Span.Kind.PRODUCER);
+        helper.tag(span, "channel", channel);
+        helper.tag(span, "message", message);
+        String wrapped = span.isNoop() ? message : PubSubEnvelope.wrap(span.context(), message);
+        return helper.executeInScope(span, delegate, channel, wrapped, Jedis::publish);
     }
 
     @Override
     public List<String> pubsubChannels(String pattern) {
-        Span span = helper.startNextJedisSpan("pubsubChannels");
-        span.tag("pattern", pattern);
-        return helper.executeInScope(span, () -> delegate.pubsubChannels(pattern));
+        Span span = helper.startNextJedisSpan(endpoint, "pubsubChannels");
+        helper.tag(span, "pattern", pattern);
+        return ResultSizes.executeInScope(helper, span, delegate, pattern, Jedis::pubsubChannels);
     }
 
     @Override
     public Long pubsubNumPat() {
-        Span span = helper.startNextJedisSpan("pubsubNumPat");
-        return helper.executeInScope(span, () -> delegate.pubsubNumPat());
+        Span span = helper.startNextJedisSpan(endpoint, "pubsubNumPat");
+        return helper.executeInScope(span, delegate, Jedis::pubsubNumPat);
     }
 
     @Override
     public Map<String, String> pubsubNumSub(String... channels) {
-        Span span = helper.startNextJedisSpan("pubsubNumSub");
-        span.tag("channels", Arrays.toString(channels));
-        return helper.executeInScope(span, () -> delegate.pubsubNumSub(channels));
+        Span span = helper.startNextJedisSpan(endpoint, "pubsubNumSub");
+        helper.tag(span, "channels", channels);
+        return ResultSizes.executeInScope(helper, span, delegate, channels, Jedis::pubsubNumSub);
     }
 
     @Override
     public String quit() {
-        Span span = helper.startNextJedisSpan("quit");
-        return helper.executeInScope(span, () -> delegate.quit());
+        Span span = helper.startNextJedisSpan(endpoint, "quit");
+        return helper.executeInScope(span, delegate, Jedis::quit);
     }
 
     @Override
     public byte[] randomBinaryKey() {
-        Span span = helper.startNextJedisSpan("randomBinaryKey");
-        return helper.executeInScope(span, () -> delegate.randomBinaryKey());
+        Span span = helper.startNextJedisSpan(endpoint, "randomBinaryKey");
+        return helper.executeInScope(span, delegate, Jedis::randomBinaryKey);
     }
 
     @Override
     public String randomKey() {
-        Span span = helper.startNextJedisSpan("randomKey");
-        return helper.executeInScope(span, () -> delegate.randomKey());
+        Span span = helper.startNextJedisSpan(endpoint, "randomKey");
+        return helper.executeInScope(span, delegate, Jedis::randomKey);
     }
 
 
     @Override
     public String rename(byte[] oldkey, byte[] newkey) {
-        Span span = helper.startNextJedisSpan("rename");
-        span.tag("oldkey", Arrays.toString(oldkey));
-        span.tag("newkey", Arrays.toString(newkey));
-        return helper.executeInScope(span, () -> delegate.rename(oldkey, newkey));
+        Span span = helper.startNextJedisSpan(endpoint, "rename");
+        helper.tag(span, "oldkey", oldkey);
+        helper.tag(span, "newkey", newkey);
+        return helper.executeInScope(span, delegate, oldkey, newkey, Jedis::rename);
     }
 
     @Override
     public String rename(String oldkey, String newkey) {
-        Span span = helper.startNextJedisSpan("rename");
-        span.tag("oldKey", Objects.toString(oldkey));
-        span.tag("newKey", Objects.toString(newkey));
-        return helper.executeInScope(span, () -> delegate.rename(oldkey, newkey));
+        Span span = helper.startNextJedisSpan(endpoint, "rename");
+        helper.tag(span, "oldKey", oldkey);
+        helper.tag(span, "newKey", newkey);
+        return helper.executeInScope(span, delegate, oldkey, newkey, Jedis::rename);
     }
 
     @Override
     public Long renamenx(byte[] oldkey, byte[] newkey) {
-        Span span = helper.startNextJedisSpan("renamenx");
-        span.tag("oldkey", Arrays.toString(oldkey));
-        span.tag("newkey", Arrays.toString(newkey));
-        return helper.executeInScope(span, () -> delegate.renamenx(oldkey, newkey));
+        Span span = helper.startNextJedisSpan(endpoint, "renamenx");
+        helper.tag(span, "oldkey", oldkey);
+        helper.tag(span, "newkey", newkey);
+        return helper.executeInScope(span, delegate, oldkey, newkey, Jedis::renamenx);
     }
 
     @Override
     public Long renamenx(String oldkey, String newkey) {
-        Span span = helper.startNextJedisSpan("renamenx");
-        span.tag("oldKey", Objects.toString(oldkey));
-        span.tag("newKey", Objects.toString(newkey));
-        return helper.executeInScope(span, () -> delegate.renamenx(oldkey, newkey));
+        Span span = helper.startNextJedisSpan(endpoint, "renamenx");
+        helper.tag(span, "oldKey", oldkey);
+        helper.tag(span, "newKey", newkey);
+        return helper.executeInScope(span, delegate, oldkey, newkey, Jedis::renamenx);
     }
 
     @Override
     public void resetState() {
-        Span span = helper.startNextJedisSpan("resetState");
+        Span span = helper.startNextJedisSpan(endpoint, "resetState");
         helper.executeInScope(span, () -> delegate.resetState());
     }
 
     @Override
     public String restore(byte[] key, int ttl, byte[] serializedValue) {
-        Span span = helper.startNextJedisSpan("restore", key);
-        span.tag("ttl", String.valueOf(ttl));
-        span.tag("serializedValue", Arrays.toString(serializedValue));
-        return helper.executeInScope(span, () -> delegate.restore(key, ttl, serializedValue));
+        Span span = helper.startNextJedisSpan(endpoint, "restore", key);
+        helper.tag(span, "ttl", ttl);
+        helper.tag(span, "serializedValue", serializedValue);
+        return helper.executeInScope(span, delegate, key, ttl, serializedValue, Jedis::restore);
     }
 
     @Override
     public String restore(String key, int ttl, byte[] serializedValue) {
-        Span span = helper.startNextJedisSpan("restore", key);
-        span.tag("ttl", String.valueOf(ttl));
-        span.tag("serializedValue", Arrays.toString(serializedValue));
-        return helper.executeInScope(span, () -> delegate.restore(key, ttl, serializedValue));
+        Span span = helper.startNextJedisSpan(endpoint, "restore", key);
+        helper.tag(span, "ttl", ttl);
+        helper.tag(span, "serializedValue", serializedValue);
+        return helper.executeInScope(span, delegate, key, ttl, serializedValue, Jedis::restore);
     }
 
     @Override
     public byte[] rpop(byte[] key) {
-        Span span = helper.startNextJedisSpan("rpop", key);
-        return helper.executeInScope(span, () -> delegate.rpop(key));
+        Span span = helper.startNextJedisSpan(endpoint, "rpop", key);
+        return helper.executeInScope(span, delegate, key, Jedis::rpop);
     }
 
     @Override
     public String rpop(String key) {
-        Span span = helper.startNextJedisSpan("rpop", key);
-        return helper.executeInScope(span, () -> delegate.rpop(key));
+        Span span = helper.startNextJedisSpan(endpoint, "rpop", key);
+        return helper.executeInScope(span, delegate, key, Jedis::rpop);
     }
 
     @Override
     public byte[] rpoplpush(byte[] srckey, byte[] dstkey) {
-        Span span = helper.startNextJedisSpan("rpoplpush");
-        span.tag("srckey", Arrays.toString(srckey));
-        span.tag("dstkey", Arrays.toString(dstkey));
-        return helper.executeInScope(span, () -> delegate.rpoplpush(srckey, dstkey));
+        Span span = helper.startNextJedisSpan(endpoint, "rpoplpush");
+        helper.tag(span, "srckey", srckey);
+        helper.tag(span, "dstkey", dstkey);
+        return helper.executeInScope(span, delegate, srckey, dstkey, Jedis::rpoplpush);
     }
 
     @Override
     public String rpoplpush(String srckey, String dstkey) {
-        Span span = helper.startNextJedisSpan("rpoplpush");
-        span.tag("srckey", srckey);
-        span.tag("dstkey", dstkey);
-        return helper.executeInScope(span, () -> delegate.rpoplpush(srckey, dstkey));
+        Span span = helper.startNextJedisSpan(endpoint, "rpoplpush");
+        helper.tag(span, "srckey", srckey);
+        helper.tag(span, "dstkey", dstkey);
+        return helper.executeInScope(span, delegate, srckey, dstkey, Jedis::rpoplpush);
     }
 
     @Override
     public Long rpush(byte[] key, byte[]... strings) {
-        Span span = helper.startNextJedisSpan("rpush", key);
-        span.tag("strings", TagUtils.toString(strings));
-        return helper.executeInScope(span, () -> delegate.rpush(key, strings));
+        Span span = helper.startNextJedisSpan(endpoint, "rpush", key);
+        helper.tagMany(span, "strings", strings);
+        return helper.executeInScope(span, delegate, key, strings, Jedis::rpush);
     }
 
     @Override
     public Long rpush(String key, String... strings) {
-        Span span = helper.startNextJedisSpan("rpush", key);
-        span.tag("strings", Arrays.toString(strings));
-        return helper.executeInScope(span, () -> delegate.rpush(key, strings));
+        Span span = helper.startNextJedisSpan(endpoint, "rpush", key);
+        helper.tagMany(span, "strings", strings);
+        return helper.executeInScope(span, delegate, key, strings, Jedis::rpush);
     }
 
     @Override
     public Long rpushx(byte[] key, byte[]... string) {
-        Span span = helper.startNextJedisSpan("rpushx", key);
-        span.tag("string", TagUtils.toString(string));
-        return helper.executeInScope(span, () -> delegate.rpushx(key, string));
+        Span span = helper.startNextJedisSpan(endpoint, "rpushx", key);
+        helper.tagMany(span, "string", string);
+        return helper.executeInScope(span, delegate, key, string, Jedis::rpushx);
     }
 
     @Override
     public Long rpushx(String key, String... string) {
-        Span span = helper.startNextJedisSpan("rpushx", key);
-        span.tag("string", Arrays.toString(string));
-        return helper.executeInScope(span, () -> delegate.rpushx(key, string));
+        Span span = helper.startNextJedisSpan(endpoint, "rpushx", key);
+        helper.tagMany(span, "string", string);
+        return helper.executeInScope(span, delegate, key, string, Jedis::rpushx);
     }
 
     @Override
     public Long sadd(byte[] key, byte[]... members) {
-        Span span = helper.startNextJedisSpan("sadd", key);
-        span.tag("members", Arrays.toString(members));
-        return helper.executeInScope(span, () -> delegate.sadd(key, members));
+        Span span = helper.startNextJedisSpan(endpoint, "sadd", key);
+        helper.tagMany(span, "members", members);
+        return helper.executeInScope(span, delegate, key, members, Jedis::sadd);
     }
 
     @Override
     public Long sadd(String key, String... members) {
-        Span span = helper.startNextJedisSpan("sadd", key);
-        span.tag("members", Arrays.toString(members));
-        return helper.executeInScope(span, () -> delegate.sadd(key, members));
+        Span span = helper.startNextJedisSpan(endpoint, "sadd", key);
+        helper.tagMany(span, "members", members);
+        return helper.executeInScope(span, delegate, key, members, Jedis::sadd);
     }
 
     @Override
     public String save() {
-        Span span = helper.startNextJedisSpan("save");
-        return helper.executeInScope(span, () -> delegate.save());
+        Span span = helper.startNextJedisSpan(endpoint, "save");
+        return helper.executeInScope(span, delegate, Jedis::save);
     }
 
     @Override
     public ScanResult<byte[]> scan(byte[] cursor) {
-        Span span = helper.startNextJedisSpan("scan");
-        span.tag("cursor", Arrays.toString(cursor));
-        return helper.executeInScope(span, () -> delegate.scan(cursor));
+        Span span = helper.startNextJedisSpan(endpoint, "scan");
+        helper.tag(span, "cursor", cursor);
+        return helper.executeInScope(span, delegate, cursor, Jedis::scan);
     }
 
     @Override
     public ScanResult<byte[]> scan(byte[] cursor, ScanParams params) {
-        Span span = helper.startNextJedisSpan("scan");
-        span.tag("cursor", Arrays.toString(cursor));
-        span.tag("params", TagUtils.toString(params.getParams()));
-        return helper.executeInScope(span, () -> delegate.scan(cursor, params));
+        Span span = helper.startNextJedisSpan(endpoint, "scan");
+        helper.tag(span, "cursor", cursor);
+        helper.tag(span, "params", params, p -> TagUtils.toString(p.getParams()));
+        return helper.executeInScope(span, delegate, cursor, params, Jedis::scan);
     }
 
     @Override
     public ScanResult<String> scan(int cursor) {
-        Span span = helper.startNextJedisSpan("scan");
-        span.tag("cursor", String.valueOf(cursor));
-        return helper.executeInScope(span, () -> delegate.scan(cursor));
+        Span span = helper.startNextJedisSpan(endpoint, "scan");
+        helper.tag(span, "cursor", cursor);
+        return helper.executeInScope(span, delegate, cursor, Jedis::scan);
     }
 
     @Override
     public ScanResult<String> scan(int cursor, ScanParams params) {
-        Span span = helper.startNextJedisSpan("scan");
-        span.tag("cursor", String.valueOf(cursor));
-        span.tag("params", TagUtils.toString(params.getParams()));
-        return helper.executeInScope(span, () -> delegate.scan(cursor, params));
+        Span span = helper.startNextJedisSpan(endpoint, "scan");
+        helper.tag(span, "cursor", cursor);
+        helper.tag(span, "params", params, p -> TagUtils.toString(p.getParams()));
+        return helper.executeInScope(span, delegate, cursor, params, Jedis::scan);
     }
 
     @Override
     public ScanResult<String> scan(String cursor) {
-        Span span = helper.startNextJedisSpan("scan");
-        span.tag("cursor", cursor);
-        return helper.executeInScope(span, () -> delegate.scan(cursor));
+        Span span = helper.startNextJedisSpan(endpoint, "scan");
+        helper.tag(span, "cursor", cursor);
+        return helper.executeInScope(span, delegate, cursor, Jedis::scan);
     }
 
     @Override
     public ScanResult<String> scan(String cursor, ScanParams params) {
-        Span span = helper.startNextJedisSpan("scan");
-        span.tag("cursor", cursor);
-        span.tag("params", TagUtils.toString(params.getParams()));
-        return helper.executeInScope(span, () -> delegate.scan(cursor, params));
+        Span span = helper.startNextJedisSpan(endpoint, "scan");
+        helper.tag(span, "cursor", cursor);
+        helper.tag(span, "params", params, p -> TagUtils.toString(p.getParams()));
+        return helper.executeInScope(span, delegate, cursor, params, Jedis::scan);
+    }
+
+    /**
+     * Sweeps the keyspace as one span, close it when stopping early, see {@link ScanIterator}
+     */
+    public ScanIterator<String> scanIterator(ScanParams params) {
+        ScanParams scanParams = params == null ? new ScanParams() : params;
+        return new ScanIterator<>(helper, "scan", null, params, cursor -> delegate.scan(cursor, scanParams));
+    }
+
+    public ScanIterator<Map.Entry<String, String>> hscanIterator(String key, ScanParams params) {
+        ScanParams scanParams = params == null ? new ScanParams() : params;
+        return new ScanIterator<>(helper, "hscan", key, params, cursor -> delegate.hscan(key, cursor, scanParams));
+    }
+
+    public ScanIterator<String> sscanIterator(String key, ScanParams params) {
+        ScanParams scanParams = params == null ? new ScanParams() : params;
+        return new ScanIterator<>(helper, "sscan", key, params, cursor -> delegate.sscan(key, cursor, scanParams));
+    }
+
+    public ScanIterator<Tuple> zscanIterator(String key, ScanParams params) {
+        ScanParams scanParams = params == null ? new ScanParams() : params;
+        return new ScanIterator<>(helper, "zscan", key, params, cursor -> delegate.zscan(key, cursor, scanParams));
     }
 
     @Override
     public Long scard(byte[] key) {
-        Span span = helper.startNextJedisSpan("scard", key);
-        return helper.executeInScope(span, () -> delegate.scard(key));
+        Span span = helper.startNextJedisSpan(endpoint, "scard", key);
+        return helper.executeInScope(span, delegate, key, Jedis::scard);
     }
 
     @Override
     public Long scard(String key) {
-        Span span = helper.startNextJedisSpan("scard", key);
-        return helper.executeInScope(span, () -> delegate.scard(key));
+        Span span = helper.startNextJedisSpan(endpoint, "scard", key);
+        return helper.executeInScope(span, delegate, key, Jedis::scard);
     }
 
 
     @Override
     public List<Long> scriptExists(byte[]... sha1) {
-        Span span = helper.startNextJedisSpan("scriptExists");
-        span.tag("sha1", TagUtils.toString(sha1));
-        return helper.executeInScope(span, () -> delegate.scriptExists(sha1));
+        Span span = helper.startNextJedisSpan(endpoint, "scriptExists");
+        helper.tag(span, "sha1", sha1);
+        return ResultSizes.executeInScope(helper, span, delegate, sha1, Jedis::scriptExists);
     }
 
     @Override
     public Boolean scriptExists(String sha1) {
-        Span span = helper.startNextJedisSpan("scriptExists");
-        span.tag("sha1", sha1);
-        return helper.executeInScope(span, () -> delegate.scriptExists(sha1));
+        Span span = helper.startNextJedisSpan(endpoint, "scriptExists");
+        helper.tag(span, "sha1", sha1);
+        return helper.executeInScope(span, delegate, sha1, Jedis::scriptExists);
     }
 
     @Override
     public List<Boolean> scriptExists(String... sha1) {
-        Span span = helper.startNextJedisSpan("scriptExists");
-        span.tag("sha1", Arrays.toString(sha1));
-        return helper.executeInScope(span, () -> delegate.scriptExists(sha1));
+        Span span = helper.startNextJedisSpan(endpoint, "scriptExists");
+        helper.tag(span, "sha1", sha1);
+        return ResultSizes.executeInScope(helper, span, delegate, sha1, Jedis::scriptExists);
     }
 
     @Override
     public String scriptFlush() {
-        Span span = helper.startNextJedisSpan("scriptFlush");
-        return helper.executeInScope(span, () -> delegate.scriptFlush());
+        Span span = helper.startNextJedisSpan(endpoint, "scriptFlush");
+        return helper.executeInScope(span, delegate, Jedis::scriptFlush);
     }
 
     @Override
     public String scriptKill() {
-        Span span = helper.startNextJedisSpan("scriptKill");
-        return helper.executeInScope(span, () -> delegate.scriptKill());
+        Span span = helper.startNextJedisSpan(endpoint, "scriptKill");
+        return helper.executeInScope(span, delegate, Jedis::scriptKill);
     }
 
     @Override
     public byte[] scriptLoad(byte[] script) {
-        Span span = helper.startNextJedisSpan("scriptLoad");
-        span.tag("script", Arrays.toString(script));
-        return helper.executeInScope(span, () -> delegate.scriptLoad(script));
+        Span span = helper.startNextJedisSpan(endpoint, "scriptLoad");
+        helper.tagScript(span, script);
+        return helper.executeInScope(span, delegate, script, Jedis::scriptLoad);
     }
 
     @Override
     public String scriptLoad(String script) {
-        Span span = helper.startNextJedisSpan("scriptLoad");
-        span.tag("script", script);
-        return helper.executeInScope(span, () -> delegate.scriptLoad(script));
+        Span span = helper.startNextJedisSpan(endpoint, "scriptLoad");
+        helper.tagScript(span, script);
+        return helper.executeInScope(span, delegate, script, Jedis::scriptLoad);
     }
 
     @Override
     public Set<byte[]> sdiff(byte[]... keys) {
-        Span span = helper.startNextJedisSpan("sdiff");
-        span.tag("keys", TagUtils.toString(keys));
-        return helper.executeInScope(span, () -> delegate.sdiff(keys));
+        Span span = helper.startNextJedisSpan(endpoint, "sdiff");
+        helper.tagMany(span, "keys", keys);
+        return ResultSizes.executeInScope(helper, span, delegate, keys, Jedis::sdiff);
     }
 
     @Override
     public Set<String> sdiff(String... keys) {
-        Span span = helper.startNextJedisSpan("sdiff", keys);
-        return helper.executeInScope(span, () -> delegate.sdiff(keys));
+        Span span = helper.startNextJedisSpan(endpoint, "sdiff", keys);
+        return ResultSizes.executeInScope(helper, span, delegate, keys, Jedis::sdiff);
     }
 
     @Override
     public Long sdiffstore(byte[] dstkey, byte[]... keys) {
-        Span span = helper.startNextJedisSpan("sdiffstore");
-        span.tag("dstkey", Arrays.toString(dstkey));
-        span.tag("keys", TagUtils.toString(keys));
-        return helper.executeInScope(span, () -> delegate.sdiffstore(dstkey, keys));
+        Span span = helper.startNextJedisSpan(endpoint, "sdiffstore");
+        helper.tag(span, "dstkey", dstkey);
+        helper.tagMany(span, "keys", keys);
+        return helper.executeInScope(span, delegate, dstkey, keys, Jedis::sdiffstore);
     }
 
     @Override
     public Long sdiffstore(String dstkey, String... keys) {
-        Span span = helper.startNextJedisSpan("sdiffstore", keys);
-        span.tag("dstkey", dstkey);
-        return helper.executeInScope(span, () -> delegate.sdiffstore(dstkey, keys));
+        Span span = helper.startNextJedisSpan(endpoint, "sdiffstore", keys);
+        helper.tag(span, "dstkey", dstkey);
+        return helper.executeInScope(span, delegate, dstkey, keys, Jedis::sdiffstore);
     }
 
     @Override
     public String select(int index) {
-        Span span = helper.startNextJedisSpan("select");
-        span.tag("index", String.valueOf(index));
-        return helper.executeInScope(span, () -> delegate.select(index));
+        Span span = helper.startNextJedisSpan(endpoint, "select");
+        helper.tag(span, "index", index);
+        return helper.executeInScope(span, delegate, index, Jedis::select);
     }
 
     @Override
     public String sentinelFailover(String masterName) {
-        Span span = helper.startNextJedisSpan("sentinelFailover");
-        return helper.executeInScope(span, () -> delegate.sentinelFailover(masterName));
+        Span span = helper.startNextJedisSpan(endpoint, "sentinelFailover");
+        return helper.executeInScope(span, delegate, masterName, Jedis::sentinelFailover);
     }
 
     @Override
     public List<String> sentinelGetMasterAddrByName(String masterName) {
-        Span span = helper.startNextJedisSpan("sentinelGetMasterAddrByName");
-        span.tag("masterName", masterName);
-        return helper.executeInScope(span, () -> delegate.sentinelGetMasterAddrByName(masterName));
+        Span span = helper.startNextJedisSpan(endpoint, "sentinelGetMasterAddrByName");
+        helper.tag(span, "masterName", masterName);
+        return ResultSizes.executeInScope(helper, span, delegate, masterName, Jedis::sentinelGetMasterAddrByName);
     }
 
     @Override
     public List<Map<String, String>> sentinelMasters() {
-        Span span = helper.startNextJedisSpan("sentinelMasters");
-        return helper.executeInScope(span, () -> delegate.sentinelMasters());
+        Span span = helper.startNextJedisSpan(endpoint, "sentinelMasters");
+        return ResultSizes.executeInScope(helper, span, delegate, Jedis::sentinelMasters);
     }
 
     @Override
     public String sentinelMonitor(String masterName, String ip, int port, int quorum) {
-        Span span = helper.startNextJedisSpan("sentinelMonitor");
-        span.tag("masterName", masterName);
-        span.tag("ip", ip);
-        span.tag("port", String.valueOf(port));
-        span.tag("quorum", String.valueOf(quorum));
+        Span span = helper.startNextJedisSpan(endpoint, "sentinelMonitor");
+        helper.tag(span, "masterName", masterName);
+        helper.tag(span, "ip", ip);
+        helper.tag(span, "port", port);
+        helper.tag(span, "quorum", quorum);
         return helper.executeInScope(span, () -> delegate.sentinelMonitor(masterName, ip, port, quorum));
     }
 
     @Override
     public String sentinelRemove(String masterName) {
-        Span span = helper.startNextJedisSpan("sentinelRemove");
-        span.tag("masterName", masterName);
-        return helper.executeInScope(span, () -> delegate.sentinelRemove(masterName));
+        Span span = helper.startNextJedisSpan(endpoint, "sentinelRemove");
+        helper.tag(span, "masterName", masterName);
+        return helper.executeInScope(span, delegate, masterName, Jedis::sentinelRemove);
     }
 
     @Override
     public Long sentinelReset(String pattern) {
-        Span span = helper.startNextJedisSpan("sentinelReset");
-        span.tag("pattern", pattern);
-        return helper.executeInScope(span, () -> delegate.sentinelReset(pattern));
+        Span span = helper.startNextJedisSpan(endpoint, "sentinelReset");
+        helper.tag(span, "pattern", pattern);
+        return helper.executeInScope(span, delegate, pattern, Jedis::sentinelReset);
     }
 
     @Override
     public String sentinelSet(String masterName, Map<String, String> parameterMap) {
-        Span span = helper.startNextJedisSpan("sentinelSet");
-        span.tag("masterName", masterName);
-        span.tag("parameterMap", TagUtils.toString(parameterMap));
-        return helper.executeInScope(span, () -> delegate.sentinelSet(masterName, parameterMap));
+        Span span = helper.startNextJedisSpan(endpoint, "sentinelSet");
+        helper.tag(span, "masterName", masterName);
+        helper.tag(span, "parameterMap", parameterMap, TagUtils::toString);
+        return helper.executeInScope(span, delegate, masterName, parameterMap, Jedis::sentinelSet);
     }
 
     @Override
     public List<Map<String, String>> sentinelSlaves(String masterName) {
-        Span span = helper.startNextJedisSpan("sentinelSlaves");
-        span.tag("masterName", masterName);
-        return helper.executeInScope(span, () -> delegate.sentinelSlaves(masterName));
+        Span span = helper.startNextJedisSpan(endpoint, "sentinelSlaves");
+        helper.tag(span, "masterName", masterName);
+        return ResultSizes.executeInScope(helper, span, delegate, masterName, Jedis::sentinelSlaves);
     }
 
     @Override
     public String set(byte[] key, byte[] value) {
-        Span span = helper.startNextJedisSpan("set", key);
-        span.tag("value", Arrays.toString(value));
-        return helper.executeInScope(span, () -> delegate.set(key, value));
+        Span span = helper.startNextJedisSpan(endpoint, "set", key);
+        helper.tag(span, "value", value);
+        return helper.executeInScope(span, delegate, key, value, Jedis::set);
     }
 
     @Override
     public String set(byte[] key, byte[] value, byte[] nxxx, byte[] expx, long time) {
-        Span span = helper.startNextJedisSpan("set", key);
-        span.tag("nxxx", Arrays.toString(nxxx));
-        span.tag("expx", Arrays.toString(expx));
-        span.tag("time", String.valueOf(time));
-        span.tag("value", Arrays.toString(value));
+        Span span = helper.startNextJedisSpan(endpoint, "set", key);
+        helper.tag(span, "nxxx", nxxx);
+        helper.tag(span, "expx", expx);
+        helper.tag(span, "time", time);
+        helper.tag(span, "value", value);
         return helper.executeInScope(span, () -> delegate.set(key, value, nxxx, expx, time));
     }
 
     @Override
     public String set(byte[] key, byte[] value, byte[] nxxx) {
-        Span span = helper.startNextJedisSpan("set", key);
-        span.tag("nxxx", Arrays.toString(nxxx));
-        span.tag("value", Arrays.toString(value));
-        return helper.executeInScope(span, () -> delegate.set(key, value, nxxx));
+        Span span = helper.startNextJedisSpan(endpoint, "set", key);
+        helper.tag(span, "nxxx", nxxx);
+        helper.tag(span, "value", value);
+        return helper.executeInScope(span, delegate, key, value, nxxx, Jedis::set);
     }
 
     @Override
     public String set(byte[] key, byte[] value, byte[] nxxx, byte[] expx, int time) {
-        Span span = helper.startNextJedisSpan("set", key);
-        span.tag("nxxx", Arrays.toString(nxxx));
-        span.tag("expx", Arrays.toString(expx));
-        span.tag("time", String.valueOf(time));
-        span.tag("value", Arrays.toString(value));
+        Span span = helper.startNextJedisSpan(endpoint, "set", key);
+        helper.tag(span, "nxxx", nxxx);
+        helper.tag(span, "expx", expx);
+        helper.tag(span, "time", time);
+        helper.tag(span, "value", value);
         return helper.executeInScope(span, () -> delegate.set(key, value, nxxx, expx, time));
     }
 
     @Override
     public String set(String key, String value) {
-        Span span = helper.startNextJedisSpan("set", key);
-        span.tag("value", value);
-        return helper.executeInScope(span, () -> delegate.set(key, value));
+        Span span = helper.startNextJedisSpan(endpoint, "set", key);
+        helper.tag(span, "value", value);
+        return helper.executeInScope(span, delegate, key, value, Jedis::set);
     }
 
     @Override
     public String set(String key, String value, String nxxx, String expx, long time) {
-        Span span = helper.startNextJedisSpan("set", key);
-        span.tag("nxxx", nxxx);
-        span.tag("expx", expx);
-        span.tag("time", String.valueOf(time));
-        span.tag("value", value);
+        Span span = helper.startNextJedisSpan(endpoint, "set", key);
+        helper.tag(span, "nxxx", nxxx);
+        helper.tag(span, "expx", expx);
+        helper.tag(span, "time", time);
+        helper.tag(span, "value", value);
         return helper.executeInScope(span, () -> delegate.set(key, value, nxxx, expx, time));
     }
 
     @Override
     public String set(String key, String value, String nxxx) {
-        Span span = helper.startNextJedisSpan("set", key);
-        span.tag("value", value);
-        span.tag("nxxx", nxxx);
-        return helper.executeInScope(span, () -> delegate.set(key, value, nxxx));
+        Span span = helper.startNextJedisSpan(endpoint, "set", key);
+        helper.tag(span, "value", value);
+        helper.tag(span, "nxxx", nxxx);
+        return helper.executeInScope(span, delegate, key, value, nxxx, Jedis::set);
     }
 
     @Override
     public String set(String key, String value, String nxxx, String expx, int time) {
-        Span span = helper.startNextJedisSpan("set", key);
-        span.tag("value", value);
-        span.tag("nxxx", nxxx);
-        span.tag("expx", expx);
-        span.tag("time", String.valueOf(time));
+        Span span = helper.startNextJedisSpan(endpoint, "set", key);
+        helper.tag(span, "value", value);
+        helper.tag(span, "nxxx", nxxx);
+        helper.tag(span, "expx", expx);
+        helper.tag(span, "time", time);
         return helper.executeInScope(span, () -> delegate.set(key, value, nxxx, expx, time));
     }
 
     @Override
     public void setDataSource(Pool<Jedis> jedisPool) {
-        Span span = helper.startNextJedisSpan("setDataSource");
-        helper.executeInScope(span, () -> delegate.setDataSource(jedisPool));
+        // set by the pool that holds this wrapper, close returns the wrapper rather than the delegate
+        super.setDataSource(jedisPool);
     }
 
     @Override
     public Boolean setbit(byte[] key, long offset, boolean value) {
-        Span span = helper.startNextJedisSpan("setbit", key);
-        span.tag("offset", String.valueOf(offset));
-        span.tag("value", String.valueOf(value));
-        return helper.executeInScope(span, () -> delegate.setbit(key, offset, value));
+        Span span = helper.startNextJedisSpan(endpoint, "setbit", key);
+        helper.tag(span, "offset", offset);
+        helper.tag(span, "value", value);
+        return helper.executeInScope(span, delegate, key, offset, value, Jedis::setbit);
     }
 
     @Override
     public Boolean setbit(byte[] key, long offset, byte[] value) {
-        Span span = helper.startNextJedisSpan("setbit", key);
-        span.tag("offset", String.valueOf(offset));
-        span.tag("value", Arrays.toString(value));
-        return helper.executeInScope(span, () -> delegate.setbit(key, offset, value));
+        Span span = helper.startNextJedisSpan(endpoint, "setbit", key);
+        helper.tag(span, "offset", offset);
+        helper.tag(span, "value", value);
+        return helper.executeInScope(span, delegate, key, offset, value, Jedis::setbit);
     }
 
     @Override
     public Boolean setbit(String key, long offset, boolean value) {
-        Span span = helper.startNextJedisSpan("setbit", key);
-        span.tag("offset", String.valueOf(offset));
-        span.tag("value", String.valueOf(value));
-        return helper.executeInScope(span, () -> delegate.setbit(key, offset, value));
+        Span span = helper.startNextJedisSpan(endpoint, "setbit", key);
+        helper.tag(span, "offset", offset);
+        helper.tag(span, "value", value);
+        return helper.executeInScope(span, delegate, key, offset, value, Jedis::setbit);
     }
 
     @Override
     public Boolean setbit(String key, long offset, String value) {
-        Span span = helper.startNextJedisSpan("setbit", key);
-        span.tag("offset", String.valueOf(offset));
-        span.tag("value", value);
-        return helper.executeInScope(span, () -> delegate.setbit(key, offset, value));
+        Span span = helper.startNextJedisSpan(endpoint, "setbit", key);
+        helper.tag(span, "offset", offset);
+        helper.tag(span, "value", value);
+        return helper.executeInScope(span, delegate, key, offset, value, Jedis::setbit);
     }
 
     @Override
     public String setex(byte[] key, int seconds, byte[] value) {
-        Span span = helper.startNextJedisSpan("setex", key);
-        span.tag("value", Arrays.toString(value));
-        span.tag("seconds", String.valueOf(seconds));
-        return helper.executeInScope(span, () -> delegate.setex(key, seconds, value));
+        Span span = helper.startNextJedisSpan(endpoint, "setex", key);
+        helper.tag(span, "value", value);
+        helper.tag(span, "seconds", seconds);
+        return helper.executeInScope(span, delegate, key, seconds, value, Jedis::setex);
     }
 
     @Override
     public String setex(String key, int seconds, String value) {
-        Span span = helper.startNextJedisSpan("setex", key);
-        span.tag("seconds", String.valueOf(seconds));
-        span.tag("value", value);
-        return helper.executeInScope(span, () -> delegate.setex(key, seconds, value));
+        Span span = helper.startNextJedisSpan(endpoint, "setex", key);
+        helper.tag(span, "seconds", seconds);
+        helper.tag(span, "value", value);
+        return helper.executeInScope(span, delegate, key, seconds, value, Jedis::setex);
     }
 
     @Override
     public Long setnx(byte[] key, byte[] value) {
-        Span span = helper.startNextJedisSpan("setnx", key);
-        span.tag("value", Arrays.toString(value));
-        return helper.executeInScope(span, () -> delegate.setnx(key, value));
+        Span span = helper.startNextJedisSpan(endpoint, "setnx", key);
+        helper.tag(span, "value", value);
+        return helper.executeInScope(span, delegate, key, value, Jedis::setnx);
     }
 
     @Override
     public Long setnx(String key, String value) {
-        Span span = helper.startNextJedisSpan("setnx", key);
-        span.tag("value", value);
-        return helper.executeInScope(span, () -> delegate.setnx(key, value));
+        Span span = helper.startNextJedisSpan(endpoint, "setnx", key);
+        helper.tag(span, "value", value);
+        return helper.executeInScope(span, delegate, key, value, Jedis::setnx);
     }
 
     @Override
     public Long setrange(byte[] key, long offset, byte[] value) {
-        Span span = helper.startNextJedisSpan("setrange", key);
-        span.tag("offset", String.valueOf(offset));
-        span.tag("value", Arrays.toString(value));
-        return helper.executeInScope(span, () -> delegate.setrange(key, offset, value));
+        Span span = helper.startNextJedisSpan(endpoint, "setrange", key);
+        helper.tag(span, "offset", offset);
+        helper.tag(span, "value", value);
+        return helper.executeInScope(span, delegate, key, offset, value, Jedis::setrange);
     }
 
     @Override
     public Long setrange(String key, long offset, String value) {
-        Span span = helper.startNextJedisSpan("setrange", key);
-        span.tag("offset", String.valueOf(offset));
-        span.tag("value", value);
-        return helper.executeInScope(span, () -> delegate.setrange(key, offset, value));
+        Span span = helper.startNextJedisSpan(endpoint, "setrange", key);
+        helper.tag(span, "offset", offset);
+        helper.tag(span, "value", value);
+        return helper.executeInScope(span, delegate, key, offset, value, Jedis::setrange);
     }
 
     @Override
     public String shutdown() {
-        Span span = helper.startNextJedisSpan("shutdown");
-        return helper.executeInScope(span, () -> delegate.shutdown());
+        Span span = helper.startNextJedisSpan(endpoint, "shutdown");
+        return helper.executeInScope(span, delegate, Jedis::shutdown);
     }
 
     @Override
     public Set<byte[]> sinter(byte[]... keys) {
-        Span span = helper.startNextJedisSpan("sinter");
-        span.tag("keys", TagUtils.toString(keys));
-        return helper.executeInScope(span, () -> delegate.sinter(keys));
+        Span span = helper.startNextJedisSpan(endpoint, "sinter");
+        helper.tagMany(span, "keys", keys);
+        return ResultSizes.executeInScope(helper, span, delegate, keys, Jedis::sinter);
     }
 
     @Override
     public Set<String> sinter(String... keys) {
-        Span span = helper.startNextJedisSpan("sinter", keys);
-        return helper.executeInScope(span, () -> delegate.sinter(keys));
+        Span span = helper.startNextJedisSpan(endpoint, "sinter", keys);
+        return ResultSizes.executeInScope(helper, span, delegate, keys, Jedis::sinter);
     }
 
     @Override
     public Long sinterstore(byte[] dstkey, byte[]... keys) {
-        Span span = helper.startNextJedisSpan("sinterstore");
-        span.tag("dstkey", Arrays.toString(dstkey));
-        span.tag("keys", TagUtils.toString(keys));
-        return helper.executeInScope(span, () -> delegate.sinterstore(dstkey, keys));
+        Span span = helper.startNextJedisSpan(endpoint, "sinterstore");
+        helper.tag(span, "dstkey", dstkey);
+        helper.tagMany(span, "keys", keys);
+        return helper.executeInScope(span, delegate, dstkey, keys, Jedis::sinterstore);
     }
 
     @Override
     public Long sinterstore(String dstkey, String... keys) {
-        Span span = helper.startNextJedisSpan("sinterstore", keys);
-        span.tag("dstkey", dstkey);
-        return helper.executeInScope(span, () -> delegate.sinterstore(dstkey, keys));
+        Span span = helper.startNextJedisSpan(endpoint, "sinterstore", keys);
+        helper.tag(span, "dstkey", dstkey);
+        return helper.executeInScope(span, delegate, dstkey, keys, Jedis::sinterstore);
     }
 
     @Override
     public Boolean sismember(byte[] key, byte[] member) {
-        Span span = helper.startNextJedisSpan("sismember", key);
-        span.tag("member", Arrays.toString(member));
-        return helper.executeInScope(span, () -> delegate.sismember(key, member));
+        Span span = helper.startNextJedisSpan(endpoint, "sismember", key);
+        helper.tag(span, "member", member);
+        return helper.executeInScope(span, delegate, key, member, Jedis::sismember);
     }
 
     @Override
     public Boolean sismember(String key, String member) {
-        Span span = helper.startNextJedisSpan("sismember", key);
-        span.tag("member", member);
-        return helper.executeInScope(span, () -> delegate.sismember(key, member));
+        Span span = helper.startNextJedisSpan(endpoint, "sismember", key);
+        helper.tag(span, "member", member);
+        return helper.executeInScope(span, delegate, key, member, Jedis::sismember);
     }
 
     @Override
     public String slaveof(String host, int port) {
-        Span span = helper.startNextJedisSpan("slaveof");
-        span.tag("host", host);
-        span.tag("port", String.valueOf(port));
-        return helper.executeInScope(span, () -> delegate.slaveof(host, port));
+        Span span = helper.startNextJedisSpan(endpoint, "slaveof");
+        helper.tag(span, "host", host);
+        helper.tag(span, "port", port);
+        return helper.executeInScope(span, delegate, host, port, Jedis::slaveof);
     }
 
     @Override
     public String slaveofNoOne() {
-        Span span = helper.startNextJedisSpan("slaveofNoOne");
-        return helper.executeInScope(span, () -> delegate.slaveofNoOne());
+        Span span = helper.startNextJedisSpan(endpoint, "slaveofNoOne");
+        return helper.executeInScope(span, delegate, Jedis::slaveofNoOne);
     }
 
     @Override
     public List<Slowlog> slowlogGet() {
-        Span span = helper.startNextJedisSpan("slowlogGet");
-        return helper.executeInScope(span, () -> delegate.slowlogGet());
+        Span span = helper.startNextJedisSpan(endpoint, "slowlogGet");
+        return ResultSizes.executeInScope(helper, span, delegate, Jedis::slowlogGet);
     }
 
     @Override
     public List<Slowlog> slowlogGet(long entries) {
-        Span span = helper.startNextJedisSpan("slowlogGet");
-        span.tag("entries", String.valueOf(entries));
-        return helper.executeInScope(span, () -> delegate.slowlogGet(entries));
+        Span span = helper.startNextJedisSpan(endpoint, "slowlogGet");
+        helper.tag(span, "entries", entries);
+        return ResultSizes.executeInScope(helper, span, delegate, entries, Jedis::slowlogGet);
     }
 
     @Override
     public List<byte[]> slowlogGetBinary() {
-        Span span = helper.startNextJedisSpan("slowlogGetBinary");
-        return helper.executeInScope(span, () -> delegate.slowlogGetBinary());
+        Span span = helper.startNextJedisSpan(endpoint, "slowlogGetBinary");
+        return ResultSizes.executeInScope(helper, span, delegate, Jedis::slowlogGetBinary);
     }
 
     @Override
     public List<byte[]> slowlogGetBinary(long entries) {
-        Span span = helper.startNextJedisSpan("slowlogGetBinary");
-        span.tag("entries", String.valueOf(entries));
-        return helper.executeInScope(span, () -> delegate.slowlogGetBinary(entries));
+        Span span = helper.startNextJedisSpan(endpoint, "slowlogGetBinary");
+        helper.tag(span, "entries", entries);
+        return ResultSizes.executeInScope(helper, span, delegate, entries, Jedis::slowlogGetBinary);
     }
 
     @Override
     public Long slowlogLen() {
-        Span span = helper.startNextJedisSpan("slowlogLen");
-        return helper.executeInScope(span, () -> delegate.slowlogLen());
+        Span span = helper.startNextJedisSpan(endpoint, "slowlogLen");
+        return helper.executeInScope(span, delegate, Jedis::slowlogLen);
     }
 
     @Override
     public String slowlogReset() {
-        Span span = helper.startNextJedisSpan("slowlogReset");
-        return helper.executeInScope(span, () -> delegate.slowlogReset());
+        Span span = helper.startNextJedisSpan(endpoint, "slowlogReset");
+        return helper.executeInScope(span, delegate, Jedis::slowlogReset);
     }
 
     @Override
     public Set<byte[]> smembers(byte[] key) {
-        Span span = helper.startNextJedisSpan("smembers", key);
-        return helper.executeInScope(span, () -> delegate.smembers(key));
+        Span span = helper.startNextJedisSpan(endpoint, "smembers", key);
+        return ResultSizes.executeInScope(helper, span, delegate, key, Jedis::smembers);
     }
 
     @Override
     public Set<String> smembers(String key) {
-        Span span = helper.startNextJedisSpan("smembers", key);
-        return helper.executeInScope(span, () -> delegate.smembers(key));
+        Span span = helper.startNextJedisSpan(endpoint, "smembers", key);
+        return ResultSizes.executeInScope(helper, span, delegate, key, Jedis::smembers);
     }
 
     @Override
     public Long smove(byte[] srckey, byte[] dstkey, byte[] member) {
-        Span span = helper.startNextJedisSpan("smove");
-        span.tag("srckey", Arrays.toString(srckey));
-        span.tag("dstkey", Arrays.toString(dstkey));
-        span.tag("member", Arrays.toString(member));
-        return helper.executeInScope(span, () -> delegate.smove(srckey, dstkey, member));
+        Span span = helper.startNextJedisSpan(endpoint, "smove");
+        helper.tag(span, "srckey", srckey);
+        helper.tag(span, "dstkey", dstkey);
+        helper.tag(span, "member", member);
+        return helper.executeInScope(span, delegate, srckey, dstkey, member, Jedis::smove);
     }
 
     @Override
     public Long smove(String srckey, String dstkey, String member) {
-        Span span = helper.startNextJedisSpan("smove");
-        span.tag("srckey", srckey);
-        span.tag("dstkey", dstkey);
-        span.tag("member", member);
-        return helper.executeInScope(span, () -> delegate.smove(srckey, dstkey, member));
+        Span span = helper.startNextJedisSpan(endpoint, "smove");
+        helper.tag(span, "srckey", srckey);
+        helper.tag(span, "dstkey", dstkey);
+        helper.tag(span, "member", member);
+        return helper.executeInScope(span, delegate, srckey, dstkey, member, Jedis::smove);
     }
 
     @Override
     public List<byte[]> sort(byte[] key) {
-        Span span = helper.startNextJedisSpan("sort", key);
-        return helper.executeInScope(span, () -> delegate.sort(key));
+        Span span = helper.startNextJedisSpan(endpoint, "sort", key);
+        return ResultSizes.executeInScope(helper, span, delegate, key, Jedis::sort);
     }
 
     @Override
     public List<byte[]> sort(byte[] key, SortingParams sortingParameters) {
-        Span span = helper.startNextJedisSpan("sort", key);
-        span.tag("sortingParameters", TagUtils.toString(sortingParameters.getParams()));
-        return helper.executeInScope(span, () -> delegate.sort(key, sortingParameters));
+        Span span = helper.startNextJedisSpan(endpoint, "sort", key);
+        helper.tag(span, "sortingParameters", sortingParameters, p -> TagUtils.toString(p.getParams()));
+        return ResultSizes.executeInScope(helper, span, delegate, key, sortingParameters, Jedis::sort);
     }
 
     @Override
     public Long sort(byte[] key, SortingParams sortingParameters, byte[] dstkey) {
-        Span span = helper.startNextJedisSpan("sort", key);
-        span.tag("sortingParameters", TagUtils.toString(sortingParameters.getParams()));
-        span.tag("dstkey", Arrays.toString(dstkey));
-        return helper.executeInScope(span, () -> delegate.sort(key, sortingParameters, dstkey));
+        Span span = helper.startNextJedisSpan(endpoint, "sort", key);
+        helper.tag(span, "sortingParameters", sortingParameters, p -> TagUtils.toString(p.getParams()));
+        helper.tag(span, "dstkey", dstkey);
+        return helper.executeInScope(span, delegate, key, sortingParameters, dstkey, Jedis::sort);
     }
 
     @Override
     public Long sort(byte[] key, byte[] dstkey) {
-        Span span = helper.startNextJedisSpan("sort", key);
-        span.tag("dstkey", Arrays.toString(dstkey));
-        return helper.executeInScope(span, () -> delegate.sort(key, dstkey));
+        Span span = helper.startNextJedisSpan(endpoint, "sort", key);
+        helper.tag(span, "dstkey", dstkey);
+        return helper.executeInScope(span, delegate, key, dstkey, Jedis::sort);
     }
 
     @Override
     public List<String> sort(String key) {
-        Span span = helper.startNextJedisSpan("sort", key);
-        return helper.executeInScope(span, () -> delegate.sort(key));
+        Span span = helper.startNextJedisSpan(endpoint, "sort", key);
+        return ResultSizes.executeInScope(helper, span, delegate, key, Jedis::sort);
     }
 
     @Override
     public List<String> sort(String key, SortingParams sortingParameters) {
-        Span span = helper.startNextJedisSpan("sort", key);
-        span.tag("sortingParameters", TagUtils.toString(sortingParameters.getParams()));
-        return helper.executeInScope(span, () -> delegate.sort(key, sortingParameters));
+        Span span = helper.startNextJedisSpan(endpoint, "sort", key);
+        helper.tag(span, "sortingParameters", sortingParameters, p -> TagUtils.toString(p.getParams()));
+        return ResultSizes.executeInScope(helper, span, delegate, key, sortingParameters, Jedis::sort);
     }
 
     @Override
     public Long sort(String key, SortingParams sortingParameters, String dstkey) {
-        Span span = helper.startNextJedisSpan("sort", key);
-        span.tag("sortingParameters", TagUtils.toString(sortingParameters.getParams()));
-        span.tag("dstkey", dstkey);
-        return helper.executeInScope(span, () -> delegate.sort(key, sortingParameters, dstkey));
+        Span span = helper.startNextJedisSpan(endpoint, "sort", key);
+        helper.tag(span, "sortingParameters", sortingParameters, p -> TagUtils.toString(p.getParams()));
+        helper.tag(span, "dstkey", dstkey);
+        return helper.executeInScope(span, delegate, key, sortingParameters, dstkey, Jedis::sort);
     }
 
     @Override
     public Long sort(String key, String dstkey) {
-        Span span = helper.startNextJedisSpan("sort", key);
-        span.tag("dstkey", dstkey);
-        return helper.executeInScope(span, () -> delegate.sort(key, dstkey));
+        Span span = helper.startNextJedisSpan(endpoint, "sort", key);
+        helper.tag(span, "dstkey", dstkey);
+        return helper.executeInScope(span, delegate, key, dstkey, Jedis::sort);
     }
 
     @Override
     public byte[] spop(byte[] key) {
-        Span span = helper.startNextJedisSpan("spop", key);
-        return helper.executeInScope(span, () -> delegate.spop(key));
+        Span span = helper.startNextJedisSpan(endpoint, "spop", key);
+        return helper.executeInScope(span, delegate, key, Jedis::spop);
     }
 
 
     @Override
     public String spop(String key) {
-        Span span = helper.startNextJedisSpan("spop", key);
-        return helper.executeInScope(span, () -> delegate.spop(key));
+        Span span = helper.startNextJedisSpan(endpoint, "spop", key);
+        return helper.executeInScope(span, delegate, key, Jedis::spop);
     }
 
     @Override
     public byte[] srandmember(byte[] key) {
-        Span span = helper.startNextJedisSpan("srandmember", key);
-        return helper.executeInScope(span, () -> delegate.srandmember(key));
+        Span span = helper.startNextJedisSpan(endpoint, "srandmember", key);
+        return helper.executeInScope(span, delegate, key, Jedis::srandmember);
     }
 
     @Override
     public List<byte[]> srandmember(byte[] key, int count) {
-        Span span = helper.startNextJedisSpan("srandmember", key);
-        span.tag("count", String.valueOf(count));
-        return helper.executeInScope(span, () -> delegate.srandmember(key, count));
+        Span span = helper.startNextJedisSpan(endpoint, "srandmember", key);
+        helper.tag(span, "count", count);
+        return ResultSizes.executeInScope(helper, span, delegate, key, count, Jedis::srandmember);
     }
 
     @Override
     public String srandmember(String key) {
-        Span span = helper.startNextJedisSpan("srandmember", key);
-        return helper.executeInScope(span, () -> delegate.srandmember(key));
+        Span span = helper.startNextJedisSpan(endpoint, "srandmember", key);
+        return helper.executeInScope(span, delegate, key, Jedis::srandmember);
     }
 
     @Override
     public List<String> srandmember(String key, int count) {
-        Span span = helper.startNextJedisSpan("srandmember", key);
-        span.tag("count", String.valueOf(count));
-        return helper.executeInScope(span, () -> delegate.srandmember(key, count));
+        Span span = helper.startNextJedisSpan(endpoint, "srandmember", key);
+        helper.tag(span, "count", count);
+        return ResultSizes.executeInScope(helper, span, delegate, key, count, Jedis::srandmember);
     }
 
     @Override
     public Long srem(byte[] key, byte[]... member) {
-        Span span = helper.startNextJedisSpan("srem", key);
-        span.tag("member", Arrays.toString(member));
-        return helper.executeInScope(span, () -> delegate.srem(key, member));
+        Span span = helper.startNextJedisSpan(endpoint, "srem", key);
+        helper.tagMany(span, "member", member);
+        return helper.executeInScope(span, delegate, key, member, Jedis::srem);
     }
 
     @Override
     public Long srem(String key, String... members) {
-        Span span = helper.startNextJedisSpan("srem", key);
-        span.tag("members", Arrays.toString(members));
-        return helper.executeInScope(span, () -> delegate.srem(key, members));
+        Span span = helper.startNextJedisSpan(endpoint, "srem", key);
+        helper.tagMany(span, "members", members);
+        return helper.executeInScope(span, delegate, key, members, Jedis::srem);
     }
 
     @Override
     public ScanResult<byte[]> sscan(byte[] key, byte[] cursor) {
-        Span span = helper.startNextJedisSpan("sscan", key);
-        span.tag("cursor", Arrays.toString(cursor));
-        return helper.executeInScope(span, () -> delegate.sscan(key, cursor));
+        Span span = helper.startNextJedisSpan(endpoint, "sscan", key);
+        helper.tag(span, "cursor", cursor);
+        return helper.executeInScope(span, delegate, key, cursor, Jedis::sscan);
     }
 
     @Override
     public ScanResult<byte[]> sscan(byte[] key, byte[] cursor, ScanParams params) {
-        Span span = helper.startNextJedisSpan("sscan", key);
-        span.tag("cursor", Arrays.toString(cursor));
-        span.tag("params", TagUtils.toString(params.getParams()));
-        return helper.executeInScope(span, () -> delegate.sscan(key, cursor, params));
+        Span span = helper.startNextJedisSpan(endpoint, "sscan", key);
+        helper.tag(span, "cursor", cursor);
+        helper.tag(span, "params", params, p -> TagUtils.toString(p.getParams()));
+        return helper.executeInScope(span, delegate, key, cursor, params, Jedis::sscan);
     }
 
     @Override
     public ScanResult<String> sscan(String key, int cursor) {
-        Span span = helper.startNextJedisSpan("sscan", key);
-        span.tag("cursor", String.valueOf(cursor));
-        return helper.executeInScope(span, () -> delegate.sscan(key, cursor));
+        Span span = helper.startNextJedisSpan(endpoint, "sscan", key);
+        helper.tag(span, "cursor", cursor);
+        return helper.executeInScope(span, delegate, key, cursor, Jedis::sscan);
     }
 
     @Override
     public ScanResult<String> sscan(String key, int cursor, ScanParams params) {
-        Span span = helper.startNextJedisSpan("sscan", key);
-        span.tag("cursor", String.valueOf(cursor));
-        span.tag("params", TagUtils.toString(params.getParams()));
-        return helper.executeInScope(span, () -> delegate.sscan(key, cursor, params));
+        Span span = helper.startNextJedisSpan(endpoint, "sscan", key);
+        helper.tag(span, "cursor", cursor);
+        helper.tag(span, "params", params, p -> TagUtils.toString(p.getParams()));
+        return helper.executeInScope(span, delegate, key, cursor, params, Jedis::sscan);
     }
 
     @Override
     public ScanResult<String> sscan(String key, String cursor) {
-        Span span = helper.startNextJedisSpan("sscan", key);
-        span.tag("cursor", cursor);
-        return helper.executeInScope(span, () -> delegate.sscan(key, cursor));
+        Span span = helper.startNextJedisSpan(endpoint, "sscan", key);
+        helper.tag(span, "cursor", cursor);
+        return helper.executeInScope(span, delegate, key, cursor, Jedis::sscan);
     }
 
     @Override
     public ScanResult<String> sscan(String key, String cursor, ScanParams params) {
-        Span span = helper.startNextJedisSpan("sscan", key);
-        span.tag("cursor", cursor);
-        span.tag("params", TagUtils.toString(params.getParams()));
-        return helper.executeInScope(span, () -> delegate.sscan(key, cursor, params));
+        Span span = helper.startNextJedisSpan(endpoint, "sscan", key);
+        helper.tag(span, "cursor", cursor);
+        helper.tag(span, "params", params, p -> TagUtils.toString(p.getParams()));
+        return helper.executeInScope(span, delegate, key, cursor, params, Jedis::sscan);
     }
 
     @Override
     public Long strlen(byte[] key) {
-        Span span = helper.startNextJedisSpan("strlen", key);
-        return helper.executeInScope(span, () -> delegate.strlen(key));
+        Span span = helper.startNextJedisSpan(endpoint, "strlen", key);
+        return helper.executeInScope(span, delegate, key, Jedis::strlen);
     }
 
     @Override
     public Long strlen(String key) {
-        Span span = helper.startNextJedisSpan("strlen", key);
-        return helper.executeInScope(span, () -> delegate.strlen(key));
+        Span span = helper.startNextJedisSpan(endpoint, "strlen", key);
+        return helper.executeInScope(span, delegate, key, Jedis::strlen);
     }
 
     @Override
     public void subscribe(BinaryJedisPubSub jedisPubSub, byte[]... channels) {
-        Span span = helper.startNextJedisSpan("subscribe");
-        span.tag("channels", Arrays.toString(channels));
-        helper.executeInScope(span, () -> delegate.subscribe(jedisPubSub, channels));
+        // blocks for the lifetime of the subscription, messages are traced by TraceableBinaryJedisPubSub
+        delegate.subscribe(jedisPubSub, channels);
     }
 
     @Override
     public void subscribe(JedisPubSub jedisPubSub, String... channels) {
-        Span span = helper.startNextJedisSpan("subscribe");
-        span.tag("channels", Arrays.toString(channels));
-        helper.executeInScope(span, () -> delegate.subscribe(jedisPubSub, channels));
+        // blocks for the lifetime of the subscription, messages are traced by TraceableJedisPubSub
+        delegate.subscribe(jedisPubSub, channels);
     }
 
     @Override
     public byte[] substr(byte[] key, int start, int end) {
-        Span span = helper.startNextJedisSpan("substr", key);
-        span.tag("start", String.valueOf(start));
-        span.tag("end", String.valueOf(end));
-        return helper.executeInScope(span, () -> delegate.substr(key, start, end));
+        Span span = helper.startNextJedisSpan(endpoint, "substr", key);
+        helper.tag(span, "start", start);
+        helper.tag(span, "end", end);
+        return helper.executeInScope(span, delegate, key, start, end, Jedis::substr);
     }
 
     @Override
     public String substr(String key, int start, int end) {
-        Span span = helper.startNextJedisSpan("substr", key);
-        span.tag("start", String.valueOf(start));
-        span.tag("end", String.valueOf(end));
-        return helper.executeInScope(span, () -> delegate.substr(key, start, end));
+        Span span = helper.startNextJedisSpan(endpoint, "substr", key);
+        helper.tag(span, "start", start);
+        helper.tag(span, "end", end);
+        return helper.executeInScope(span, delegate, key, start, end, Jedis::substr);
     }
 
     @Override
     public Set<byte[]> sunion(byte[]... keys) {
-        Span span = helper.startNextJedisSpan("sunion");
-        span.tag("keys", TagUtils.toString(keys));
-        return helper.executeInScope(span, () -> delegate.sunion(keys));
+        Span span = helper.startNextJedisSpan(endpoint, "sunion");
+        helper.tagMany(span, "keys", keys);
+        return ResultSizes.executeInScope(helper, span, delegate, keys, Jedis::sunion);
     }
 
     @Override
     public Set<String> sunion(String... keys) {
-        Span span = helper.startNextJedisSpan("sunion", keys);
-        return helper.executeInScope(span, () -> delegate.sunion(keys));
+        Span span = helper.startNextJedisSpan(endpoint, "sunion", keys);
+        return ResultSizes.executeInScope(helper, span, delegate, keys, Jedis::sunion);
     }
 
     @Override
     public Long sunionstore(byte[] dstkey, byte[]... keys) {
-        Span span = helper.startNextJedisSpan("sunionstore");
-        span.tag("dstkey", Arrays.toString(dstkey));
-        span.tag("keys", TagUtils.toString(keys));
-        return helper.executeInScope(span, () -> delegate.sunionstore(dstkey, keys));
+        Span span = helper.startNextJedisSpan(endpoint, "sunionstore");
+        helper.tag(span, "dstkey", dstkey);
+        helper.tagMany(span, "keys", keys);
+        return helper.executeInScope(span, delegate, dstkey, keys, Jedis::sunionstore);
     }
 
     @Override
     public Long sunionstore(String dstkey, String... keys) {
-        Span span = helper.startNextJedisSpan("sunionstore", keys);
-        span.tag("dstkey", dstkey);
-        return helper.executeInScope(span, () -> delegate.sunionstore(dstkey, keys));
+        Span span = helper.startNextJedisSpan(endpoint, "sunionstore", keys);
+        helper.tag(span, "dstkey", dstkey);
+        return helper.executeInScope(span, delegate, dstkey, keys, Jedis::sunionstore);
     }
 
     @Override
     public void sync() {
-        Span span = helper.startNextJedisSpan("sync");
+        Span span = helper.startNextJedisSpan(endpoint, "sync");
         helper.executeInScope(span, () -> delegate.sync());
     }
 
     @Override
     public List<String> time() {
-        Span span = helper.startNextJedisSpan("time");
-        return helper.executeInScope(span, () -> delegate.time());
+        Span span = helper.startNextJedisSpan(endpoint, "time");
+        return ResultSizes.executeInScope(helper, span, delegate, Jedis::time);
     }
 
     @Override
     public Long ttl(byte[] key) {
-        Span span = helper.startNextJedisSpan("ttl", key);
-        return helper.executeInScope(span, () -> delegate.ttl(key));
+        Span span = helper.startNextJedisSpan(endpoint, "ttl", key);
+        return helper.executeInScope(span, delegate, key, Jedis::ttl);
     }
 
     @Override
     public Long ttl(String key) {
-        Span span = helper.startNextJedisSpan("ttl", key);
-        return helper.executeInScope(span, () -> delegate.ttl(key));
+        Span span = helper.startNextJedisSpan(endpoint, "ttl", key);
+        return helper.executeInScope(span, delegate, key, Jedis::ttl);
     }
 
     @Override
     public String type(byte[] key) {
-        Span span = helper.startNextJedisSpan("type", key);
-        return helper.executeInScope(span, () -> delegate.type(key));
+        Span span = helper.startNextJedisSpan(endpoint, "type", key);
+        return helper.executeInScope(span, delegate, key, Jedis::type);
     }
 
     @Override
     public String type(String key) {
-        Span span = helper.startNextJedisSpan("type", key);
-        return helper.executeInScope(span, () -> delegate.type(key));
+        Span span = helper.startNextJedisSpan(endpoint, "type", key);
+        return helper.executeInScope(span, delegate, key, Jedis::type);
     }
 
     @Override
     public String unwatch() {
-        Span span = helper.startNextJedisSpan("unwatch");
-        return helper.executeInScope(span, () -> delegate.unwatch());
+        Span span = helper.startNextJedisSpan(endpoint, "unwatch");
+        return helper.executeInScope(span, delegate, Jedis::unwatch);
     }
 
     @Override
     public Long waitReplicas(int replicas, long timeout) {
-        Span span = helper.startNextJedisSpan("waitReplicas");
-        span.tag("replicas", String.valueOf(replicas));
-        span.tag("timeout", String.valueOf(timeout));
-        return helper.executeInScope(span, () -> delegate.waitReplicas(replicas, timeout));
+        Span span = helper.startNextJedisSpan(endpoint, "waitReplicas");
+        helper.tag(span, "replicas", replicas);
+        helper.tag(span, "timeout", timeout);
+        return helper.executeInScope(span, delegate, replicas, timeout, Jedis::waitReplicas);
     }
 
     @Override
     public String watch(byte[]... keys) {
-        Span span = helper.startNextJedisSpan("watch");
-        span.tag("keys", TagUtils.toString(keys));
-        return helper.executeInScope(span, () -> delegate.watch(keys));
+        Span span = helper.startNextJedisSpan(endpoint, "watch");
+        helper.tagMany(span, "keys", keys);
+        return helper.executeInScope(span, delegate, keys, Jedis::watch);
     }
 
     @Override
     public String watch(String... keys) {
-        Span span = helper.startNextJedisSpan("watch", keys);
-        return helper.executeInScope(span, () -> delegate.watch(keys));
+        Span span = helper.startNextJedisSpan(endpoint, "watch", keys);
+        return helper.executeInScope(span, delegate, keys, Jedis::watch);
     }
 
     @Override
     public Long zadd(byte[] key, double score, byte[] member) {
-        Span span = helper.startNextJedisSpan("zadd", key);
-        span.tag("member", Arrays.toString(member));
-        span.tag("score", String.valueOf(score));
-        return helper.executeInScope(span, () -> delegate.zadd(key, score, member));
+        Span span = helper.startNextJedisSpan(endpoint, "zadd", key);
+        helper.tag(span, "member", member);
+        helper.tag(span, "score", score);
+        return helper.executeInScope(span, delegate, key, score, member, Jedis::zadd);
     }
 
     @Override
     public Long zadd(byte[] key, Map<byte[], Double> scoreMembers) {
-        Span span = helper.startNextJedisSpan("zadd", key);
-        span.tag("scoreMembers", TagUtils.toStringMap2(scoreMembers));
-        return helper.executeInScope(span, () -> delegate.zadd(key, scoreMembers));
+        Span span = helper.startNextJedisSpan(endpoint, "zadd", key);
+        helper.tag(span, "scoreMembers", scoreMembers, TagUtils::toStringMap2);
+        return helper.executeInScope(span, delegate, key, scoreMembers, Jedis::zadd);
     }
 
     @Override
     public Long zadd(String key, double score, String member) {
-        Span span = helper.startNextJedisSpan("zadd", key);
-        span.tag("score", String.valueOf(score));
-        span.tag("member", member);
-        return helper.executeInScope(span, () -> delegate.zadd(key, score, member));
+        Span span = helper.startNextJedisSpan(endpoint, "zadd", key);
+        helper.tag(span, "score", score);
+        helper.tag(span, "member", member);
+        return helper.executeInScope(span, delegate, key, score, member, Jedis::zadd);
     }
 
     @Override
     public Long zadd(String key, Map<String, Double> scoreMembers) {
-        Span span = helper.startNextJedisSpan("zadd", key);
-        span.tag("scoreMembers", TagUtils.toString(scoreMembers));
-        return helper.executeInScope(span, () -> delegate.zadd(key, scoreMembers));
+        Span span = helper.startNextJedisSpan(endpoint, "zadd", key);
+        helper.tag(span, "scoreMembers", scoreMembers, TagUtils::toString);
+        return helper.executeInScope(span, delegate, key, scoreMembers, Jedis::zadd);
     }
 
     @Override
     public Long zcard(byte[] key) {
-        Span span = helper.startNextJedisSpan("zcard", key);
-        return helper.executeInScope(span, () -> delegate.zcard(key));
+        Span span = helper.startNextJedisSpan(endpoint, "zcard", key);
+        return helper.executeInScope(span, delegate, key, Jedis::zcard);
     }
 
     @Override
     public Long zcard(String key) {
-        Span span = helper.startNextJedisSpan("zcard", key);
-        return helper.executeInScope(span, () -> delegate.zcard(key));
+        Span span = helper.startNextJedisSpan(endpoint, "zcard", key);
+        return helper.executeInScope(span, delegate, key, Jedis::zcard);
     }
 
     @Override
     public Long zcount(byte[] key, double min, double max) {
-        Span span = helper.startNextJedisSpan("zcount", key);
-        span.tag("min", String.valueOf(min));
-        span.tag("max", String.valueOf(max));
-        return helper.executeInScope(span, () -> delegate.zcount(key, min, max));
+        Span span = helper.startNextJedisSpan(endpoint, "zcount", key);
+        helper.tag(span, "min", min);
+        helper.tag(span, "max", max);
+        return helper.executeInScope(span, delegate, key, min, max, Jedis::zcount);
     }
 
     @Override
     public Long zcount(byte[] key, byte[] min, byte[] max) {
-        Span span = helper.startNextJedisSpan("zcount", key);
-        span.tag("min", Arrays.toString(min));
-        span.tag("max", Arrays.toString(max));
-        return helper.executeInScope(span, () -> delegate.zcount(key, min, max));
+        Span span = helper.startNextJedisSpan(endpoint, "zcount", key);
+        helper.tag(span, "min", min);
+        helper.tag(span, "max", max);
+        return helper.executeInScope(span, delegate, key, min, max, Jedis::zcount);
     }
 
     @Override
     public Long zcount(String key, double min, double max) {
-        Span span = helper.startNextJedisSpan("zcount", key);
-        span.tag("min", String.valueOf(min));
-        span.tag("max", String.valueOf(max));
-        return helper.executeInScope(span, () -> delegate.zcount(key, min, max));
+        Span span = helper.startNextJedisSpan(endpoint, "zcount", key);
+        helper.tag(span, "min", min);
+        helper.tag(span, "max", max);
+        return helper.executeInScope(span, delegate, key, min, max, Jedis::zcount);
     }
 
     @Override
     public Long zcount(String key, String min, String max) {
-        Span span = helper.startNextJedisSpan("zcount", key);
-        span.tag("min", min);
-        span.tag("max", max);
-        return helper.executeInScope(span, () -> delegate.zcount(key, min, max));
+        Span span = helper.startNextJedisSpan(endpoint, "zcount", key);
+        helper.tag(span, "min", min);
+        helper.tag(span, "max", max);
+        return helper.executeInScope(span, delegate, key, min, max, Jedis::zcount);
     }
 
     @Override
     public Double zincrby(byte[] key, double score, byte[] member) {
-        Span span = helper.startNextJedisSpan("zincrby", key);
-        span.tag("member", Arrays.toString(member));
-        span.tag("score", String.valueOf(score));
-        return helper.executeInScope(span, () -> delegate.zincrby(key, score, member));
+        Span span = helper.startNextJedisSpan(endpoint, "zincrby", key);
+        helper.tag(span, "member", member);
+        helper.tag(span, "score", score);
+        return helper.executeInScope(span, delegate, key, score, member, Jedis::zincrby);
     }
 
     @Override
     public Double zincrby(String key, double score, String member) {
-        Span span = helper.startNextJedisSpan("zincrby", key);
-        span.tag("score", String.valueOf(score));
-        span.tag("member", member);
-        return helper.executeInScope(span, () -> delegate.zincrby(key, score, member));
+        Span span = helper.startNextJedisSpan(endpoint, "zincrby", key);
+        helper.tag(span, "score", score);
+        helper.tag(span, "member", member);
+        return helper.executeInScope(span, delegate, key, score, member, Jedis::zincrby);
     }
 
     @Override
     public Long zinterstore(byte[] dstkey, byte[]... sets) {
-        Span span = helper.startNextJedisSpan("zinterstore");
-        span.tag("dstkey", Arrays.toString(dstkey));
-        span.tag("sets", TagUtils.toString(sets));
-        return helper.executeInScope(span, () -> delegate.zinterstore(dstkey, sets));
+        Span span = helper.startNextJedisSpan(endpoint, "zinterstore");
+        helper.tag(span, "dstkey", dstkey);
+        helper.tagMany(span, "sets", sets);
+        return helper.executeInScope(span, delegate, dstkey, sets, Jedis::zinterstore);
     }
 
     @Override
     public Long zinterstore(byte[] dstkey, ZParams params, byte[]... sets) {
-        Span span = helper.startNextJedisSpan("zinterstore");
-        span.tag("dstkey", Arrays.toString(dstkey));
-        span.tag("params", TagUtils.toString(params.getParams()));
-        span.tag("sets", TagUtils.toString(sets));
-        return helper.executeInScope(span, () -> delegate.zinterstore(dstkey, params, sets));
+        Span span = helper.startNextJedisSpan(endpoint, "zinterstore");
+        helper.tag(span, "dstkey", dstkey);
+        helper.tag(span, "params", params, p -> TagUtils.toString(p.getParams()));
+        helper.tagMany(span, "sets", sets);
+        return helper.executeInScope(span, delegate, dstkey, params, sets, Jedis::zinterstore);
     }
 
     @Override
     public Long zinterstore(String dstkey, String... sets) {
-        Span span = helper.startNextJedisSpan("zinterstore");
-        span.tag("dstkey", dstkey);
-        span.tag("sets", Arrays.toString(sets));
-        return helper.executeInScope(span, () -> delegate.zinterstore(dstkey, sets));
+        Span span = helper.startNextJedisSpan(endpoint, "zinterstore");
+        helper.tag(span, "dstkey", dstkey);
+        helper.tagMany(span, "sets", sets);
+        return helper.executeInScope(span, delegate, dstkey, sets, Jedis::zinterstore);
     }
 
     @Override
     public Long zinterstore(String dstkey, ZParams params, String... sets) {
-        Span span = helper.startNextJedisSpan("zinterstore");
-        span.tag("dstkey", dstkey);
-        span.tag("params", TagUtils.toString(params.getParams()));
-        span.tag("sets", Arrays.toString(sets));
-        return helper.executeInScope(span, () -> delegate.zinterstore(dstkey, params, sets));
+        Span span = helper.startNextJedisSpan(endpoint, "zinterstore");
+        helper.tag(span, "dstkey", dstkey);
+        helper.tag(span, "params", params, p -> TagUtils.toString(p.getParams()));
+        helper.tagMany(span, "sets", sets);
+        return helper.executeInScope(span, delegate, dstkey, params, sets, Jedis::zinterstore);
     }
 
     @Override
     public Long zlexcount(byte[] key, byte[] min, byte[] max) {
-        Span span = helper.startNextJedisSpan("zlexcount");
-        span.tag("min", Arrays.toString(min));
-        span.tag("max", Arrays.toString(max));
-        return helper.executeInScope(span, () -> delegate.zlexcount(key, min, max));
+        Span span = helper.startNextJedisSpan(endpoint, "zlexcount");
+        helper.tag(span, "min", min);
+        helper.tag(span, "max", max);
+        return helper.executeInScope(span, delegate, key, min, max, Jedis::zlexcount);
     }
 
     @Override
     public Long zlexcount(String key, String min, String max) {
-        Span span = helper.startNextJedisSpan("zlexcount", key);
-        span.tag("min", min);
-        span.tag("max", max);
-        return helper.executeInScope(span, () -> delegate.zlexcount(key, min, max));
+        Span span = helper.startNextJedisSpan(endpoint, "zlexcount", key);
+        helper.tag(span, "min", min);
+        helper.tag(span, "max", max);
+        return helper.executeInScope(span, delegate, key, min, max, Jedis::zlexcount);
     }
 
     @Override
     public Set<byte[]> zrange(byte[] key, long start, long end) {
-        Span span = helper.startNextJedisSpan("zrange", key);
-        span.tag("start", String.valueOf(start));
-        span.tag("end", String.valueOf(end));
-        return helper.executeInScope(span, () -> delegate.zrange(key, start, end));
+        Span span = helper.startNextJedisSpan(endpoint, "zrange", key);
+        helper.tag(span, "start", start);
+        helper.tag(span, "end", end);
+        return ResultSizes.executeInScope(helper, span, delegate, key, start, end, Jedis::zrange);
     }
 
     @Override
     public Set<String> zrange(String key, long start, long end) {
-        Span span = helper.startNextJedisSpan("zrange", key);
-        span.tag("start", String.valueOf(start));
-        span.tag("end", String.valueOf(end));
-        return helper.executeInScope(span, () -> delegate.zrange(key, start, end));
+        Span span = helper.startNextJedisSpan(endpoint, "zrange", key);
+        helper.tag(span, "start", start);
+        helper.tag(span, "end", end);
+        return ResultSizes.executeInScope(helper, span, delegate, key, start, end, Jedis::zrange);
     }
 
     @Override
     public Set<byte[]> zrangeByLex(byte[] key, byte[] min, byte[] max) {
-        Span span = helper.startNextJedisSpan("zrangeByLex", key);
-        span.tag("min", Arrays.toString(min));
-        span.tag("max", Arrays.toString(max));
-        return helper.executeInScope(span, () -> delegate.zrangeByLex(key, min, max));
+        Span span = helper.startNextJedisSpan(endpoint, "zrangeByLex", key);
+        helper.tag(span, "min", min);
+        helper.tag(span, "max", max);
+        return ResultSizes.executeInScope(helper, span, delegate, key, min, max, Jedis::zrangeByLex);
     }
 
     @Override
     public Set<byte[]> zrangeByLex(byte[] key, byte[] min, byte[] max, int offset, int count) {
-        Span span = helper.startNextJedisSpan("zrangeByLex", key);
-        span.tag("min", Arrays.toString(min));
-        span.tag("max", Arrays.toString(max));
-        span.tag("offset", String.valueOf(offset));
-        span.tag("count", String.valueOf(count));
-        return helper.executeInScope(span, () -> delegate.zrangeByLex(key, min, max, offset, count));
+        Span span = helper.startNextJedisSpan(endpoint, "zrangeByLex", key);
+        helper.tag(span, "min", min);
+        helper.tag(span, "max", max);
+        helper.tag(span, "offset", offset);
+        helper.tag(span, "count", count);
+        return ResultSizes.executeInScope(helper, span, () -> delegate.zrangeByLex(key, min, max, offset, count));
     }
 
     @Override
     public Set<String> zrangeByLex(String key, String min, String max) {
-        Span span = helper.startNextJedisSpan("zrangeByLex", key);
-        span.tag("min", min);
-        span.tag("max", max);
-        return helper.executeInScope(span, () -> delegate.zrangeByLex(key, min, max));
+        Span span = helper.startNextJedisSpan(endpoint, "zrangeByLex", key);
+        helper.tag(span, "min", min);
+        helper.tag(span, "max", max);
+        return ResultSizes.executeInScope(helper, span, delegate, key, min, max, Jedis::zrangeByLex);
     }
 
     @Override
     public Set<String> zrangeByLex(String key, String min, String max, int offset, int count) {
-        Span span = helper.startNextJedisSpan("zrangeByLex", key);
-        span.tag("min", min);
-        span.tag("max", max);
-        span.tag("offset", String.valueOf(offset));
-        span.tag("count", String.valueOf(count));
-        return helper.executeInScope(span, () -> delegate.zrangeByLex(key, min, max, offset, count));
+        Span span = helper.startNextJedisSpan(endpoint, "zrangeByLex", key);
+        helper.tag(span, "min", min);
+        helper.tag(span, "max", max);
+        helper.tag(span, "offset", offset);
+        helper.tag(span, "count", count);
+        return ResultSizes.executeInScope(helper, span, () -> delegate.zrangeByLex(key, min, max, offset, count));
     }
 
     @Override
     public Set<byte[]> zrangeByScore(byte[] key, double min, double max) {
-        Span span = helper.startNextJedisSpan("zrangeByScore", key);
-        span.tag("min", String.valueOf(min));
-        span.tag("max", String.valueOf(max));
-        return helper.executeInScope(span, () -> delegate.zrangeByScore(key, min, max));
+        Span span = helper.startNextJedisSpan(endpoint, "zrangeByScore", key);
+        helper.tag(span, "min", min);
+        helper.tag(span, "max", max);
+        return ResultSizes.executeInScope(helper, span, delegate, key, min, max, Jedis::zrangeByScore);
     }
 
     @Override
     public Set<byte[]> zrangeByScore(byte[] key, byte[] min, byte[] max) {
-        Span span = helper.startNextJedisSpan("zrangeByScore", key);
-        span.tag("min", Arrays.toString(min));
-        span.tag("max", Arrays.toString(max));
-        return helper.executeInScope(span, () -> delegate.zrangeByScore(key, min, max));
+        Span span = helper.startNextJedisSpan(endpoint, "zrangeByScore", key);
+        helper.tag(span, "min", min);
+        helper.tag(span, "max", max);
+        return ResultSizes.executeInScope(helper, span, delegate, key, min, max, Jedis::zrangeByScore);
     }
 
     @Override
     public Set<byte[]> zrangeByScore(byte[] key, double min, double max, int offset, int count) {
-        Span span = helper.startNextJedisSpan("zrangeByScore", key);
-        span.tag("min", String.valueOf(min));
-        span.tag("max", String.valueOf(max));
-        span.tag("offset", String.valueOf(offset));
-        span.tag("count", String.valueOf(count));
-        return helper.executeInScope(span, () -> delegate.zrangeByScore(key, min, max, offset, count));
+        Span span = helper.startNextJedisSpan(endpoint, "zrangeByScore", key);
+        helper.tag(span, "min", min);
+        helper.tag(span, "max", max);
+        helper.tag(span, "offset", offset);
+        helper.tag(span, "count", count);
+        return ResultSizes.executeInScope(helper, span, () -> delegate.zrangeByScore(key, min, max, offset, count));
     }
 
     @Override
     public Set<byte[]> zrangeByScore(byte[] key, byte[] min, byte[] max, int offset, int count) {
-        Span span = helper.startNextJedisSpan("zrangeByScore", key);
-        span.tag("min", Arrays.toString(min));
-        span.tag("max", Arrays.toString(max));
-        span.tag("offset", String.valueOf(offset));
-        span.tag("count", String.valueOf(count));
-        return helper.executeInScope(span, () -> delegate.zrangeByScore(key, min, max, offset, count));
+        Span span = helper.startNextJedisSpan(endpoint, "zrangeByScore", key);
+        helper.tag(span, "min", min);
+        helper.tag(span, "max", max);
+        helper.tag(span, "offset", offset);
+        helper.tag(span, "count", count);
+        return ResultSizes.executeInScope(helper, span, () -> delegate.zrangeByScore(key, min, max, offset, count));
     }
 
     @Override
     public Set<String> zrangeByScore(String key, double min, double max) {
-        Span span = helper.startNextJedisSpan("zrangeByScore", key);
-        span.tag("min", String.valueOf(min));
-        span.tag("max", String.valueOf(max));
-        return helper.executeInScope(span, () -> delegate.zrangeByScore(key, min, max));
+        Span span = helper.startNextJedisSpan(endpoint, "zrangeByScore", key);
+        helper.tag(span, "min", min);
+        helper.tag(span, "max", max);
+        return ResultSizes.executeInScope(helper, span, delegate, key, min, max, Jedis::zrangeByScore);
     }
 
     @Override
     public Set<String> zrangeByScore(String key, String min, String max) {
-        Span span = helper.startNextJedisSpan("zrangeByScore", key);
-        span.tag("min", min);
-        span.tag("max", max);
-        return helper.executeInScope(span, () -> delegate.zrangeByScore(key, min, max));
+        Span span = helper.startNextJedisSpan(endpoint, "zrangeByScore", key);
+        helper.tag(span, "min", min);
+        helper.tag(span, "max", max);
+        return ResultSizes.executeInScope(helper, span, delegate, key, min, max, Jedis::zrangeByScore);
     }
 
     @Override
     public Set<String> zrangeByScore(String key, double min, double max, int offset, int count) {
-        Span span = helper.startNextJedisSpan("zrangeByScore", key);
-        span.tag("min", String.valueOf(min));
-        span.tag("max", String.valueOf(max));
-        span.tag("offset", String.valueOf(offset));
-        span.tag("count", String.valueOf(count));
-        return helper.executeInScope(span, () -> delegate.zrangeByScore(key, min, max, offset, count));
+        Span span = helper.startNextJedisSpan(endpoint, "zrangeByScore", key);
+        helper.tag(span, "min", min);
+        helper.tag(span, "max", max);
+        helper.tag(span, "offset", offset);
+        helper.tag(span, "count", count);
+        return ResultSizes.executeInScope(helper, span, () -> delegate.zrangeByScore(key, min, max, offset, count));
     }
 
     @Override
     public Set<String> zrangeByScore(String key, String min, String max, int offset, int count) {
-        Span span = helper.startNextJedisSpan("zrangeByScore", key);
-        span.tag("min", min);
-        span.tag("max", max);
-        span.tag("offset", String.valueOf(offset));
-        span.tag("count", String.valueOf(count));
-        return helper.executeInScope(span, () -> delegate.zrangeByScore(key, min, max, offset, count));
+        Span span = helper.startNextJedisSpan(endpoint, "zrangeByScore", key);
+        helper.tag(span, "min", min);
+        helper.tag(span, "max", max);
+        helper.tag(span, "offset", offset);
+        helper.tag(span, "count", count);
+        return ResultSizes.executeInScope(helper, span, () -> delegate.zrangeByScore(key, min, max, offset, count));
     }
 
     @Override
     public Set<Tuple> zrangeByScoreWithScores(byte[] key, double min, double max) {
-        Span span = helper.startNextJedisSpan("zrangeByScoreWithScores", key);
-        span.tag("min", String.valueOf(min));
-        span.tag("max", String.valueOf(max));
-        return helper.executeInScope(span, () -> delegate.zrangeByScoreWithScores(key, min, max));
+        Span span = helper.startNextJedisSpan(endpoint, "zrangeByScoreWithScores", key);
+        helper.tag(span, "min", min);
+        helper.tag(span, "max", max);
+        return ResultSizes.executeInScope(helper, span, delegate, key, min, max, Jedis::zrangeByScoreWithScores);
     }
 
     @Override
     public Set<Tuple> zrangeByScoreWithScores(byte[] key, byte[] min, byte[] max) {
-        Span span = helper.startNextJedisSpan("zrangeByScoreWithScores", key);
-        span.tag("min", Arrays.toString(min));
-        span.tag("max", Arrays.toString(max));
-        return helper.executeInScope(span, () -> delegate.zrangeByScoreWithScores(key, min, max));
+        Span span = helper.startNextJedisSpan(endpoint, "zrangeByScoreWithScores", key);
+        helper.tag(span, "min", min);
+        helper.tag(span, "max", max);
+        return ResultSizes.executeInScope(helper, span, delegate, key, min, max, Jedis::zrangeByScoreWithScores);
     }
 
     @Override
     public Set<Tuple> zrangeByScoreWithScores(byte[] key, double min, double max, int offset,
                                               int count) {
-        Span span = helper.startNextJedisSpan("zrangeByScoreWithScores", key);
-        span.tag("min", String.valueOf(min));
-        span.tag("max", String.valueOf(max));
-        span.tag("offset", String.valueOf(offset));
-        span.tag("count", String.valueOf(count));
-        return helper
-            .executeInScope(span, () -> delegate.zrangeByScoreWithScores(key, min, max, offset, count));
+        Span span = helper.startNextJedisSpan(endpoint, "zrangeByScoreWithScores", key);
+        helper.tag(span, "min", min);
+        helper.tag(span, "max", max);
+        helper.tag(span, "offset", offset);
+        helper.tag(span, "count", count);
+        return ResultSizes
+            .executeInScope(helper, span, () -> delegate.zrangeByScoreWithScores(key, min, max, offset, count));
     }
 
     @Override
     public Set<Tuple> zrangeByScoreWithScores(byte[] key, byte[] min, byte[] max, int offset,
                                               int count) {
-        Span span = helper.startNextJedisSpan("zrangeByScoreWithScores", key);
-        span.tag("min", Arrays.toString(min));
-        span.tag("max", Arrays.toString(max));
-        span.tag("offset", String.valueOf(offset));
-        span.tag("count", String.valueOf(count));
-        return helper
-            .executeInScope(span, () -> delegate.zrangeByScoreWithScores(key, min, max, offset, count));
+        Span span = helper.startNextJedisSpan(endpoint, "zrangeByScoreWithScores", key);
+        helper.tag(span, "min", min);
+        helper.tag(span, "max", max);
+        helper.tag(span, "offset", offset);
+        helper.tag(span, "count", count);
+        return ResultSizes
+            .executeInScope(helper, span, () -> delegate.zrangeByScoreWithScores(key, min, max, offset, count));
     }
 
     @Override
     public Set<Tuple> zrangeByScoreWithScores(String key, double min, double max) {
-        Span span = helper.startNextJedisSpan("zrangeByScoreWithScores", key);
-        span.tag("min", String.valueOf(min));
-        span.tag("max", String.valueOf(max));
-        return helper.executeInScope(span, () -> delegate.zrangeByScoreWithScores(key, min, max));
+        Span span = helper.startNextJedisSpan(endpoint, "zrangeByScoreWithScores", key);
+        helper.tag(span, "min", min);
+        helper.tag(span, "max", max);
+        return ResultSizes.executeInScope(helper, span, delegate, key, min, max, Jedis::zrangeByScoreWithScores);
     }
 
     @Override
     public Set<Tuple> zrangeByScoreWithScores(String key, String min, String max) {
-        Span span = helper.startNextJedisSpan("zrangeByScoreWithScores", key);
-        span.tag("min", min);
-        span.tag("max", max);
-        return helper.executeInScope(span, () -> delegate.zrangeByScoreWithScores(key, min, max));
+        Span span = helper.startNextJedisSpan(endpoint, "zrangeByScoreWithScores", key);
+        helper.tag(span, "min", min);
+        helper.tag(span, "max", max);
+        return ResultSizes.executeInScope(helper, span, delegate, key, min, max, Jedis::zrangeByScoreWithScores);
     }
 
     @Override
     public Set<Tuple> zrangeByScoreWithScores(String key, double min, double max, int offset,
                                               int count) {
-        Span span = helper.startNextJedisSpan("zrangeByScoreWithScores", key);
-        span.tag("min", String.valueOf(min));
-        span.tag("max", String.valueOf(max));
-        span.tag("offset", String.valueOf(offset));
-        span.tag("count", String.valueOf(count));
-        return helper
-            .executeInScope(span, () -> delegate.zrangeByScoreWithScores(key, min, max, offset, count));
+        Span span = helper.startNextJedisSpan(endpoint, "zrangeByScoreWithScores", key);
+        helper.tag(span, "min", min);
+        helper.tag(span, "max", max);
+        helper.tag(span, "offset", offset);
+        helper.tag(span, "count", count);
+        return ResultSizes
+            .executeInScope(helper, span, () -> delegate.zrangeByScoreWithScores(key, min, max, offset, count));
     }
 
     @Override
     public Set<Tuple> zrangeByScoreWithScores(String key, String min, String max, int offset,
                                               int count) {
-        Span span = helper.startNextJedisSpan("zrangeByScoreWithScores", key);
-        span.tag("min", min);
-        span.tag("max", max);
-        span.tag("offset", String.valueOf(offset));
-        span.tag("count", String.valueOf(count));
-        return helper
-            .executeInScope(span, () -> delegate.zrangeByScoreWithScores(key, min, max, offset, count));
+        Span span = helper.startNextJedisSpan(endpoint, "zrangeByScoreWithScores", key);
+        helper.tag(span, "min", min);
+        helper.tag(span, "max", max);
+        helper.tag(span, "offset", offset);
+        helper.tag(span, "count", count);
+        return ResultSizes
+            .executeInScope(helper, span, () -> delegate.zrangeByScoreWithScores(key, min, max, offset, count));
     }
 
     @Override
     public Set<Tuple> zrangeWithScores(byte[] key, long start, long end) {
-        Span span = helper.startNextJedisSpan("zrangeWithScores", key);
-        span.tag("start", String.valueOf(start));
-        span.tag("end", String.valueOf(end));
-        return helper.executeInScope(span, () -> delegate.zrangeWithScores(key, start, end));
+        Span span = helper.startNextJedisSpan(endpoint, "zrangeWithScores", key);
+        helper.tag(span, "start", start);
+        helper.tag(span, "end", end);
+        return ResultSizes.executeInScope(helper, span, delegate, key, start, end, Jedis::zrangeWithScores);
     }
 
     @Override
     public Set<Tuple> zrangeWithScores(String key, long start, long end) {
-        Span span = helper.startNextJedisSpan("zrangeWithScores", key);
-        span.tag("start", String.valueOf(start));
-        span.tag("end", String.valueOf(end));
-        return helper.executeInScope(span, () -> delegate.zrangeWithScores(key, start, end));
+        Span span = helper.startNextJedisSpan(endpoint, "zrangeWithScores", key);
+        helper.tag(span, "start", start);
+        helper.tag(span, "end", end);
+        return ResultSizes.executeInScope(helper, span, delegate, key, start, end, Jedis::zrangeWithScores);
     }
 
     @Override
     public Long zrank(byte[] key, byte[] member) {
-        Span span = helper.startNextJedisSpan("zrank", key);
-        span.tag("member", Arrays.toString(member));
-        return helper.executeInScope(span, () -> delegate.zrank(key, member));
+        Span span = helper.startNextJedisSpan(endpoint, "zrank", key);
+        helper.tag(span, "member", member);
+        return helper.executeInScope(span, delegate, key, member, Jedis::zrank);
     }
 
     @Override
     public Long zrank(String key, String member) {
-        Span span = helper.startNextJedisSpan("zrank", key);
-        span.tag("member", member);
-        return helper.executeInScope(span, () -> delegate.zrank(key, member));
+        Span span = helper.startNextJedisSpan(endpoint, "zrank", key);
+        helper.tag(span, "member", member);
+        return helper.executeInScope(span, delegate, key, member, Jedis::zrank);
     }
 
     @Override
     public Long zrem(byte[] key, byte[]... members) {
-        Span span = helper.startNextJedisSpan("zrem", key);
-        span.tag("members", Arrays.toString(members));
-        return helper.executeInScope(span, () -> delegate.zrem(key, members));
+        Span span = helper.startNextJedisSpan(endpoint, "zrem", key);
+        helper.tagMany(span, "members", members);
+        return helper.executeInScope(span, delegate, key, members, Jedis::zrem);
     }
 
     @Override
     public Long zrem(String key, String... members) {
-        Span span = helper.startNextJedisSpan("zrem", key);
-        span.tag("members", Arrays.toString(members));
-        return helper.executeInScope(span, () -> delegate.zrem(key, members));
+        Span span = helper.startNextJedisSpan(endpoint, "zrem", key);
+        helper.tagMany(span, "members", members);
+        return helper.executeInScope(span, delegate, key, members, Jedis::zrem);
     }
 
     @Override
     public Long zremrangeByLex(byte[] key, byte[] min, byte[] max) {
-        Span span = helper.startNextJedisSpan("zremrangeByLex", key);
-        span.tag("min", Arrays.toString(min));
-        span.tag("max", Arrays.toString(max));
-        return helper.executeInScope(span, () -> delegate.zremrangeByLex(key, min, max));
+        Span span = helper.startNextJedisSpan(endpoint, "zremrangeByLex", key);
+        helper.tag(span, "min", min);
+        helper.tag(span, "max", max);
+        return helper.executeInScope(span, delegate, key, min, max, Jedis::zremrangeByLex);
     }
 
     @Override
     public Long zremrangeByLex(String key, String min, String max) {
-        Span span = helper.startNextJedisSpan("zremrangeByLex", key);
-        span.tag("min", min);
-        span.tag("max", max);
-        return helper.executeInScope(span, () -> delegate.zremrangeByLex(key, min, max));
+        Span span = helper.startNextJedisSpan(endpoint, "zremrangeByLex", key);
+        helper.tag(span, "min", min);
+        helper.tag(span, "max", max);
+        return helper.executeInScope(span, delegate, key, min, max, Jedis::zremrangeByLex);
     }
 
     @Override
     public Long zremrangeByRank(byte[] key, long start, long end) {
-        Span span = helper.startNextJedisSpan("zremrangeByRank", key);
-        span.tag("start", String.valueOf(start));
-        span.tag("end", String.valueOf(end));
-        return helper.executeInScope(span, () -> delegate.zremrangeByRank(key, start, end));
+        Span span = helper.startNextJedisSpan(endpoint, "zremrangeByRank", key);
+        helper.tag(span, "start", start);
+        helper.tag(span, "end", end);
+        return helper.executeInScope(span, delegate, key, start, end, Jedis::zremrangeByRank);
     }
 
     @Override
     public Long zremrangeByRank(String key, long start, long end) {
-        Span span = helper.startNextJedisSpan("zremrangeByRank", key);
-        span.tag("start", String.valueOf(start));
-        span.tag("end", String.valueOf(end));
-        return helper.executeInScope(span, () -> delegate.zremrangeByRank(key, start, end));
+        Span span = helper.startNextJedisSpan(endpoint, "zremrangeByRank", key);
+        helper.tag(span, "start", start);
+        helper.tag(span, "end", end);
+        return helper.executeInScope(span, delegate, key, start, end, Jedis::zremrangeByRank);
     }
 
     @Override
     public Long zremrangeByScore(byte[] key, double start, double end) {
-        Span span = helper.startNextJedisSpan("zremrangeByScore", key);
-        span.tag("start", String.valueOf(start));
-        span.tag("end", String.valueOf(end));
-        return helper.executeInScope(span, () -> delegate.zremrangeByScore(key, start, end));
+        Span span = helper.startNextJedisSpan(endpoint, "zremrangeByScore", key);
+        helper.tag(span, "start", start);
+        helper.tag(span, "end", end);
+        return helper.executeInScope(span, delegate, key, start, end, Jedis::zremrangeByScore);
     }
 
     @Override
     public Long zremrangeByScore(byte[] key, byte[] start, byte[] end) {
-        Span span = helper.startNextJedisSpan("zremrangeByScore", key);
-        span.tag("start", Arrays.toString(start));
-        span.tag("end", Arrays.toString(end));
-        return helper.executeInScope(span, () -> delegate.zremrangeByScore(key, start, end));
+        Span span = helper.startNextJedisSpan(endpoint, "zremrangeByScore", key);
+        helper.tag(span, "start", start);
+        helper.tag(span, "end", end);
+        return helper.executeInScope(span, delegate, key, start, end, Jedis::zremrangeByScore);
     }
 
     @Override
     public Long zremrangeByScore(String key, double start, double end) {
-        Span span = helper.startNextJedisSpan("zremrangeByScore", key);
-        span.tag("start", String.valueOf(start));
-        span.tag("end", String.valueOf(end));
-        return helper.executeInScope(span, () -> delegate.zremrangeByScore(key, start, end));
+        Span span = helper.startNextJedisSpan(endpoint, "zremrangeByScore", key);
+        helper.tag(span, "start", start);
+        helper.tag(span, "end", end);
+        return helper.executeInScope(span, delegate, key, start, end, Jedis::zremrangeByScore);
     }
 
     @Override
     public Long zremrangeByScore(String key, String start, String end) {
-        Span span = helper.startNextJedisSpan("zremrangeByScore", key);
-        span.tag("start", start);
-        span.tag("end", end);
-        return helper.executeInScope(span, () -> delegate.zremrangeByScore(key, start, end));
+        Span span = helper.startNextJedisSpan(endpoint, "zremrangeByScore", key);
+        helper.tag(span, "start", start);
+        helper.tag(span, "end", end);
+        return helper.executeInScope(span, delegate, key, start, end, Jedis::zremrangeByScore);
     }
 
     @Override
     public Set<byte[]> zrevrange(byte[] key, long start, long end) {
-        Span span = helper.startNextJedisSpan("zrevrange", key);
-        span.tag("start", String.valueOf(start));
-        span.tag("end", String.valueOf(end));
-        return helper.executeInScope(span, () -> delegate.zrevrange(key, start, end));
+        Span span = helper.startNextJedisSpan(endpoint, "zrevrange", key);
+        helper.tag(span, "start", start);
+        helper.tag(span, "end", end);
+        return ResultSizes.executeInScope(helper, span, delegate, key, start, end, Jedis::zrevrange);
     }
 
     @Override
     public Set<String> zrevrange(String key, long start, long end) {
-        Span span = helper.startNextJedisSpan("zrevrange", key);
-        span.tag("start", String.valueOf(start));
-        span.tag("end", String.valueOf(end));
-        return helper.executeInScope(span, () -> delegate.zrevrange(key, start, end));
+        Span span = helper.startNextJedisSpan(endpoint, "zrevrange", key);
+        helper.tag(span, "start", start);
+        helper.tag(span, "end", end);
+        return ResultSizes.executeInScope(helper, span, delegate, key, start, end, Jedis::zrevrange);
     }
 
     @Override
     public Set<byte[]> zrevrangeByScore(byte[] key, double max, double min) {
-        Span span = helper.startNextJedisSpan("zrevrangeByScore", key);
-        span.tag("min", String.valueOf(min));
-        span.tag("max", String.valueOf(max));
-        return helper.executeInScope(span, () -> delegate.zrevrangeByScore(key, max, min));
+        Span span = helper.startNextJedisSpan(endpoint, "zrevrangeByScore", key);
+        helper.tag(span, "min", min);
+        helper.tag(span, "max", max);
+        return ResultSizes.executeInScope(helper, span, delegate, key, max, min, Jedis::zrevrangeByScore);
     }
 
     @Override
     public Set<byte[]> zrevrangeByScore(byte[] key, byte[] max, byte[] min) {
-        Span span = helper.startNextJedisSpan("zrevrangeByScore", key);
-        span.tag("max", Arrays.toString(max));
-        span.tag("min", Arrays.toString(min));
-        return helper.executeInScope(span, () -> delegate.zrevrangeByScore(key, max, min));
+        Span span = helper.startNextJedisSpan(endpoint, "zrevrangeByScore", key);
+        helper.tag(span, "max", max);
+        helper.tag(span, "min", min);
+        return ResultSizes.executeInScope(helper, span, delegate, key, max, min, Jedis::zrevrangeByScore);
     }
 
     @Override
     public Set<byte[]> zrevrangeByScore(byte[] key, double max, double min, int offset, int count) {
-        Span span = helper.startNextJedisSpan("zrevrangeByScore", key);
-        span.tag("min", String.valueOf(min));
-        span.tag("max", String.valueOf(max));
-        span.tag("offset", String.valueOf(offset));
-        span.tag("count", String.valueOf(count));
-        return helper.executeInScope(span, () -> delegate.zrevrangeByScore(key, max, min, offset, count));
+        Span span = helper.startNextJedisSpan(endpoint, "zrevrangeByScore", key);
+        helper.tag(span, "min", min);
+        helper.tag(span, "max", max);
+        helper.tag(span, "offset", offset);
+        helper.tag(span, "count", count);
+        return ResultSizes.executeInScope(helper, span, () -> delegate.zrevrangeByScore(key, max, min, offset, count));
     }
 
     @Override
     public Set<byte[]> zrevrangeByScore(byte[] key, byte[] max, byte[] min, int offset, int count) {
-        Span span = helper.startNextJedisSpan("zrevrangeByScore", key);
-        span.tag("min", Arrays.toString(min));
-        span.tag("max", Arrays.toString(max));
-        span.tag("offset", String.valueOf(offset));
-        span.tag("count", String.valueOf(count));
-        return helper.executeInScope(span, () -> delegate.zrevrangeByScore(key, max, min, offset, count));
+        Span span = helper.startNextJedisSpan(endpoint, "zrevrangeByScore", key);
+        helper.tag(span, "min", min);
+        helper.tag(span, "max", max);
+        helper.tag(span, "offset", offset);
+        helper.tag(span, "count", count);
+        return ResultSizes.executeInScope(helper, span, () -> delegate.zrevrangeByScore(key, max, min, offset, count));
     }
 
     @Override
     public Set<String> zrevrangeByScore(String key, double max, double min) {
-        Span span = helper.startNextJedisSpan("zrevrangeByScore", key);
-        span.tag("max", String.valueOf(max));
-        span.tag("min", String.valueOf(min));
-        return helper.executeInScope(span, () -> delegate.zrevrangeByScore(key, max, min));
+        Span span = helper.startNextJedisSpan(endpoint, "zrevrangeByScore", key);
+        helper.tag(span, "max", max);
+        helper.tag(span, "min", min);
+        return ResultSizes.executeInScope(helper, span, delegate, key, max, min, Jedis::zrevrangeByScore);
     }
 
     @Override
     public Set<String> zrevrangeByScore(String key, String max, String min) {
-        Span span = helper.startNextJedisSpan("zrevrangeByScore", key);
-        span.tag("max", max);
-        span.tag("min", min);
-        return helper.executeInScope(span, () -> delegate.zrevrangeByScore(key, max, min));
+        Span span = helper.startNextJedisSpan(endpoint, "zrevrangeByScore", key);
+        helper.tag(span, "max", max);
+        helper.tag(span, "min", min);
+        return ResultSizes.executeInScope(helper, span, delegate, key, max, min, Jedis::zrevrangeByScore);
     }
 
     @Override
     public Set<String> zrevrangeByScore(String key, double max, double min, int offset, int count) {
-        Span span = helper.startNextJedisSpan("zrevrangeByScore", key);
-        span.tag("min", String.valueOf(min));
-        span.tag("max", String.valueOf(max));
-        span.tag("offset", String.valueOf(offset));
-        span.tag("count", String.valueOf(count));
-        return helper.executeInScope(span, () -> delegate.zrevrangeByScore(key, max, min, offset, count));
+        Span span = helper.startNextJedisSpan(endpoint, "zrevrangeByScore", key);
+        helper.tag(span, "min", min);
+        helper.tag(span, "max", max);
+        helper.tag(span, "offset", offset);
+        helper.tag(span, "count", count);
+        return ResultSizes.executeInScope(helper, span, () -> delegate.zrevrangeByScore(key, max, min, offset, count));
     }
 
     @Override
     public Set<String> zrevrangeByScore(String key, String max, String min, int offset, int count) {
-        Span span = helper.startNextJedisSpan("zrevrangeByScore", key);
-        span.tag("min", min);
-        span.tag("max", max);
-        span.tag("offset", String.valueOf(offset));
-        span.tag("count", String.valueOf(count));
-        return helper.executeInScope(span, () -> delegate.zrevrangeByScore(key, max, min, offset, count));
+        Span span = helper.startNextJedisSpan(endpoint, "zrevrangeByScore", key);
+        helper.tag(span, "min", min);
+        helper.tag(span, "max", max);
+        helper.tag(span, "offset", offset);
+        helper.tag(span, "count", count);
+        return ResultSizes.executeInScope(helper, span, () -> delegate.zrevrangeByScore(key, max, min, offset, count));
     }
 
     @Override
     public Set<Tuple> zrevrangeByScoreWithScores(byte[] key, double max, double min) {
-        Span span = helper.startNextJedisSpan("zrevrangeByScoreWithScores", key);
-        span.tag("min", String.valueOf(min));
-        span.tag("max", String.valueOf(max));
-        return helper.executeInScope(span, () -> delegate.zrevrangeByScoreWithScores(key, max, min));
+        Span span = helper.startNextJedisSpan(endpoint, "zrevrangeByScoreWithScores", key);
+        helper.tag(span, "min", min);
+        helper.tag(span, "max", max);
+        return ResultSizes.executeInScope(helper, span, delegate, key, max, min, Jedis::zrevrangeByScoreWithScores);
     }
 
     @Override
     public Set<Tuple> zrevrangeByScoreWithScores(byte[] key, double max, double min, int offset,
                                                  int count) {
-        Span span = helper.startNextJedisSpan("zrevrangeByScoreWithScores", key);
-        span.tag("min", String.valueOf(min));
-        span.tag("max", String.valueOf(max));
-        span.tag("offset", String.valueOf(offset));
-        span.tag("count", String.valueOf(count));
-        return helper
-            .executeInScope(span, () -> delegate.zrevrangeByScoreWithScores(key, max, min, offset, count));
+        Span span = helper.startNextJedisSpan(endpoint, "zrevrangeByScoreWithScores", key);
+        helper.tag(span, "min", min);
+        helper.tag(span, "max", max);
+        helper.tag(span, "offset", offset);
+        helper.tag(span, "count", count);
+        return ResultSizes
+            .executeInScope(helper, span, () -> delegate.zrevrangeByScoreWithScores(key, max, min, offset, count));
     }
 
     @Override
     public Set<Tuple> zrevrangeByScoreWithScores(byte[] key, byte[] max, byte[] min) {
-        Span span = helper.startNextJedisSpan("zrevrangeByScoreWithScores", key);
-        span.tag("max", Arrays.toString(max));
-        span.tag("min", Arrays.toString(min));
-        return helper.executeInScope(span, () -> delegate.zrevrangeByScoreWithScores(key, max, min));
+        Span span = helper.startNextJedisSpan(endpoint, "zrevrangeByScoreWithScores", key);
+        helper.tag(span, "max", max);
+        helper.tag(span, "min", min);
+        return ResultSizes.executeInScope(helper, span, delegate, key, max, min, Jedis::zrevrangeByScoreWithScores);
     }
 
     @Override
     public Set<Tuple> zrevrangeByScoreWithScores(byte[] key, byte[] max, byte[] min, int offset,
                                                  int count) {
-        Span span = helper.startNextJedisSpan("zrevrangeByScoreWithScores", key);
-        span.tag("min", Arrays.toString(min));
-        span.tag("max", Arrays.toString(max));
-        span.tag("offset", String.valueOf(offset));
-        span.tag("count", String.valueOf(count));
-        return helper
-            .executeInScope(span, () -> delegate.zrevrangeByScoreWithScores(key, max, min, offset, count));
+        Span span = helper.startNextJedisSpan(endpoint, "zrevrangeByScoreWithScores", key);
+        helper.tag(span, "min", min);
+        helper.tag(span, "max", max);
+        helper.tag(span, "offset", offset);
+        helper.tag(span, "count", count);
+        return ResultSizes
+            .executeInScope(helper, span, () -> delegate.zrevrangeByScoreWithScores(key, max, min, offset, count));
     }
 
     @Override
     public Set<Tuple> zrevrangeByScoreWithScores(String key, double max, double min) {
-        Span span = helper.startNextJedisSpan("zrevrangeByScoreWithScores", key);
-        span.tag("max", String.valueOf(max));
-        span.tag("min", String.valueOf(min));
-        return helper.executeInScope(span, () -> delegate.zrevrangeByScoreWithScores(key, max, min));
+        Span span = helper.startNextJedisSpan(endpoint, "zrevrangeByScoreWithScores", key);
+        helper.tag(span, "max", max);
+        helper.tag(span, "min", min);
+        return ResultSizes.executeInScope(helper, span, delegate, key, max, min, Jedis::zrevrangeByScoreWithScores);
     }
 
     @Override
     public Set<Tuple> zrevrangeByScoreWithScores(String key, double max, double min, int offset,
                                                  int count) {
-        Span span = helper.startNextJedisSpan("zrevrangeByScoreWithScores", key);
-        span.tag("min", String.valueOf(min));
-        span.tag("max", String.valueOf(max));
-        span.tag("offset", String.valueOf(offset));
-        span.tag("count", String.valueOf(count));
-        return helper
-            .executeInScope(span, () -> delegate.zrevrangeByScoreWithScores(key, max, min, offset, count));
+        Span span = helper.startNextJedisSpan(endpoint, "zrevrangeByScoreWithScores", key);
+        helper.tag(span, "min", min);
+        helper.tag(span, "max", max);
+        helper.tag(span, "offset", offset);
+        helper.tag(span, "count", count);
+        return ResultSizes
+            .executeInScope(helper, span, () -> delegate.zrevrangeByScoreWithScores(key, max, min, offset, count));
     }
 
     @Override
     public Set<Tuple> zrevrangeByScoreWithScores(String key, String max, String min, int offset,
                                                  int count) {
-        Span span = helper.startNextJedisSpan("zrevrangeByScoreWithScores", key);
-        span.tag("min", min);
-        span.tag("max", max);
-        span.tag("offset", String.valueOf(offset));
-        span.tag("count", String.valueOf(count));
-        return helper
-            .executeInScope(span, () -> delegate.zrevrangeByScoreWithScores(key, max, min, offset, count));
+        Span span = helper.startNextJedisSpan(endpoint, "zrevrangeByScoreWithScores", key);
+        helper.tag(span, "min", min);
+        helper.tag(span, "max", max);
+        helper.tag(span, "offset", offset);
+        helper.tag(span, "count", count);
+        return ResultSizes
+            .executeInScope(helper, span, () -> delegate.zrevrangeByScoreWithScores(key, max, min, offset, count));
     }
 
     @Override
     public Set<Tuple> zrevrangeByScoreWithScores(String key, String max, String min) {
-        Span span = helper.startNextJedisSpan("zrevrangeByScoreWithScores", key);
-        span.tag("max", max);
-        span.tag("min", min);
-        return helper.executeInScope(span, () -> delegate.zrevrangeByScoreWithScores(key, max, min));
+        Span span = helper.startNextJedisSpan(endpoint, "zrevrangeByScoreWithScores", key);
+        helper.tag(span, "max", max);
+        helper.tag(span, "min", min);
+        return ResultSizes.executeInScope(helper, span, delegate, key, max, min, Jedis::zrevrangeByScoreWithScores);
     }
 
     @Override
     public Set<Tuple> zrevrangeWithScores(byte[] key, long start, long end) {
-        Span span = helper.startNextJedisSpan("zrevrangeWithScores", key);
-        span.tag("start", String.valueOf(start));
-        span.tag("end", String.valueOf(end));
-        return helper.executeInScope(span, () -> delegate.zrevrangeWithScores(key, start, end));
+        Span span = helper.startNextJedisSpan(endpoint, "zrevrangeWithScores", key);
+        helper.tag(span, "start", start);
+        helper.tag(span, "end", end);
+        return ResultSizes.executeInScope(helper, span, delegate, key, start, end, Jedis::zrevrangeWithScores);
     }
 
     @Override
     public Set<Tuple> zrevrangeWithScores(String key, long start, long end) {
-        Span span = helper.startNextJedisSpan("zrevrangeWithScores", key);
-        span.tag("start", String.valueOf(start));
-        span.tag("end", String.valueOf(end));
-        return helper.executeInScope(span, () -> delegate.zrevrangeWithScores(key, start, end));
+        Span span = helper.startNextJedisSpan(endpoint, "zrevrangeWithScores", key);
+        helper.tag(span, "start", start);
+        helper.tag(span, "end", end);
+        return ResultSizes.executeInScope(helper, span, delegate, key, start, end, Jedis::zrevrangeWithScores);
     }
 
     @Override
     public Long zrevrank(byte[] key, byte[] member) {
-        Span span = helper.startNextJedisSpan("zrevrank", key);
-        span.tag("member", Arrays.toString(member));
-        return helper.executeInScope(span, () -> delegate.zrevrank(key, member));
+        Span span = helper.startNextJedisSpan(endpoint, "zrevrank", key);
+        helper.tag(span, "member", member);
+        return helper.executeInScope(span, delegate, key, member, Jedis::zrevrank);
     }
 
     @Override
     public Long zrevrank(String key, String member) {
-        Span span = helper.startNextJedisSpan("zrevrank", key);
-        span.tag("member", member);
-        return helper.executeInScope(span, () -> delegate.zrevrank(key, member));
+        Span span = helper.startNextJedisSpan(endpoint, "zrevrank", key);
+        helper.tag(span, "member", member);
+        return helper.executeInScope(span, delegate, key, member, Jedis::zrevrank);
     }
 
     @Override
     public ScanResult<Tuple> zscan(byte[] key, byte[] cursor) {
-        Span span = helper.startNextJedisSpan("zscan", key);
-        span.tag("cursor", Arrays.toString(cursor));
-        return helper.executeInScope(span, () -> delegate.zscan(key, cursor));
+        Span span = helper.startNextJedisSpan(endpoint, "zscan", key);
+        helper.tag(span, "cursor", cursor);
+        return helper.executeInScope(span, delegate, key, cursor, Jedis::zscan);
     }
 
     @Override
     public ScanResult<Tuple> zscan(byte[] key, byte[] cursor, ScanParams params) {
-        Span span = helper.startNextJedisSpan("zscan", key);
-        span.tag("cursor", Arrays.toString(cursor));
-        span.tag("params", TagUtils.toString(params.getParams()));
-        return helper.executeInScope(span, () -> delegate.zscan(key, cursor, params));
+        Span span = helper.startNextJedisSpan(endpoint, "zscan", key);
+        helper.tag(span, "cursor", cursor);
+        helper.tag(span, "params", params, p -> TagUtils.toString(p.getParams()));
+        return helper.executeInScope(span, delegate, key, cursor, params, Jedis::zscan);
     }
 
     @Override
     public ScanResult<Tuple> zscan(String key, int cursor) {
-        Span span = helper.startNextJedisSpan("zscan", key);
-        span.tag("cursor", String.valueOf(cursor));
-        return helper.executeInScope(span, () -> delegate.zscan(key, cursor));
+        Span span = helper.startNextJedisSpan(endpoint, "zscan", key);
+        helper.tag(span, "cursor", cursor);
+        return helper.executeInScope(span, delegate, key, cursor, Jedis::zscan);
     }
 
     @Override
     public ScanResult<Tuple> zscan(String key, int cursor, ScanParams params) {
-        Span span = helper.startNextJedisSpan("zscan", key);
-        span.tag("cursor", String.valueOf(cursor));
-        span.tag("params", TagUtils.toString(params.getParams()));
-        return helper.executeInScope(span, () -> delegate.zscan(key, cursor, params));
+        Span span = helper.startNextJedisSpan(endpoint, "zscan", key);
+        helper.tag(span, "cursor", cursor);
+        helper.tag(span, "params", params, p -> TagUtils.toString(p.getParams()));
+        return helper.executeInScope(span, delegate, key, cursor, params, Jedis::zscan);
     }
 
     @Override
     public ScanResult<Tuple> zscan(String key, String cursor) {
-        Span span = helper.startNextJedisSpan("zscan", key);
-        span.tag("cursor", cursor);
-        return helper.executeInScope(span, () -> delegate.zscan(key, cursor));
+        Span span = helper.startNextJedisSpan(endpoint, "zscan", key);
+        helper.tag(span, "cursor", cursor);
+        return helper.executeInScope(span, delegate, key, cursor, Jedis::zscan);
     }
 
     @Override
     public ScanResult<Tuple> zscan(String key, String cursor, ScanParams params) {
-        Span span = helper.startNextJedisSpan("zscan", key);
-        span.tag("cursor", cursor);
-        span.tag("params", TagUtils.toString(params.getParams()));
-        return helper.executeInScope(span, () -> delegate.zscan(key, cursor, params));
+        Span span = helper.startNextJedisSpan(endpoint, "zscan", key);
+        helper.tag(span, "cursor", cursor);
+        helper.tag(span, "params", params, p -> TagUtils.toString(p.getParams()));
+        return helper.executeInScope(span, delegate, key, cursor, params, Jedis::zscan);
     }
 
     @Override
     public Double zscore(byte[] key, byte[] member) {
-        Span span = helper.startNextJedisSpan("zscore", key);
-        span.tag("member", Arrays.toString(member));
-        return helper.executeInScope(span, () -> delegate.zscore(key, member));
+        Span span = helper.startNextJedisSpan(endpoint, "zscore", key);
+        helper.tag(span, "member", member);
+        return helper.executeInScope(span, delegate, key, member, Jedis::zscore);
     }
 
     @Override
     public Double zscore(String key, String member) {
-        Span span = helper.startNextJedisSpan("zscore", key);
-        span.tag("member", member);
-        return helper.executeInScope(span, () -> delegate.zscore(key, member));
+        Span span = helper.startNextJedisSpan(endpoint, "zscore", key);
+        helper.tag(span, "member", member);
+        return helper.executeInScope(span, delegate, key, member, Jedis::zscore);
     }
 
     @Override
     public Long zunionstore(byte[] dstkey, byte[]... sets) {
-        Span span = helper.startNextJedisSpan("zunionstore");
-        span.tag("dstkey", Arrays.toString(dstkey));
-        span.tag("sets", TagUtils.toString(sets));
-        return helper.executeInScope(span, () -> delegate.zunionstore(dstkey, sets));
+        Span span = helper.startNextJedisSpan(endpoint, "zunionstore");
+        helper.tag(span, "dstkey", dstkey);
+        helper.tagMany(span, "sets", sets);
+        return helper.executeInScope(span, delegate, dstkey, sets, Jedis::zunionstore);
     }
 
     @Override
     public Long zunionstore(byte[] dstkey, ZParams params, byte[]... sets) {
-        Span span = helper.startNextJedisSpan("zunionstore");
-        span.tag("dstkey", Arrays.toString(dstkey));
-        span.tag("params", TagUtils.toString(params.getParams()));
-        span.tag("sets", TagUtils.toString(sets));
-        return helper.executeInScope(span, () -> delegate.zunionstore(dstkey, params, sets));
+        Span span = helper.startNextJedisSpan(endpoint, "zunionstore");
+        helper.tag(span, "dstkey", dstkey);
+        helper.tag(span, "params", params, p -> TagUtils.toString(p.getParams()));
+        helper.tagMany(span, "sets", sets);
+        return helper.executeInScope(span, delegate, dstkey, params, sets, Jedis::zunionstore);
     }
 
     @Override
     public Long zunionstore(String dstkey, String... sets) {
-        Span span = helper.startNextJedisSpan("zunionstore");
-        span.tag("dstkey", dstkey);
-        span.tag("sets", Arrays.toString(sets));
-        return helper.executeInScope(span, () -> delegate.zunionstore(dstkey, sets));
+        Span span = helper.startNextJedisSpan(endpoint, "zunionstore");
+        helper.tag(span, "dstkey", dstkey);
+        helper.tagMany(span, "sets", sets);
+        return helper.executeInScope(span, delegate, dstkey, sets, Jedis::zunionstore);
     }
 
     @Override
     public Long zunionstore(String dstkey, ZParams params, String... sets) {
-        Span span = helper.startNextJedisSpan("zunionstore");
-        span.tag("params", TagUtils.toString(params.getParams()));
-        span.tag("sets", Arrays.toString(sets));
-        return helper.executeInScope(span, () -> delegate.zunionstore(dstkey, params, sets));
+        Span span = helper.startNextJedisSpan(endpoint, "zunionstore");
+        helper.tag(span, "params", params, p -> TagUtils.toString(p.getParams()));
+        helper.tagMany(span, "sets", sets);
+        return helper.executeInScope(span, delegate, dstkey, params, sets, Jedis::zunionstore);
     }
 
 
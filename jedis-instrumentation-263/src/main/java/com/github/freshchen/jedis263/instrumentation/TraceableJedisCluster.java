@@ -0,0 +1,1108 @@
+package com.github.freshchen.jedis263.instrumentation;
+
+import brave.Span;
+import com.github.freshchen.instrumentation.core.function.QuadFunction;
+import com.github.freshchen.instrumentation.core.function.TriFunction;
+import com.github.freshchen.instrumentation.core.util.TagUtils;
+import com.github.freshchen.jedis.instrumentation.metrics.JedisMetrics;
+import com.github.freshchen.jedis.instrumentation.util.JedisTracerHelper;
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
+import redis.clients.jedis.BinaryClient;
+import redis.clients.jedis.Client;
+import redis.clients.jedis.HostAndPort;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisCommands;
+import redis.clients.jedis.JedisPool;
+import redis.clients.jedis.JedisSlotBasedConnectionHandler;
+import redis.clients.jedis.Protocol;
+import redis.clients.jedis.ScanResult;
+import redis.clients.jedis.SortingParams;
+import redis.clients.jedis.Tuple;
+import redis.clients.jedis.exceptions.JedisAskDataException;
+import redis.clients.jedis.exceptions.JedisClusterException;
+import redis.clients.jedis.exceptions.JedisClusterMaxRedirectionsException;
+import redis.clients.jedis.exceptions.JedisConnectionException;
+import redis.clients.jedis.exceptions.JedisMovedDataException;
+import redis.clients.jedis.exceptions.JedisRedirectionException;
+import redis.clients.util.JedisClusterCRC16;
+
+import java.io.Closeable;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Cluster client tracing each command as one span over all of its attempts. JedisCluster keeps its routing private,
+ * so this client runs the same MOVED/ASK redirect loop on its own connection handler. The span is tagged with the
+ * hash slot, the node that answered and, when there were any, the MOVED and ASK redirections and connection retries.
+ * In metrics mode every attempt is timed into {@link JedisTracerHelper#getMetrics()} under the node it went to, so
+ * latency during a rebalance can be attributed per node.
+ *
+ * @author freshchen
+ * @since 2026/10/17
+ */
+public class TraceableJedisCluster implements JedisCommands, Closeable {
+
+    public static final int DEFAULT_MAX_REDIRECTIONS = 5;
+
+    private final JedisSlotBasedConnectionHandler connectionHandler;
+    private final int maxRedirections;
+    private final JedisTracerHelper helper;
+
+    /**
+     * endpoints of the nodes answered so far, copied on write as nodes are few and seldom added
+     */
+    private volatile JedisMetrics.Endpoint[] endpoints = new JedisMetrics.Endpoint[0];
+
+    public TraceableJedisCluster(Set<HostAndPort> nodes, JedisTracerHelper helper) {
+        this(nodes, new GenericObjectPoolConfig<>(), helper);
+    }
+
+    public TraceableJedisCluster(Set<HostAndPort> nodes, GenericObjectPoolConfig<Jedis> poolConfig, JedisTracerHelper helper) {
+        this(nodes, Protocol.DEFAULT_TIMEOUT, DEFAULT_MAX_REDIRECTIONS, poolConfig, helper);
+    }
+
+    public TraceableJedisCluster(Set<HostAndPort> nodes, int timeout, int maxRedirections,
+                                 GenericObjectPoolConfig<Jedis> poolConfig, JedisTracerHelper helper) {
+        this.connectionHandler = new JedisSlotBasedConnectionHandler(nodes, poolConfig, timeout);
+        this.maxRedirections = maxRedirections;
+        this.helper = helper;
+    }
+
+    public Map<String, JedisPool> getClusterNodes() {
+        return connectionHandler.getNodes();
+    }
+
+    @Override
+    public void close() {
+        for (JedisPool pool : connectionHandler.getNodes().values()) {
+            try {
+                pool.destroy();
+            } catch (RuntimeException e) {
+                // keep closing the other pools
+            }
+        }
+    }
+
+    private <T> T run(Span span, String command, String key, Function<Jedis, T> action) {
+        return run(span, command, key, false, action);
+    }
+
+    /**
+     * @param blocking timed apart from other commands, see {@link JedisTracerHelper#startBlockingJedisSpan}
+     */
+    private <T> T run(Span span, String command, String key, boolean blocking, Function<Jedis, T> action) {
+        return run(span, command, key, blocking, action, null,
+            (connection, k, function, unused) -> function.apply(connection));
+    }
+
+    /**
+     * Key and arguments are passed explicitly so that callers can use a non-capturing method reference such as
+     * {@code Jedis::get}, which unlike a capturing lambda is not allocated per call.
+     */
+    private <T> T run(Span span, String command, String key, BiFunction<Jedis, String, T> action) {
+        return run(span, command, key, false, action, null,
+            (connection, k, function, unused) -> function.apply(connection, k));
+    }
+
+    private <A, T> T run(Span span, String command, String key, A arg, TriFunction<Jedis, String, A, T> action) {
+        return run(span, command, key, false, arg, action,
+            (connection, k, a, function) -> function.apply(connection, k, a));
+    }
+
+    private <A, B, T> T run(Span span, String command, String key, A arg1, B arg2,
+                            QuadFunction<Jedis, String, A, B, T> action) {
+        return run(span, command, key, false, arg1, arg2, action);
+    }
+
+    private <A, B, T> T run(Span span, String command, String key, boolean blocking, A arg1, B arg2,
+                            QuadFunction<Jedis, String, A, B, T> action) {
+        int slot = JedisClusterCRC16.getSlot(key);
+        helper.tag(span, "slot", slot);
+        // nothing traced runs inside the redirect loop, so the span is finished here rather than through a
+        // capturing executeInScope
+        try {
+            return runWithRetries(span, command, slot, blocking, key, arg1, arg2, action);
+        } catch (RuntimeException | Error e) {
+            helper.error(span, e);
+            throw e;
+        } finally {
+            helper.finish(span);
+        }
+    }
+
+    /**
+     * the redirect loop of JedisClusterCommand in 2.6.3, unrolled and counting what it does: a broken connection is
+     * retried once on a random node, a redirection goes back to routing by slot
+     */
+    private <A, B, T> T runWithRetries(Span span, String command, int slot, boolean blocking, String key, A arg1,
+                                       B arg2, QuadFunction<Jedis, String, A, B, T> action) {
+        int moved = 0;
+        int asks = 0;
+        int retries = 0;
+        boolean tryRandomNode = false;
+        Jedis askConnection = null;
+        try {
+            for (int attempts = maxRedirections; ; attempts--) {
+                if (attempts <= 0) {
+                    throw new JedisClusterMaxRedirectionsException("Too many Cluster redirections?");
+                }
+                Jedis connection = null;
+                boolean broken = false;
+                try {
+                    if (askConnection != null) {
+                        connection = askConnection;
+                        askConnection = null;
+                        connection.asking();
+                    } else if (tryRandomNode) {
+                        connection = connectionHandler.getConnection();
+                    } else {
+                        connection = connectionHandler.getConnectionFromSlot(slot);
+                    }
+                    T result = attempt(command, connection, blocking, key, arg1, arg2, action);
+                    if (!span.isNoop()) {
+                        span.tag("node", connection.getClient().getHost() + ":" + connection.getClient().getPort());
+                    }
+                    // like the standalone clients, a blocking reply is tagged with its outcome instead of its size
+                    return blocking ? helper.blockingReply(span, result) : ResultSizes.tag(helper, span, result);
+                } catch (JedisConnectionException e) {
+                    if (tryRandomNode) {
+                        throw e;
+                    }
+                    broken = true;
+                    tryRandomNode = true;
+                    retries++;
+                } catch (JedisAskDataException e) {
+                    askConnection = connectionHandler.getConnectionFromNode(e.getTargetNode());
+                    tryRandomNode = false;
+                    asks++;
+                } catch (JedisMovedDataException e) {
+                    connectionHandler.renewSlotCache();
+                    tryRandomNode = false;
+                    moved++;
+                } catch (JedisRedirectionException e) {
+                    throw new JedisClusterException(e);
+                } finally {
+                    release(connection, broken);
+                }
+            }
+        } finally {
+            release(askConnection, false);
+            if (moved > 0) {
+                helper.tag(span, "moved", moved);
+            }
+            if (asks > 0) {
+                helper.tag(span, "asks", asks);
+            }
+            if (retries > 0) {
+                helper.tag(span, "retries", retries);
+            }
+        }
+    }
+
+    private <A, B, T> T attempt(String command, Jedis connection, boolean blocking, String key, A arg1, B arg2,
+                                QuadFunction<Jedis, String, A, B, T> action) {
+        if (!helper.isMetricsMode()) {
+            return action.apply(connection, key, arg1, arg2);
+        }
+        long start = System.nanoTime();
+        boolean failed = true;
+        boolean timedOut = false;
+        try {
+            T result = action.apply(connection, key, arg1, arg2);
+            failed = false;
+            timedOut = blocking && JedisTracerHelper.isTimedOut(result);
+            return result;
+        } finally {
+            JedisMetrics.Endpoint endpoint = endpoint(connection.getClient());
+            JedisMetrics.CommandMetrics metrics = blocking ? endpoint.blocking(command) : endpoint.command(command);
+            metrics.record(System.nanoTime() - start, failed);
+            if (timedOut) {
+                metrics.timedOut();
+            }
+        }
+    }
+
+    /**
+     * the metrics endpoint of a node, looked up without building its address
+     */
+    private JedisMetrics.Endpoint endpoint(Client client) {
+        String host = client.getHost();
+        int port = client.getPort();
+        JedisMetrics.Endpoint[] endpoints = this.endpoints;
+        for (JedisMetrics.Endpoint endpoint : endpoints) {
+            if (endpoint.getPort() == port && endpoint.getHost().equals(host)) {
+                return endpoint;
+            }
+        }
+        JedisMetrics.Endpoint endpoint = helper.endpoint(host, port);
+        synchronized (this) {
+            if (Arrays.asList(this.endpoints).contains(endpoint)) {
+                return endpoint;
+            }
+            endpoints = Arrays.copyOf(this.endpoints, this.endpoints.length + 1);
+            endpoints[endpoints.length - 1] = endpoint;
+            this.endpoints = endpoints;
+        }
+        return endpoint;
+    }
+
+    private void release(Jedis connection, boolean broken) {
+        if (connection == null) {
+            return;
+        }
+        if (broken) {
+            connectionHandler.returnBrokenConnection(connection);
+        } else {
+            connectionHandler.returnConnection(connection);
+        }
+    }
+
+    @Override
+    public String set(String key, String value) {
+        Span span = helper.startNextJedisSpan("set", key);
+        helper.tag(span, "value", value);
+        return run(span, "set", key, value, Jedis::set);
+    }
+
+    @Override
+    public String set(String key, String value, String nxxx, String expx, long time) {
+        Span span = helper.startNextJedisSpan("set", key);
+        helper.tag(span, "nxxx", nxxx);
+        helper.tag(span, "expx", expx);
+        helper.tag(span, "time", time);
+        helper.tag(span, "value", value);
+        return run(span, "set", key, connection -> connection.set(key, value, nxxx, expx, time));
+    }
+
+    @Override
+    public String get(String key) {
+        Span span = helper.startNextJedisSpan("get", key);
+        return run(span, "get", key, Jedis::get);
+    }
+
+    @Override
+    public Boolean exists(String key) {
+        Span span = helper.startNextJedisSpan("exists", key);
+        return run(span, "exists", key, Jedis::exists);
+    }
+
+    @Override
+    public Long persist(String key) {
+        Span span = helper.startNextJedisSpan("persist", key);
+        return run(span, "persist", key, Jedis::persist);
+    }
+
+    @Override
+    public String type(String key) {
+        Span span = helper.startNextJedisSpan("type", key);
+        return run(span, "type", key, Jedis::type);
+    }
+
+    @Override
+    public Long expire(String key, int seconds) {
+        Span span = helper.startNextJedisSpan("expire", key);
+        helper.tag(span, "seconds", seconds);
+        return run(span, "expire", key, connection -> connection.expire(key, seconds));
+    }
+
+    @Override
+    public Long pexpire(String key, long milliseconds) {
+        Span span = helper.startNextJedisSpan("pexpire", key);
+        helper.tag(span, "milliseconds", milliseconds);
+        return run(span, "pexpire", key, connection -> connection.pexpire(key, milliseconds));
+    }
+
+    @Override
+    public Long expireAt(String key, long unixTime) {
+        Span span = helper.startNextJedisSpan("expireAt", key);
+        helper.tag(span, "unixTime", unixTime);
+        return run(span, "expireAt", key, connection -> connection.expireAt(key, unixTime));
+    }
+
+    @Override
+    public Long pexpireAt(String key, long millisecondsTimestamp) {
+        Span span = helper.startNextJedisSpan("pexpireAt", key);
+        helper.tag(span, "millisecondsTimestamp", millisecondsTimestamp);
+        return run(span, "pexpireAt", key, connection -> connection.pexpireAt(key, millisecondsTimestamp));
+    }
+
+    @Override
+    public Long ttl(String key) {
+        Span span = helper.startNextJedisSpan("ttl", key);
+        return run(span, "ttl", key, Jedis::ttl);
+    }
+
+    @Override
+    public Boolean setbit(String key, long offset, boolean value) {
+        Span span = helper.startNextJedisSpan("setbit", key);
+        helper.tag(span, "offset", offset);
+        helper.tag(span, "value", value);
+        return run(span, "setbit", key, connection -> connection.setbit(key, offset, value));
+    }
+
+    @Override
+    public Boolean setbit(String key, long offset, String value) {
+        Span span = helper.startNextJedisSpan("setbit", key);
+        helper.tag(span, "offset", offset);
+        helper.tag(span, "value", value);
+        return run(span, "setbit", key, connection -> connection.setbit(key, offset, value));
+    }
+
+    @Override
+    public Boolean getbit(String key, long offset) {
+        Span span = helper.startNextJedisSpan("getbit", key);
+        helper.tag(span, "offset", offset);
+        return run(span, "getbit", key, connection -> connection.getbit(key, offset));
+    }
+
+    @Override
+    public Long setrange(String key, long offset, String value) {
+        Span span = helper.startNextJedisSpan("setrange", key);
+        helper.tag(span, "offset", offset);
+        helper.tag(span, "value", value);
+        return run(span, "setrange", key, connection -> connection.setrange(key, offset, value));
+    }
+
+    @Override
+    public String getrange(String key, long startOffset, long endOffset) {
+        Span span = helper.startNextJedisSpan("getrange", key);
+        helper.tag(span, "startOffset", startOffset);
+        helper.tag(span, "endOffset", endOffset);
+        return run(span, "getrange", key, connection -> connection.getrange(key, startOffset, endOffset));
+    }
+
+    @Override
+    public String getSet(String key, String value) {
+        Span span = helper.startNextJedisSpan("getSet", key);
+        helper.tag(span, "value", value);
+        return run(span, "getSet", key, value, Jedis::getSet);
+    }
+
+    @Override
+    public Long setnx(String key, String value) {
+        Span span = helper.startNextJedisSpan("setnx", key);
+        helper.tag(span, "value", value);
+        return run(span, "setnx", key, value, Jedis::setnx);
+    }
+
+    @Override
+    public String setex(String key, int seconds, String value) {
+        Span span = helper.startNextJedisSpan("setex", key);
+        helper.tag(span, "seconds", seconds);
+        helper.tag(span, "value", value);
+        return run(span, "setex", key, connection -> connection.setex(key, seconds, value));
+    }
+
+    @Override
+    public Long decrBy(String key, long integer) {
+        Span span = helper.startNextJedisSpan("decrBy", key);
+        helper.tag(span, "integer", integer);
+        return run(span, "decrBy", key, connection -> connection.decrBy(key, integer));
+    }
+
+    @Override
+    public Long decr(String key) {
+        Span span = helper.startNextJedisSpan("decr", key);
+        return run(span, "decr", key, Jedis::decr);
+    }
+
+    @Override
+    public Long incrBy(String key, long integer) {
+        Span span = helper.startNextJedisSpan("incrBy", key);
+        helper.tag(span, "integer", integer);
+        return run(span, "incrBy", key, connection -> connection.incrBy(key, integer));
+    }
+
+    @Override
+    public Long incr(String key) {
+        Span span = helper.startNextJedisSpan("incr", key);
+        return run(span, "incr", key, Jedis::incr);
+    }
+
+    @Override
+    public Long append(String key, String value) {
+        Span span = helper.startNextJedisSpan("append", key);
+        helper.tag(span, "value", value);
+        return run(span, "append", key, value, Jedis::append);
+    }
+
+    @Override
+    public String substr(String key, int start, int end) {
+        Span span = helper.startNextJedisSpan("substr", key);
+        helper.tag(span, "start", start);
+        helper.tag(span, "end", end);
+        return run(span, "substr", key, connection -> connection.substr(key, start, end));
+    }
+
+    @Override
+    public Long hset(String key, String field, String value) {
+        Span span = helper.startNextJedisSpan("hset", key);
+        helper.tag(span, "field", field);
+        helper.tag(span, "value", value);
+        return run(span, "hset", key, field, value, Jedis::hset);
+    }
+
+    @Override
+    public String hget(String key, String field) {
+        Span span = helper.startNextJedisSpan("hget", key);
+        helper.tag(span, "field", field);
+        return run(span, "hget", key, field, Jedis::hget);
+    }
+
+    @Override
+    public Long hsetnx(String key, String field, String value) {
+        Span span = helper.startNextJedisSpan("hsetnx", key);
+        helper.tag(span, "field", field);
+        helper.tag(span, "value", value);
+        return run(span, "hsetnx", key, field, value, Jedis::hsetnx);
+    }
+
+    @Override
+    public String hmset(String key, Map<String, String> hash) {
+        Span span = helper.startNextJedisSpan("hmset", key);
+        helper.tag(span, "hash", hash, TagUtils::toString);
+        return run(span, "hmset", key, hash, Jedis::hmset);
+    }
+
+    @Override
+    public List<String> hmget(String key, String... fields) {
+        Span span = helper.startNextJedisSpan("hmget", key);
+        helper.tagMany(span, "fields", fields);
+        return run(span, "hmget", key, fields, Jedis::hmget);
+    }
+
+    @Override
+    public Long hincrBy(String key, String field, long value) {
+        Span span = helper.startNextJedisSpan("hincrBy", key);
+        helper.tag(span, "field", field);
+        helper.tag(span, "value", value);
+        return run(span, "hincrBy", key, connection -> connection.hincrBy(key, field, value));
+    }
+
+    @Override
+    public Boolean hexists(String key, String field) {
+        Span span = helper.startNextJedisSpan("hexists", key);
+        helper.tag(span, "field", field);
+        return run(span, "hexists", key, field, Jedis::hexists);
+    }
+
+    @Override
+    public Long hdel(String key, String... fields) {
+        Span span = helper.startNextJedisSpan("hdel", key);
+        helper.tagMany(span, "fields", fields);
+        return run(span, "hdel", key, fields, Jedis::hdel);
+    }
+
+    @Override
+    public Long hlen(String key) {
+        Span span = helper.startNextJedisSpan("hlen", key);
+        return run(span, "hlen", key, Jedis::hlen);
+    }
+
+    @Override
+    public Set<String> hkeys(String key) {
+        Span span = helper.startNextJedisSpan("hkeys", key);
+        return run(span, "hkeys", key, Jedis::hkeys);
+    }
+
+    @Override
+    public List<String> hvals(String key) {
+        Span span = helper.startNextJedisSpan("hvals", key);
+        return run(span, "hvals", key, Jedis::hvals);
+    }
+
+    @Override
+    public Map<String, String> hgetAll(String key) {
+        Span span = helper.startNextJedisSpan("hgetAll", key);
+        return run(span, "hgetAll", key, Jedis::hgetAll);
+    }
+
+    @Override
+    public Long rpush(String key, String... strings) {
+        Span span = helper.startNextJedisSpan("rpush", key);
+        helper.tagMany(span, "strings", strings);
+        return run(span, "rpush", key, strings, Jedis::rpush);
+    }
+
+    @Override
+    public Long lpush(String key, String... strings) {
+        Span span = helper.startNextJedisSpan("lpush", key);
+        helper.tagMany(span, "strings", strings);
+        return run(span, "lpush", key, strings, Jedis::lpush);
+    }
+
+    @Override
+    public Long llen(String key) {
+        Span span = helper.startNextJedisSpan("llen", key);
+        return run(span, "llen", key, Jedis::llen);
+    }
+
+    @Override
+    public List<String> lrange(String key, long start, long end) {
+        Span span = helper.startNextJedisSpan("lrange", key);
+        helper.tag(span, "start", start);
+        helper.tag(span, "end", end);
+        return run(span, "lrange", key, connection -> connection.lrange(key, start, end));
+    }
+
+    @Override
+    public String ltrim(String key, long start, long end) {
+        Span span = helper.startNextJedisSpan("ltrim", key);
+        helper.tag(span, "start", start);
+        helper.tag(span, "end", end);
+        return run(span, "ltrim", key, connection -> connection.ltrim(key, start, end));
+    }
+
+    @Override
+    public String lindex(String key, long index) {
+        Span span = helper.startNextJedisSpan("lindex", key);
+        helper.tag(span, "index", index);
+        return run(span, "lindex", key, connection -> connection.lindex(key, index));
+    }
+
+    @Override
+    public String lset(String key, long index, String value) {
+        Span span = helper.startNextJedisSpan("lset", key);
+        helper.tag(span, "index", index);
+        helper.tag(span, "value", value);
+        return run(span, "lset", key, connection -> connection.lset(key, index, value));
+    }
+
+    @Override
+    public Long lrem(String key, long count, String value) {
+        Span span = helper.startNextJedisSpan("lrem", key);
+        helper.tag(span, "count", count);
+        helper.tag(span, "value", value);
+        return run(span, "lrem", key, connection -> connection.lrem(key, count, value));
+    }
+
+    @Override
+    public String lpop(String key) {
+        Span span = helper.startNextJedisSpan("lpop", key);
+        return run(span, "lpop", key, Jedis::lpop);
+    }
+
+    @Override
+    public String rpop(String key) {
+        Span span = helper.startNextJedisSpan("rpop", key);
+        return run(span, "rpop", key, Jedis::rpop);
+    }
+
+    @Override
+    public Long sadd(String key, String... members) {
+        Span span = helper.startNextJedisSpan("sadd", key);
+        helper.tagMany(span, "members", members);
+        return run(span, "sadd", key, members, Jedis::sadd);
+    }
+
+    @Override
+    public Set<String> smembers(String key) {
+        Span span = helper.startNextJedisSpan("smembers", key);
+        return run(span, "smembers", key, Jedis::smembers);
+    }
+
+    @Override
+    public Long srem(String key, String... members) {
+        Span span = helper.startNextJedisSpan("srem", key);
+        helper.tagMany(span, "members", members);
+        return run(span, "srem", key, members, Jedis::srem);
+    }
+
+    @Override
+    public String spop(String key) {
+        Span span = helper.startNextJedisSpan("spop", key);
+        return run(span, "spop", key, Jedis::spop);
+    }
+
+    @Override
+    public Long scard(String key) {
+        Span span = helper.startNextJedisSpan("scard", key);
+        return run(span, "scard", key, Jedis::scard);
+    }
+
+    @Override
+    public Boolean sismember(String key, String member) {
+        Span span = helper.startNextJedisSpan("sismember", key);
+        helper.tag(span, "member", member);
+        return run(span, "sismember", key, member, Jedis::sismember);
+    }
+
+    @Override
+    public String srandmember(String key) {
+        Span span = helper.startNextJedisSpan("srandmember", key);
+        return run(span, "srandmember", key, Jedis::srandmember);
+    }
+
+    @Override
+    public List<String> srandmember(String key, int count) {
+        Span span = helper.startNextJedisSpan("srandmember", key);
+        helper.tag(span, "count", count);
+        return run(span, "srandmember", key, connection -> connection.srandmember(key, count));
+    }
+
+    @Override
+    public Long strlen(String key) {
+        Span span = helper.startNextJedisSpan("strlen", key);
+        return run(span, "strlen", key, Jedis::strlen);
+    }
+
+    @Override
+    public Long zadd(String key, double score, String member) {
+        Span span = helper.startNextJedisSpan("zadd", key);
+        helper.tag(span, "score", score);
+        helper.tag(span, "member", member);
+        return run(span, "zadd", key, connection -> connection.zadd(key, score, member));
+    }
+
+    @Override
+    public Long zadd(String key, Map<String, Double> scoreMembers) {
+        Span span = helper.startNextJedisSpan("zadd", key);
+        helper.tag(span, "scoreMembers", scoreMembers, TagUtils::toString);
+        return run(span, "zadd", key, scoreMembers, Jedis::zadd);
+    }
+
+    @Override
+    public Set<String> zrange(String key, long start, long end) {
+        Span span = helper.startNextJedisSpan("zrange", key);
+        helper.tag(span, "start", start);
+        helper.tag(span, "end", end);
+        return run(span, "zrange", key, connection -> connection.zrange(key, start, end));
+    }
+
+    @Override
+    public Long zrem(String key, String... members) {
+        Span span = helper.startNextJedisSpan("zrem", key);
+        helper.tagMany(span, "members", members);
+        return run(span, "zrem", key, members, Jedis::zrem);
+    }
+
+    @Override
+    public Double zincrby(String key, double score, String member) {
+        Span span = helper.startNextJedisSpan("zincrby", key);
+        helper.tag(span, "score", score);
+        helper.tag(span, "member", member);
+        return run(span, "zincrby", key, connection -> connection.zincrby(key, score, member));
+    }
+
+    @Override
+    public Long zrank(String key, String member) {
+        Span span = helper.startNextJedisSpan("zrank", key);
+        helper.tag(span, "member", member);
+        return run(span, "zrank", key, member, Jedis::zrank);
+    }
+
+    @Override
+    public Long zrevrank(String key, String member) {
+        Span span = helper.startNextJedisSpan("zrevrank", key);
+        helper.tag(span, "member", member);
+        return run(span, "zrevrank", key, member, Jedis::zrevrank);
+    }
+
+    @Override
+    public Set<String> zrevrange(String key, long start, long end) {
+        Span span = helper.startNextJedisSpan("zrevrange", key);
+        helper.tag(span, "start", start);
+        helper.tag(span, "end", end);
+        return run(span, "zrevrange", key, connection -> connection.zrevrange(key, start, end));
+    }
+
+    @Override
+    public Set<Tuple> zrangeWithScores(String key, long start, long end) {
+        Span span = helper.startNextJedisSpan("zrangeWithScores", key);
+        helper.tag(span, "start", start);
+        helper.tag(span, "end", end);
+        return run(span, "zrangeWithScores", key, connection -> connection.zrangeWithScores(key, start, end));
+    }
+
+    @Override
+    public Set<Tuple> zrevrangeWithScores(String key, long start, long end) {
+        Span span = helper.startNextJedisSpan("zrevrangeWithScores", key);
+        helper.tag(span, "start", start);
+        helper.tag(span, "end", end);
+        return run(span, "zrevrangeWithScores", key, connection -> connection.zrevrangeWithScores(key, start, end));
+    }
+
+    @Override
+    public Long zcard(String key) {
+        Span span = helper.startNextJedisSpan("zcard", key);
+        return run(span, "zcard", key, Jedis::zcard);
+    }
+
+    @Override
+    public Double zscore(String key, String member) {
+        Span span = helper.startNextJedisSpan("zscore", key);
+        helper.tag(span, "member", member);
+        return run(span, "zscore", key, member, Jedis::zscore);
+    }
+
+    @Override
+    public List<String> sort(String key) {
+        Span span = helper.startNextJedisSpan("sort", key);
+        return run(span, "sort", key, Jedis::sort);
+    }
+
+    @Override
+    public List<String> sort(String key, SortingParams sortingParameters) {
+        Span span = helper.startNextJedisSpan("sort", key);
+        helper.tag(span, "sortingParameters", sortingParameters, p -> TagUtils.toString(p.getParams()));
+        return run(span, "sort", key, sortingParameters, Jedis::sort);
+    }
+
+    @Override
+    public Long zcount(String key, double min, double max) {
+        Span span = helper.startNextJedisSpan("zcount", key);
+        helper.tag(span, "min", min);
+        helper.tag(span, "max", max);
+        return run(span, "zcount", key, connection -> connection.zcount(key, min, max));
+    }
+
+    @Override
+    public Long zcount(String key, String min, String max) {
+        Span span = helper.startNextJedisSpan("zcount", key);
+        helper.tag(span, "min", min);
+        helper.tag(span, "max", max);
+        return run(span, "zcount", key, min, max, Jedis::zcount);
+    }
+
+    @Override
+    public Set<String> zrangeByScore(String key, double min, double max) {
+        Span span = helper.startNextJedisSpan("zrangeByScore", key);
+        helper.tag(span, "min", min);
+        helper.tag(span, "max", max);
+        return run(span, "zrangeByScore", key, connection -> connection.zrangeByScore(key, min, max));
+    }
+
+    @Override
+    public Set<String> zrangeByScore(String key, String min, String max) {
+        Span span = helper.startNextJedisSpan("zrangeByScore", key);
+        helper.tag(span, "min", min);
+        helper.tag(span, "max", max);
+        return run(span, "zrangeByScore", key, min, max, Jedis::zrangeByScore);
+    }
+
+    @Override
+    public Set<String> zrevrangeByScore(String key, double max, double min) {
+        Span span = helper.startNextJedisSpan("zrevrangeByScore", key);
+        helper.tag(span, "max", max);
+        helper.tag(span, "min", min);
+        return run(span, "zrevrangeByScore", key, connection -> connection.zrevrangeByScore(key, max, min));
+    }
+
+    @Override
+    public Set<String> zrangeByScore(String key, double min, double max, int offset, int count) {
+        Span span = helper.startNextJedisSpan("zrangeByScore", key);
+        helper.tag(span, "min", min);
+        helper.tag(span, "max", max);
+        helper.tag(span, "offset", offset);
+        helper.tag(span, "count", count);
+        return run(span, "zrangeByScore", key, connection -> connection.zrangeByScore(key, min, max, offset, count));
+    }
+
+    @Override
+    public Set<String> zrevrangeByScore(String key, String max, String min) {
+        Span span = helper.startNextJedisSpan("zrevrangeByScore", key);
+        helper.tag(span, "max", max);
+        helper.tag(span, "min", min);
+        return run(span, "zrevrangeByScore", key, max, min, Jedis::zrevrangeByScore);
+    }
+
+    @Override
+    public Set<String> zrangeByScore(String key, String min, String max, int offset, int count) {
+        Span span = helper.startNextJedisSpan("zrangeByScore", key);
+        helper.tag(span, "min", min);
+        helper.tag(span, "max", max);
+        helper.tag(span, "offset", offset);
+        helper.tag(span, "count", count);
+        return run(span, "zrangeByScore", key, connection -> connection.zrangeByScore(key, min, max, offset, count));
+    }
+
+    @Override
+    public Set<String> zrevrangeByScore(String key, double max, double min, int offset, int count) {
+        Span span = helper.startNextJedisSpan("zrevrangeByScore", key);
+        helper.tag(span, "min", min);
+        helper.tag(span, "max", max);
+        helper.tag(span, "offset", offset);
+        helper.tag(span, "count", count);
+        return run(span, "zrevrangeByScore", key, connection -> connection.zrevrangeByScore(key, max, min, offset, count));
+    }
+
+    @Override
+    public Set<Tuple> zrangeByScoreWithScores(String key, double min, double max) {
+        Span span = helper.startNextJedisSpan("zrangeByScoreWithScores", key);
+        helper.tag(span, "min", min);
+        helper.tag(span, "max", max);
+        return run(span, "zrangeByScoreWithScores", key, connection -> connection.zrangeByScoreWithScores(key, min, max));
+    }
+
+    @Override
+    public Set<Tuple> zrevrangeByScoreWithScores(String key, double max, double min) {
+        Span span = helper.startNextJedisSpan("zrevrangeByScoreWithScores", key);
+        helper.tag(span, "max", max);
+        helper.tag(span, "min", min);
+        return run(span, "zrevrangeByScoreWithScores", key, connection -> connection.zrevrangeByScoreWithScores(key, max, min));
+    }
+
+    @Override
+    public Set<Tuple> zrangeByScoreWithScores(String key, double min, double max, int offset, int count) {
+        Span span = helper.startNextJedisSpan("zrangeByScoreWithScores", key);
+        helper.tag(span, "min", min);
+        helper.tag(span, "max", max);
+        helper.tag(span, "offset", offset);
+        helper.tag(span, "count", count);
+        return run(span, "zrangeByScoreWithScores", key, connection -> connection.zrangeByScoreWithScores(key, min, max, offset, count));
+    }
+
+    @Override
+    public Set<String> zrevrangeByScore(String key, String max, String min, int offset, int count) {
+        Span span = helper.startNextJedisSpan("zrevrangeByScore", key);
+        helper.tag(span, "min", min);
+        helper.tag(span, "max", max);
+        helper.tag(span, "offset", offset);
+        helper.tag(span, "count", count);
+        return run(span, "zrevrangeByScore", key, connection -> connection.zrevrangeByScore(key, max, min, offset, count));
+    }
+
+    @Override
+    public Set<Tuple> zrangeByScoreWithScores(String key, String min, String max) {
+        Span span = helper.startNextJedisSpan("zrangeByScoreWithScores", key);
+        helper.tag(span, "min", min);
+        helper.tag(span, "max", max);
+        return run(span, "zrangeByScoreWithScores", key, min, max, Jedis::zrangeByScoreWithScores);
+    }
+
+    @Override
+    public Set<Tuple> zrevrangeByScoreWithScores(String key, String max, String min) {
+        Span span = helper.startNextJedisSpan("zrevrangeByScoreWithScores", key);
+        helper.tag(span, "max", max);
+        helper.tag(span, "min", min);
+        return run(span, "zrevrangeByScoreWithScores", key, max, min, Jedis::zrevrangeByScoreWithScores);
+    }
+
+    @Override
+    public Set<Tuple> zrangeByScoreWithScores(String key, String min, String max, int offset, int count) {
+        Span span = helper.startNextJedisSpan("zrangeByScoreWithScores", key);
+        helper.tag(span, "min", min);
+        helper.tag(span, "max", max);
+        helper.tag(span, "offset", offset);
+        helper.tag(span, "count", count);
+        return run(span, "zrangeByScoreWithScores", key, connection -> connection.zrangeByScoreWithScores(key, min, max, offset, count));
+    }
+
+    @Override
+    public Set<Tuple> zrevrangeByScoreWithScores(String key, double max, double min, int offset, int count) {
+        Span span = helper.startNextJedisSpan("zrevrangeByScoreWithScores", key);
+        helper.tag(span, "min", min);
+        helper.tag(span, "max", max);
+        helper.tag(span, "offset", offset);
+        helper.tag(span, "count", count);
+        return run(span, "zrevrangeByScoreWithScores", key, connection -> connection.zrevrangeByScoreWithScores(key, max, min, offset, count));
+    }
+
+    @Override
+    public Set<Tuple> zrevrangeByScoreWithScores(String key, String max, String min, int offset, int count) {
+        Span span = helper.startNextJedisSpan("zrevrangeByScoreWithScores", key);
+        helper.tag(span, "min", min);
+        helper.tag(span, "max", max);
+        helper.tag(span, "offset", offset);
+        helper.tag(span, "count", count);
+        return run(span, "zrevrangeByScoreWithScores", key, connection -> connection.zrevrangeByScoreWithScores(key, max, min, offset, count));
+    }
+
+    @Override
+    public Long zremrangeByRank(String key, long start, long end) {
+        Span span = helper.startNextJedisSpan("zremrangeByRank", key);
+        helper.tag(span, "start", start);
+        helper.tag(span, "end", end);
+        return run(span, "zremrangeByRank", key, connection -> connection.zremrangeByRank(key, start, end));
+    }
+
+    @Override
+    public Long zremrangeByScore(String key, double start, double end) {
+        Span span = helper.startNextJedisSpan("zremrangeByScore", key);
+        helper.tag(span, "start", start);
+        helper.tag(span, "end", end);
+        return run(span, "zremrangeByScore", key, connection -> connection.zremrangeByScore(key, start, end));
+    }
+
+    @Override
+    public Long zremrangeByScore(String key, String start, String end) {
+        Span span = helper.startNextJedisSpan("zremrangeByScore", key);
+        helper.tag(span, "start", start);
+        helper.tag(span, "end", end);
+        return run(span, "zremrangeByScore", key, start, end, Jedis::zremrangeByScore);
+    }
+
+    @Override
+    public Long zlexcount(String key, String min, String max) {
+        Span span = helper.startNextJedisSpan("zlexcount", key);
+        helper.tag(span, "min", min);
+        helper.tag(span, "max", max);
+        return run(span, "zlexcount", key, min, max, Jedis::zlexcount);
+    }
+
+    @Override
+    public Set<String> zrangeByLex(String key, String min, String max) {
+        Span span = helper.startNextJedisSpan("zrangeByLex", key);
+        helper.tag(span, "min", min);
+        helper.tag(span, "max", max);
+        return run(span, "zrangeByLex", key, min, max, Jedis::zrangeByLex);
+    }
+
+    @Override
+    public Set<String> zrangeByLex(String key, String min, String max, int offset, int count) {
+        Span span = helper.startNextJedisSpan("zrangeByLex", key);
+        helper.tag(span, "min", min);
+        helper.tag(span, "max", max);
+        helper.tag(span, "offset", offset);
+        helper.tag(span, "count", count);
+        return run(span, "zrangeByLex", key, connection -> connection.zrangeByLex(key, min, max, offset, count));
+    }
+
+    @Override
+    public Long zremrangeByLex(String key, String min, String max) {
+        Span span = helper.startNextJedisSpan("zremrangeByLex", key);
+        helper.tag(span, "min", min);
+        helper.tag(span, "max", max);
+        return run(span, "zremrangeByLex", key, min, max, Jedis::zremrangeByLex);
+    }
+
+    @Override
+    public Long linsert(String key, BinaryClient.LIST_POSITION where, String pivot, String value) {
+        Span span = helper.startNextJedisSpan("linsert", key);
+        helper.tag(span, "where", where);
+        helper.tag(span, "pivot", pivot);
+        helper.tag(span, "value", value);
+        return run(span, "linsert", key, connection -> connection.linsert(key, where, pivot, value));
+    }
+
+    @Override
+    public Long lpushx(String key, String... string) {
+        Span span = helper.startNextJedisSpan("lpushx", key);
+        helper.tagMany(span, "string", string);
+        return run(span, "lpushx", key, string, Jedis::lpushx);
+    }
+
+    @Override
+    public Long rpushx(String key, String... string) {
+        Span span = helper.startNextJedisSpan("rpushx", key);
+        helper.tagMany(span, "string", string);
+        return run(span, "rpushx", key, string, Jedis::rpushx);
+    }
+
+    @Override
+    public List<String> blpop(String arg) {
+        Span span = helper.startBlockingJedisSpan(null, "blpop", arg, -1L);
+        return run(span, "blpop", arg, true, connection -> connection.blpop(arg));
+    }
+
+    @Override
+    public List<String> blpop(int timeout, String key) {
+        Span span = helper.startBlockingJedisSpan(null, "blpop", key, timeout);
+        return run(span, "blpop", key, true, connection -> connection.blpop(timeout, key));
+    }
+
+    @Override
+    public List<String> brpop(String arg) {
+        Span span = helper.startBlockingJedisSpan(null, "brpop", arg, -1L);
+        return run(span, "brpop", arg, true, connection -> connection.brpop(arg));
+    }
+
+    @Override
+    public List<String> brpop(int timeout, String key) {
+        Span span = helper.startBlockingJedisSpan(null, "brpop", key, timeout);
+        return run(span, "brpop", key, true, connection -> connection.brpop(timeout, key));
+    }
+
+    @Override
+    public Long del(String key) {
+        Span span = helper.startNextJedisSpan("del", key);
+        return run(span, "del", key, connection -> connection.del(key));
+    }
+
+    @Override
+    public String echo(String string) {
+        Span span = helper.startNextJedisSpan("echo", string);
+        helper.tag(span, "string", string);
+        return run(span, "echo", string, Jedis::echo);
+    }
+
+    @Override
+    public Long move(String key, int dbIndex) {
+        Span span = helper.startNextJedisSpan("move", key);
+        helper.tag(span, "dbIndex", dbIndex);
+        return run(span, "move", key, connection -> connection.move(key, dbIndex));
+    }
+
+    @Override
+    public Long bitcount(String key) {
+        Span span = helper.startNextJedisSpan("bitcount", key);
+        return run(span, "bitcount", key, Jedis::bitcount);
+    }
+
+    @Override
+    public Long bitcount(String key, long start, long end) {
+        Span span = helper.startNextJedisSpan("bitcount", key);
+        helper.tag(span, "start", start);
+        helper.tag(span, "end", end);
+        return run(span, "bitcount", key, connection -> connection.bitcount(key, start, end));
+    }
+
+    @Override
+    public ScanResult<Map.Entry<String, String>> hscan(String key, int cursor) {
+        Span span = helper.startNextJedisSpan("hscan", key);
+        helper.tag(span, "cursor", cursor);
+        return run(span, "hscan", key, connection -> connection.hscan(key, cursor));
+    }
+
+    @Override
+    public ScanResult<String> sscan(String key, int cursor) {
+        Span span = helper.startNextJedisSpan("sscan", key);
+        helper.tag(span, "cursor", cursor);
+        return run(span, "sscan", key, connection -> connection.sscan(key, cursor));
+    }
+
+    @Override
+    public ScanResult<Tuple> zscan(String key, int cursor) {
+        Span span = helper.startNextJedisSpan("zscan", key);
+        helper.tag(span, "cursor", cursor);
+        return run(span, "zscan", key, connection -> connection.zscan(key, cursor));
+    }
+
+    @Override
+    public ScanResult<Map.Entry<String, String>> hscan(String key, String cursor) {
+        Span span = helper.startNextJedisSpan("hscan", key);
+        helper.tag(span, "cursor", cursor);
+        return run(span, "hscan", key, cursor, Jedis::hscan);
+    }
+
+    @Override
+    public ScanResult<String> sscan(String key, String cursor) {
+        Span span = helper.startNextJedisSpan("sscan", key);
+        helper.tag(span, "cursor", cursor);
+        return run(span, "sscan", key, cursor, Jedis::sscan);
+    }
+
+    @Override
+    public ScanResult<Tuple> zscan(String key, String cursor) {
+        Span span = helper.startNextJedisSpan("zscan", key);
+        helper.tag(span, "cursor", cursor);
+        return run(span, "zscan", key, cursor, Jedis::zscan);
+    }
+
+    @Override
+    public Long pfadd(String key, String... elements) {
+        Span span = helper.startNextJedisSpan("pfadd", key);
+        helper.tagMany(span, "elements", elements);
+        return run(span, "pfadd", key, elements, Jedis::pfadd);
+    }
+
+    @Override
+    public long pfcount(String key) {
+        Span span = helper.startNextJedisSpan("pfcount", key);
+        return run(span, "pfcount", key, connection -> connection.pfcount(key));
+    }
+}
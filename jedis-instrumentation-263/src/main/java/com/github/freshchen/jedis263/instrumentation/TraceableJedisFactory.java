@@ -0,0 +1,68 @@
+package com.github.freshchen.jedis263.instrumentation;
+
+import com.github.freshchen.jedis.instrumentation.util.JedisTracerHelper;
+import org.apache.commons.pool2.PooledObject;
+import org.apache.commons.pool2.PooledObjectFactory;
+import org.apache.commons.pool2.impl.DefaultPooledObject;
+import redis.clients.jedis.Jedis;
+
+/**
+ * Wraps each connection made by the pool's own factory once, so borrowing hands out a ready wrapper. Lifecycle
+ * calls go to the raw connection and are not traced.
+ *
+ * @author freshchen
+ * @since 2026/10/17
+ */
+class TraceableJedisFactory implements PooledObjectFactory<Jedis> {
+
+    private final PooledObjectFactory<Jedis> delegate;
+    private final JedisTracerHelper helper;
+
+    TraceableJedisFactory(PooledObjectFactory<Jedis> delegate, JedisTracerHelper helper) {
+        this.delegate = delegate;
+        this.helper = helper;
+    }
+
+    @Override
+    public PooledObject<Jedis> makeObject() throws Exception {
+        PooledObject<Jedis> raw = delegate.makeObject();
+        return new PooledTraceableJedis(new TraceableJedis263(raw.getObject(), helper), raw);
+    }
+
+    @Override
+    public void destroyObject(PooledObject<Jedis> p) throws Exception {
+        delegate.destroyObject(raw(p));
+    }
+
+    @Override
+    public boolean validateObject(PooledObject<Jedis> p) {
+        return delegate.validateObject(raw(p));
+    }
+
+    @Override
+    public void activateObject(PooledObject<Jedis> p) throws Exception {
+        delegate.activateObject(raw(p));
+    }
+
+    @Override
+    public void passivateObject(PooledObject<Jedis> p) throws Exception {
+        delegate.passivateObject(raw(p));
+    }
+
+    private static PooledObject<Jedis> raw(PooledObject<Jedis> p) {
+        return ((PooledTraceableJedis) p).raw;
+    }
+
+    /**
+     * keeps the pooled object of the raw connection so lifecycle calls do not allocate
+     */
+    private static final class PooledTraceableJedis extends DefaultPooledObject<Jedis> {
+
+        private final PooledObject<Jedis> raw;
+
+        PooledTraceableJedis(TraceableJedis263 wrapper, PooledObject<Jedis> raw) {
+            super(wrapper);
+            this.raw = raw;
+        }
+    }
+}
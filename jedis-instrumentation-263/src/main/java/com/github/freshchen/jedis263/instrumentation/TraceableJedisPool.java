@@ -0,0 +1,77 @@
+package com.github.freshchen.jedis263.instrumentation;
+
+import com.github.freshchen.jedis.instrumentation.metrics.JedisPoolMetrics;
+import com.github.freshchen.jedis.instrumentation.util.JedisTracerHelper;
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisPool;
+import redis.clients.jedis.Protocol;
+import redis.clients.jedis.exceptions.JedisConnectionException;
+
+import java.util.NoSuchElementException;
+
+/**
+ * JedisPool handing out {@link TraceableJedis263} connections. Every borrow is timed into {@link #getMetrics()}
+ * and the wait is tagged on the next span started by the borrowing thread, so time lost waiting for a connection
+ * shows up next to the command it delayed. Connections are wrapped once when the pool creates them, so borrowing
+ * allocates nothing, and closing one returns it through the usual data source path.
+ *
+ * @author freshchen
+ * @since 2026/10/17
+ */
+public class TraceableJedisPool extends JedisPool {
+
+    private final JedisTracerHelper helper;
+    private final JedisPoolMetrics metrics = new JedisPoolMetrics();
+
+    public TraceableJedisPool(String host, int port, JedisTracerHelper helper) {
+        this(new GenericObjectPoolConfig<>(), host, port, helper);
+    }
+
+    public TraceableJedisPool(GenericObjectPoolConfig<Jedis> poolConfig, String host, int port,
+                              JedisTracerHelper helper) {
+        this(poolConfig, host, port, Protocol.DEFAULT_TIMEOUT, null, Protocol.DEFAULT_DATABASE, null, helper);
+    }
+
+    public TraceableJedisPool(GenericObjectPoolConfig<Jedis> poolConfig, String host, int port, int timeout,
+                              String password, int database, String clientName, JedisTracerHelper helper) {
+        super(poolConfig, host, port, timeout, password, database, clientName);
+        this.helper = helper;
+        initPool(poolConfig, new TraceableJedisFactory(internalPool.getFactory(), helper));
+    }
+
+    public JedisPoolMetrics getMetrics() {
+        return metrics;
+    }
+
+    @Override
+    public Jedis getResource() {
+        long start = System.nanoTime();
+        Jedis jedis;
+        try {
+            jedis = super.getResource();
+        } catch (JedisConnectionException e) {
+            if (e.getCause() instanceof NoSuchElementException) {
+                metrics.exhausted(System.nanoTime() - start);
+            }
+            throw e;
+        }
+        long wait = System.nanoTime() - start;
+        metrics.borrowed(wait);
+        helper.borrowed(wait);
+        return jedis;
+    }
+
+    @Override
+    public void returnResource(Jedis resource) {
+        helper.returned();
+        super.returnResource(resource);
+    }
+
+    @Override
+    public void returnBrokenResource(Jedis resource) {
+        helper.returned();
+        metrics.broken();
+        super.returnBrokenResource(resource);
+    }
+}
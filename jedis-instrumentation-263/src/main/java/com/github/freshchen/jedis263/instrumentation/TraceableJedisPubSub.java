@@ -0,0 +1,100 @@
+package com.github.freshchen.jedis263.instrumentation;
+
+import brave.Span;
+import brave.propagation.TraceContext;
+import com.github.freshchen.instrumentation.core.util.TagUtils;
+import com.github.freshchen.jedis.instrumentation.pubsub.ChannelSampler;
+import com.github.freshchen.jedis.instrumentation.pubsub.PubSubEnvelope;
+import com.github.freshchen.jedis.instrumentation.util.JedisTracerHelper;
+import redis.clients.jedis.JedisPubSub;
+
+/**
+ * Traces every sampled message as a consumer span around the delegate callback, a child of the publisher when
+ * the message came with a {@link PubSubEnvelope}. A message carrying the sampling decision of its publisher follows
+ * it, so traces are neither cut short nor started for a dropped publisher, the sampler decides for the others.
+ * Unsampled messages only cost the decision and envelope removal.
+ * <p>
+ * Subscribe with the decorator and call {@code unsubscribe} on it as well, the delegate is not connected.
+ * <pre>
+ * TraceableJedisPubSub pubSub = new TraceableJedisPubSub(listener, helper, new ChannelSampler(10));
+ * jedis.subscribe(pubSub, "orders");
+ * </pre>
+ *
+ * @author freshchen
+ * @since 2026/10/17
+ */
+public class TraceableJedisPubSub extends JedisPubSub {
+
+    private final JedisPubSub delegate;
+    private final JedisTracerHelper helper;
+    private final ChannelSampler sampler;
+
+    public TraceableJedisPubSub(JedisPubSub delegate, JedisTracerHelper helper) {
+        this(delegate, helper, new ChannelSampler());
+    }
+
+    public TraceableJedisPubSub(JedisPubSub delegate, JedisTracerHelper helper, ChannelSampler sampler) {
+        this.delegate = delegate;
+        this.helper = helper;
+        this.sampler = sampler;
+    }
+
+    @Override
+    public void onMessage(String channel, String message) {
+        int payloadStart = PubSubEnvelope.payloadStart(message);
+        String payload = PubSubEnvelope.payload(message, payloadStart);
+        TraceContext producer = PubSubEnvelope.context(message, payloadStart);
+        if (!isSampled(producer, channel)) {
+            delegate.onMessage(channel, payload);
+            return;
+        }
+        Span span = helper.startJedisConsumerSpan("message", producer);
+        helper.tag(span, "channel", channel);
+        helper.tag(span, "payloadSize", payload == null ? 0 : TagUtils.utf8Length(payload));
+        helper.executeAsParent(span, () -> delegate.onMessage(channel, payload));
+    }
+
+    @Override
+    public void onPMessage(String pattern, String channel, String message) {
+        int payloadStart = PubSubEnvelope.payloadStart(message);
+        String payload = PubSubEnvelope.payload(message, payloadStart);
+        TraceContext producer = PubSubEnvelope.context(message, payloadStart);
+        if (!isSampled(producer, channel)) {
+            delegate.onPMessage(pattern, channel, payload);
+            return;
+        }
+        Span span = helper.startJedisConsumerSpan("pmessage", producer);
+        helper.tag(span, "pattern", pattern);
+        helper.tag(span, "channel", channel);
+        helper.tag(span, "payloadSize", payload == null ? 0 : TagUtils.utf8Length(payload));
+        helper.executeAsParent(span, () -> delegate.onPMessage(pattern, channel, payload));
+    }
+
+    /**
+     * the decision of the publisher when the envelope carries one, the sampler's otherwise
+     */
+    private boolean isSampled(TraceContext producer, String channel) {
+        Boolean sampled = producer == null ? null : producer.sampled();
+        return sampled != null ? sampled : sampler.isSampled(channel);
+    }
+
+    @Override
+    public void onSubscribe(String channel, int subscribedChannels) {
+        delegate.onSubscribe(channel, subscribedChannels);
+    }
+
+    @Override
+    public void onUnsubscribe(String channel, int subscribedChannels) {
+        delegate.onUnsubscribe(channel, subscribedChannels);
+    }
+
+    @Override
+    public void onPUnsubscribe(String pattern, int subscribedChannels) {
+        delegate.onPUnsubscribe(pattern, subscribedChannels);
+    }
+
+    @Override
+    public void onPSubscribe(String pattern, int subscribedChannels) {
+        delegate.onPSubscribe(pattern, subscribedChannels);
+    }
+}
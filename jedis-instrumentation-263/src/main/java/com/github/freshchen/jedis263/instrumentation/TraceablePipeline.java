@@ -0,0 +1,127 @@
+package com.github.freshchen.jedis263.instrumentation;
+
+import brave.Span;
+import com.github.freshchen.jedis.instrumentation.metrics.JedisMetrics;
+import com.github.freshchen.jedis.instrumentation.util.JedisConstants;
+import com.github.freshchen.jedis.instrumentation.util.JedisTracerHelper;
+import redis.clients.jedis.Client;
+import redis.clients.jedis.Pipeline;
+import redis.clients.jedis.Response;
+
+import java.util.List;
+
+/**
+ * Queues commands untraced and traces each {@link #sync()} or {@link #syncAndReturnAll()} as one span covering the
+ * flush and the reading of all replies, tagged with the number of commands, the bytes of the replies and, when
+ * {@link JedisTracerHelper#setQueuedKeys} is set, the first keys that were queued.
+ *
+ * @author freshchen
+ * @since 2026/10/17
+ */
+public class TraceablePipeline extends Pipeline {
+
+    private final JedisTracerHelper helper;
+    private final JedisMetrics.Endpoint endpoint;
+
+    private final QueuedKeys keys;
+
+    /**
+     * only counted while a recorded span is open
+     */
+    private boolean countBytes;
+    private long replyBytes;
+
+    public TraceablePipeline(JedisTracerHelper helper, JedisMetrics.Endpoint endpoint) {
+        this.helper = helper;
+        this.endpoint = endpoint;
+        this.keys = new QueuedKeys(helper);
+    }
+
+    @Override
+    protected Client getClient(String key) {
+        keys.add(key);
+        return super.getClient(key);
+    }
+
+    @Override
+    protected Client getClient(byte[] key) {
+        keys.add(key);
+        return super.getClient(key);
+    }
+
+    @Override
+    protected Response<?> generateResponse(Object data) {
+        if (countBytes) {
+            replyBytes += sizeOf(data);
+        }
+        return super.generateResponse(data);
+    }
+
+    @Override
+    public void sync() {
+        int commands = getPipelinedResponseLength();
+        if (commands == 0) {
+            super.sync();
+            return;
+        }
+        Span span = startSyncSpan(commands);
+        helper.executeInScope(span, () -> {
+            super.sync();
+            tagReplyBytes(span);
+        });
+    }
+
+    @Override
+    public List<Object> syncAndReturnAll() {
+        int commands = getPipelinedResponseLength();
+        if (commands == 0) {
+            return super.syncAndReturnAll();
+        }
+        Span span = startSyncSpan(commands);
+        return helper.executeInScope(span, () -> {
+            List<Object> replies = super.syncAndReturnAll();
+            tagReplyBytes(span);
+            return replies;
+        });
+    }
+
+    private Span startSyncSpan(int commands) {
+        Span span = helper.startNextJedisSpan(endpoint, "sync");
+        helper.tag(span, "commands", commands);
+        // the queued keys are a sample, not a multi key argument
+        Object[] batch = keys.take();
+        if (batch != null) {
+            helper.tag(span, JedisConstants.KEY, batch);
+        }
+        countBytes = !span.isNoop();
+        replyBytes = 0L;
+        return span;
+    }
+
+    private void tagReplyBytes(Span span) {
+        if (countBytes) {
+            helper.tag(span, "replyBytes", replyBytes);
+            countBytes = false;
+        }
+    }
+
+    /**
+     * payload bytes of a raw reply: bulk strings and nested multi bulk replies, integers count as eight
+     */
+    private static long sizeOf(Object data) {
+        if (data instanceof byte[]) {
+            return ((byte[]) data).length;
+        }
+        if (data instanceof Long) {
+            return Long.BYTES;
+        }
+        if (data instanceof List) {
+            long size = 0L;
+            for (Object element : (List<?>) data) {
+                size += sizeOf(element);
+            }
+            return size;
+        }
+        return 0L;
+    }
+}
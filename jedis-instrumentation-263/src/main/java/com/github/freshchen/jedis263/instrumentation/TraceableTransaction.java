@@ -0,0 +1,108 @@
+package com.github.freshchen.jedis263.instrumentation;
+
+import brave.Span;
+import com.github.freshchen.jedis.instrumentation.util.JedisConstants;
+import com.github.freshchen.jedis.instrumentation.util.JedisTracerHelper;
+import redis.clients.jedis.Client;
+import redis.clients.jedis.Response;
+import redis.clients.jedis.Transaction;
+
+import java.io.Closeable;
+import java.util.List;
+
+/**
+ * Traces a transaction as one span from MULTI until {@link #exec()} or {@link #discard()}, so its duration is the
+ * time the connection is held. The span is tagged with the number of queued commands and an outcome:
+ * {@code committed}, {@code aborted} when a watched key changed, or {@code discarded}. A transaction given up without
+ * either is finished as {@code abandoned} by {@link #close()}.
+ *
+ * @author freshchen
+ * @since 2026/10/17
+ */
+public class TraceableTransaction extends Transaction implements Closeable {
+
+    public static final String OUTCOME = "outcome";
+    public static final String COMMITTED = "committed";
+    public static final String ABORTED = "aborted";
+    public static final String DISCARDED = "discarded";
+    public static final String ABANDONED = "abandoned";
+
+    private final JedisTracerHelper helper;
+    private final Span span;
+    private final QueuedKeys keys;
+    private boolean ended;
+
+    /**
+     * @param span started before MULTI was sent, finished by exec, discard or close
+     */
+    public TraceableTransaction(Client client, JedisTracerHelper helper, Span span) {
+        super(client);
+        this.helper = helper;
+        this.span = span;
+        this.keys = new QueuedKeys(helper);
+    }
+
+    @Override
+    protected Client getClient(String key) {
+        keys.add(key);
+        return super.getClient(key);
+    }
+
+    @Override
+    protected Client getClient(byte[] key) {
+        keys.add(key);
+        return super.getClient(key);
+    }
+
+    @Override
+    public List<Object> exec() {
+        ended = true;
+        tagQueued();
+        return helper.executeInScope(span, () -> {
+            List<Object> replies = super.exec();
+            helper.tag(span, OUTCOME, replies == null ? ABORTED : COMMITTED);
+            return replies;
+        });
+    }
+
+    @Override
+    public List<Response<?>> execGetResponse() {
+        ended = true;
+        tagQueued();
+        return helper.executeInScope(span, () -> {
+            List<Response<?>> responses = super.execGetResponse();
+            helper.tag(span, OUTCOME, responses == null ? ABORTED : COMMITTED);
+            return responses;
+        });
+    }
+
+    @Override
+    public String discard() {
+        ended = true;
+        tagQueued();
+        helper.tag(span, OUTCOME, DISCARDED);
+        return helper.executeInScope(span, () -> super.discard());
+    }
+
+    /**
+     * Finishes the span of a transaction that was neither executed nor discarded, the connection is left as it is
+     */
+    @Override
+    public void close() {
+        if (ended) {
+            return;
+        }
+        ended = true;
+        tagQueued();
+        helper.tag(span, OUTCOME, ABANDONED);
+        helper.finish(span);
+    }
+
+    private void tagQueued() {
+        helper.tag(span, "commands", getPipelinedResponseLength());
+        Object[] batch = keys.take();
+        if (batch != null) {
+            helper.tag(span, JedisConstants.KEY, batch);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.github.freshchen.jedis263.instrumentation;
+
+import brave.Tracing;
+import brave.handler.MutableSpan;
+import brave.handler.SpanHandler;
+import brave.propagation.TraceContext;
+import com.github.freshchen.jedis.instrumentation.util.JedisTracerHelper;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Tracing that keeps every finished span, with a helper starting root spans so calls made outside a trace are seen
+ *
+ * @author freshchen
+ * @since 2026/10/17
+ */
+class RecordedSpans implements Closeable {
+
+    private final List<MutableSpan> spans = new CopyOnWriteArrayList<>();
+
+    private final Tracing tracing = Tracing.newBuilder()
+        .addSpanHandler(new SpanHandler() {
+            @Override
+            public boolean end(TraceContext context, MutableSpan span, Cause cause) {
+                if (cause == Cause.FINISHED) {
+                    spans.add(span);
+                }
+                return true;
+            }
+        })
+        .build();
+
+    private final JedisTracerHelper helper = new JedisTracerHelper(tracing);
+
+    RecordedSpans() {
+        helper.setRootSpans(true);
+    }
+
+    JedisTracerHelper helper() {
+        return helper;
+    }
+
+    Tracing tracing() {
+        return tracing;
+    }
+
+    /**
+     * @return finished spans in the order they finished
+     */
+    List<MutableSpan> all() {
+        return new ArrayList<>(spans);
+    }
+
+    List<MutableSpan> named(String name) {
+        List<MutableSpan> named = new ArrayList<>();
+        for (MutableSpan span : spans) {
+            if (name.equals(span.name())) {
+                named.add(span);
+            }
+        }
+        return named;
+    }
+
+    /**
+     * @return the only span with the name
+     */
+    MutableSpan one(String name) {
+        List<MutableSpan> named = named(name);
+        if (named.size() != 1) {
+            throw new AssertionError("expected one " + name + " span but got " + all());
+        }
+        return named.get(0);
+    }
+
+    void clear() {
+        spans.clear();
+    }
+
+    @Override
+    public void close() {
+        tracing.close();
+    }
+}
@@ -0,0 +1,188 @@
+package com.github.freshchen.jedis263.instrumentation;
+
+import brave.handler.MutableSpan;
+import com.github.freshchen.jedis.instrumentation.stub.RespStubServer;
+import com.github.freshchen.jedis.instrumentation.util.CommandFilter;
+import com.github.freshchen.jedis.instrumentation.util.JedisConstants;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisPubSub;
+import redis.clients.jedis.Pipeline;
+import redis.clients.jedis.exceptions.JedisDataException;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author freshchen
+ * @since 2026/10/17
+ */
+class TraceableClientTest {
+
+    private static final String UNKNOWN_SHA1 = "0000000000000000000000000000000000000000";
+
+    private RespStubServer server;
+    private RecordedSpans spans;
+    private Jedis jedis;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new RespStubServer().start();
+        spans = new RecordedSpans();
+        jedis = new TraceableClientJedis(server.getHost(), server.getPort(), spans.helper());
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        jedis.close();
+        spans.close();
+        server.close();
+    }
+
+    @Test
+    void repliesOfAPipelineEndTheirOwnCommands() {
+        Pipeline pipeline = jedis.pipelined();
+        pipeline.set("a", "1");
+        pipeline.incr("counter");
+        pipeline.get("a");
+        pipeline.hset("h", "f", "v");
+        pipeline.sync();
+
+        List<String> names = new ArrayList<>();
+        for (MutableSpan span : spans.all()) {
+            names.add(span.name() + " " + span.tag(JedisConstants.KEY));
+        }
+        assertEquals("[set a, incr counter, get a, hset h]", names.toString());
+    }
+
+    @Test
+    void errorReplyEndsOnlyItsCommand() {
+        Pipeline pipeline = jedis.pipelined();
+        pipeline.evalsha(UNKNOWN_SHA1);
+        pipeline.get("a");
+        List<Object> replies = pipeline.syncAndReturnAll();
+
+        assertTrue(replies.get(0) instanceof JedisDataException);
+        assertNotNull(spans.one("evalsha").error());
+        assertNull(spans.one("get").error());
+    }
+
+    @Test
+    void pushedRepliesMatchNoCommand() throws Exception {
+        jedis.set("a", "1");
+        CountDownLatch subscribed = new CountDownLatch(1);
+        List<String> messages = new ArrayList<>();
+        JedisPubSub listener = new JedisPubSub() {
+            @Override
+            public void onMessage(String channel, String message) {
+                messages.add(channel + "=" + message);
+                if (messages.size() == 2) {
+                    unsubscribe();
+                }
+            }
+
+            @Override
+            public void onPMessage(String pattern, String channel, String message) {
+            }
+
+            @Override
+            public void onSubscribe(String channel, int subscribedChannels) {
+                if (subscribedChannels == 2) {
+                    subscribed.countDown();
+                }
+            }
+
+            @Override
+            public void onUnsubscribe(String channel, int subscribedChannels) {
+            }
+
+            @Override
+            public void onPUnsubscribe(String pattern, int subscribedChannels) {
+            }
+
+            @Override
+            public void onPSubscribe(String pattern, int subscribedChannels) {
+            }
+        };
+        Thread subscriber = new Thread(() -> jedis.subscribe(listener, "c1", "c2"));
+        subscriber.start();
+        assertTrue(subscribed.await(5, TimeUnit.SECONDS));
+        try (Jedis publisher = new Jedis(server.getHost(), server.getPort())) {
+            publisher.publish("c1", "x");
+            publisher.publish("c2", "y");
+        }
+        subscriber.join(TimeUnit.SECONDS.toMillis(5));
+        assertFalse(subscriber.isAlive(), "still subscribed");
+        spans.clear();
+
+        assertEquals("1", jedis.get("a"));
+
+        assertEquals("[c1=x, c2=y]", messages.toString());
+        MutableSpan get = spans.one("get");
+        assertEquals("a", get.tag(JedisConstants.KEY));
+        assertNull(get.error());
+    }
+
+    @Test
+    void blockingCommandsTellWhetherTheyTimedOut() {
+        jedis.lpush("queue", "job");
+
+        jedis.blpop(1, "queue");
+        jedis.blpop(1, "queue");
+
+        List<MutableSpan> blpops = spans.named("blpop");
+        assertEquals(2, blpops.size());
+        assertEquals("1", blpops.get(0).tag("timeout"));
+        assertEquals("false", blpops.get(0).tag("timedOut"));
+        assertEquals("true", blpops.get(1).tag("timedOut"));
+    }
+
+    @Test
+    void wireBytesAreCounted() {
+        spans.helper().setWireBytes(true);
+
+        jedis.set("a", "1");
+        jedis.get("a");
+
+        // *3\r\n$3\r\nSET\r\n$1\r\na\r\n$1\r\n1\r\n, the +OK\r\n status is counted like $2\r\nOK\r\n
+        assertEquals("27", spans.one("set").tag("requestBytes"));
+        assertEquals("8", spans.one("set").tag("responseBytes"));
+        // $1\r\n1\r\n
+        assertEquals("7", spans.one("get").tag("responseBytes"));
+    }
+
+    @Test
+    void excludedCommandsKeepTheirPlace() {
+        spans.helper().setCommandFilter(CommandFilter.excluding(Collections.singletonList("incr")));
+
+        Pipeline pipeline = jedis.pipelined();
+        pipeline.incr("counter");
+        pipeline.get("a");
+        pipeline.sync();
+
+        assertEquals(1, spans.all().size());
+        assertEquals("a", spans.one("get").tag(JedisConstants.KEY));
+    }
+
+    @Test
+    void errorRepliesOutsideAPipelineAreThrown() {
+        assertThrows(JedisDataException.class, () -> jedis.evalsha(UNKNOWN_SHA1));
+        assertNotNull(spans.one("evalsha").error());
+
+        jedis.get("a");
+        assertNull(spans.one("get").error());
+    }
+}
@@ -0,0 +1,83 @@
+package com.github.freshchen.jedis263.instrumentation;
+
+import brave.handler.MutableSpan;
+import com.github.freshchen.jedis.instrumentation.stub.RespStubServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import redis.clients.jedis.Jedis;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * @author freshchen
+ * @since 2026/10/17
+ */
+class TraceableJedis263Test {
+
+    private static final String SCRIPT = "return redis.call('get', KEYS[1])";
+
+    private RespStubServer server;
+    private RecordedSpans spans;
+    private TraceableJedis263 jedis;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new RespStubServer().setPayloadSize(4).start();
+        spans = new RecordedSpans();
+        jedis = new TraceableJedis263(new Jedis(server.getHost(), server.getPort()), spans.helper());
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        jedis.close();
+        spans.close();
+        server.close();
+    }
+
+    @Test
+    void evalScriptLoadsAMissingScript() {
+        List<String> keys = Collections.singletonList("a");
+
+        assertEquals("xxxx", jedis.evalScript(SCRIPT, keys, Collections.emptyList()));
+        assertEquals("xxxx", jedis.evalScript(SCRIPT, keys, Collections.emptyList()));
+
+        List<MutableSpan> evalshas = spans.named("evalsha");
+        assertEquals(2, evalshas.size());
+        assertEquals("true", evalshas.get(0).tag("scriptReload"));
+        assertNull(evalshas.get(1).tag("scriptReload"));
+        assertNull(evalshas.get(0).error());
+        assertEquals(1L, spans.helper().getScriptReloads());
+    }
+
+    @Test
+    void binaryEvalScriptLoadsAMissingScript() {
+        byte[] script = SCRIPT.getBytes(StandardCharsets.UTF_8);
+        List<byte[]> keys = Collections.singletonList(new byte[]{'a'});
+
+        jedis.evalScript(script, keys, Collections.emptyList());
+        jedis.evalScript(script, keys, Collections.emptyList());
+
+        assertEquals("true", spans.named("evalsha").get(0).tag("scriptReload"));
+        assertNull(spans.named("evalsha").get(1).tag("scriptReload"));
+        assertEquals(1L, spans.helper().getScriptReloads());
+    }
+
+    @Test
+    void scriptLoadedElsewhereIsNotReloaded() {
+        try (Jedis other = new Jedis(server.getHost(), server.getPort())) {
+            other.scriptLoad(SCRIPT);
+        }
+
+        jedis.evalScript(SCRIPT, Collections.singletonList("a"), Collections.emptyList());
+
+        assertNull(spans.one("evalsha").tag("scriptReload"));
+        assertEquals(0L, spans.helper().getScriptReloads());
+    }
+}
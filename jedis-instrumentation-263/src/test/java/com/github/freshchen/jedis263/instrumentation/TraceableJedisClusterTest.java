@@ -0,0 +1,102 @@
+package com.github.freshchen.jedis263.instrumentation;
+
+import brave.handler.MutableSpan;
+import com.github.freshchen.jedis.instrumentation.stub.RespStubServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import redis.clients.jedis.HostAndPort;
+import redis.clients.jedis.exceptions.JedisClusterMaxRedirectionsException;
+
+import java.io.IOException;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Two stub nodes, the first owns every slot until it redirects them to the second
+ *
+ * @author freshchen
+ * @since 2026/10/17
+ */
+class TraceableJedisClusterTest {
+
+    private RespStubServer first;
+    private RespStubServer second;
+    private RecordedSpans spans;
+    private TraceableJedisCluster cluster;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        first = new RespStubServer().start();
+        second = new RespStubServer().start();
+        spans = new RecordedSpans();
+        cluster = new TraceableJedisCluster(
+            Collections.singleton(new HostAndPort(first.getHost(), first.getPort())), spans.helper());
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        cluster.close();
+        spans.close();
+        second.close();
+        first.close();
+    }
+
+    @Test
+    void servedWithoutRedirection() {
+        cluster.set("a", "1");
+
+        assertEquals("1", cluster.get("a"));
+        MutableSpan get = spans.one("get");
+        assertEquals(node(first), get.tag("node"));
+        assertEquals("15495", get.tag("slot"));
+        assertNull(get.tag("moved"));
+        assertNull(get.tag("asks"));
+    }
+
+    @Test
+    void movedIsFollowedAndCounted() {
+        first.setMovedTo(node(second));
+
+        assertNull(cluster.get("a"));
+
+        MutableSpan get = spans.one("get");
+        assertEquals("1", get.tag("moved"));
+        assertEquals(node(second), get.tag("node"));
+        assertNull(get.error());
+    }
+
+    @Test
+    void askIsFollowedAndCounted() {
+        first.setAskTo(node(second));
+
+        assertNull(cluster.get("a"));
+        assertNull(cluster.get("a"));
+
+        // an ASK does not change the slot map, every command is redirected again
+        for (MutableSpan get : spans.named("get")) {
+            assertEquals("1", get.tag("asks"));
+            assertNull(get.tag("moved"));
+            assertEquals(node(second), get.tag("node"));
+        }
+    }
+
+    @Test
+    void tooManyRedirectionsFailTheSpan() {
+        first.setMovedTo(node(first));
+
+        assertThrows(JedisClusterMaxRedirectionsException.class, () -> cluster.get("a"));
+
+        MutableSpan get = spans.one("get");
+        assertEquals(Integer.toString(TraceableJedisCluster.DEFAULT_MAX_REDIRECTIONS), get.tag("moved"));
+        assertNotNull(get.error());
+    }
+
+    private static String node(RespStubServer server) {
+        return server.getHost() + ":" + server.getPort();
+    }
+}
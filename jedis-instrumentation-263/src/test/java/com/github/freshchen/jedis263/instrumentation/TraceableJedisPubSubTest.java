@@ -0,0 +1,134 @@
+package com.github.freshchen.jedis263.instrumentation;
+
+import brave.handler.MutableSpan;
+import brave.propagation.TraceContext;
+import com.github.freshchen.jedis.instrumentation.pubsub.ChannelSampler;
+import com.github.freshchen.jedis.instrumentation.pubsub.PubSubEnvelope;
+import com.github.freshchen.jedis.instrumentation.stub.RespStubServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisPubSub;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author freshchen
+ * @since 2026/10/17
+ */
+class TraceableJedisPubSubTest {
+
+    private final TraceContext producer = TraceContext.newBuilder().traceId(0x48485a3953bb6124L).spanId(0x1aL)
+        .sampled(true).build();
+
+    private RespStubServer server;
+    private RecordedSpans spans;
+    private final List<String> received = new CopyOnWriteArrayList<>();
+    private TraceableJedisPubSub pubSub;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new RespStubServer().start();
+        spans = new RecordedSpans();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        spans.close();
+        server.close();
+    }
+
+    @Test
+    void consumerSpanIsAChildOfThePublisher() throws InterruptedException {
+        consume(new ChannelSampler(0), PubSubEnvelope.wrap(producer, "order 1"));
+
+        assertEquals("[orders=order 1]", received.toString());
+        MutableSpan span = spans.one("message");
+        assertEquals(producer.traceIdString(), span.traceId());
+        assertEquals(producer.spanIdString(), span.parentId());
+        assertEquals("orders", span.tag("channel"));
+        assertEquals("7", span.tag("payloadSize"));
+    }
+
+    @Test
+    void unsampledPublisherIsFollowed() throws InterruptedException {
+        TraceContext unsampled = producer.toBuilder().sampled(false).build();
+
+        consume(new ChannelSampler(100), PubSubEnvelope.wrap(unsampled, "order 1"));
+
+        assertEquals("[orders=order 1]", received.toString());
+        assertEquals(0, spans.all().size());
+    }
+
+    @Test
+    void plainMessagesAreSampledPerChannel() throws InterruptedException {
+        consume(new ChannelSampler(1), "m1", "m2", "m3", "m4", "m5");
+
+        assertEquals("[orders=m1, orders=m2, orders=m3, orders=m4, orders=m5]", received.toString());
+        int sampled = spans.named("message").size();
+        // a second that starts while the messages are sent grants the budget once more
+        assertTrue(sampled == 1 || sampled == 2, "sampled " + sampled);
+        assertNull(spans.named("message").get(0).parentId());
+    }
+
+    /**
+     * subscribes to the orders channel, publishes the messages and waits until all of them were received
+     */
+    private void consume(ChannelSampler sampler, String... messages) throws InterruptedException {
+        CountDownLatch subscribed = new CountDownLatch(1);
+        JedisPubSub listener = new JedisPubSub() {
+            @Override
+            public void onMessage(String channel, String message) {
+                received.add(channel + "=" + message);
+                if (received.size() == messages.length) {
+                    // the decorator is the one subscribed
+                    pubSub.unsubscribe();
+                }
+            }
+
+            @Override
+            public void onPMessage(String pattern, String channel, String message) {
+            }
+
+            @Override
+            public void onSubscribe(String channel, int subscribedChannels) {
+                subscribed.countDown();
+            }
+
+            @Override
+            public void onUnsubscribe(String channel, int subscribedChannels) {
+            }
+
+            @Override
+            public void onPUnsubscribe(String pattern, int subscribedChannels) {
+            }
+
+            @Override
+            public void onPSubscribe(String pattern, int subscribedChannels) {
+            }
+        };
+        pubSub = new TraceableJedisPubSub(listener, spans.helper(), sampler);
+        Jedis subscriber = new Jedis(server.getHost(), server.getPort());
+        Thread thread = new Thread(() -> subscriber.subscribe(pubSub, "orders"));
+        thread.start();
+        assertTrue(subscribed.await(5, TimeUnit.SECONDS));
+        try (Jedis publisher = new Jedis(server.getHost(), server.getPort())) {
+            for (String message : messages) {
+                publisher.publish("orders", message);
+            }
+        }
+        thread.join(TimeUnit.SECONDS.toMillis(5));
+        subscriber.close();
+        assertFalse(thread.isAlive(), "still subscribed");
+    }
+}
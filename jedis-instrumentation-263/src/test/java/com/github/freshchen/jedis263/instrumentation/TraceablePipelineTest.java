@@ -0,0 +1,82 @@
+package com.github.freshchen.jedis263.instrumentation;
+
+import brave.handler.MutableSpan;
+import com.github.freshchen.jedis.instrumentation.stub.RespStubServer;
+import com.github.freshchen.jedis.instrumentation.util.JedisConstants;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.Pipeline;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author freshchen
+ * @since 2026/10/17
+ */
+class TraceablePipelineTest {
+
+    private RespStubServer server;
+    private RecordedSpans spans;
+    private TraceableJedis263 jedis;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new RespStubServer().start();
+        spans = new RecordedSpans();
+        jedis = new TraceableJedis263(new Jedis(server.getHost(), server.getPort()), spans.helper());
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        jedis.close();
+        spans.close();
+        server.close();
+    }
+
+    @Test
+    void syncIsOneSpan() {
+        spans.helper().setQueuedKeys(2);
+        jedis.set("a", "abc");
+        spans.clear();
+
+        Pipeline pipeline = jedis.pipelined();
+        pipeline.get("a");
+        pipeline.get("b");
+        pipeline.get("c");
+        pipeline.sync();
+
+        assertEquals(1, spans.all().size());
+        MutableSpan span = spans.one("sync");
+        assertEquals("3", span.tag("commands"));
+        // abc, the missing b and c are nil
+        assertEquals("3", span.tag("replyBytes"));
+        String keys = span.tag(JedisConstants.KEY);
+        assertTrue(keys.contains("a") && keys.contains("b") && !keys.contains("c"), keys);
+    }
+
+    @Test
+    void emptySyncIsNotTraced() {
+        jedis.pipelined().sync();
+
+        assertEquals(0, spans.all().size());
+    }
+
+    @Test
+    void everySyncHasItsOwnSpan() {
+        Pipeline pipeline = jedis.pipelined();
+        pipeline.set("a", "1");
+        pipeline.sync();
+        pipeline.get("a");
+        pipeline.get("b");
+        assertEquals(2, pipeline.syncAndReturnAll().size());
+
+        assertEquals(2, spans.named("sync").size());
+        assertEquals("1", spans.named("sync").get(0).tag("commands"));
+        assertEquals("2", spans.named("sync").get(1).tag("commands"));
+    }
+}
@@ -0,0 +1,95 @@
+package com.github.freshchen.jedis263.instrumentation;
+
+import brave.handler.MutableSpan;
+import com.github.freshchen.jedis.instrumentation.stub.RespStubServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import redis.clients.jedis.Jedis;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * @author freshchen
+ * @since 2026/10/17
+ */
+class TraceableTransactionTest {
+
+    private RespStubServer server;
+    private RecordedSpans spans;
+    private TraceableJedis263 jedis;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new RespStubServer().start();
+        spans = new RecordedSpans();
+        jedis = new TraceableJedis263(new Jedis(server.getHost(), server.getPort()), spans.helper());
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        jedis.close();
+        spans.close();
+        server.close();
+    }
+
+    @Test
+    void committed() {
+        TraceableTransaction transaction = jedis.multi();
+        transaction.set("a", "1");
+        transaction.incr("counter");
+        List<Object> replies = transaction.exec();
+
+        assertEquals(2, replies.size());
+        MutableSpan span = spans.one("multi");
+        assertEquals(TraceableTransaction.COMMITTED, span.tag(TraceableTransaction.OUTCOME));
+        assertEquals("2", span.tag("commands"));
+    }
+
+    @Test
+    void abortedWhenAWatchedKeyChanged() {
+        jedis.watch("a");
+        try (Jedis other = new Jedis(server.getHost(), server.getPort())) {
+            other.set("a", "changed");
+        }
+        TraceableTransaction transaction = jedis.multi();
+        transaction.set("a", "1");
+
+        assertNull(transaction.exec());
+        assertEquals(TraceableTransaction.ABORTED, spans.one("multi").tag(TraceableTransaction.OUTCOME));
+    }
+
+    @Test
+    void discarded() {
+        TraceableTransaction transaction = jedis.multi();
+        transaction.set("a", "1");
+        transaction.discard();
+
+        MutableSpan span = spans.one("multi");
+        assertEquals(TraceableTransaction.DISCARDED, span.tag(TraceableTransaction.OUTCOME));
+        assertEquals("1", span.tag("commands"));
+    }
+
+    @Test
+    void abandonedWhenClosedBeforeExec() {
+        try (TraceableTransaction transaction = jedis.multi()) {
+            transaction.set("a", "1");
+        }
+
+        assertEquals(TraceableTransaction.ABANDONED, spans.one("multi").tag(TraceableTransaction.OUTCOME));
+    }
+
+    @Test
+    void closeAfterExecFinishesNothingMore() {
+        try (TraceableTransaction transaction = jedis.multi()) {
+            transaction.set("a", "1");
+            transaction.exec();
+        }
+
+        assertEquals(TraceableTransaction.COMMITTED, spans.one("multi").tag(TraceableTransaction.OUTCOME));
+    }
+}
@@ -0,0 +1,469 @@
+package com.github.freshchen.jedis.instrumentation.metrics;
+
+import com.github.freshchen.instrumentation.core.util.TagUtils;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * Finds the most used keys per command in fixed memory. Every key is counted in a count-min sketch, and the keys
+ * counted most are kept in a small table of top keys per command, so the hot keys of a rarely used command are not
+ * crowded out by those of a busy one. Writers are spread over stripes by thread id like
+ * {@link com.github.freshchen.instrumentation.core.metrics.LatencyHistogram}, each with its own sketch and tables,
+ * and the counts of a key hot on several threads are summed when the stripes are merged. A table keeps the hash of a
+ * key and a copy of its first {@value #MAX_KEY_LENGTH} characters rendered, never the caller's key, so counting
+ * allocates only when a key enters a table. At most {@value #MAX_COMMANDS} commands get a table, keys of any further
+ * command are counted but not listed.
+ * <p>
+ * Once {@link #start() started}, at the end of every interval a scheduled task, not a counting thread, hands the top
+ * keys to the listener and halves all counts, so keys that cooled down drop out. Close the tracker to stop it.
+ *
+ * @author freshchen
+ * @since 2026/10/17
+ */
+public class HotKeys implements Closeable {
+
+    public static final int DEFAULT_TOP_KEYS = 16;
+
+    public static final long DEFAULT_INTERVAL_SECONDS = 60L;
+
+    /**
+     * characters of a key kept for the report, longer keys are cut and end with {@code ...}
+     */
+    public static final int MAX_KEY_LENGTH = 128;
+
+    /**
+     * more than Redis has commands, so only a caller making up command names reaches it
+     */
+    public static final int MAX_COMMANDS = 256;
+
+    private static final int DEPTH = 4;
+
+    private static final int WIDTH = 1024;
+
+    private static final int[] SEEDS = {0x9E3779B1, 0x85EBCA6B, 0xC2B2AE35, 0x27D4EB2F};
+
+    /**
+     * a key is offered to the table on its first and then every eighth use only, the counts reported are read from
+     * the sketch and are not held back by it
+     */
+    private static final int OFFER_EVERY = 8;
+
+    private static final int STRIPES = stripes();
+
+    private final int topKeys;
+
+    private final long intervalNanos;
+
+    private final AtomicReferenceArray<Stripe> stripes = new AtomicReferenceArray<>(STRIPES);
+
+    /**
+     * null until started when none was passed in
+     */
+    private ScheduledExecutorService scheduler;
+
+    /**
+     * null when the scheduler was passed in and is shut down by its owner
+     */
+    private ScheduledExecutorService ownScheduler;
+
+    private ScheduledFuture<?> rollover;
+
+    private volatile Consumer<Map<String, List<HotKey>>> listener;
+
+    public HotKeys() {
+        this(DEFAULT_TOP_KEYS, DEFAULT_INTERVAL_SECONDS, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Ends intervals on a daemon thread of its own once started
+     *
+     * @param topKeys keys kept and reported per command at most
+     * @param interval time after which counts are halved
+     */
+    public HotKeys(int topKeys, long interval, TimeUnit unit) {
+        this(topKeys, interval, unit, null);
+    }
+
+    /**
+     * @param scheduler runs the end of every interval, a daemon thread of its own when null
+     */
+    public HotKeys(int topKeys, long interval, TimeUnit unit, ScheduledExecutorService scheduler) {
+        if (topKeys <= 0) {
+            throw new IllegalArgumentException("topKeys must be positive: " + topKeys);
+        }
+        if (interval <= 0L) {
+            throw new IllegalArgumentException("interval must be positive: " + interval);
+        }
+        this.topKeys = topKeys;
+        this.intervalNanos = unit.toNanos(interval);
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * Starts ending intervals, once. A tracker given to the helper is started by it after the listener is set.
+     *
+     * @return this tracker
+     */
+    public synchronized HotKeys start() {
+        if (rollover == null) {
+            if (scheduler == null) {
+                ownScheduler = newScheduler();
+                scheduler = ownScheduler;
+            }
+            rollover = scheduler.scheduleAtFixedRate(this::endInterval, intervalNanos, intervalNanos,
+                TimeUnit.NANOSECONDS);
+        }
+        return this;
+    }
+
+    public long getInterval(TimeUnit unit) {
+        return unit.convert(intervalNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * @param listener given the top keys per command at the end of every interval, before the counts are halved
+     */
+    public void setListener(Consumer<Map<String, List<HotKey>>> listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * Counts one use of a key, or of every key of an array
+     */
+    public void record(String command, Object key) {
+        Stripe stripe = stripe();
+        if (key instanceof Object[]) {
+            for (Object k : (Object[]) key) {
+                add(stripe, command, k);
+            }
+        } else {
+            add(stripe, command, key);
+        }
+    }
+
+    /**
+     * @return the most used keys of all commands, most used first
+     */
+    public List<HotKey> getTopKeys() {
+        return top(merge(null).values());
+    }
+
+    /**
+     * @param command named like the span, e.g. {@code "get"}
+     * @return the most used keys of the command, most used first
+     */
+    public List<HotKey> getTopKeys(String command) {
+        return top(merge(command).values());
+    }
+
+    /**
+     * @return the most used keys of every command that had any, by command name
+     */
+    public Map<String, List<HotKey>> getTopKeysByCommand() {
+        Map<String, List<HotKey>> byCommand = new TreeMap<>();
+        for (HotKey hotKey : merge(null).values()) {
+            byCommand.computeIfAbsent(hotKey.command, c -> new ArrayList<>()).add(hotKey);
+        }
+        byCommand.replaceAll((command, hotKeys) -> top(hotKeys));
+        return byCommand;
+    }
+
+    /**
+     * Stops ending intervals, a scheduler that was passed in is left running
+     */
+    @Override
+    public synchronized void close() {
+        if (rollover != null) {
+            rollover.cancel(false);
+        }
+        if (ownScheduler != null) {
+            ownScheduler.shutdown();
+        }
+    }
+
+    void endInterval() {
+        Consumer<Map<String, List<HotKey>>> listener = this.listener;
+        try {
+            if (listener != null) {
+                Map<String, List<HotKey>> top = getTopKeysByCommand();
+                if (!top.isEmpty()) {
+                    listener.accept(top);
+                }
+            }
+        } catch (RuntimeException e) {
+            // a failing listener must not stop the counts from decaying
+        } finally {
+            decay();
+        }
+    }
+
+    /**
+     * halves every count, increments racing with it may be lost
+     */
+    void decay() {
+        for (int i = 0; i < STRIPES; i++) {
+            Stripe stripe = stripes.get(i);
+            if (stripe == null) {
+                continue;
+            }
+            int[] sketch = stripe.sketch;
+            for (int c = 0; c < sketch.length; c++) {
+                sketch[c] >>>= 1;
+            }
+            for (Table table : stripe.tables.values()) {
+                table.decay();
+            }
+        }
+    }
+
+    /**
+     * @return the keys of the command, or of all commands when null, summed over the stripes
+     */
+    private Map<String, HotKey> merge(String command) {
+        // keyed by command and hash, two keys cut to the same prefix stay apart
+        Map<String, HotKey> merged = new HashMap<>();
+        for (int i = 0; i < STRIPES; i++) {
+            Stripe stripe = stripes.get(i);
+            if (stripe == null) {
+                continue;
+            }
+            if (command != null) {
+                Table table = stripe.tables.get(command);
+                if (table != null) {
+                    table.mergeInto(stripe, merged);
+                }
+                continue;
+            }
+            for (Table table : stripe.tables.values()) {
+                table.mergeInto(stripe, merged);
+            }
+        }
+        return merged;
+    }
+
+    private List<HotKey> top(Collection<HotKey> hotKeys) {
+        List<HotKey> top = new ArrayList<>(hotKeys);
+        top.sort((a, b) -> Long.compare(b.count, a.count));
+        return top.size() > topKeys ? new ArrayList<>(top.subList(0, topKeys)) : top;
+    }
+
+    private void add(Stripe stripe, String command, Object key) {
+        if (key == null) {
+            return;
+        }
+        int hash = hash(command, key);
+        int estimate = Integer.MAX_VALUE;
+        for (int row = 0; row < DEPTH; row++) {
+            int counter = counter(row, hash);
+            estimate = Math.min(estimate, ++stripe.sketch[counter]);
+        }
+        if (estimate % OFFER_EVERY != 1) {
+            return;
+        }
+        Table table = stripe.tables.get(command);
+        if (table == null) {
+            if (stripe.tables.size() >= MAX_COMMANDS) {
+                return;
+            }
+            table = stripe.tables.computeIfAbsent(command, c -> new Table(command, topKeys));
+        }
+        if (estimate > table.floor) {
+            table.offer(hash, key, estimate);
+        }
+    }
+
+    private static int hash(String command, Object key) {
+        return 31 * command.hashCode() + (key instanceof byte[] ? Arrays.hashCode((byte[]) key) : key.hashCode());
+    }
+
+    private static int counter(int row, int hash) {
+        int h = hash * SEEDS[row];
+        return row * WIDTH + ((h ^ (h >>> 16)) & (WIDTH - 1));
+    }
+
+    private Stripe stripe() {
+        int i = (int) Thread.currentThread().getId() & (STRIPES - 1);
+        Stripe stripe = stripes.get(i);
+        if (stripe == null) {
+            stripes.compareAndSet(i, null, new Stripe());
+            stripe = stripes.get(i);
+        }
+        return stripe;
+    }
+
+    /**
+     * @return the key as text, a copy cut to {@link #MAX_KEY_LENGTH} characters when it is longer
+     */
+    private static String render(Object key) {
+        String rendered = key instanceof byte[] ? TagUtils.toString((byte[]) key) : String.valueOf(key);
+        if (rendered.length() <= MAX_KEY_LENGTH) {
+            return rendered;
+        }
+        return rendered.substring(0, MAX_KEY_LENGTH) + "...";
+    }
+
+    private static int stripes() {
+        int cpus = Runtime.getRuntime().availableProcessors();
+        int stripes = Integer.highestOneBit(Math.max(cpus, 1));
+        return Math.min(stripes, 16);
+    }
+
+    private static ScheduledExecutorService newScheduler() {
+        return Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "hot-keys");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * A sketch and a table of top keys per command it counted
+     */
+    private static final class Stripe {
+
+        /**
+         * plain counters, threads sharing a stripe may lose an increment now and then, which only makes an estimate
+         * a little low
+         */
+        private final int[] sketch = new int[DEPTH * WIDTH];
+
+        private final ConcurrentMap<String, Table> tables = new ConcurrentHashMap<>();
+
+        int estimate(int hash) {
+            int estimate = Integer.MAX_VALUE;
+            for (int row = 0; row < DEPTH; row++) {
+                estimate = Math.min(estimate, sketch[counter(row, hash)]);
+            }
+            return estimate;
+        }
+    }
+
+    /**
+     * The keys of one command counted most, told apart by their hash like the sketch does. The table is small, so it
+     * is scanned instead of kept as a heap.
+     */
+    private static final class Table {
+
+        private final String command;
+
+        private final int[] hashes;
+
+        private final String[] keys;
+
+        private final long[] counts;
+
+        private int size;
+
+        /**
+         * count a key needs to enter the table, 0 while it has room
+         */
+        private volatile long floor;
+
+        Table(String command, int capacity) {
+            this.command = command;
+            this.hashes = new int[capacity];
+            this.keys = new String[capacity];
+            this.counts = new long[capacity];
+        }
+
+        synchronized void offer(int hash, Object key, long estimate) {
+            int min = 0;
+            for (int n = 0; n < size; n++) {
+                if (hashes[n] == hash) {
+                    counts[n] = estimate;
+                    updateFloor();
+                    return;
+                }
+                if (counts[n] < counts[min]) {
+                    min = n;
+                }
+            }
+            if (size < keys.length) {
+                min = size++;
+            } else if (estimate <= counts[min]) {
+                return;
+            }
+            hashes[min] = hash;
+            keys[min] = render(key);
+            counts[min] = estimate;
+            updateFloor();
+        }
+
+        synchronized void mergeInto(Stripe stripe, Map<String, HotKey> merged) {
+            for (int n = 0; n < size; n++) {
+                long count = stripe.estimate(hashes[n]);
+                merged.merge(command + ' ' + hashes[n], new HotKey(command, keys[n], count),
+                    (a, b) -> new HotKey(a.command, a.key, a.count + b.count));
+            }
+        }
+
+        synchronized void decay() {
+            for (int n = 0; n < size; n++) {
+                counts[n] >>>= 1;
+            }
+            updateFloor();
+        }
+
+        private void updateFloor() {
+            if (size < keys.length) {
+                floor = 0L;
+                return;
+            }
+            long min = Long.MAX_VALUE;
+            for (long count : counts) {
+                min = Math.min(min, count);
+            }
+            floor = min;
+        }
+    }
+
+    public static final class HotKey {
+
+        private final String command;
+
+        private final String key;
+
+        private final long count;
+
+        HotKey(String command, String key, long count) {
+            this.command = command;
+            this.key = key;
+            this.count = count;
+        }
+
+        public String getCommand() {
+            return command;
+        }
+
+        public String getKey() {
+            return key;
+        }
+
+        /**
+         * @return estimated uses, an upper bound that halves every interval
+         */
+        public long getCount() {
+            return count;
+        }
+
+        @Override
+        public String toString() {
+            return command + " " + key + "=" + count;
+        }
+    }
+}
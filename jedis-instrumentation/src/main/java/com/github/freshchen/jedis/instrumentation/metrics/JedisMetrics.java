@@ -0,0 +1,215 @@
+package com.github.freshchen.jedis.instrumentation.metrics;
+
+import com.github.freshchen.instrumentation.core.metrics.LatencyHistogram;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per command and host latency and error counts of redis calls, filled by
+ * {@link com.github.freshchen.jedis.instrumentation.util.JedisTracerHelper} in metrics mode. Blocking commands such
+ * as BLPOP wait on purpose and are kept apart in {@link #blockingSnapshot()}, so they do not skew the latency of the
+ * others.
+ *
+ * @author freshchen
+ * @since 2026/10/17
+ */
+public class JedisMetrics {
+
+    private final ConcurrentMap<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+
+    public Endpoint endpoint(String host, int port) {
+        String address = host + ":" + port;
+        Endpoint endpoint = endpoints.get(address);
+        return endpoint != null ? endpoint : endpoints.computeIfAbsent(address, a -> new Endpoint(host, port));
+    }
+
+    /**
+     * @return every command but the blocking ones
+     */
+    public List<CommandSnapshot> snapshot() {
+        List<CommandSnapshot> snapshots = new ArrayList<>();
+        for (Endpoint endpoint : endpoints.values()) {
+            snapshot(endpoint, endpoint.commands, snapshots);
+        }
+        return snapshots;
+    }
+
+    /**
+     * @return blocking commands, their latency includes the time spent waiting for data
+     */
+    public List<CommandSnapshot> blockingSnapshot() {
+        List<CommandSnapshot> snapshots = new ArrayList<>();
+        for (Endpoint endpoint : endpoints.values()) {
+            snapshot(endpoint, endpoint.blocking, snapshots);
+        }
+        return snapshots;
+    }
+
+    private static void snapshot(Endpoint endpoint, ConcurrentMap<String, CommandMetrics> commands,
+                                 List<CommandSnapshot> snapshots) {
+        for (CommandMetrics metrics : commands.values()) {
+            snapshots.add(new CommandSnapshot(endpoint.host, endpoint.port, metrics.command,
+                metrics.errors.sum(), metrics.latency.snapshot(), metrics.requestBytes.sum(),
+                metrics.responseBytes.sum(), metrics.timeouts.sum()));
+        }
+    }
+
+    /**
+     * A redis server, connections to the same host and port share one
+     */
+    public static final class Endpoint {
+
+        private final String host;
+
+        private final int port;
+
+        private final ConcurrentMap<String, CommandMetrics> commands = new ConcurrentHashMap<>();
+
+        private final ConcurrentMap<String, CommandMetrics> blocking = new ConcurrentHashMap<>();
+
+        Endpoint(String host, int port) {
+            this.host = host;
+            this.port = port;
+        }
+
+        public String getHost() {
+            return host;
+        }
+
+        public int getPort() {
+            return port;
+        }
+
+        public CommandMetrics command(String command) {
+            CommandMetrics metrics = commands.get(command);
+            return metrics != null ? metrics : commands.computeIfAbsent(command, CommandMetrics::new);
+        }
+
+        public CommandMetrics blocking(String command) {
+            CommandMetrics metrics = blocking.get(command);
+            return metrics != null ? metrics : blocking.computeIfAbsent(command, CommandMetrics::new);
+        }
+    }
+
+    public static final class CommandMetrics {
+
+        private final String command;
+
+        private final LatencyHistogram latency = new LatencyHistogram();
+
+        private final LongAdder errors = new LongAdder();
+
+        private final LongAdder requestBytes = new LongAdder();
+
+        private final LongAdder responseBytes = new LongAdder();
+
+        private final LongAdder timeouts = new LongAdder();
+
+        CommandMetrics(String command) {
+            this.command = command;
+        }
+
+        public void record(long nanos, boolean failed) {
+            latency.record(nanos);
+            if (failed) {
+                errors.increment();
+            }
+        }
+
+        public void recordBytes(long request, long response) {
+            requestBytes.add(request);
+            responseBytes.add(response);
+        }
+
+        /**
+         * a blocking command returned without data
+         */
+        public void timedOut() {
+            timeouts.increment();
+        }
+    }
+
+    public static final class CommandSnapshot {
+
+        private final String host;
+
+        private final int port;
+
+        private final String command;
+
+        private final long errors;
+
+        private final LatencyHistogram.Snapshot latency;
+
+        private final long requestBytes;
+
+        private final long responseBytes;
+
+        private final long timeouts;
+
+        CommandSnapshot(String host, int port, String command, long errors, LatencyHistogram.Snapshot latency,
+                        long requestBytes, long responseBytes, long timeouts) {
+            this.host = host;
+            this.port = port;
+            this.command = command;
+            this.errors = errors;
+            this.latency = latency;
+            this.requestBytes = requestBytes;
+            this.responseBytes = responseBytes;
+            this.timeouts = timeouts;
+        }
+
+        public String getHost() {
+            return host;
+        }
+
+        public int getPort() {
+            return port;
+        }
+
+        public String getCommand() {
+            return command;
+        }
+
+        /**
+         * @return calls that threw, they are part of the latency as well
+         */
+        public long getErrors() {
+            return errors;
+        }
+
+        public LatencyHistogram.Snapshot getLatency() {
+            return latency;
+        }
+
+        /**
+         * @return bytes sent for this command, 0 unless wire bytes are counted
+         */
+        public long getRequestBytes() {
+            return requestBytes;
+        }
+
+        public long getResponseBytes() {
+            return responseBytes;
+        }
+
+        /**
+         * @return calls of a blocking command that returned without data
+         */
+        public long getTimeouts() {
+            return timeouts;
+        }
+
+        @Override
+        public String toString() {
+            String bytes = requestBytes == 0L && responseBytes == 0L
+                ? "" : ", requestBytes=" + requestBytes + ", responseBytes=" + responseBytes;
+            String timedOut = timeouts == 0L ? "" : ", timeouts=" + timeouts;
+            return command + "@" + host + ":" + port + " errors=" + errors + timedOut + bytes + ", " + latency;
+        }
+    }
+}
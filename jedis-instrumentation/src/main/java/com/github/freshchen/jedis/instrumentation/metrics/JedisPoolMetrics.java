@@ -0,0 +1,52 @@
+package com.github.freshchen.jedis.instrumentation.metrics;
+
+import com.github.freshchen.instrumentation.core.metrics.LatencyHistogram;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free counters of a connection pool: how long borrowing waited, how often the pool was exhausted and how
+ * many connections were returned broken.
+ *
+ * @author freshchen
+ * @since 2026/10/17
+ */
+public class JedisPoolMetrics {
+
+    private final LatencyHistogram borrowWait = new LatencyHistogram();
+
+    private final LongAdder exhausted = new LongAdder();
+
+    private final LongAdder broken = new LongAdder();
+
+    public void borrowed(long waitNanos) {
+        borrowWait.record(waitNanos);
+    }
+
+    /**
+     * @param waitNanos time spent waiting before the pool gave up
+     */
+    public void exhausted(long waitNanos) {
+        exhausted.increment();
+        borrowWait.record(waitNanos);
+    }
+
+    public void broken() {
+        broken.increment();
+    }
+
+    /**
+     * @return wait of every borrow attempt, including the ones that ended exhausted
+     */
+    public LatencyHistogram.Snapshot getBorrowWait() {
+        return borrowWait.snapshot();
+    }
+
+    public long getExhausted() {
+        return exhausted.sum();
+    }
+
+    public long getBroken() {
+        return broken.sum();
+    }
+}
@@ -0,0 +1,73 @@
+package com.github.freshchen.jedis.instrumentation.pubsub;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Samples at most a given number of messages per second and channel. Channels are hashed into a fixed table of
+ * rate limiters, so any number of channels costs the same memory and deciding never allocates; channels sharing a
+ * slot share its budget.
+ *
+ * @author freshchen
+ * @since 2026/10/17
+ */
+public class ChannelSampler {
+
+    public static final int DEFAULT_MESSAGES_PER_SECOND = 10;
+
+    private static final int SLOTS = 256;
+
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final int messagesPerSecond;
+
+    /**
+     * per slot the second of the current window in the high half and the messages sampled in it in the low half
+     */
+    private final AtomicLongArray windows = new AtomicLongArray(SLOTS);
+
+    public ChannelSampler() {
+        this(DEFAULT_MESSAGES_PER_SECOND);
+    }
+
+    /**
+     * @param messagesPerSecond 0 samples nothing
+     */
+    public ChannelSampler(int messagesPerSecond) {
+        if (messagesPerSecond < 0) {
+            throw new IllegalArgumentException("messagesPerSecond must not be negative: " + messagesPerSecond);
+        }
+        this.messagesPerSecond = messagesPerSecond;
+    }
+
+    public boolean isSampled(String channel) {
+        return channel != null && isSampled(channel.hashCode());
+    }
+
+    public boolean isSampled(byte[] channel) {
+        return channel != null && isSampled(Arrays.hashCode(channel));
+    }
+
+    private boolean isSampled(int hash) {
+        if (messagesPerSecond == 0) {
+            return false;
+        }
+        int slot = (hash ^ (hash >>> 16)) & (SLOTS - 1);
+        long second = (System.nanoTime() / NANOS_PER_SECOND) & 0xFFFFFFFFL;
+        while (true) {
+            long window = windows.get(slot);
+            long next;
+            if (window >>> 32 != second) {
+                next = second << 32 | 1L;
+            } else if ((int) window < messagesPerSecond) {
+                next = window + 1L;
+            } else {
+                return false;
+            }
+            if (windows.compareAndSet(slot, window, next)) {
+                return true;
+            }
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.github.freshchen.jedis.instrumentation.pubsub;
+
+import brave.propagation.B3SingleFormat;
+import brave.propagation.TraceContext;
+import brave.propagation.TraceContextOrSamplingFlags;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Carries a trace context in front of a pub/sub message as {@code <RS>b3<RS>payload}, where RS is the ASCII record
+ * separator and b3 the single header format without parent id. Messages without such a prefix, including JSON text
+ * sequences that merely start with RS, are plain payloads and passed on unchanged.
+ *
+ * @author freshchen
+ * @since 2026/10/17
+ */
+public final class PubSubEnvelope {
+
+    public static final char MARK = '\u001E';
+
+    private static final byte MARK_BYTE = (byte) MARK;
+
+    /**
+     * longest b3 single header plus both marks
+     */
+    private static final int MAX_HEADER_LENGTH = 70;
+
+    public static String wrap(TraceContext context, String message) {
+        return MARK + B3SingleFormat.writeB3SingleFormatWithoutParentId(context) + MARK + message;
+    }
+
+    public static byte[] wrap(TraceContext context, byte[] message) {
+        byte[] header = B3SingleFormat.writeB3SingleFormatWithoutParentIdAsBytes(context);
+        byte[] wrapped = new byte[header.length + 2 + message.length];
+        wrapped[0] = MARK_BYTE;
+        System.arraycopy(header, 0, wrapped, 1, header.length);
+        wrapped[header.length + 1] = MARK_BYTE;
+        System.arraycopy(message, 0, wrapped, header.length + 2, message.length);
+        return wrapped;
+    }
+
+    /**
+     * @return index where the payload starts, 0 when the message has no envelope or its header is not b3
+     */
+    public static int payloadStart(String message) {
+        if (message == null || message.isEmpty() || message.charAt(0) != MARK) {
+            return 0;
+        }
+        int limit = Math.min(message.length(), MAX_HEADER_LENGTH);
+        for (int i = 1; i < limit; i++) {
+            if (message.charAt(i) == MARK) {
+                return isB3(message, i) ? i + 1 : 0;
+            }
+        }
+        return 0;
+    }
+
+    public static int payloadStart(byte[] message) {
+        if (message == null || message.length == 0 || message[0] != MARK_BYTE) {
+            return 0;
+        }
+        int limit = Math.min(message.length, MAX_HEADER_LENGTH);
+        for (int i = 1; i < limit; i++) {
+            if (message[i] == MARK_BYTE) {
+                return isB3(new String(message, 0, i, StandardCharsets.US_ASCII), i) ? i + 1 : 0;
+            }
+        }
+        return 0;
+    }
+
+    public static String payload(String message, int payloadStart) {
+        return payloadStart == 0 ? message : message.substring(payloadStart);
+    }
+
+    public static byte[] payload(byte[] message, int payloadStart) {
+        if (payloadStart == 0) {
+            return message;
+        }
+        byte[] payload = new byte[message.length - payloadStart];
+        System.arraycopy(message, payloadStart, payload, 0, payload.length);
+        return payload;
+    }
+
+    /**
+     * @return the carried context, null when there is no envelope or it can not be parsed
+     */
+    public static TraceContext context(String message, int payloadStart) {
+        if (payloadStart == 0) {
+            return null;
+        }
+        TraceContextOrSamplingFlags extracted = B3SingleFormat.parseB3SingleFormat(message, 1, payloadStart - 1);
+        return extracted == null ? null : extracted.context();
+    }
+
+    public static TraceContext context(byte[] message, int payloadStart) {
+        if (payloadStart == 0) {
+            return null;
+        }
+        return context(new String(message, 0, payloadStart, StandardCharsets.US_ASCII), payloadStart);
+    }
+
+    private static boolean isB3(CharSequence message, int end) {
+        return B3SingleFormat.parseB3SingleFormat(message, 1, end) != null;
+    }
+
+    private PubSubEnvelope() {
+    }
+}
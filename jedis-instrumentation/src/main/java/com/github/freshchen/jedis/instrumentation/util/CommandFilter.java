@@ -0,0 +1,80 @@
+package com.github.freshchen.jedis.instrumentation.util;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Immutable set of commands, named like their spans, that are not traced. Names are kept in an open addressed table
+ * sized to at most a quarter full, so with the cached hash of the literal names a lookup is usually one array read
+ * and a reference comparison.
+ *
+ * @author freshchen
+ * @since 2026/10/17
+ */
+public final class CommandFilter {
+
+    /**
+     * connection bookkeeping, mostly local calls that Jedis and the pools make on their own
+     */
+    public static final CommandFilter HOUSEKEEPING = excluding(Arrays.asList(
+        "getClient", "isConnected", "connect", "disconnect", "resetState", "getDB", "ping", "quit"));
+
+    public static final CommandFilter NONE = excluding(Collections.emptyList());
+
+    private final Set<String> excluded;
+
+    private final String[] table;
+
+    private final int mask;
+
+    private CommandFilter(Set<String> excluded) {
+        this.excluded = Collections.unmodifiableSet(excluded);
+        int size = Integer.highestOneBit(Math.max(excluded.size(), 1) * 4 - 1) << 1;
+        this.table = new String[size];
+        this.mask = size - 1;
+        for (String command : excluded) {
+            int i = slot(command);
+            while (table[i] != null) {
+                i = (i + 1) & mask;
+            }
+            table[i] = command;
+        }
+    }
+
+    public static CommandFilter excluding(Collection<String> commands) {
+        return new CommandFilter(new LinkedHashSet<>(commands));
+    }
+
+    /**
+     * @return a filter excluding these commands as well
+     */
+    public CommandFilter and(Collection<String> commands) {
+        Set<String> union = new LinkedHashSet<>(excluded);
+        union.addAll(commands);
+        return new CommandFilter(union);
+    }
+
+    public Set<String> getExcluded() {
+        return excluded;
+    }
+
+    public boolean isExcluded(String command) {
+        for (int i = slot(command); ; i = (i + 1) & mask) {
+            String candidate = table[i];
+            if (candidate == null) {
+                return false;
+            }
+            if (candidate == command || candidate.equals(command)) {
+                return true;
+            }
+        }
+    }
+
+    private int slot(String command) {
+        int hash = command.hashCode();
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+}
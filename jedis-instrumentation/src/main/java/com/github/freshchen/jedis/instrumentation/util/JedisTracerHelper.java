@@ -2,10 +2,27 @@ package com.github.freshchen.jedis.instrumentation.util;
 
 import brave.Span;
 import brave.Tracer;
+import brave.Tracing;
+import brave.propagation.TraceContext;
+import brave.propagation.TraceContextOrSamplingFlags;
+import com.github.freshchen.instrumentation.core.function.TriFunction;
+import com.github.freshchen.instrumentation.core.handler.DeferredTagSpanHandler;
+import com.github.freshchen.instrumentation.core.util.TagUtils;
 import com.github.freshchen.instrumentation.core.util.TracerHelper;
+import com.github.freshchen.jedis.instrumentation.metrics.HotKeys;
+import com.github.freshchen.jedis.instrumentation.metrics.JedisMetrics;
 
-import java.util.Arrays;
-import java.util.Objects;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
 
 import static com.github.freshchen.jedis.instrumentation.util.JedisConstants.KEY;
 
@@ -16,35 +33,660 @@ import static com.github.freshchen.jedis.instrumentation.util.JedisConstants.KEY
  */
 public class JedisTracerHelper extends TracerHelper {
 
+    public static final long DEFAULT_TAIL_THRESHOLD_MILLIS = 10L;
 
+    public static final int DEFAULT_MULTI_KEYS = 8;
+
+    private final JedisMetrics metrics = new JedisMetrics();
+
+    /**
+     * the call in flight on this thread, reused so that metrics and tail mode do not allocate per call
+     */
+    private final ThreadLocal<Invocation> invocation = ThreadLocal.withInitial(Invocation::new);
+
+    private final ConcurrentMap<String, Long> tailThresholds = new ConcurrentHashMap<>();
+
+    private volatile boolean metricsMode;
+
+    private volatile boolean tailMode;
+
+    private volatile long tailThresholdNanos = TimeUnit.MILLISECONDS.toNanos(DEFAULT_TAIL_THRESHOLD_MILLIS);
+
+    private volatile int queuedKeys;
+
+    private volatile CommandFilter commandFilter = CommandFilter.HOUSEKEEPING;
+
+    private final ScriptDigests scriptDigests = new ScriptDigests();
+
+    private final LongAdder scriptReloads = new LongAdder();
+
+    private volatile int scriptChars;
+
+    private volatile int multiKeys = DEFAULT_MULTI_KEYS;
+
+    private volatile boolean wireBytes;
+
+    private volatile HotKeys hotKeys;
+
+    /**
+     * set once a pool reports borrows, until then spans do not look for a pending borrow wait
+     */
+    private volatile boolean borrowWaits;
+
+    /**
+     * a redis command never starts child spans, so spans are leaf spans unless {@link #setLeafSpans} says otherwise
+     */
     public JedisTracerHelper(Tracer tracer) {
-        super(tracer);
+        this(tracer, null);
+    }
+
+    public JedisTracerHelper(Tracer tracer, DeferredTagSpanHandler deferredTagSpanHandler) {
+        super(tracer, deferredTagSpanHandler);
+        setLeafSpans(true);
+    }
+
+    public JedisTracerHelper(Tracing tracing) {
+        this(tracing, null);
+    }
+
+    public JedisTracerHelper(Tracing tracing, DeferredTagSpanHandler deferredTagSpanHandler) {
+        super(tracing, deferredTagSpanHandler);
+        setLeafSpans(true);
+    }
+
+    public JedisMetrics getMetrics() {
+        return metrics;
+    }
+
+    public JedisMetrics.Endpoint endpoint(String host, int port) {
+        return metrics.endpoint(host, port);
+    }
+
+    public boolean isMetricsMode() {
+        return metricsMode;
+    }
+
+    /**
+     * In metrics mode every call is timed into {@link #getMetrics()} per command and endpoint, while spans are only
+     * started under a sampled trace, so high traffic services keep latency and error rates without paying for a
+     * span per command. Only calls started with an endpoint are timed. Root spans are turned off with it, unless
+     * {@link #setRootSpans} was called.
+     */
+    public void setMetricsMode(boolean metricsMode) {
+        this.metricsMode = metricsMode;
+        defaultRootSpans(!metricsMode);
+    }
+
+    public boolean isTailMode() {
+        return tailMode;
+    }
+
+    /**
+     * In tail mode a call is only timed, and a span is reported afterwards when it took longer than its threshold.
+     * The span is a child of the trace in scope, reported even when that trace is not sampled, or a new trace when
+     * there is none. Only the key is tagged, other arguments are not kept.
+     */
+    public void setTailMode(boolean tailMode) {
+        this.tailMode = tailMode;
+    }
+
+    public void setTailThreshold(long threshold, TimeUnit unit) {
+        this.tailThresholdNanos = unit.toNanos(threshold);
+    }
+
+    /**
+     * overrides the tail threshold of one command, named like the span, e.g. {@code "get"}
+     */
+    public void setTailThreshold(String command, long threshold, TimeUnit unit) {
+        tailThresholds.put(command, unit.toNanos(threshold));
+    }
+
+    public int getQueuedKeys() {
+        return queuedKeys;
+    }
+
+    /**
+     * @param queuedKeys how many keys queued in a pipeline or transaction are tagged on its span, 0 for none
+     */
+    public void setQueuedKeys(int queuedKeys) {
+        if (queuedKeys < 0) {
+            throw new IllegalArgumentException("queuedKeys must not be negative: " + queuedKeys);
+        }
+        this.queuedKeys = queuedKeys;
+    }
+
+    public CommandFilter getCommandFilter() {
+        return commandFilter;
+    }
+
+    /**
+     * Excluded commands get the noop span right away, they are neither traced nor timed. Defaults to
+     * {@link CommandFilter#HOUSEKEEPING}.
+     */
+    public void setCommandFilter(CommandFilter commandFilter) {
+        this.commandFilter = commandFilter == null ? CommandFilter.NONE : commandFilter;
+    }
+
+    public int getScriptChars() {
+        return scriptChars;
+    }
+
+    /**
+     * @param scriptChars how many leading characters of a script are tagged next to its digest, 0 for none
+     */
+    public void setScriptChars(int scriptChars) {
+        if (scriptChars < 0) {
+            throw new IllegalArgumentException("scriptChars must not be negative: " + scriptChars);
+        }
+        this.scriptChars = scriptChars;
+    }
+
+    public String scriptSha1(String script) {
+        return scriptDigests.sha1(script);
+    }
+
+    public String scriptSha1(byte[] script) {
+        return scriptDigests.sha1(script);
+    }
+
+    /**
+     * Tags a script by its digest instead of its body, plus the leading characters when {@link #setScriptChars} is
+     * set. The digest is only computed for recorded spans.
+     */
+    public void tagScript(Span span, String script) {
+        if (span.isNoop() || script == null) {
+            return;
+        }
+        tag(span, "sha1", scriptDigests.sha1(script));
+        int chars = scriptChars;
+        if (chars > 0) {
+            tag(span, "script", script.length() <= chars ? script : script.substring(0, chars));
+        }
+    }
+
+    public void tagScript(Span span, byte[] script) {
+        if (span.isNoop() || script == null) {
+            return;
+        }
+        tag(span, "sha1", scriptDigests.sha1(script));
+        int chars = scriptChars;
+        if (chars > 0) {
+            tag(span, "script", new String(script, 0, Math.min(script.length, chars), StandardCharsets.UTF_8));
+        }
+    }
+
+    /**
+     * @return how often a script had to be sent again because the server did not know its digest
+     */
+    public long getScriptReloads() {
+        return scriptReloads.sum();
+    }
+
+    public void scriptReloaded(Span span) {
+        scriptReloads.increment();
+        tag(span, "scriptReload", true);
+    }
+
+    public boolean isWireBytes() {
+        return wireBytes;
+    }
+
+    /**
+     * Counts the bytes each command sends and receives, tagged as {@code requestBytes} and {@code responseBytes} and
+     * summed per command into {@link #getMetrics()}. Only the protocol level client can see them.
+     */
+    public void setWireBytes(boolean wireBytes) {
+        this.wireBytes = wireBytes;
+    }
+
+    public HotKeys getHotKeys() {
+        return hotKeys;
+    }
+
+    /**
+     * Counts the keys of every call, sampled or not, in the given tracker, null stops counting. At the end of each of
+     * its intervals the top keys are reported as a {@code hotKeys} span of a new trace, tagged per command within the
+     * {@link TagUtils} budget. The tracker is started here and not closed when replaced.
+     */
+    public void setHotKeys(HotKeys hotKeys) {
+        HotKeys previous = this.hotKeys;
+        if (previous != null) {
+            previous.setListener(null);
+        }
+        if (hotKeys != null) {
+            long intervalMillis = hotKeys.getInterval(TimeUnit.MILLISECONDS);
+            hotKeys.setListener(top -> reportHotKeys(top, intervalMillis));
+            hotKeys.start();
+        }
+        this.hotKeys = hotKeys;
+    }
+
+    /**
+     * Counts a key in the hot key tracker, for callers that do not start their spans with a key
+     *
+     * @param key a key or an array of keys
+     */
+    public void recordKey(String command, Object key) {
+        HotKeys hotKeys = this.hotKeys;
+        if (hotKeys == null || key == null) {
+            return;
+        }
+        hotKeys.record(command, key);
+    }
+
+    private void reportHotKeys(Map<String, List<HotKeys.HotKey>> top, long intervalMillis) {
+        Span span;
+        // a summary of every caller, run by the tracker and not part of any trace
+        try (Tracer.SpanInScope ws = tracer.withSpanInScope(null)) {
+            span = newSampledSpan(null);
+        }
+        span.name("hotKeys");
+        span.remoteServiceName(JedisConstants.REDIS);
+        span.tag("intervalMillis", String.valueOf(intervalMillis));
+        for (Map.Entry<String, List<HotKeys.HotKey>> entry : top.entrySet()) {
+            List<String> keys = new ArrayList<>(entry.getValue().size());
+            for (HotKeys.HotKey hotKey : entry.getValue()) {
+                keys.add(hotKey.getKey() + '=' + hotKey.getCount());
+            }
+            span.tag(entry.getKey(), TagUtils.toString(keys));
+        }
+        span.start().finish();
+    }
+
+    public int getMultiKeys() {
+        return multiKeys;
+    }
+
+    /**
+     * @param multiKeys how many elements of a multi key argument are rendered, the rest is only counted
+     */
+    public void setMultiKeys(int multiKeys) {
+        if (multiKeys < 0) {
+            throw new IllegalArgumentException("multiKeys must not be negative: " + multiKeys);
+        }
+        this.multiKeys = multiKeys;
+    }
+
+    /**
+     * Summarizes a variadic argument, such as the keys of MGET, as its first {@link #getMultiKeys()} elements under
+     * {@code name}, the element count under {@code nameCount} and the total bytes under {@code nameBytes}, so the
+     * span stays small however large the batch is
+     */
+    public void tagMany(Span span, String name, Object[] values) {
+        if (span.isNoop() || values == null) {
+            return;
+        }
+        tag(span, name, values, multiKeys, 1, TagUtils::toString);
+        tag(span, name + "Count", values.length);
+        tag(span, name + "Bytes", bytes(values));
+    }
+
+    public void tagMany(Span span, String name, byte[][] values) {
+        if (span.isNoop() || values == null) {
+            return;
+        }
+        tag(span, name, values, multiKeys, 1, TagUtils::toString);
+        tag(span, name + "Count", values.length);
+        tag(span, name + "Bytes", bytes(values));
+    }
+
+    /**
+     * Like {@link #tagMany(Span, String, Object[])} for alternating keys and values such as MSET, only keys are
+     * rendered and counted while the bytes include the values
+     */
+    public void tagPairs(Span span, String name, Object[] keysvalues) {
+        if (span.isNoop() || keysvalues == null) {
+            return;
+        }
+        tag(span, name, keysvalues, multiKeys, 2, TagUtils::toString);
+        tag(span, name + "Count", (keysvalues.length + 1) / 2);
+        tag(span, name + "Bytes", bytes(keysvalues));
+    }
+
+    public void tagPairs(Span span, String name, byte[][] keysvalues) {
+        if (span.isNoop() || keysvalues == null) {
+            return;
+        }
+        tag(span, name, keysvalues, multiKeys, 2, TagUtils::toString);
+        tag(span, name + "Count", (keysvalues.length + 1) / 2);
+        tag(span, name + "Bytes", bytes(keysvalues));
+    }
+
+    private static long bytes(Object[] values) {
+        long bytes = 0L;
+        for (Object value : values) {
+            if (value instanceof byte[]) {
+                bytes += ((byte[]) value).length;
+            } else if (value != null) {
+                bytes += TagUtils.utf8Length(value.toString());
+            }
+        }
+        return bytes;
+    }
+
+    private static long bytes(byte[][] values) {
+        long bytes = 0L;
+        for (byte[] value : values) {
+            if (value != null) {
+                bytes += value.length;
+            }
+        }
+        return bytes;
     }
 
     public Span startNextJedisSpan(String command) {
+        return startNextJedisSpan((JedisMetrics.Endpoint) null, command);
+    }
+
+    public Span startNextJedisSpan(String command, Object key) {
+        return startNextJedisSpan(null, command, key);
+    }
+
+    public Span startNextJedisSpan(String command, byte[] key) {
+        return startNextJedisSpan(null, command, key);
+    }
+
+    public Span startNextJedisSpan(String command, Object[] keys) {
+        return startNextJedisSpan(null, command, keys);
+    }
+
+    public Span startNextJedisSpan(JedisMetrics.Endpoint endpoint, String command) {
+        return start(endpoint, command, null);
+    }
+
+    public Span startNextJedisSpan(JedisMetrics.Endpoint endpoint, String command, Object key) {
+        Span span = start(endpoint, command, key);
+        tag(span, KEY, key);
+        return span;
+    }
+
+    public Span startNextJedisSpan(JedisMetrics.Endpoint endpoint, String command, byte[] key) {
+        Span span = start(endpoint, command, key);
+        tag(span, KEY, key);
+        return span;
+    }
+
+    public Span startNextJedisSpan(JedisMetrics.Endpoint endpoint, String command, Object[] keys) {
+        Span span = start(endpoint, command, keys);
+        tagMany(span, KEY, keys);
+        return span;
+    }
+
+    /**
+     * Starts a span for a command like BLPOP that blocks on the server until data arrives or the timeout passes. The
+     * wait is intended, so in metrics mode the call is timed apart from other commands, see
+     * {@link JedisMetrics#blockingSnapshot()}, and tail mode never reports it. The reply has to be passed to
+     * {@link #blockingReply} before the span finishes.
+     *
+     * @param keys a key or an array of keys, null when the caller tags them
+     * @param timeoutSeconds 0 blocks indefinitely, negative when not known
+     */
+    public Span startBlockingJedisSpan(JedisMetrics.Endpoint endpoint, String command, Object keys,
+                                       long timeoutSeconds) {
+        if (commandFilter.isExcluded(command)) {
+            return excludedSpan();
+        }
+        recordKey(command, keys);
+        Span span = tailMode ? noopSpan() : null;
+        if (span == null) {
+            span = startDetachedJedisSpan(command);
+        }
+        if (metricsMode && endpoint != null) {
+            invocation.get().start(endpoint.blocking(command), null, null, null);
+        }
+        tagKey(span, keys);
+        if (timeoutSeconds >= 0L) {
+            tag(span, "timeout", timeoutSeconds);
+        }
+        return span;
+    }
+
+    /**
+     * Tags whether a blocking command timed out, which it did when the reply is null or empty
+     *
+     * @return the reply
+     */
+    public <R> R blockingReply(Span span, R reply) {
+        boolean timedOut = isTimedOut(reply);
+        tag(span, "timedOut", timedOut);
+        if (timedOut && metricsMode) {
+            invocation.get().timedOut = true;
+        }
+        return reply;
+    }
+
+    /**
+     * Like {@link #executeInScope(Span, Object, Object, BiFunction)} for a span of
+     * {@link #startBlockingJedisSpan}, the reply is passed to {@link #blockingReply} before the span finishes
+     */
+    public <S, A, R> R executeBlocking(Span span, S target, A arg,
+                                       BiFunction<? super S, ? super A, ? extends R> function) {
+        try (Tracer.SpanInScope ws = scope(span)) {
+            return blockingReply(span, function.apply(target, arg));
+        } catch (RuntimeException | Error e) {
+            error(span, e);
+            throw e;
+        } finally {
+            finish(span);
+        }
+    }
+
+    public <S, A, B, R> R executeBlocking(Span span, S target, A arg1, B arg2,
+                                          TriFunction<? super S, ? super A, ? super B, ? extends R> function) {
+        try (Tracer.SpanInScope ws = scope(span)) {
+            return blockingReply(span, function.apply(target, arg1, arg2));
+        } catch (RuntimeException | Error e) {
+            error(span, e);
+            throw e;
+        } finally {
+            finish(span);
+        }
+    }
+
+    public static boolean isTimedOut(Object blockingReply) {
+        return blockingReply == null
+            || blockingReply instanceof Collection && ((Collection<?>) blockingReply).isEmpty();
+    }
+
+    /**
+     * Starts a span that outlives a single call, like a transaction from MULTI to EXEC, the caller finishes it.
+     * Metrics and tail mode do not apply to it.
+     */
+    public Span startDetachedJedisSpan(String command) {
         Span span = startNextSpan();
         span.kind(Span.Kind.CLIENT);
         span.name(command);
         span.remoteServiceName(JedisConstants.REDIS);
+        if (borrowWaits) {
+            tagBorrowWait(span);
+        }
         return span;
     }
 
-    public Span startNextJedisSpan(String command, Object key) {
-        Span span = startNextJedisSpan(command);
-        span.tag(KEY, Objects.toString(key));
-        return span;
+    /**
+     * Called by a pool after the current thread borrowed a connection, the wait is tagged on the next span this
+     * thread starts
+     */
+    public void borrowed(long waitNanos) {
+        if (!borrowWaits) {
+            borrowWaits = true;
+        }
+        invocation.get().borrowWaitNanos = waitNanos;
     }
 
-    public Span startNextJedisSpan(String command, byte[] key) {
-        Span span = startNextJedisSpan(command);
-        span.tag(KEY, Arrays.toString(key));
-        return span;
+    /**
+     * Called by a pool when a connection comes back, drops a wait that no span was started for
+     */
+    public void returned() {
+        if (borrowWaits) {
+            invocation.get().borrowWaitNanos = -1L;
+        }
     }
 
-    public Span startNextJedisSpan(String command, Object[] keys) {
-        Span span = startNextJedisSpan(command);
-        span.tag(KEY, Arrays.toString(keys));
+    private void tagBorrowWait(Span span) {
+        Invocation invocation = this.invocation.get();
+        if (invocation.borrowWaitNanos >= 0L) {
+            tag(span, "borrowWaitMicros", invocation.borrowWaitNanos / 1_000L);
+            invocation.borrowWaitNanos = -1L;
+        }
+    }
+
+    private Span start(JedisMetrics.Endpoint endpoint, String command, Object key) {
+        if (commandFilter.isExcluded(command)) {
+            return excludedSpan();
+        }
+        recordKey(command, key);
+        Span span = tailMode ? noopSpan() : null;
+        boolean tail = span != null;
+        if (!tail) {
+            span = startDetachedJedisSpan(command);
+        }
+        boolean timed = metricsMode && endpoint != null;
+        if (tail || timed) {
+            invocation.get().start(timed ? endpoint.command(command) : null,
+                tail ? command : null, tail ? currentContext() : null, key);
+        }
         return span;
     }
 
-}
\ No newline at end of file
+    /**
+     * Starts a consumer span for a message the caller already decided to sample, as a child of the producer when
+     * the message carried its context
+     */
+    public Span startJedisConsumerSpan(String name, TraceContext producer) {
+        Span span = newSampledSpan(producer);
+        span.kind(Span.Kind.CONSUMER);
+        span.name(name);
+        span.remoteServiceName(JedisConstants.REDIS);
+        return span.start();
+    }
+
+    /**
+     * @return a span of the given trace that is reported even when the trace is not sampled, or of a new trace
+     */
+    private Span newSampledSpan(TraceContext parent) {
+        if (parent == null) {
+            return tracer.nextSpan(TraceContextOrSamplingFlags.SAMPLED);
+        }
+        if (Boolean.TRUE.equals(parent.sampled())) {
+            return tracer.newChild(parent);
+        }
+        return tracer.newChild(parent.toBuilder().sampled(true).build());
+    }
+
+    @Override
+    public void error(Span span, Throwable error) {
+        super.error(span, error);
+        if (metricsMode || tailMode) {
+            invocation.get().error = error;
+        }
+    }
+
+    @Override
+    public void finish(Span span) {
+        super.finish(span);
+        if (metricsMode || tailMode) {
+            Invocation invocation = this.invocation.get();
+            long nanos = System.nanoTime() - invocation.startNanos;
+            if (invocation.metrics != null) {
+                invocation.metrics.record(nanos, invocation.error != null);
+                if (invocation.timedOut) {
+                    invocation.metrics.timedOut();
+                }
+            }
+            if (invocation.command != null && nanos > tailThreshold(invocation.command)) {
+                reportTail(invocation, nanos);
+            }
+            invocation.clear();
+        }
+    }
+
+    private long tailThreshold(String command) {
+        Long threshold = tailThresholds.get(command);
+        return threshold != null ? threshold : tailThresholdNanos;
+    }
+
+    private void reportTail(Invocation invocation, long nanos) {
+        Span span = newSampledSpan(invocation.parent);
+        span.kind(Span.Kind.CLIENT);
+        span.name(invocation.command);
+        span.remoteServiceName(JedisConstants.REDIS);
+        tagKey(span, invocation.key);
+        if (invocation.error != null) {
+            span.error(invocation.error);
+        }
+        Instant now = Instant.now();
+        long endMicros = now.getEpochSecond() * 1_000_000L + now.getNano() / 1_000L;
+        span.start(endMicros - nanos / 1_000L);
+        span.finish(endMicros);
+    }
+
+    private void tagKey(Span span, Object key) {
+        if (key == null) {
+            return;
+        }
+        if (key instanceof byte[]) {
+            tag(span, KEY, (byte[]) key);
+        } else if (key instanceof byte[][]) {
+            tagMany(span, KEY, (byte[][]) key);
+        } else if (key instanceof Object[]) {
+            tagMany(span, KEY, (Object[]) key);
+        } else {
+            tag(span, KEY, key);
+        }
+    }
+
+    /**
+     * A call made from inside another one, like a pub/sub callback, replaces the outer call, which is then not
+     * recorded
+     */
+    private static final class Invocation {
+
+        private JedisMetrics.CommandMetrics metrics;
+
+        /**
+         * set in tail mode only
+         */
+        private String command;
+
+        private TraceContext parent;
+
+        private Object key;
+
+        private Throwable error;
+
+        /**
+         * set by a blocking command that returned without data
+         */
+        private boolean timedOut;
+
+        private long startNanos;
+
+        /**
+         * reported by a pool, -1 once tagged
+         */
+        private long borrowWaitNanos = -1L;
+
+        void start(JedisMetrics.CommandMetrics metrics, String command, TraceContext parent, Object key) {
+            this.metrics = metrics;
+            this.command = command;
+            this.parent = parent;
+            this.key = key;
+            this.error = null;
+            this.timedOut = false;
+            this.startNanos = System.nanoTime();
+        }
+
+        /**
+         * drops references so that keys and contexts are not retained by the thread
+         */
+        void clear() {
+            metrics = null;
+            command = null;
+            parent = null;
+            key = null;
+            error = null;
+        }
+    }
+
+}
@@ -0,0 +1,68 @@
+package com.github.freshchen.jedis.instrumentation.util;
+
+import java.util.List;
+
+/**
+ * Bytes a command or reply takes on the wire in RESP, worked out from its parts instead of counting the socket.
+ * Status replies are parsed into the same byte arrays as bulk strings and are counted like them, a few bytes more
+ * than they really took.
+ *
+ * @author freshchen
+ * @since 2026/10/17
+ */
+public final class RespSizes {
+
+    private static final int CRLF = 2;
+
+    /**
+     * @return size of the command sent as an array of bulk strings
+     */
+    public static long command(byte[] name, byte[][] args) {
+        long size = 1 + digits(args.length + 1) + CRLF + bulk(name.length);
+        for (byte[] arg : args) {
+            size += bulk(arg.length);
+        }
+        return size;
+    }
+
+    public static long reply(Object reply) {
+        if (reply == null) {
+            // nil bulk string or array
+            return 5;
+        }
+        if (reply instanceof byte[]) {
+            return bulk(((byte[]) reply).length);
+        }
+        if (reply instanceof Long) {
+            return 1 + digits((Long) reply) + CRLF;
+        }
+        if (reply instanceof List) {
+            List<?> list = (List<?>) reply;
+            long size = 1 + digits(list.size()) + CRLF;
+            for (int i = 0; i < list.size(); i++) {
+                size += reply(list.get(i));
+            }
+            return size;
+        }
+        return 0L;
+    }
+
+    public static long error(String message) {
+        return 1 + (message == null ? 0 : message.length()) + CRLF;
+    }
+
+    private static long bulk(int length) {
+        return 1 + digits(length) + CRLF + length + CRLF;
+    }
+
+    private static int digits(long value) {
+        int digits = value < 0 ? 2 : 1;
+        for (long v = Math.abs(value / 10); v != 0; v /= 10) {
+            digits++;
+        }
+        return digits;
+    }
+
+    private RespSizes() {
+    }
+}
@@ -0,0 +1,94 @@
+package com.github.freshchen.jedis.instrumentation.util;
+
+import java.lang.ref.WeakReference;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * SHA-1 digests of lua scripts as redis computes them for EVALSHA, cached by script identity. Scripts are usually
+ * constants, so the same instance comes back on every call and the digest is computed once. The cache is a fixed
+ * table of weakly held scripts, a colliding script replaces the previous one and nothing is kept alive.
+ *
+ * @author freshchen
+ * @since 2026/10/17
+ */
+public final class ScriptDigests {
+
+    private static final int DEFAULT_SIZE = 256;
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final Entry[] table;
+
+    private final int mask;
+
+    public ScriptDigests() {
+        this(DEFAULT_SIZE);
+    }
+
+    /**
+     * @param size rounded up to a power of two
+     */
+    public ScriptDigests(int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("size must be positive: " + size);
+        }
+        int capacity = size == 1 ? 1 : Integer.highestOneBit(size - 1) << 1;
+        this.table = new Entry[capacity];
+        this.mask = capacity - 1;
+    }
+
+    public String sha1(String script) {
+        Entry entry = lookup(script);
+        return entry != null ? entry.sha1 : store(script, hex(digest(script.getBytes(StandardCharsets.UTF_8))));
+    }
+
+    public String sha1(byte[] script) {
+        Entry entry = lookup(script);
+        return entry != null ? entry.sha1 : store(script, hex(digest(script)));
+    }
+
+    private Entry lookup(Object script) {
+        // entries are immutable, a racy read sees a complete one or a stale one that does not match
+        Entry entry = table[slot(script)];
+        return entry != null && entry.get() == script ? entry : null;
+    }
+
+    private String store(Object script, String sha1) {
+        table[slot(script)] = new Entry(script, sha1);
+        return sha1;
+    }
+
+    private int slot(Object script) {
+        int hash = System.identityHashCode(script);
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+
+    private static byte[] digest(byte[] script) {
+        try {
+            return MessageDigest.getInstance("SHA-1").digest(script);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-1 is not available", e);
+        }
+    }
+
+    private static String hex(byte[] bytes) {
+        char[] chars = new char[bytes.length * 2];
+        for (int i = 0; i < bytes.length; i++) {
+            chars[i * 2] = HEX[(bytes[i] >> 4) & 0xF];
+            chars[i * 2 + 1] = HEX[bytes[i] & 0xF];
+        }
+        return new String(chars);
+    }
+
+    private static final class Entry extends WeakReference<Object> {
+
+        private final String sha1;
+
+        Entry(Object script, String sha1) {
+            super(script);
+            this.sha1 = sha1;
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.github.freshchen.jedis.instrumentation.metrics;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Intervals are ended by calling {@link HotKeys#endInterval()} rather than by a scheduler
+ *
+ * @author freshchen
+ * @since 2026/10/17
+ */
+class HotKeysTest {
+
+    private final HotKeys hotKeys = new HotKeys(3, 1, TimeUnit.HOURS);
+
+    @AfterEach
+    void tearDown() {
+        hotKeys.close();
+    }
+
+    @Test
+    void mostUsedKeysFirst() {
+        record("get", "a", 50);
+        record("get", "b", 30);
+        record("get", "c", 20);
+        record("get", "d", 10);
+
+        List<HotKeys.HotKey> top = hotKeys.getTopKeys("get");
+        assertEquals("[get a=50, get b=30, get c=20]", top.toString());
+    }
+
+    @Test
+    void commandsHaveTheirOwnTables() {
+        record("get", "busy", 1000);
+        record("hget", "rare", 3);
+
+        Map<String, List<HotKeys.HotKey>> byCommand = hotKeys.getTopKeysByCommand();
+        assertEquals("[get busy=1000]", byCommand.get("get").toString());
+        assertEquals("[hget rare=3]", byCommand.get("hget").toString());
+        assertEquals("[get busy=1000, hget rare=3]", hotKeys.getTopKeys().toString());
+    }
+
+    @Test
+    void everyKeyOfAnArrayIsCounted() {
+        for (int i = 0; i < 4; i++) {
+            hotKeys.record("mget", new Object[]{"a", "b".getBytes(StandardCharsets.UTF_8)});
+        }
+
+        assertEquals("[mget a=4, mget b=4]", sorted(hotKeys.getTopKeys("mget")));
+    }
+
+    @Test
+    void countsOfAllThreadsAreMerged() throws InterruptedException {
+        for (int t = 0; t < 4; t++) {
+            // one thread after the other, so threads sharing a stripe do not race on its counters
+            Thread thread = new Thread(() -> record("get", "shared", 100));
+            thread.start();
+            thread.join();
+        }
+
+        assertEquals("[get shared=400]", hotKeys.getTopKeys("get").toString());
+    }
+
+    @Test
+    void endOfIntervalReportsAndHalves() {
+        List<Map<String, List<HotKeys.HotKey>>> reports = new ArrayList<>();
+        hotKeys.setListener(reports::add);
+        record("get", "a", 40);
+
+        hotKeys.endInterval();
+
+        assertEquals(1, reports.size());
+        assertEquals("[get a=40]", reports.get(0).get("get").toString());
+        assertEquals("[get a=20]", hotKeys.getTopKeys("get").toString());
+    }
+
+    @Test
+    void failingListenerStillHalves() {
+        hotKeys.setListener(top -> {
+            throw new IllegalStateException();
+        });
+        record("get", "a", 40);
+
+        hotKeys.endInterval();
+
+        assertEquals("[get a=20]", hotKeys.getTopKeys("get").toString());
+    }
+
+    @Test
+    void keysAreCopied() {
+        byte[] key = "user:1".getBytes(StandardCharsets.UTF_8);
+        for (int i = 0; i < 5; i++) {
+            hotKeys.record("get", key);
+        }
+        key[0] = 'X';
+
+        assertEquals("user:1", hotKeys.getTopKeys("get").get(0).getKey());
+    }
+
+    @Test
+    void longKeysAreCut() {
+        StringBuilder key = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            key.append('k');
+        }
+        record("get", key.toString(), 5);
+
+        String reported = hotKeys.getTopKeys("get").get(0).getKey();
+        assertEquals(HotKeys.MAX_KEY_LENGTH + 3, reported.length());
+        assertTrue(reported.endsWith("..."));
+    }
+
+    @Test
+    void commandsBeyondTheLimitAreNotListed() {
+        for (int i = 0; i < HotKeys.MAX_COMMANDS * 2; i++) {
+            hotKeys.record("command" + i, "k");
+        }
+
+        assertEquals(HotKeys.MAX_COMMANDS, hotKeys.getTopKeysByCommand().size());
+    }
+
+    @Test
+    void startIsIdempotent() {
+        assertSame(hotKeys, hotKeys.start());
+        assertSame(hotKeys, hotKeys.start());
+        hotKeys.close();
+        hotKeys.close();
+    }
+
+    @Test
+    void invalidSettingsAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new HotKeys(0, 1, TimeUnit.SECONDS));
+        assertThrows(IllegalArgumentException.class, () -> new HotKeys(1, 0, TimeUnit.SECONDS));
+    }
+
+    private void record(String command, Object key, int times) {
+        for (int i = 0; i < times; i++) {
+            hotKeys.record(command, key);
+        }
+    }
+
+    private static String sorted(List<HotKeys.HotKey> hotKeys) {
+        List<HotKeys.HotKey> sorted = new ArrayList<>(hotKeys);
+        sorted.sort((a, b) -> a.getKey().compareTo(b.getKey()));
+        return sorted.toString();
+    }
+}
@@ -0,0 +1,90 @@
+package com.github.freshchen.jedis.instrumentation.pubsub;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author freshchen
+ * @since 2026/10/17
+ */
+class ChannelSamplerTest {
+
+    @Test
+    void samplesUpToTheRatePerChannel() {
+        ChannelSampler sampler = new ChannelSampler(5);
+
+        assertBudget(5, sampled(sampler, "orders", 100));
+    }
+
+    @Test
+    void channelsHaveTheirOwnBudget() {
+        ChannelSampler sampler = new ChannelSampler(1);
+
+        assertBudget(1, sampled(sampler, "orders", 10));
+        assertBudget(1, sampled(sampler, otherSlot("orders"), 10));
+    }
+
+    @Test
+    void binaryChannelsAreSampledLikeText() {
+        ChannelSampler sampler = new ChannelSampler(2);
+        byte[] channel = "orders".getBytes(StandardCharsets.UTF_8);
+        int sampled = 0;
+        for (int i = 0; i < 10; i++) {
+            if (sampler.isSampled(channel)) {
+                sampled++;
+            }
+        }
+
+        assertBudget(2, sampled);
+    }
+
+    @Test
+    void zeroSamplesNothing() {
+        ChannelSampler sampler = new ChannelSampler(0);
+
+        assertEquals(0, sampled(sampler, "orders", 10));
+        assertFalse(new ChannelSampler().isSampled((String) null));
+    }
+
+    @Test
+    void negativeRateIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new ChannelSampler(-1));
+    }
+
+    private static int sampled(ChannelSampler sampler, String channel, int messages) {
+        int sampled = 0;
+        for (int i = 0; i < messages; i++) {
+            if (sampler.isSampled(channel)) {
+                sampled++;
+            }
+        }
+        return sampled;
+    }
+
+    /**
+     * a second that starts while the messages are sent grants the budget once more
+     */
+    private static void assertBudget(int budget, int sampled) {
+        assertTrue(sampled == budget || sampled == 2 * budget, "sampled " + sampled + " of a budget of " + budget);
+    }
+
+    private static String otherSlot(String channel) {
+        int slot = slot(channel.hashCode());
+        for (int i = 0; ; i++) {
+            String candidate = "channel" + i;
+            if (slot(candidate.hashCode()) != slot) {
+                return candidate;
+            }
+        }
+    }
+
+    private static int slot(int hash) {
+        return (hash ^ (hash >>> 16)) & 255;
+    }
+}
@@ -0,0 +1,84 @@
+package com.github.freshchen.jedis.instrumentation.pubsub;
+
+import brave.propagation.TraceContext;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * @author freshchen
+ * @since 2026/10/17
+ */
+class PubSubEnvelopeTest {
+
+    private final TraceContext context = TraceContext.newBuilder()
+        .traceIdHigh(0x463ac35c9f6413adL).traceId(0x48485a3953bb6124L).spanId(0x1aL).sampled(true).build();
+
+    @Test
+    void textRoundTrip() {
+        String wrapped = PubSubEnvelope.wrap(context, "{\"id\":1}");
+        int payloadStart = PubSubEnvelope.payloadStart(wrapped);
+
+        assertEquals("{\"id\":1}", PubSubEnvelope.payload(wrapped, payloadStart));
+        TraceContext carried = PubSubEnvelope.context(wrapped, payloadStart);
+        assertEquals(context.traceIdHigh(), carried.traceIdHigh());
+        assertEquals(context.traceId(), carried.traceId());
+        assertEquals(context.spanId(), carried.spanId());
+        assertEquals(Boolean.TRUE, carried.sampled());
+    }
+
+    @Test
+    void binaryRoundTrip() {
+        byte[] payload = {0, 1, 2, (byte) 0xFF};
+        byte[] wrapped = PubSubEnvelope.wrap(context, payload);
+        int payloadStart = PubSubEnvelope.payloadStart(wrapped);
+
+        assertArrayEquals(payload, PubSubEnvelope.payload(wrapped, payloadStart));
+        assertEquals(context.spanId(), PubSubEnvelope.context(wrapped, payloadStart).spanId());
+    }
+
+    @Test
+    void samplingDecisionTravels() {
+        TraceContext unsampled = context.toBuilder().sampled(false).build();
+        String wrapped = PubSubEnvelope.wrap(unsampled, "m");
+
+        assertEquals(Boolean.FALSE, PubSubEnvelope.context(wrapped, PubSubEnvelope.payloadStart(wrapped)).sampled());
+    }
+
+    @Test
+    void plainMessagesPassUnchanged() {
+        String message = "hello";
+        byte[] binary = message.getBytes(StandardCharsets.UTF_8);
+
+        assertEquals(0, PubSubEnvelope.payloadStart(message));
+        assertSame(message, PubSubEnvelope.payload(message, 0));
+        assertNull(PubSubEnvelope.context(message, 0));
+        assertEquals(0, PubSubEnvelope.payloadStart(binary));
+        assertSame(binary, PubSubEnvelope.payload(binary, 0));
+        assertEquals(0, PubSubEnvelope.payloadStart(""));
+        assertEquals(0, PubSubEnvelope.payloadStart((String) null));
+    }
+
+    @Test
+    void jsonTextSequencesAreNotEnvelopes() {
+        // RFC 7464 records start with RS as well
+        String record = PubSubEnvelope.MARK + "{\"a\":1}\n" + PubSubEnvelope.MARK + "{\"a\":2}\n";
+
+        assertEquals(0, PubSubEnvelope.payloadStart(record));
+        assertEquals(0, PubSubEnvelope.payloadStart(record.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    void unterminatedHeaderIsAPayload() {
+        String wrapped = PubSubEnvelope.wrap(context, "m");
+        String cut = wrapped.substring(0, wrapped.indexOf(PubSubEnvelope.MARK, 1));
+
+        assertEquals(0, PubSubEnvelope.payloadStart(cut));
+        assertEquals(cut.length() + 1, PubSubEnvelope.payloadStart(wrapped));
+    }
+}
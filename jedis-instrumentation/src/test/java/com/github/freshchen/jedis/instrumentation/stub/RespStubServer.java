@@ -0,0 +1,1189 @@
+package com.github.freshchen.jedis.instrumentation.stub;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-process Redis stand-in speaking RESP over real sockets, for tests and benchmarks on machines without Redis.
+ * <p>
+ * A single selector thread serves every connection. Strings, hashes and lists are kept in memory, MULTI/EXEC,
+ * pipelining, SCAN/HSCAN and EVAL/EVALSHA/SCRIPT are understood, unknown commands get an error reply. Blocking pops
+ * never block, they time out right away when every list is empty. WATCH aborts
+ * EXEC when a watched key was set or deleted since, changes inside a hash or list are not noticed. PUBLISH is
+ * delivered right away to SUBSCRIBE and PSUBSCRIBE connections, patterns understand {@code *} and {@code ?}. Replies to
+ * everything read in one go are held back by the configured latency, and GET/EVAL of missing keys can answer with
+ * a synthetic payload of a configured size. CLUSTER NODES and SLOTS describe a single node cluster owning every slot, or
+ * with {@link #setMovedTo} another node owning them while GET and SET answer MOVED. With {@link #setAskTo} GET and SET
+ * answer ASK instead, and are served on a connection that sent ASKING right before.
+ * <pre>
+ * try (RespStubServer server = new RespStubServer().setLatency(200, TimeUnit.MICROSECONDS).start()) {
+ *     Jedis jedis = new Jedis(server.getHost(), server.getPort());
+ * }
+ * </pre>
+ *
+ * @author freshchen
+ * @since 2026/10/17
+ */
+public class RespStubServer implements Closeable {
+
+    private static final String HOST = "127.0.0.1";
+
+    private final Map<String, Object> data = new HashMap<>();
+
+    private final Set<String> scripts = new HashSet<>();
+
+    private final Map<String, Set<Connection>> subscribers = new HashMap<>();
+
+    private final Map<String, Set<Connection>> patternSubscribers = new HashMap<>();
+
+    private volatile long latencyNanos;
+
+    private volatile byte[] payload;
+
+    private volatile String movedTo;
+
+    private volatile String askTo;
+
+    private ServerSocketChannel serverChannel;
+
+    private Selector selector;
+
+    private Thread thread;
+
+    private volatile boolean running;
+
+    public RespStubServer setLatency(long latency, TimeUnit unit) {
+        this.latencyNanos = unit.toNanos(latency);
+        return this;
+    }
+
+    /**
+     * @param payloadSize size of the value returned for GET and EVAL when there is nothing stored, 0 answers nil
+     */
+    public RespStubServer setPayloadSize(int payloadSize) {
+        if (payloadSize <= 0) {
+            this.payload = null;
+        } else {
+            byte[] bytes = new byte[payloadSize];
+            Arrays.fill(bytes, (byte) 'x');
+            this.payload = bytes;
+        }
+        return this;
+    }
+
+    /**
+     * @param node {@code host:port} that GET and SET are redirected to and that owns every slot, null to serve them
+     */
+    public RespStubServer setMovedTo(String node) {
+        this.movedTo = node;
+        return this;
+    }
+
+    /**
+     * @param node {@code host:port} that GET and SET are sent to with ASK unless ASKING came right before, null to
+     *             serve them
+     */
+    public RespStubServer setAskTo(String node) {
+        this.askTo = node;
+        return this;
+    }
+
+    public RespStubServer start() throws IOException {
+        selector = Selector.open();
+        serverChannel = ServerSocketChannel.open();
+        serverChannel.bind(new InetSocketAddress(HOST, 0));
+        serverChannel.configureBlocking(false);
+        serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+        running = true;
+        thread = new Thread(this::loop, "resp-stub-server-" + getPort());
+        thread.setDaemon(true);
+        thread.start();
+        return this;
+    }
+
+    public String getHost() {
+        return HOST;
+    }
+
+    public int getPort() {
+        return serverChannel.socket().getLocalPort();
+    }
+
+    @Override
+    public void close() throws IOException {
+        running = false;
+        if (selector != null) {
+            selector.wakeup();
+        }
+        if (thread != null) {
+            try {
+                thread.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private void loop() {
+        List<Connection> delayed = new ArrayList<>();
+        try {
+            while (running) {
+                long timeout = nextTimeoutMillis(delayed);
+                if (timeout < 0) {
+                    selector.selectNow();
+                } else {
+                    selector.select(timeout);
+                }
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    handle(key, delayed);
+                }
+                releaseDue(delayed);
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("resp stub server stopped", e);
+        } finally {
+            closeQuietly();
+        }
+    }
+
+    private void handle(SelectionKey key, List<Connection> delayed) throws IOException {
+        if (!key.isValid()) {
+            return;
+        }
+        if (key.isAcceptable()) {
+            SocketChannel channel = serverChannel.accept();
+            if (channel != null) {
+                channel.configureBlocking(false);
+                channel.socket().setTcpNoDelay(true);
+                channel.register(selector, SelectionKey.OP_READ, new Connection(channel));
+            }
+            return;
+        }
+        Connection connection = (Connection) key.attachment();
+        try {
+            if (key.isReadable()) {
+                read(connection, delayed);
+            }
+            if (key.isValid() && key.isWritable()) {
+                connection.flush(key);
+            }
+        } catch (IOException e) {
+            connection.close();
+        }
+    }
+
+    private void read(Connection connection, List<Connection> delayed) throws IOException {
+        if (!connection.fill()) {
+            connection.close();
+            return;
+        }
+        Reply reply = new Reply();
+        byte[][] command;
+        while ((command = connection.nextCommand()) != null) {
+            try {
+                execute(connection, command, reply);
+            } catch (RuntimeException e) {
+                // wrong arity or malformed numbers, answer like redis instead of stopping the loop
+                reply.error("ERR " + e);
+            }
+        }
+        if (reply.length() == 0) {
+            return;
+        }
+        long latency = latencyNanos;
+        if (latency <= 0) {
+            connection.send(reply.toBytes());
+        } else {
+            connection.delay(System.nanoTime() + latency, reply.toBytes());
+            if (!delayed.contains(connection)) {
+                delayed.add(connection);
+            }
+        }
+    }
+
+    private void releaseDue(List<Connection> delayed) throws IOException {
+        long now = System.nanoTime();
+        Iterator<Connection> iterator = delayed.iterator();
+        while (iterator.hasNext()) {
+            Connection connection = iterator.next();
+            if (connection.releaseDue(now)) {
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * @return -1 when a delayed reply is already due, 0 to wait for io only
+     */
+    private static long nextTimeoutMillis(List<Connection> delayed) {
+        long next = Long.MAX_VALUE;
+        for (Connection connection : delayed) {
+            next = Math.min(next, connection.nextDue());
+        }
+        if (next == Long.MAX_VALUE) {
+            return 0;
+        }
+        long millis = TimeUnit.NANOSECONDS.toMillis(next - System.nanoTime());
+        return millis <= 0 ? -1 : millis;
+    }
+
+    private void execute(Connection connection, byte[][] args, Reply reply) {
+        String name = new String(args[0], StandardCharsets.US_ASCII).toUpperCase(Locale.ROOT);
+        if (connection.queued != null && !"EXEC".equals(name) && !"DISCARD".equals(name) && !"MULTI".equals(name)) {
+            connection.queued.add(args);
+            reply.simple("QUEUED");
+            return;
+        }
+        boolean asking = connection.asking;
+        connection.asking = false;
+        switch (name) {
+            case "ASKING":
+                connection.asking = true;
+                reply.simple("OK");
+                return;
+            case "MULTI":
+                if (connection.queued != null) {
+                    reply.error("ERR MULTI calls can not be nested");
+                } else {
+                    connection.queued = new ArrayList<>();
+                    reply.simple("OK");
+                }
+                return;
+            case "EXEC":
+                if (connection.queued == null) {
+                    reply.error("ERR EXEC without MULTI");
+                    return;
+                }
+                List<byte[][]> queued = connection.queued;
+                connection.queued = null;
+                if (!unchanged(connection.watched)) {
+                    connection.watched = null;
+                    reply.array(-1);
+                    return;
+                }
+                connection.watched = null;
+                reply.array(queued.size());
+                for (byte[][] queuedArgs : queued) {
+                    execute(connection, queuedArgs, reply);
+                }
+                return;
+            case "DISCARD":
+                if (connection.queued == null) {
+                    reply.error("ERR DISCARD without MULTI");
+                } else {
+                    connection.queued = null;
+                    connection.watched = null;
+                    reply.simple("OK");
+                }
+                return;
+            case "WATCH":
+                if (connection.watched == null) {
+                    connection.watched = new HashMap<>();
+                }
+                for (int i = 1; i < args.length; i++) {
+                    String key = key(args[i]);
+                    connection.watched.put(key, data.get(key));
+                }
+                reply.simple("OK");
+                return;
+            case "UNWATCH":
+                connection.watched = null;
+                reply.simple("OK");
+                return;
+            case "SUBSCRIBE":
+            case "PSUBSCRIBE":
+                subscribe(connection, args, reply, "PSUBSCRIBE".equals(name));
+                return;
+            case "UNSUBSCRIBE":
+            case "PUNSUBSCRIBE":
+                unsubscribe(connection, args, reply, "PUNSUBSCRIBE".equals(name));
+                return;
+            case "PUBLISH":
+                reply.integer(publish(key(args[1]), args[2]));
+                return;
+            case "QUIT":
+                reply.simple("OK");
+                connection.closeAfterWrite = true;
+                return;
+            default:
+                executeData(name, args, reply, asking);
+        }
+    }
+
+    private void subscribe(Connection connection, byte[][] args, Reply reply, boolean pattern) {
+        Map<String, Set<Connection>> byName = pattern ? patternSubscribers : subscribers;
+        Set<String> names = pattern ? connection.patterns : connection.channels;
+        for (int i = 1; i < args.length; i++) {
+            String name = key(args[i]);
+            names.add(name);
+            byName.computeIfAbsent(name, n -> new HashSet<>()).add(connection);
+            reply.array(3);
+            reply.bulk(bytes(pattern ? "psubscribe" : "subscribe"));
+            reply.bulk(args[i]);
+            reply.integer(connection.channels.size() + connection.patterns.size());
+        }
+    }
+
+    private void unsubscribe(Connection connection, byte[][] args, Reply reply, boolean pattern) {
+        Map<String, Set<Connection>> byName = pattern ? patternSubscribers : subscribers;
+        Set<String> names = pattern ? connection.patterns : connection.channels;
+        List<String> targets = new ArrayList<>();
+        for (int i = 1; i < args.length; i++) {
+            targets.add(key(args[i]));
+        }
+        if (targets.isEmpty()) {
+            targets.addAll(names);
+        }
+        if (targets.isEmpty()) {
+            reply.array(3);
+            reply.bulk(bytes(pattern ? "punsubscribe" : "unsubscribe"));
+            reply.bulk(null);
+            reply.integer(connection.channels.size() + connection.patterns.size());
+            return;
+        }
+        for (String name : targets) {
+            names.remove(name);
+            Set<Connection> connections = byName.get(name);
+            if (connections != null && connections.remove(connection) && connections.isEmpty()) {
+                byName.remove(name);
+            }
+            reply.array(3);
+            reply.bulk(bytes(pattern ? "punsubscribe" : "unsubscribe"));
+            reply.bulk(bytes(name));
+            reply.integer(connection.channels.size() + connection.patterns.size());
+        }
+    }
+
+    /**
+     * @return number of connections the message was written to
+     */
+    private int publish(String channel, byte[] message) {
+        int receivers = 0;
+        Set<Connection> connections = subscribers.get(channel);
+        if (connections != null) {
+            for (Connection connection : new ArrayList<>(connections)) {
+                Reply push = new Reply();
+                push.array(3);
+                push.bulk(bytes("message"));
+                push.bulk(bytes(channel));
+                push.bulk(message);
+                receivers += connection.push(push.toBytes()) ? 1 : 0;
+            }
+        }
+        for (Map.Entry<String, Set<Connection>> entry : new ArrayList<>(patternSubscribers.entrySet())) {
+            if (!matches(entry.getKey(), 0, channel, 0)) {
+                continue;
+            }
+            for (Connection connection : new ArrayList<>(entry.getValue())) {
+                Reply push = new Reply();
+                push.array(4);
+                push.bulk(bytes("pmessage"));
+                push.bulk(bytes(entry.getKey()));
+                push.bulk(bytes(channel));
+                push.bulk(message);
+                receivers += connection.push(push.toBytes()) ? 1 : 0;
+            }
+        }
+        return receivers;
+    }
+
+    private static boolean matches(String pattern, int p, String value, int v) {
+        while (p < pattern.length()) {
+            char c = pattern.charAt(p);
+            if (c == '*') {
+                for (int i = v; i <= value.length(); i++) {
+                    if (matches(pattern, p + 1, value, i)) {
+                        return true;
+                    }
+                }
+                return false;
+            }
+            if (v >= value.length() || (c != '?' && c != value.charAt(v))) {
+                return false;
+            }
+            p++;
+            v++;
+        }
+        return v == value.length();
+    }
+
+    private boolean unchanged(Map<String, Object> watched) {
+        if (watched != null) {
+            for (Map.Entry<String, Object> entry : watched.entrySet()) {
+                if (data.get(entry.getKey()) != entry.getValue()) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void executeData(String name, byte[][] args, Reply reply, boolean asking) {
+        String ask = askTo;
+        if (ask != null && !asking && ("GET".equals(name) || "SET".equals(name))) {
+            reply.error("ASK 0 " + ask);
+            return;
+        }
+        String moved = movedTo;
+        if (moved != null && ("GET".equals(name) || "SET".equals(name))) {
+            // the slot in a MOVED reply is not checked by clients that refresh their whole slot map
+            reply.error("MOVED 0 " + moved);
+            return;
+        }
+        switch (name) {
+            case "PING":
+                reply.simple("PONG");
+                return;
+            case "ECHO":
+                reply.bulk(args[1]);
+                return;
+            case "AUTH":
+            case "SELECT":
+            case "CLIENT":
+                reply.simple("OK");
+                return;
+            case "FLUSHDB":
+            case "FLUSHALL":
+                data.clear();
+                reply.simple("OK");
+                return;
+            case "DBSIZE":
+                reply.integer(data.size());
+                return;
+            case "INFO":
+                reply.bulk("# Server\r\nredis_version:2.8.19\r\n".getBytes(StandardCharsets.US_ASCII));
+                return;
+            case "GET": {
+                Object value = data.get(key(args[1]));
+                reply.bulk(value instanceof byte[] ? (byte[]) value : payload);
+                return;
+            }
+            case "SET": {
+                String key = key(args[1]);
+                boolean nx = hasOption(args, 3, "NX");
+                boolean xx = hasOption(args, 3, "XX");
+                if ((nx && data.containsKey(key)) || (xx && !data.containsKey(key))) {
+                    reply.bulk(null);
+                    return;
+                }
+                data.put(key, args[2]);
+                reply.simple("OK");
+                return;
+            }
+            case "SETEX":
+            case "PSETEX":
+                data.put(key(args[1]), args[3]);
+                reply.simple("OK");
+                return;
+            case "SETNX":
+                reply.integer(data.putIfAbsent(key(args[1]), args[2]) == null ? 1 : 0);
+                return;
+            case "MGET":
+                reply.array(args.length - 1);
+                for (int i = 1; i < args.length; i++) {
+                    Object value = data.get(key(args[i]));
+                    reply.bulk(value instanceof byte[] ? (byte[]) value : null);
+                }
+                return;
+            case "MSET":
+                for (int i = 1; i + 1 < args.length; i += 2) {
+                    data.put(key(args[i]), args[i + 1]);
+                }
+                reply.simple("OK");
+                return;
+            case "INCR":
+            case "INCRBY":
+            case "DECR":
+            case "DECRBY": {
+                String key = key(args[1]);
+                Object value = data.get(key);
+                long current = value instanceof byte[] ? Long.parseLong(new String((byte[]) value, StandardCharsets.US_ASCII)) : 0;
+                long delta = args.length > 2 ? Long.parseLong(new String(args[2], StandardCharsets.US_ASCII)) : 1;
+                long next = name.startsWith("DECR") ? current - delta : current + delta;
+                data.put(key, Long.toString(next).getBytes(StandardCharsets.US_ASCII));
+                reply.integer(next);
+                return;
+            }
+            case "DEL": {
+                int removed = 0;
+                for (int i = 1; i < args.length; i++) {
+                    removed += data.remove(key(args[i])) != null ? 1 : 0;
+                }
+                reply.integer(removed);
+                return;
+            }
+            case "EXISTS":
+                reply.integer(data.containsKey(key(args[1])) ? 1 : 0);
+                return;
+            case "EXPIRE":
+            case "PEXPIRE":
+                reply.integer(data.containsKey(key(args[1])) ? 1 : 0);
+                return;
+            case "HSET":
+            case "HSETNX": {
+                Map<String, byte[]> hash = hash(args[1]);
+                String field = key(args[2]);
+                if ("HSETNX".equals(name) && hash.containsKey(field)) {
+                    reply.integer(0);
+                    return;
+                }
+                reply.integer(hash.put(field, args[3]) == null ? 1 : 0);
+                return;
+            }
+            case "HMSET": {
+                Map<String, byte[]> hash = hash(args[1]);
+                for (int i = 2; i + 1 < args.length; i += 2) {
+                    hash.put(key(args[i]), args[i + 1]);
+                }
+                reply.simple("OK");
+                return;
+            }
+            case "HGET": {
+                Object hash = data.get(key(args[1]));
+                reply.bulk(hash instanceof Map ? ((Map<String, byte[]>) hash).get(key(args[2])) : null);
+                return;
+            }
+            case "HDEL": {
+                Object hash = data.get(key(args[1]));
+                int removed = 0;
+                if (hash instanceof Map) {
+                    for (int i = 2; i < args.length; i++) {
+                        removed += ((Map<String, byte[]>) hash).remove(key(args[i])) != null ? 1 : 0;
+                    }
+                }
+                reply.integer(removed);
+                return;
+            }
+            case "HLEN": {
+                Object hash = data.get(key(args[1]));
+                reply.integer(hash instanceof Map ? ((Map<?, ?>) hash).size() : 0);
+                return;
+            }
+            case "HGETALL": {
+                Object hash = data.get(key(args[1]));
+                if (!(hash instanceof Map)) {
+                    reply.array(0);
+                    return;
+                }
+                Map<String, byte[]> entries = (Map<String, byte[]>) hash;
+                reply.array(entries.size() * 2);
+                for (Map.Entry<String, byte[]> entry : entries.entrySet()) {
+                    reply.bulk(bytes(entry.getKey()));
+                    reply.bulk(entry.getValue());
+                }
+                return;
+            }
+            case "LPUSH":
+            case "RPUSH": {
+                ArrayDeque<byte[]> list = list(args[1]);
+                for (int i = 2; i < args.length; i++) {
+                    if ("LPUSH".equals(name)) {
+                        list.addFirst(args[i]);
+                    } else {
+                        list.addLast(args[i]);
+                    }
+                }
+                reply.integer(list.size());
+                return;
+            }
+            case "LPOP":
+            case "RPOP": {
+                Object list = data.get(key(args[1]));
+                if (!(list instanceof ArrayDeque) || ((ArrayDeque<byte[]>) list).isEmpty()) {
+                    reply.bulk(null);
+                    return;
+                }
+                ArrayDeque<byte[]> deque = (ArrayDeque<byte[]>) list;
+                reply.bulk("LPOP".equals(name) ? deque.pollFirst() : deque.pollLast());
+                return;
+            }
+            case "BLPOP":
+            case "BRPOP": {
+                // never blocks, with every list empty the timeout is answered right away
+                for (int i = 1; i < args.length - 1; i++) {
+                    Object list = data.get(key(args[i]));
+                    if (list instanceof ArrayDeque && !((ArrayDeque<byte[]>) list).isEmpty()) {
+                        ArrayDeque<byte[]> deque = (ArrayDeque<byte[]>) list;
+                        reply.array(2);
+                        reply.bulk(args[i]);
+                        reply.bulk("BLPOP".equals(name) ? deque.pollFirst() : deque.pollLast());
+                        return;
+                    }
+                }
+                reply.nullArray();
+                return;
+            }
+            case "BRPOPLPUSH": {
+                Object list = data.get(key(args[1]));
+                if (!(list instanceof ArrayDeque) || ((ArrayDeque<byte[]>) list).isEmpty()) {
+                    reply.bulk(null);
+                    return;
+                }
+                byte[] value = ((ArrayDeque<byte[]>) list).pollLast();
+                list(args[2]).addFirst(value);
+                reply.bulk(value);
+                return;
+            }
+            case "LLEN": {
+                Object list = data.get(key(args[1]));
+                reply.integer(list instanceof ArrayDeque ? ((ArrayDeque<?>) list).size() : 0);
+                return;
+            }
+            case "LRANGE": {
+                Object list = data.get(key(args[1]));
+                List<byte[]> values = list instanceof ArrayDeque ? new ArrayList<>((ArrayDeque<byte[]>) list) : new ArrayList<>();
+                int size = values.size();
+                int start = index(args[2], size);
+                int stop = Math.min(index(args[3], size), size - 1);
+                if (start > stop) {
+                    reply.array(0);
+                    return;
+                }
+                reply.array(stop - start + 1);
+                for (int i = start; i <= stop; i++) {
+                    reply.bulk(values.get(i));
+                }
+                return;
+            }
+            case "SCAN":
+                scan(new ArrayList<>(data.keySet()), null, args, 1, reply);
+                return;
+            case "HSCAN": {
+                Object hash = data.get(key(args[1]));
+                Map<String, byte[]> entries = hash instanceof Map ? (Map<String, byte[]>) hash : new LinkedHashMap<>();
+                scan(new ArrayList<>(entries.keySet()), entries, args, 2, reply);
+                return;
+            }
+            case "EVAL": {
+                scripts.add(sha1(args[1]));
+                reply.bulk(payload);
+                return;
+            }
+            case "EVALSHA":
+                if (!scripts.contains(key(args[1]).toLowerCase(Locale.ROOT))) {
+                    reply.error("NOSCRIPT No matching script. Please use EVAL.");
+                } else {
+                    reply.bulk(payload);
+                }
+                return;
+            case "SCRIPT":
+                script(args, reply);
+                return;
+            case "CLUSTER":
+                cluster(args, reply);
+                return;
+            default:
+                reply.error("ERR unknown command '" + name + "'");
+        }
+    }
+
+    /**
+     * cursor is the position in the current key order, good enough for a stub that is not modified while scanning
+     */
+    private static void scan(List<String> keys, Map<String, byte[]> values, byte[][] args, int cursorIndex, Reply reply) {
+        int cursor = Integer.parseInt(key(args[cursorIndex]));
+        int count = 10;
+        String match = null;
+        for (int i = cursorIndex + 1; i + 1 < args.length; i += 2) {
+            String option = key(args[i]).toUpperCase(Locale.ROOT);
+            if ("COUNT".equals(option)) {
+                count = Integer.parseInt(key(args[i + 1]));
+            } else if ("MATCH".equals(option)) {
+                match = key(args[i + 1]);
+            }
+        }
+        int end = Math.min(cursor + count, keys.size());
+        List<String> page = new ArrayList<>();
+        for (int i = cursor; i < end; i++) {
+            if (match == null || glob(match, 0, keys.get(i), 0)) {
+                page.add(keys.get(i));
+            }
+        }
+        reply.array(2);
+        reply.bulk(bytes(Integer.toString(end >= keys.size() ? 0 : end)));
+        reply.array(values == null ? page.size() : page.size() * 2);
+        for (String key : page) {
+            reply.bulk(bytes(key));
+            if (values != null) {
+                reply.bulk(values.get(key));
+            }
+        }
+    }
+
+    private void cluster(byte[][] args, Reply reply) {
+        String subcommand = key(args[1]).toUpperCase(Locale.ROOT);
+        String moved = movedTo;
+        if ("SLOTS".equals(subcommand)) {
+            String owner = moved == null ? HOST + ":" + getPort() : moved;
+            int colon = owner.lastIndexOf(':');
+            reply.array(1);
+            reply.array(3);
+            reply.integer(0);
+            reply.integer(16383);
+            reply.array(2);
+            reply.bulk(bytes(owner.substring(0, colon)));
+            reply.integer(Long.parseLong(owner.substring(colon + 1)));
+            return;
+        }
+        if (!"NODES".equals(subcommand)) {
+            reply.error("ERR unknown CLUSTER subcommand '" + subcommand + "'");
+            return;
+        }
+        String self = "0000000000000000000000000000000000000001 " + HOST + ":" + getPort() + " myself,master - 0 0 1 connected";
+        String nodes = moved == null
+            ? self + " 0-16383\n"
+            : self + "\n0000000000000000000000000000000000000002 " + moved + " master - 0 0 2 connected 0-16383\n";
+        reply.bulk(bytes(nodes));
+    }
+
+    private void script(byte[][] args, Reply reply) {
+        String subcommand = key(args[1]).toUpperCase(Locale.ROOT);
+        switch (subcommand) {
+            case "LOAD": {
+                String sha = sha1(args[2]);
+                scripts.add(sha);
+                reply.bulk(bytes(sha));
+                return;
+            }
+            case "EXISTS":
+                reply.array(args.length - 2);
+                for (int i = 2; i < args.length; i++) {
+                    reply.integer(scripts.contains(key(args[i]).toLowerCase(Locale.ROOT)) ? 1 : 0);
+                }
+                return;
+            case "FLUSH":
+                scripts.clear();
+                reply.simple("OK");
+                return;
+            default:
+                reply.error("ERR unknown SCRIPT subcommand '" + subcommand + "'");
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, byte[]> hash(byte[] key) {
+        return (Map<String, byte[]>) data.computeIfAbsent(key(key), k -> new LinkedHashMap<String, byte[]>());
+    }
+
+    @SuppressWarnings("unchecked")
+    private ArrayDeque<byte[]> list(byte[] key) {
+        return (ArrayDeque<byte[]>) data.computeIfAbsent(key(key), k -> new ArrayDeque<byte[]>());
+    }
+
+    private static boolean hasOption(byte[][] args, int from, String option) {
+        for (int i = from; i < args.length; i++) {
+            if (option.equalsIgnoreCase(key(args[i]))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int index(byte[] arg, int size) {
+        int index = Integer.parseInt(key(arg));
+        return index < 0 ? Math.max(size + index, 0) : index;
+    }
+
+    private static boolean glob(String pattern, int p, String text, int t) {
+        while (p < pattern.length()) {
+            char c = pattern.charAt(p);
+            if (c == '*') {
+                for (int i = t; i <= text.length(); i++) {
+                    if (glob(pattern, p + 1, text, i)) {
+                        return true;
+                    }
+                }
+                return false;
+            }
+            if (t >= text.length() || (c != '?' && c != text.charAt(t))) {
+                return false;
+            }
+            p++;
+            t++;
+        }
+        return t == text.length();
+    }
+
+    /**
+     * ISO-8859-1 keeps every byte, binary keys survive the round trip
+     */
+    private static String key(byte[] bytes) {
+        return new String(bytes, StandardCharsets.ISO_8859_1);
+    }
+
+    private static byte[] bytes(String key) {
+        return key.getBytes(StandardCharsets.ISO_8859_1);
+    }
+
+    private static String sha1(byte[] script) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-1").digest(script);
+            StringBuilder sb = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                sb.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            return sb.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void closeQuietly() {
+        try {
+            for (SelectionKey key : selector.keys()) {
+                key.channel().close();
+            }
+            selector.close();
+        } catch (IOException ignored) {
+            // shutting down
+        }
+    }
+
+    private final class Connection {
+
+        final SocketChannel channel;
+
+        final ByteBuffer readBuffer = ByteBuffer.allocate(16 * 1024);
+
+        byte[] in = new byte[16 * 1024];
+
+        int inLength;
+
+        int inPosition;
+
+        ByteBuffer out;
+
+        final ArrayDeque<DelayedReply> delayed = new ArrayDeque<>();
+
+        List<byte[][]> queued;
+
+        /**
+         * watched keys and the values they had, compared by reference at EXEC
+         */
+        Map<String, Object> watched;
+
+        final Set<String> channels = new HashSet<>();
+
+        final Set<String> patterns = new HashSet<>();
+
+        /**
+         * ASKING was the previous command
+         */
+        boolean asking;
+
+        boolean closeAfterWrite;
+
+        Connection(SocketChannel channel) {
+            this.channel = channel;
+        }
+
+        boolean fill() throws IOException {
+            int read;
+            boolean any = false;
+            while ((read = channel.read(readBuffer)) > 0) {
+                any = true;
+                readBuffer.flip();
+                if (inLength + read > in.length) {
+                    compact();
+                    if (inLength + read > in.length) {
+                        in = Arrays.copyOf(in, Math.max(in.length * 2, inLength + read));
+                    }
+                }
+                readBuffer.get(in, inLength, read);
+                inLength += read;
+                readBuffer.clear();
+            }
+            return any || read == 0;
+        }
+
+        private void compact() {
+            System.arraycopy(in, inPosition, in, 0, inLength - inPosition);
+            inLength -= inPosition;
+            inPosition = 0;
+        }
+
+        /**
+         * @return the next complete command or null when more bytes are needed
+         */
+        byte[][] nextCommand() {
+            int position = inPosition;
+            if (position >= inLength) {
+                inPosition = 0;
+                inLength = 0;
+                return null;
+            }
+            if (in[position] != '*') {
+                return nextInlineCommand();
+            }
+            int lineEnd = lineEnd(position);
+            if (lineEnd < 0) {
+                return null;
+            }
+            int count = parseInt(position + 1, lineEnd);
+            position = lineEnd + 2;
+            byte[][] args = new byte[count][];
+            for (int i = 0; i < count; i++) {
+                if (position >= inLength) {
+                    return null;
+                }
+                lineEnd = lineEnd(position);
+                if (lineEnd < 0) {
+                    return null;
+                }
+                int length = parseInt(position + 1, lineEnd);
+                position = lineEnd + 2;
+                if (position + length + 2 > inLength) {
+                    return null;
+                }
+                args[i] = Arrays.copyOfRange(in, position, position + length);
+                position += length + 2;
+            }
+            inPosition = position;
+            return count == 0 ? nextCommand() : args;
+        }
+
+        private byte[][] nextInlineCommand() {
+            int lineEnd = lineEnd(inPosition);
+            if (lineEnd < 0) {
+                return null;
+            }
+            String line = new String(in, inPosition, lineEnd - inPosition, StandardCharsets.ISO_8859_1).trim();
+            inPosition = lineEnd + 2;
+            if (line.isEmpty()) {
+                return nextCommand();
+            }
+            String[] parts = line.split("\\s+");
+            byte[][] args = new byte[parts.length][];
+            for (int i = 0; i < parts.length; i++) {
+                args[i] = bytes(parts[i]);
+            }
+            return args;
+        }
+
+        private int lineEnd(int from) {
+            for (int i = from; i + 1 < inLength; i++) {
+                if (in[i] == '\r' && in[i + 1] == '\n') {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        private int parseInt(int from, int to) {
+            boolean negative = in[from] == '-';
+            int value = 0;
+            for (int i = negative ? from + 1 : from; i < to; i++) {
+                value = value * 10 + (in[i] - '0');
+            }
+            return negative ? -value : value;
+        }
+
+        void delay(long due, byte[] reply) {
+            delayed.addLast(new DelayedReply(due, reply));
+        }
+
+        long nextDue() {
+            DelayedReply next = delayed.peekFirst();
+            return next == null ? Long.MAX_VALUE : next.due;
+        }
+
+        /**
+         * @return true when nothing is held back any more
+         */
+        boolean releaseDue(long now) throws IOException {
+            while (!delayed.isEmpty() && delayed.peekFirst().due <= now) {
+                try {
+                    send(delayed.pollFirst().reply);
+                } catch (IOException e) {
+                    close();
+                    return true;
+                }
+            }
+            return delayed.isEmpty();
+        }
+
+        void send(byte[] reply) throws IOException {
+            if (out != null && out.hasRemaining()) {
+                ByteBuffer merged = ByteBuffer.allocate(out.remaining() + reply.length);
+                merged.put(out).put(reply).flip();
+                out = merged;
+            } else {
+                out = ByteBuffer.wrap(reply);
+            }
+            flush(channel.keyFor(selector));
+        }
+
+        void flush(SelectionKey key) throws IOException {
+            if (out != null) {
+                channel.write(out);
+            }
+            if (out != null && out.hasRemaining()) {
+                key.interestOps(SelectionKey.OP_READ | SelectionKey.OP_WRITE);
+            } else {
+                key.interestOps(SelectionKey.OP_READ);
+                if (closeAfterWrite) {
+                    close();
+                }
+            }
+        }
+
+        /**
+         * writes a message of another connection's PUBLISH, not held back by the latency
+         *
+         * @return false when the connection is gone
+         */
+        boolean push(byte[] message) {
+            try {
+                send(message);
+                return true;
+            } catch (IOException e) {
+                close();
+                return false;
+            }
+        }
+
+        void close() {
+            for (String name : channels) {
+                Set<Connection> connections = subscribers.get(name);
+                if (connections != null) {
+                    connections.remove(this);
+                }
+            }
+            for (String name : patterns) {
+                Set<Connection> connections = patternSubscribers.get(name);
+                if (connections != null) {
+                    connections.remove(this);
+                }
+            }
+            try {
+                channel.close();
+            } catch (IOException ignored) {
+                // already gone
+            }
+        }
+    }
+
+    private static final class DelayedReply {
+
+        final long due;
+
+        final byte[] reply;
+
+        DelayedReply(long due, byte[] reply) {
+            this.due = due;
+            this.reply = reply;
+        }
+    }
+
+    /**
+     * RESP encoder collecting everything answered for one read
+     */
+    private static final class Reply {
+
+        private byte[] buffer = new byte[256];
+
+        private int length;
+
+        void simple(String value) {
+            write('+');
+            write(value);
+            crlf();
+        }
+
+        void error(String message) {
+            write('-');
+            write(message);
+            crlf();
+        }
+
+        void integer(long value) {
+            write(':');
+            write(Long.toString(value));
+            crlf();
+        }
+
+        void bulk(byte[] value) {
+            if (value == null) {
+                write("$-1");
+                crlf();
+                return;
+            }
+            write('$');
+            write(Integer.toString(value.length));
+            crlf();
+            write(value, value.length);
+            crlf();
+        }
+
+        void nullArray() {
+            write("*-1");
+            crlf();
+        }
+
+        void array(int size) {
+            write('*');
+            write(Integer.toString(size));
+            crlf();
+        }
+
+        int length() {
+            return length;
+        }
+
+        byte[] toBytes() {
+            return Arrays.copyOf(buffer, length);
+        }
+
+        private void crlf() {
+            write('\r');
+            write('\n');
+        }
+
+        private void write(String value) {
+            byte[] bytes = value.getBytes(StandardCharsets.ISO_8859_1);
+            write(bytes, bytes.length);
+        }
+
+        private void write(int b) {
+            ensure(1);
+            buffer[length++] = (byte) b;
+        }
+
+        private void write(byte[] bytes, int count) {
+            ensure(count);
+            System.arraycopy(bytes, 0, buffer, length, count);
+            length += count;
+        }
+
+        private void ensure(int extra) {
+            if (length + extra > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, length + extra));
+            }
+        }
+    }
+}
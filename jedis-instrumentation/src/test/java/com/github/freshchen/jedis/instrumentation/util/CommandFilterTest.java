@@ -0,0 +1,66 @@
+package com.github.freshchen.jedis.instrumentation.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author freshchen
+ * @since 2026/10/17
+ */
+class CommandFilterTest {
+
+    @Test
+    void housekeepingExcludesConnectionBookkeeping() {
+        assertTrue(CommandFilter.HOUSEKEEPING.isExcluded("ping"));
+        assertTrue(CommandFilter.HOUSEKEEPING.isExcluded("getClient"));
+        assertFalse(CommandFilter.HOUSEKEEPING.isExcluded("get"));
+    }
+
+    @Test
+    void noneExcludesNothing() {
+        assertFalse(CommandFilter.NONE.isExcluded("ping"));
+        assertFalse(CommandFilter.NONE.isExcluded(""));
+    }
+
+    @Test
+    void namesAreMatchedByValue() {
+        CommandFilter filter = CommandFilter.excluding(Collections.singletonList("keys"));
+
+        assertTrue(filter.isExcluded(new String("keys".toCharArray())));
+        assertFalse(filter.isExcluded("KEYS"));
+    }
+
+    @Test
+    void andAddsToACopy() {
+        CommandFilter filter = CommandFilter.HOUSEKEEPING.and(Arrays.asList("keys", "scan"));
+
+        assertTrue(filter.isExcluded("keys"));
+        assertTrue(filter.isExcluded("ping"));
+        assertFalse(CommandFilter.HOUSEKEEPING.isExcluded("keys"));
+        assertEquals(CommandFilter.HOUSEKEEPING.getExcluded().size() + 2, filter.getExcluded().size());
+    }
+
+    @Test
+    void collidingNamesAreAllFound() {
+        List<String> commands = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            commands.add("command" + i);
+        }
+        CommandFilter filter = CommandFilter.excluding(commands);
+
+        for (String command : commands) {
+            assertTrue(filter.isExcluded(command), command);
+        }
+        for (int i = 200; i < 1000; i++) {
+            assertFalse(filter.isExcluded("command" + i));
+        }
+    }
+}
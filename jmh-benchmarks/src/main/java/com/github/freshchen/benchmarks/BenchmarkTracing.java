@@ -0,0 +1,38 @@
+package com.github.freshchen.benchmarks;
+
+import brave.Tracing;
+import brave.handler.MutableSpan;
+import brave.handler.SpanHandler;
+import brave.propagation.TraceContext;
+import brave.sampler.Sampler;
+
+/**
+ * Tracing whose finished spans are dropped, so that only the instrumentation itself is measured
+ *
+ * @author freshchen
+ * @since 2026/10/17
+ */
+public class BenchmarkTracing {
+
+    public static final String SAMPLED = "sampled";
+    public static final String UNSAMPLED = "unsampled";
+
+    public static Tracing create(String sampling) {
+        return Tracing.newBuilder()
+            .localServiceName("jmh-benchmarks")
+            .sampler(SAMPLED.equals(sampling) ? Sampler.ALWAYS_SAMPLE : Sampler.NEVER_SAMPLE)
+            .addSpanHandler(new DiscardingSpanHandler())
+            .build();
+    }
+
+    static final class DiscardingSpanHandler extends SpanHandler {
+
+        @Override
+        public boolean end(TraceContext context, MutableSpan span, Cause cause) {
+            return true;
+        }
+    }
+
+    private BenchmarkTracing() {
+    }
+}
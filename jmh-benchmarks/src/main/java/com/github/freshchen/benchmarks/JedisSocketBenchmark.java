@@ -0,0 +1,138 @@
+package com.github.freshchen.benchmarks;
+
+import brave.Span;
+import brave.Tracer;
+import brave.Tracing;
+import com.github.freshchen.jedis.instrumentation.stub.RespStubServer;
+import com.github.freshchen.jedis.instrumentation.util.JedisTracerHelper;
+import com.github.freshchen.jedis263.instrumentation.TraceableClientJedis;
+import com.github.freshchen.jedis263.instrumentation.TraceableJedis263;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.Pipeline;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Raw Jedis against TraceableJedis263 and the protocol level TraceableClientJedis over real sockets to the in-process
+ * RESP stub server
+ *
+ * @author freshchen
+ * @since 2026/10/17
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JedisSocketBenchmark {
+
+    @Param({BenchmarkTracing.SAMPLED, BenchmarkTracing.UNSAMPLED})
+    String sampling;
+
+    @Param({"0"})
+    int latencyMicros;
+
+    @Param({"64", "16384"})
+    int payloadSize;
+
+    @Param({"16"})
+    int pipelineSize;
+
+    private final String key = "user:1234:profile";
+
+    private RespStubServer server;
+    private Tracing tracing;
+    private Span requestSpan;
+    private Tracer.SpanInScope requestScope;
+    private Jedis raw;
+    private Jedis traced;
+    private Jedis clientTraced;
+
+    @Setup
+    public void setUp() throws IOException {
+        server = new RespStubServer()
+            .setLatency(latencyMicros, TimeUnit.MICROSECONDS)
+            .setPayloadSize(payloadSize)
+            .start();
+        tracing = BenchmarkTracing.create(sampling);
+        raw = new Jedis(server.getHost(), server.getPort());
+        traced = new TraceableJedis263(new Jedis(server.getHost(), server.getPort()),
+            new JedisTracerHelper(tracing));
+        clientTraced = new TraceableClientJedis(server.getHost(), server.getPort(), new JedisTracerHelper(tracing));
+        requestSpan = tracing.tracer().newTrace().name("request").start();
+        requestScope = tracing.tracer().withSpanInScope(requestSpan);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        requestScope.close();
+        requestSpan.abandon();
+        raw.close();
+        traced.close();
+        clientTraced.close();
+        tracing.close();
+        server.close();
+    }
+
+    @Benchmark
+    public String rawGet() {
+        return raw.get(key);
+    }
+
+    @Benchmark
+    public String tracedGet() {
+        return traced.get(key);
+    }
+
+    @Benchmark
+    public String clientTracedGet() {
+        return clientTraced.get(key);
+    }
+
+    @Benchmark
+    public String rawSet() {
+        return raw.set(key, "value");
+    }
+
+    @Benchmark
+    public String tracedSet() {
+        return traced.set(key, "value");
+    }
+
+    @Benchmark
+    public void rawPipeline() {
+        pipeline(raw);
+    }
+
+    @Benchmark
+    public void tracedPipeline() {
+        pipeline(traced);
+    }
+
+    @Benchmark
+    public void clientTracedPipeline() {
+        pipeline(clientTraced);
+    }
+
+    private void pipeline(Jedis jedis) {
+        Pipeline pipeline = jedis.pipelined();
+        for (int i = 0; i < pipelineSize; i++) {
+            pipeline.get(key);
+        }
+        pipeline.sync();
+    }
+}
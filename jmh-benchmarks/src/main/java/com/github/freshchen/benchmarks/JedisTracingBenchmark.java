@@ -0,0 +1,134 @@
+package com.github.freshchen.benchmarks;
+
+import brave.Span;
+import brave.Tracer;
+import brave.Tracing;
+import com.github.freshchen.jedis.instrumentation.util.JedisTracerHelper;
+import com.github.freshchen.jedis263.instrumentation.TraceableJedis263;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import redis.clients.jedis.Jedis;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Raw Jedis against TraceableJedis263 on top of the same in-process stub, with a request span in scope like in a
+ * real service. Run with {@code -prof gc} to see the allocation rate per call, the expire and evalsha cases cover
+ * methods with primitive arguments, which are passed boxed to a method reference instead of a capturing lambda.
+ *
+ * @author freshchen
+ * @since 2026/10/17
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JedisTracingBenchmark {
+
+    @Param({BenchmarkTracing.SAMPLED, BenchmarkTracing.UNSAMPLED})
+    String sampling;
+
+    @Param({"100"})
+    int hashSize;
+
+    @Param({"false", "true"})
+    boolean metricsMode;
+
+    private final String key = "user:1234:profile";
+    private final byte[] binaryKey = key.getBytes();
+    private final String sha1 = "e0e1f9fabfc9d4800c877a703b823ac0578ff8db";
+    private final String[] scriptParams = {key, "30"};
+
+    private Tracing tracing;
+    private Span requestSpan;
+    private Tracer.SpanInScope requestScope;
+    private Map<String, String> hash;
+    private Jedis raw;
+    private Jedis traced;
+
+    @Setup
+    public void setUp() {
+        tracing = BenchmarkTracing.create(sampling);
+        hash = new LinkedHashMap<>();
+        for (int i = 0; i < hashSize; i++) {
+            hash.put("field" + i, "value" + i);
+        }
+        raw = new StubJedis("some cached value", hash);
+        JedisTracerHelper helper = new JedisTracerHelper(tracing);
+        helper.setMetricsMode(metricsMode);
+        traced = new TraceableJedis263(raw, helper);
+        requestSpan = tracing.tracer().newTrace().name("request").start();
+        requestScope = tracing.tracer().withSpanInScope(requestSpan);
+    }
+
+    @TearDown
+    public void tearDown() {
+        requestScope.close();
+        requestSpan.abandon();
+        tracing.close();
+    }
+
+    @Benchmark
+    public String rawGet() {
+        return raw.get(key);
+    }
+
+    @Benchmark
+    public String tracedGet() {
+        return traced.get(key);
+    }
+
+    @Benchmark
+    public byte[] rawGetBinary() {
+        return raw.get(binaryKey);
+    }
+
+    @Benchmark
+    public byte[] tracedGetBinary() {
+        return traced.get(binaryKey);
+    }
+
+    @Benchmark
+    public String rawHmset() {
+        return raw.hmset(key, hash);
+    }
+
+    @Benchmark
+    public String tracedHmset() {
+        return traced.hmset(key, hash);
+    }
+
+    @Benchmark
+    public Long rawExpire() {
+        return raw.expire(key, 60);
+    }
+
+    @Benchmark
+    public Long tracedExpire() {
+        return traced.expire(key, 60);
+    }
+
+    @Benchmark
+    public Object rawEvalsha() {
+        return raw.evalsha(sha1, 1, scriptParams);
+    }
+
+    @Benchmark
+    public Object tracedEvalsha() {
+        return traced.evalsha(sha1, 1, scriptParams);
+    }
+}
@@ -0,0 +1,67 @@
+package com.github.freshchen.benchmarks;
+
+import redis.clients.jedis.Jedis;
+
+import java.util.Map;
+
+/**
+ * Answers from memory without a connection, so benchmarks see the cost of the wrapper and not of the network
+ *
+ * @author freshchen
+ * @since 2026/10/17
+ */
+public class StubJedis extends Jedis {
+
+    private static final String OK = "OK";
+
+    private final String value;
+    private final byte[] binaryValue;
+    private final Map<String, String> hash;
+
+    public StubJedis(String value, Map<String, String> hash) {
+        super("localhost");
+        this.value = value;
+        this.binaryValue = value.getBytes();
+        this.hash = hash;
+    }
+
+    @Override
+    public String get(String key) {
+        return value;
+    }
+
+    @Override
+    public byte[] get(byte[] key) {
+        return binaryValue;
+    }
+
+    @Override
+    public String set(String key, String value) {
+        return OK;
+    }
+
+    @Override
+    public String set(byte[] key, byte[] value) {
+        return OK;
+    }
+
+    @Override
+    public Map<String, String> hgetAll(String key) {
+        return hash;
+    }
+
+    @Override
+    public String hmset(String key, Map<String, String> hash) {
+        return OK;
+    }
+
+    @Override
+    public Long expire(String key, int seconds) {
+        return 1L;
+    }
+
+    @Override
+    public Object evalsha(String sha1, int keyCount, String... params) {
+        return value;
+    }
+}
@@ -0,0 +1,77 @@
+package com.github.freshchen.benchmarks;
+
+import com.github.freshchen.instrumentation.core.util.TagUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rendering cost of large hashes and argument arrays
+ *
+ * @author freshchen
+ * @since 2026/10/17
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TagUtilsBenchmark {
+
+    @Param({"10", "1000", "10000"})
+    int size;
+
+    private Map<String, String> stringMap;
+    private Map<byte[], byte[]> binaryMap;
+    private byte[][] binaryArray;
+    private String[] stringArray;
+
+    @Setup
+    public void setUp() {
+        stringMap = new LinkedHashMap<>();
+        binaryMap = new LinkedHashMap<>();
+        binaryArray = new byte[size][];
+        stringArray = new String[size];
+        for (int i = 0; i < size; i++) {
+            String key = "field:" + i;
+            stringMap.put(key, "value:" + i);
+            binaryMap.put(key.getBytes(StandardCharsets.UTF_8), new byte[]{(byte) i, (byte) (i >> 8), 0, 1});
+            binaryArray[i] = key.getBytes(StandardCharsets.UTF_8);
+            stringArray[i] = key;
+        }
+    }
+
+    @Benchmark
+    public String stringMap() {
+        return TagUtils.toString(stringMap);
+    }
+
+    @Benchmark
+    public String binaryMap() {
+        return TagUtils.toStringMap(binaryMap);
+    }
+
+    @Benchmark
+    public String binaryArray() {
+        return TagUtils.toString(binaryArray);
+    }
+
+    @Benchmark
+    public String stringArray() {
+        return TagUtils.toString(stringArray);
+    }
+}
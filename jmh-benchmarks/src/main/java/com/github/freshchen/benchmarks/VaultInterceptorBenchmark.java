@@ -0,0 +1,149 @@
+package com.github.freshchen.benchmarks;
+
+import brave.Span;
+import brave.Tracer;
+import brave.Tracing;
+import brave.http.HttpTracing;
+import com.github.freshchen.vault.instrumentation.plan2.CustomTracingVaultClientHttpRequestInterceptor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.cloud.sleuth.brave.bridge.BraveCurrentTraceContext;
+import org.springframework.cloud.sleuth.brave.bridge.BraveHttpClientHandler;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The vault interceptor chain in front of an execution that answers immediately
+ *
+ * @author freshchen
+ * @since 2026/10/17
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VaultInterceptorBenchmark {
+
+    private static final byte[] BODY = new byte[0];
+
+    @Param({BenchmarkTracing.SAMPLED, BenchmarkTracing.UNSAMPLED})
+    String sampling;
+
+    private Tracing tracing;
+    private Span requestSpan;
+    private Tracer.SpanInScope requestScope;
+    private ClientHttpRequestInterceptor interceptor;
+    private HttpRequest request;
+    private ClientHttpRequestExecution execution;
+
+    @Setup
+    public void setUp() {
+        tracing = BenchmarkTracing.create(sampling);
+        interceptor = CustomTracingVaultClientHttpRequestInterceptor.create(
+            new BraveCurrentTraceContext(tracing.currentTraceContext()),
+            new BraveHttpClientHandler(brave.http.HttpClientHandler.create(HttpTracing.create(tracing))));
+        request = new StubHttpRequest(URI.create("http://vault:8200/v1/secret/data/application"));
+        ClientHttpResponse response = new StubClientHttpResponse();
+        execution = (req, body) -> response;
+        requestSpan = tracing.tracer().newTrace().name("request").start();
+        requestScope = tracing.tracer().withSpanInScope(requestSpan);
+    }
+
+    @TearDown
+    public void tearDown() {
+        requestScope.close();
+        requestSpan.abandon();
+        tracing.close();
+    }
+
+    @Benchmark
+    public ClientHttpResponse direct() throws IOException {
+        return execution.execute(request, BODY);
+    }
+
+    @Benchmark
+    public ClientHttpResponse intercepted() throws IOException {
+        return interceptor.intercept(request, BODY, execution);
+    }
+
+    static final class StubHttpRequest implements HttpRequest {
+
+        private final URI uri;
+        private final HttpHeaders headers = new HttpHeaders();
+
+        StubHttpRequest(URI uri) {
+            this.uri = uri;
+        }
+
+        @Override
+        public String getMethodValue() {
+            return "GET";
+        }
+
+        @Override
+        public URI getURI() {
+            return uri;
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+    }
+
+    static final class StubClientHttpResponse implements ClientHttpResponse {
+
+        private final HttpHeaders headers = new HttpHeaders();
+
+        @Override
+        public HttpStatus getStatusCode() {
+            return HttpStatus.OK;
+        }
+
+        @Override
+        public int getRawStatusCode() {
+            return HttpStatus.OK.value();
+        }
+
+        @Override
+        public String getStatusText() {
+            return HttpStatus.OK.getReasonPhrase();
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public InputStream getBody() {
+            return new ByteArrayInputStream(BODY);
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+    }
+}